@@ -0,0 +1,4690 @@
+// $ANTLR 3.5.2 /root/project/src/java/org/apache/cassandra/cql/Cql.g 2026-10-19 00:26:42
+
+    package org.apache.cassandra.cql;
+    import org.apache.cassandra.exceptions.SyntaxException;
+
+
+import org.antlr.runtime.*;
+import java.util.Stack;
+import java.util.List;
+import java.util.ArrayList;
+
+@SuppressWarnings("all")
+public class CqlLexer extends Lexer {
+	public static final int EOF=-1;
+	public static final int T__81=81;
+	public static final int T__82=82;
+	public static final int T__83=83;
+	public static final int T__84=84;
+	public static final int T__85=85;
+	public static final int T__86=86;
+	public static final int T__87=87;
+	public static final int T__88=88;
+	public static final int T__89=89;
+	public static final int T__90=90;
+	public static final int T__91=91;
+	public static final int T__92=92;
+	public static final int T__93=93;
+	public static final int T__94=94;
+	public static final int T__95=95;
+	public static final int T__96=96;
+	public static final int T__97=97;
+	public static final int T__98=98;
+	public static final int T__99=99;
+	public static final int T__100=100;
+	public static final int T__101=101;
+	public static final int T__102=102;
+	public static final int T__103=103;
+	public static final int T__104=104;
+	public static final int T__105=105;
+	public static final int T__106=106;
+	public static final int T__107=107;
+	public static final int A=4;
+	public static final int B=5;
+	public static final int C=6;
+	public static final int COMMENT=7;
+	public static final int COMPIDENT=8;
+	public static final int D=9;
+	public static final int DIGIT=10;
+	public static final int E=11;
+	public static final int F=12;
+	public static final int FLOAT=13;
+	public static final int G=14;
+	public static final int H=15;
+	public static final int HEX=16;
+	public static final int I=17;
+	public static final int IDENT=18;
+	public static final int INTEGER=19;
+	public static final int J=20;
+	public static final int K=21;
+	public static final int K_ADD=22;
+	public static final int K_ALTER=23;
+	public static final int K_AND=24;
+	public static final int K_APPLY=25;
+	public static final int K_BATCH=26;
+	public static final int K_BEGIN=27;
+	public static final int K_COLUMNFAMILY=28;
+	public static final int K_CONSISTENCY=29;
+	public static final int K_COUNT=30;
+	public static final int K_CREATE=31;
+	public static final int K_DELETE=32;
+	public static final int K_DROP=33;
+	public static final int K_FIRST=34;
+	public static final int K_FROM=35;
+	public static final int K_IN=36;
+	public static final int K_INDEX=37;
+	public static final int K_INSERT=38;
+	public static final int K_INTO=39;
+	public static final int K_KEY=40;
+	public static final int K_KEYSPACE=41;
+	public static final int K_LEVEL=42;
+	public static final int K_LIMIT=43;
+	public static final int K_ON=44;
+	public static final int K_PRIMARY=45;
+	public static final int K_REVERSED=46;
+	public static final int K_SELECT=47;
+	public static final int K_SET=48;
+	public static final int K_TIMESTAMP=49;
+	public static final int K_TRUNCATE=50;
+	public static final int K_TTL=51;
+	public static final int K_TYPE=52;
+	public static final int K_UPDATE=53;
+	public static final int K_USE=54;
+	public static final int K_USING=55;
+	public static final int K_VALUES=56;
+	public static final int K_WHERE=57;
+	public static final int K_WITH=58;
+	public static final int L=59;
+	public static final int LETTER=60;
+	public static final int M=61;
+	public static final int MULTILINE_COMMENT=62;
+	public static final int N=63;
+	public static final int O=64;
+	public static final int P=65;
+	public static final int Q=66;
+	public static final int QMARK=67;
+	public static final int R=68;
+	public static final int RANGEOP=69;
+	public static final int S=70;
+	public static final int STRING_LITERAL=71;
+	public static final int T=72;
+	public static final int U=73;
+	public static final int UUID=74;
+	public static final int V=75;
+	public static final int W=76;
+	public static final int WS=77;
+	public static final int X=78;
+	public static final int Y=79;
+	public static final int Z=80;
+
+	    List<Token> tokens = new ArrayList<Token>();
+	    
+	    public void emit(Token token) {
+	        state.token = token;
+	        tokens.add(token);
+	    }
+	    
+	    public Token nextToken() {
+	        super.nextToken();
+	        if (tokens.size() == 0)
+	            return new CommonToken(Token.EOF);
+	        return tokens.remove(0);
+	    }
+	    
+	    private List<String> recognitionErrors = new ArrayList<String>();
+	    
+	    public void displayRecognitionError(String[] tokenNames, RecognitionException e)
+	    {
+	        String hdr = getErrorHeader(e);
+	        String msg = getErrorMessage(e, tokenNames);
+	        recognitionErrors.add(hdr + " " + msg);
+	    }
+	    
+	    public List<String> getRecognitionErrors()
+	    {
+	        return recognitionErrors;
+	    }
+	    
+	    public void throwLastRecognitionError() throws SyntaxException
+	    {
+	        if (recognitionErrors.size() > 0)
+	            throw new SyntaxException(recognitionErrors.get((recognitionErrors.size()-1)));
+	    }
+
+
+	// delegates
+	// delegators
+	public Lexer[] getDelegates() {
+		return new Lexer[] {};
+	}
+
+	public CqlLexer() {} 
+	public CqlLexer(CharStream input) {
+		this(input, new RecognizerSharedState());
+	}
+	public CqlLexer(CharStream input, RecognizerSharedState state) {
+		super(input,state);
+	}
+	@Override public String getGrammarFileName() { return "/root/project/src/java/org/apache/cassandra/cql/Cql.g"; }
+
+	// $ANTLR start "T__81"
+	public final void mT__81() throws RecognitionException {
+		try {
+			int _type = T__81;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:47:7: ( '(' )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:47:9: '('
+			{
+			match('('); 
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__81"
+
+	// $ANTLR start "T__82"
+	public final void mT__82() throws RecognitionException {
+		try {
+			int _type = T__82;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:48:7: ( ')' )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:48:9: ')'
+			{
+			match(')'); 
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__82"
+
+	// $ANTLR start "T__83"
+	public final void mT__83() throws RecognitionException {
+		try {
+			int _type = T__83;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:49:7: ( '+' )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:49:9: '+'
+			{
+			match('+'); 
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__83"
+
+	// $ANTLR start "T__84"
+	public final void mT__84() throws RecognitionException {
+		try {
+			int _type = T__84;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:50:7: ( ',' )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:50:9: ','
+			{
+			match(','); 
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__84"
+
+	// $ANTLR start "T__85"
+	public final void mT__85() throws RecognitionException {
+		try {
+			int _type = T__85;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:51:7: ( '-' )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:51:9: '-'
+			{
+			match('-'); 
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__85"
+
+	// $ANTLR start "T__86"
+	public final void mT__86() throws RecognitionException {
+		try {
+			int _type = T__86;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:52:7: ( '.' )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:52:9: '.'
+			{
+			match('.'); 
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__86"
+
+	// $ANTLR start "T__87"
+	public final void mT__87() throws RecognitionException {
+		try {
+			int _type = T__87;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:53:7: ( ';' )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:53:9: ';'
+			{
+			match(';'); 
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__87"
+
+	// $ANTLR start "T__88"
+	public final void mT__88() throws RecognitionException {
+		try {
+			int _type = T__88;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:54:7: ( '<' )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:54:9: '<'
+			{
+			match('<'); 
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__88"
+
+	// $ANTLR start "T__89"
+	public final void mT__89() throws RecognitionException {
+		try {
+			int _type = T__89;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:55:7: ( '<=' )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:55:9: '<='
+			{
+			match("<="); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__89"
+
+	// $ANTLR start "T__90"
+	public final void mT__90() throws RecognitionException {
+		try {
+			int _type = T__90;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:56:7: ( '=' )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:56:9: '='
+			{
+			match('='); 
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__90"
+
+	// $ANTLR start "T__91"
+	public final void mT__91() throws RecognitionException {
+		try {
+			int _type = T__91;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:57:7: ( '>' )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:57:9: '>'
+			{
+			match('>'); 
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__91"
+
+	// $ANTLR start "T__92"
+	public final void mT__92() throws RecognitionException {
+		try {
+			int _type = T__92;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:58:7: ( '>=' )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:58:9: '>='
+			{
+			match(">="); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__92"
+
+	// $ANTLR start "T__93"
+	public final void mT__93() throws RecognitionException {
+		try {
+			int _type = T__93;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:59:7: ( '\\*' )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:59:9: '\\*'
+			{
+			match('*'); 
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__93"
+
+	// $ANTLR start "T__94"
+	public final void mT__94() throws RecognitionException {
+		try {
+			int _type = T__94;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:60:7: ( 'ascii' )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:60:9: 'ascii'
+			{
+			match("ascii"); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__94"
+
+	// $ANTLR start "T__95"
+	public final void mT__95() throws RecognitionException {
+		try {
+			int _type = T__95;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:61:7: ( 'bigint' )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:61:9: 'bigint'
+			{
+			match("bigint"); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__95"
+
+	// $ANTLR start "T__96"
+	public final void mT__96() throws RecognitionException {
+		try {
+			int _type = T__96;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:62:7: ( 'blob' )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:62:9: 'blob'
+			{
+			match("blob"); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__96"
+
+	// $ANTLR start "T__97"
+	public final void mT__97() throws RecognitionException {
+		try {
+			int _type = T__97;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:63:7: ( 'boolean' )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:63:9: 'boolean'
+			{
+			match("boolean"); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__97"
+
+	// $ANTLR start "T__98"
+	public final void mT__98() throws RecognitionException {
+		try {
+			int _type = T__98;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:64:7: ( 'counter' )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:64:9: 'counter'
+			{
+			match("counter"); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__98"
+
+	// $ANTLR start "T__99"
+	public final void mT__99() throws RecognitionException {
+		try {
+			int _type = T__99;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:65:7: ( 'decimal' )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:65:9: 'decimal'
+			{
+			match("decimal"); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__99"
+
+	// $ANTLR start "T__100"
+	public final void mT__100() throws RecognitionException {
+		try {
+			int _type = T__100;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:66:8: ( 'double' )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:66:10: 'double'
+			{
+			match("double"); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__100"
+
+	// $ANTLR start "T__101"
+	public final void mT__101() throws RecognitionException {
+		try {
+			int _type = T__101;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:67:8: ( 'float' )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:67:10: 'float'
+			{
+			match("float"); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__101"
+
+	// $ANTLR start "T__102"
+	public final void mT__102() throws RecognitionException {
+		try {
+			int _type = T__102;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:68:8: ( 'int' )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:68:10: 'int'
+			{
+			match("int"); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__102"
+
+	// $ANTLR start "T__103"
+	public final void mT__103() throws RecognitionException {
+		try {
+			int _type = T__103;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:69:8: ( 'text' )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:69:10: 'text'
+			{
+			match("text"); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__103"
+
+	// $ANTLR start "T__104"
+	public final void mT__104() throws RecognitionException {
+		try {
+			int _type = T__104;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:70:8: ( 'timestamp' )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:70:10: 'timestamp'
+			{
+			match("timestamp"); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__104"
+
+	// $ANTLR start "T__105"
+	public final void mT__105() throws RecognitionException {
+		try {
+			int _type = T__105;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:71:8: ( 'uuid' )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:71:10: 'uuid'
+			{
+			match("uuid"); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__105"
+
+	// $ANTLR start "T__106"
+	public final void mT__106() throws RecognitionException {
+		try {
+			int _type = T__106;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:72:8: ( 'varchar' )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:72:10: 'varchar'
+			{
+			match("varchar"); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__106"
+
+	// $ANTLR start "T__107"
+	public final void mT__107() throws RecognitionException {
+		try {
+			int _type = T__107;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:73:8: ( 'varint' )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:73:10: 'varint'
+			{
+			match("varint"); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__107"
+
+	// $ANTLR start "K_SELECT"
+	public final void mK_SELECT() throws RecognitionException {
+		try {
+			int _type = K_SELECT;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:504:9: ( S E L E C T )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:504:16: S E L E C T
+			{
+			mS(); 
+
+			mE(); 
+
+			mL(); 
+
+			mE(); 
+
+			mC(); 
+
+			mT(); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "K_SELECT"
+
+	// $ANTLR start "K_FROM"
+	public final void mK_FROM() throws RecognitionException {
+		try {
+			int _type = K_FROM;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:505:7: ( F R O M )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:505:16: F R O M
+			{
+			mF(); 
+
+			mR(); 
+
+			mO(); 
+
+			mM(); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "K_FROM"
+
+	// $ANTLR start "K_WHERE"
+	public final void mK_WHERE() throws RecognitionException {
+		try {
+			int _type = K_WHERE;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:506:8: ( W H E R E )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:506:16: W H E R E
+			{
+			mW(); 
+
+			mH(); 
+
+			mE(); 
+
+			mR(); 
+
+			mE(); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "K_WHERE"
+
+	// $ANTLR start "K_AND"
+	public final void mK_AND() throws RecognitionException {
+		try {
+			int _type = K_AND;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:507:6: ( A N D )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:507:16: A N D
+			{
+			mA(); 
+
+			mN(); 
+
+			mD(); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "K_AND"
+
+	// $ANTLR start "K_KEY"
+	public final void mK_KEY() throws RecognitionException {
+		try {
+			int _type = K_KEY;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:508:6: ( K E Y )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:508:16: K E Y
+			{
+			mK(); 
+
+			mE(); 
+
+			mY(); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "K_KEY"
+
+	// $ANTLR start "K_INSERT"
+	public final void mK_INSERT() throws RecognitionException {
+		try {
+			int _type = K_INSERT;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:509:9: ( I N S E R T )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:509:16: I N S E R T
+			{
+			mI(); 
+
+			mN(); 
+
+			mS(); 
+
+			mE(); 
+
+			mR(); 
+
+			mT(); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "K_INSERT"
+
+	// $ANTLR start "K_UPDATE"
+	public final void mK_UPDATE() throws RecognitionException {
+		try {
+			int _type = K_UPDATE;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:510:9: ( U P D A T E )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:510:16: U P D A T E
+			{
+			mU(); 
+
+			mP(); 
+
+			mD(); 
+
+			mA(); 
+
+			mT(); 
+
+			mE(); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "K_UPDATE"
+
+	// $ANTLR start "K_WITH"
+	public final void mK_WITH() throws RecognitionException {
+		try {
+			int _type = K_WITH;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:511:7: ( W I T H )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:511:16: W I T H
+			{
+			mW(); 
+
+			mI(); 
+
+			mT(); 
+
+			mH(); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "K_WITH"
+
+	// $ANTLR start "K_LIMIT"
+	public final void mK_LIMIT() throws RecognitionException {
+		try {
+			int _type = K_LIMIT;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:512:8: ( L I M I T )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:512:16: L I M I T
+			{
+			mL(); 
+
+			mI(); 
+
+			mM(); 
+
+			mI(); 
+
+			mT(); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "K_LIMIT"
+
+	// $ANTLR start "K_USING"
+	public final void mK_USING() throws RecognitionException {
+		try {
+			int _type = K_USING;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:513:8: ( U S I N G )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:513:16: U S I N G
+			{
+			mU(); 
+
+			mS(); 
+
+			mI(); 
+
+			mN(); 
+
+			mG(); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "K_USING"
+
+	// $ANTLR start "K_CONSISTENCY"
+	public final void mK_CONSISTENCY() throws RecognitionException {
+		try {
+			int _type = K_CONSISTENCY;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:514:14: ( C O N S I S T E N C Y )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:514:16: C O N S I S T E N C Y
+			{
+			mC(); 
+
+			mO(); 
+
+			mN(); 
+
+			mS(); 
+
+			mI(); 
+
+			mS(); 
+
+			mT(); 
+
+			mE(); 
+
+			mN(); 
+
+			mC(); 
+
+			mY(); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "K_CONSISTENCY"
+
+	// $ANTLR start "K_LEVEL"
+	public final void mK_LEVEL() throws RecognitionException {
+		try {
+			int _type = K_LEVEL;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:515:8: ( ( O N E | Q U O R U M | A L L | A N Y | L O C A L '_' Q U O R U M | E A C H '_' Q U O R U M | T W O | T H R E E ) )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:515:16: ( O N E | Q U O R U M | A L L | A N Y | L O C A L '_' Q U O R U M | E A C H '_' Q U O R U M | T W O | T H R E E )
+			{
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:515:16: ( O N E | Q U O R U M | A L L | A N Y | L O C A L '_' Q U O R U M | E A C H '_' Q U O R U M | T W O | T H R E E )
+			int alt1=8;
+			switch ( input.LA(1) ) {
+			case 'O':
+			case 'o':
+				{
+				alt1=1;
+				}
+				break;
+			case 'Q':
+			case 'q':
+				{
+				alt1=2;
+				}
+				break;
+			case 'A':
+			case 'a':
+				{
+				int LA1_3 = input.LA(2);
+				if ( (LA1_3=='L'||LA1_3=='l') ) {
+					alt1=3;
+				}
+				else if ( (LA1_3=='N'||LA1_3=='n') ) {
+					alt1=4;
+				}
+
+				else {
+					int nvaeMark = input.mark();
+					try {
+						input.consume();
+						NoViableAltException nvae =
+							new NoViableAltException("", 1, 3, input);
+						throw nvae;
+					} finally {
+						input.rewind(nvaeMark);
+					}
+				}
+
+				}
+				break;
+			case 'L':
+			case 'l':
+				{
+				alt1=5;
+				}
+				break;
+			case 'E':
+			case 'e':
+				{
+				alt1=6;
+				}
+				break;
+			case 'T':
+			case 't':
+				{
+				int LA1_6 = input.LA(2);
+				if ( (LA1_6=='W'||LA1_6=='w') ) {
+					alt1=7;
+				}
+				else if ( (LA1_6=='H'||LA1_6=='h') ) {
+					alt1=8;
+				}
+
+				else {
+					int nvaeMark = input.mark();
+					try {
+						input.consume();
+						NoViableAltException nvae =
+							new NoViableAltException("", 1, 6, input);
+						throw nvae;
+					} finally {
+						input.rewind(nvaeMark);
+					}
+				}
+
+				}
+				break;
+			default:
+				NoViableAltException nvae =
+					new NoViableAltException("", 1, 0, input);
+				throw nvae;
+			}
+			switch (alt1) {
+				case 1 :
+					// /root/project/src/java/org/apache/cassandra/cql/Cql.g:515:18: O N E
+					{
+					mO(); 
+
+					mN(); 
+
+					mE(); 
+
+					}
+					break;
+				case 2 :
+					// /root/project/src/java/org/apache/cassandra/cql/Cql.g:516:18: Q U O R U M
+					{
+					mQ(); 
+
+					mU(); 
+
+					mO(); 
+
+					mR(); 
+
+					mU(); 
+
+					mM(); 
+
+					}
+					break;
+				case 3 :
+					// /root/project/src/java/org/apache/cassandra/cql/Cql.g:517:18: A L L
+					{
+					mA(); 
+
+					mL(); 
+
+					mL(); 
+
+					}
+					break;
+				case 4 :
+					// /root/project/src/java/org/apache/cassandra/cql/Cql.g:518:18: A N Y
+					{
+					mA(); 
+
+					mN(); 
+
+					mY(); 
+
+					}
+					break;
+				case 5 :
+					// /root/project/src/java/org/apache/cassandra/cql/Cql.g:519:18: L O C A L '_' Q U O R U M
+					{
+					mL(); 
+
+					mO(); 
+
+					mC(); 
+
+					mA(); 
+
+					mL(); 
+
+					match('_'); 
+					mQ(); 
+
+					mU(); 
+
+					mO(); 
+
+					mR(); 
+
+					mU(); 
+
+					mM(); 
+
+					}
+					break;
+				case 6 :
+					// /root/project/src/java/org/apache/cassandra/cql/Cql.g:520:18: E A C H '_' Q U O R U M
+					{
+					mE(); 
+
+					mA(); 
+
+					mC(); 
+
+					mH(); 
+
+					match('_'); 
+					mQ(); 
+
+					mU(); 
+
+					mO(); 
+
+					mR(); 
+
+					mU(); 
+
+					mM(); 
+
+					}
+					break;
+				case 7 :
+					// /root/project/src/java/org/apache/cassandra/cql/Cql.g:521:18: T W O
+					{
+					mT(); 
+
+					mW(); 
+
+					mO(); 
+
+					}
+					break;
+				case 8 :
+					// /root/project/src/java/org/apache/cassandra/cql/Cql.g:522:18: T H R E E
+					{
+					mT(); 
+
+					mH(); 
+
+					mR(); 
+
+					mE(); 
+
+					mE(); 
+
+					}
+					break;
+
+			}
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "K_LEVEL"
+
+	// $ANTLR start "K_USE"
+	public final void mK_USE() throws RecognitionException {
+		try {
+			int _type = K_USE;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:525:6: ( U S E )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:525:16: U S E
+			{
+			mU(); 
+
+			mS(); 
+
+			mE(); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "K_USE"
+
+	// $ANTLR start "K_FIRST"
+	public final void mK_FIRST() throws RecognitionException {
+		try {
+			int _type = K_FIRST;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:526:8: ( F I R S T )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:526:16: F I R S T
+			{
+			mF(); 
+
+			mI(); 
+
+			mR(); 
+
+			mS(); 
+
+			mT(); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "K_FIRST"
+
+	// $ANTLR start "K_REVERSED"
+	public final void mK_REVERSED() throws RecognitionException {
+		try {
+			int _type = K_REVERSED;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:527:11: ( R E V E R S E D )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:527:16: R E V E R S E D
+			{
+			mR(); 
+
+			mE(); 
+
+			mV(); 
+
+			mE(); 
+
+			mR(); 
+
+			mS(); 
+
+			mE(); 
+
+			mD(); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "K_REVERSED"
+
+	// $ANTLR start "K_COUNT"
+	public final void mK_COUNT() throws RecognitionException {
+		try {
+			int _type = K_COUNT;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:528:8: ( C O U N T )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:528:16: C O U N T
+			{
+			mC(); 
+
+			mO(); 
+
+			mU(); 
+
+			mN(); 
+
+			mT(); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "K_COUNT"
+
+	// $ANTLR start "K_SET"
+	public final void mK_SET() throws RecognitionException {
+		try {
+			int _type = K_SET;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:529:6: ( S E T )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:529:16: S E T
+			{
+			mS(); 
+
+			mE(); 
+
+			mT(); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "K_SET"
+
+	// $ANTLR start "K_BEGIN"
+	public final void mK_BEGIN() throws RecognitionException {
+		try {
+			int _type = K_BEGIN;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:530:8: ( B E G I N )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:530:16: B E G I N
+			{
+			mB(); 
+
+			mE(); 
+
+			mG(); 
+
+			mI(); 
+
+			mN(); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "K_BEGIN"
+
+	// $ANTLR start "K_APPLY"
+	public final void mK_APPLY() throws RecognitionException {
+		try {
+			int _type = K_APPLY;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:531:8: ( A P P L Y )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:531:16: A P P L Y
+			{
+			mA(); 
+
+			mP(); 
+
+			mP(); 
+
+			mL(); 
+
+			mY(); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "K_APPLY"
+
+	// $ANTLR start "K_BATCH"
+	public final void mK_BATCH() throws RecognitionException {
+		try {
+			int _type = K_BATCH;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:532:8: ( B A T C H )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:532:16: B A T C H
+			{
+			mB(); 
+
+			mA(); 
+
+			mT(); 
+
+			mC(); 
+
+			mH(); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "K_BATCH"
+
+	// $ANTLR start "K_TRUNCATE"
+	public final void mK_TRUNCATE() throws RecognitionException {
+		try {
+			int _type = K_TRUNCATE;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:533:11: ( T R U N C A T E )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:533:16: T R U N C A T E
+			{
+			mT(); 
+
+			mR(); 
+
+			mU(); 
+
+			mN(); 
+
+			mC(); 
+
+			mA(); 
+
+			mT(); 
+
+			mE(); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "K_TRUNCATE"
+
+	// $ANTLR start "K_DELETE"
+	public final void mK_DELETE() throws RecognitionException {
+		try {
+			int _type = K_DELETE;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:534:9: ( D E L E T E )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:534:16: D E L E T E
+			{
+			mD(); 
+
+			mE(); 
+
+			mL(); 
+
+			mE(); 
+
+			mT(); 
+
+			mE(); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "K_DELETE"
+
+	// $ANTLR start "K_IN"
+	public final void mK_IN() throws RecognitionException {
+		try {
+			int _type = K_IN;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:535:5: ( I N )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:535:16: I N
+			{
+			mI(); 
+
+			mN(); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "K_IN"
+
+	// $ANTLR start "K_CREATE"
+	public final void mK_CREATE() throws RecognitionException {
+		try {
+			int _type = K_CREATE;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:536:9: ( C R E A T E )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:536:16: C R E A T E
+			{
+			mC(); 
+
+			mR(); 
+
+			mE(); 
+
+			mA(); 
+
+			mT(); 
+
+			mE(); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "K_CREATE"
+
+	// $ANTLR start "K_KEYSPACE"
+	public final void mK_KEYSPACE() throws RecognitionException {
+		try {
+			int _type = K_KEYSPACE;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:537:11: ( ( K E Y S P A C E | S C H E M A ) )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:537:16: ( K E Y S P A C E | S C H E M A )
+			{
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:537:16: ( K E Y S P A C E | S C H E M A )
+			int alt2=2;
+			int LA2_0 = input.LA(1);
+			if ( (LA2_0=='K'||LA2_0=='k') ) {
+				alt2=1;
+			}
+			else if ( (LA2_0=='S'||LA2_0=='s') ) {
+				alt2=2;
+			}
+
+			else {
+				NoViableAltException nvae =
+					new NoViableAltException("", 2, 0, input);
+				throw nvae;
+			}
+
+			switch (alt2) {
+				case 1 :
+					// /root/project/src/java/org/apache/cassandra/cql/Cql.g:537:18: K E Y S P A C E
+					{
+					mK(); 
+
+					mE(); 
+
+					mY(); 
+
+					mS(); 
+
+					mP(); 
+
+					mA(); 
+
+					mC(); 
+
+					mE(); 
+
+					}
+					break;
+				case 2 :
+					// /root/project/src/java/org/apache/cassandra/cql/Cql.g:538:20: S C H E M A
+					{
+					mS(); 
+
+					mC(); 
+
+					mH(); 
+
+					mE(); 
+
+					mM(); 
+
+					mA(); 
+
+					}
+					break;
+
+			}
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "K_KEYSPACE"
+
+	// $ANTLR start "K_COLUMNFAMILY"
+	public final void mK_COLUMNFAMILY() throws RecognitionException {
+		try {
+			int _type = K_COLUMNFAMILY;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:539:15: ( ( C O L U M N F A M I L Y | T A B L E ) )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:539:16: ( C O L U M N F A M I L Y | T A B L E )
+			{
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:539:16: ( C O L U M N F A M I L Y | T A B L E )
+			int alt3=2;
+			int LA3_0 = input.LA(1);
+			if ( (LA3_0=='C'||LA3_0=='c') ) {
+				alt3=1;
+			}
+			else if ( (LA3_0=='T'||LA3_0=='t') ) {
+				alt3=2;
+			}
+
+			else {
+				NoViableAltException nvae =
+					new NoViableAltException("", 3, 0, input);
+				throw nvae;
+			}
+
+			switch (alt3) {
+				case 1 :
+					// /root/project/src/java/org/apache/cassandra/cql/Cql.g:539:18: C O L U M N F A M I L Y
+					{
+					mC(); 
+
+					mO(); 
+
+					mL(); 
+
+					mU(); 
+
+					mM(); 
+
+					mN(); 
+
+					mF(); 
+
+					mA(); 
+
+					mM(); 
+
+					mI(); 
+
+					mL(); 
+
+					mY(); 
+
+					}
+					break;
+				case 2 :
+					// /root/project/src/java/org/apache/cassandra/cql/Cql.g:540:20: T A B L E
+					{
+					mT(); 
+
+					mA(); 
+
+					mB(); 
+
+					mL(); 
+
+					mE(); 
+
+					}
+					break;
+
+			}
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "K_COLUMNFAMILY"
+
+	// $ANTLR start "K_INDEX"
+	public final void mK_INDEX() throws RecognitionException {
+		try {
+			int _type = K_INDEX;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:541:8: ( I N D E X )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:541:16: I N D E X
+			{
+			mI(); 
+
+			mN(); 
+
+			mD(); 
+
+			mE(); 
+
+			mX(); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "K_INDEX"
+
+	// $ANTLR start "K_ON"
+	public final void mK_ON() throws RecognitionException {
+		try {
+			int _type = K_ON;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:542:5: ( O N )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:542:16: O N
+			{
+			mO(); 
+
+			mN(); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "K_ON"
+
+	// $ANTLR start "K_DROP"
+	public final void mK_DROP() throws RecognitionException {
+		try {
+			int _type = K_DROP;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:543:7: ( D R O P )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:543:16: D R O P
+			{
+			mD(); 
+
+			mR(); 
+
+			mO(); 
+
+			mP(); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "K_DROP"
+
+	// $ANTLR start "K_PRIMARY"
+	public final void mK_PRIMARY() throws RecognitionException {
+		try {
+			int _type = K_PRIMARY;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:544:10: ( P R I M A R Y )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:544:16: P R I M A R Y
+			{
+			mP(); 
+
+			mR(); 
+
+			mI(); 
+
+			mM(); 
+
+			mA(); 
+
+			mR(); 
+
+			mY(); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "K_PRIMARY"
+
+	// $ANTLR start "K_INTO"
+	public final void mK_INTO() throws RecognitionException {
+		try {
+			int _type = K_INTO;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:545:7: ( I N T O )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:545:16: I N T O
+			{
+			mI(); 
+
+			mN(); 
+
+			mT(); 
+
+			mO(); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "K_INTO"
+
+	// $ANTLR start "K_VALUES"
+	public final void mK_VALUES() throws RecognitionException {
+		try {
+			int _type = K_VALUES;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:546:9: ( V A L U E S )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:546:16: V A L U E S
+			{
+			mV(); 
+
+			mA(); 
+
+			mL(); 
+
+			mU(); 
+
+			mE(); 
+
+			mS(); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "K_VALUES"
+
+	// $ANTLR start "K_TIMESTAMP"
+	public final void mK_TIMESTAMP() throws RecognitionException {
+		try {
+			int _type = K_TIMESTAMP;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:547:12: ( T I M E S T A M P )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:547:16: T I M E S T A M P
+			{
+			mT(); 
+
+			mI(); 
+
+			mM(); 
+
+			mE(); 
+
+			mS(); 
+
+			mT(); 
+
+			mA(); 
+
+			mM(); 
+
+			mP(); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "K_TIMESTAMP"
+
+	// $ANTLR start "K_TTL"
+	public final void mK_TTL() throws RecognitionException {
+		try {
+			int _type = K_TTL;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:548:6: ( T T L )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:548:16: T T L
+			{
+			mT(); 
+
+			mT(); 
+
+			mL(); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "K_TTL"
+
+	// $ANTLR start "K_ALTER"
+	public final void mK_ALTER() throws RecognitionException {
+		try {
+			int _type = K_ALTER;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:549:8: ( A L T E R )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:549:16: A L T E R
+			{
+			mA(); 
+
+			mL(); 
+
+			mT(); 
+
+			mE(); 
+
+			mR(); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "K_ALTER"
+
+	// $ANTLR start "K_ADD"
+	public final void mK_ADD() throws RecognitionException {
+		try {
+			int _type = K_ADD;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:550:6: ( A D D )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:550:16: A D D
+			{
+			mA(); 
+
+			mD(); 
+
+			mD(); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "K_ADD"
+
+	// $ANTLR start "K_TYPE"
+	public final void mK_TYPE() throws RecognitionException {
+		try {
+			int _type = K_TYPE;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:551:7: ( T Y P E )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:551:16: T Y P E
+			{
+			mT(); 
+
+			mY(); 
+
+			mP(); 
+
+			mE(); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "K_TYPE"
+
+	// $ANTLR start "A"
+	public final void mA() throws RecognitionException {
+		try {
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:554:11: ( ( 'a' | 'A' ) )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:
+			{
+			if ( input.LA(1)=='A'||input.LA(1)=='a' ) {
+				input.consume();
+			}
+			else {
+				MismatchedSetException mse = new MismatchedSetException(null,input);
+				recover(mse);
+				throw mse;
+			}
+			}
+
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "A"
+
+	// $ANTLR start "B"
+	public final void mB() throws RecognitionException {
+		try {
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:555:11: ( ( 'b' | 'B' ) )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:
+			{
+			if ( input.LA(1)=='B'||input.LA(1)=='b' ) {
+				input.consume();
+			}
+			else {
+				MismatchedSetException mse = new MismatchedSetException(null,input);
+				recover(mse);
+				throw mse;
+			}
+			}
+
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "B"
+
+	// $ANTLR start "C"
+	public final void mC() throws RecognitionException {
+		try {
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:556:11: ( ( 'c' | 'C' ) )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:
+			{
+			if ( input.LA(1)=='C'||input.LA(1)=='c' ) {
+				input.consume();
+			}
+			else {
+				MismatchedSetException mse = new MismatchedSetException(null,input);
+				recover(mse);
+				throw mse;
+			}
+			}
+
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "C"
+
+	// $ANTLR start "D"
+	public final void mD() throws RecognitionException {
+		try {
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:557:11: ( ( 'd' | 'D' ) )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:
+			{
+			if ( input.LA(1)=='D'||input.LA(1)=='d' ) {
+				input.consume();
+			}
+			else {
+				MismatchedSetException mse = new MismatchedSetException(null,input);
+				recover(mse);
+				throw mse;
+			}
+			}
+
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "D"
+
+	// $ANTLR start "E"
+	public final void mE() throws RecognitionException {
+		try {
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:558:11: ( ( 'e' | 'E' ) )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:
+			{
+			if ( input.LA(1)=='E'||input.LA(1)=='e' ) {
+				input.consume();
+			}
+			else {
+				MismatchedSetException mse = new MismatchedSetException(null,input);
+				recover(mse);
+				throw mse;
+			}
+			}
+
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "E"
+
+	// $ANTLR start "F"
+	public final void mF() throws RecognitionException {
+		try {
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:559:11: ( ( 'f' | 'F' ) )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:
+			{
+			if ( input.LA(1)=='F'||input.LA(1)=='f' ) {
+				input.consume();
+			}
+			else {
+				MismatchedSetException mse = new MismatchedSetException(null,input);
+				recover(mse);
+				throw mse;
+			}
+			}
+
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "F"
+
+	// $ANTLR start "G"
+	public final void mG() throws RecognitionException {
+		try {
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:560:11: ( ( 'g' | 'G' ) )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:
+			{
+			if ( input.LA(1)=='G'||input.LA(1)=='g' ) {
+				input.consume();
+			}
+			else {
+				MismatchedSetException mse = new MismatchedSetException(null,input);
+				recover(mse);
+				throw mse;
+			}
+			}
+
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "G"
+
+	// $ANTLR start "H"
+	public final void mH() throws RecognitionException {
+		try {
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:561:11: ( ( 'h' | 'H' ) )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:
+			{
+			if ( input.LA(1)=='H'||input.LA(1)=='h' ) {
+				input.consume();
+			}
+			else {
+				MismatchedSetException mse = new MismatchedSetException(null,input);
+				recover(mse);
+				throw mse;
+			}
+			}
+
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "H"
+
+	// $ANTLR start "I"
+	public final void mI() throws RecognitionException {
+		try {
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:562:11: ( ( 'i' | 'I' ) )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:
+			{
+			if ( input.LA(1)=='I'||input.LA(1)=='i' ) {
+				input.consume();
+			}
+			else {
+				MismatchedSetException mse = new MismatchedSetException(null,input);
+				recover(mse);
+				throw mse;
+			}
+			}
+
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "I"
+
+	// $ANTLR start "J"
+	public final void mJ() throws RecognitionException {
+		try {
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:563:11: ( ( 'j' | 'J' ) )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:
+			{
+			if ( input.LA(1)=='J'||input.LA(1)=='j' ) {
+				input.consume();
+			}
+			else {
+				MismatchedSetException mse = new MismatchedSetException(null,input);
+				recover(mse);
+				throw mse;
+			}
+			}
+
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "J"
+
+	// $ANTLR start "K"
+	public final void mK() throws RecognitionException {
+		try {
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:564:11: ( ( 'k' | 'K' ) )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:
+			{
+			if ( input.LA(1)=='K'||input.LA(1)=='k' ) {
+				input.consume();
+			}
+			else {
+				MismatchedSetException mse = new MismatchedSetException(null,input);
+				recover(mse);
+				throw mse;
+			}
+			}
+
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "K"
+
+	// $ANTLR start "L"
+	public final void mL() throws RecognitionException {
+		try {
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:565:11: ( ( 'l' | 'L' ) )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:
+			{
+			if ( input.LA(1)=='L'||input.LA(1)=='l' ) {
+				input.consume();
+			}
+			else {
+				MismatchedSetException mse = new MismatchedSetException(null,input);
+				recover(mse);
+				throw mse;
+			}
+			}
+
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "L"
+
+	// $ANTLR start "M"
+	public final void mM() throws RecognitionException {
+		try {
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:566:11: ( ( 'm' | 'M' ) )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:
+			{
+			if ( input.LA(1)=='M'||input.LA(1)=='m' ) {
+				input.consume();
+			}
+			else {
+				MismatchedSetException mse = new MismatchedSetException(null,input);
+				recover(mse);
+				throw mse;
+			}
+			}
+
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "M"
+
+	// $ANTLR start "N"
+	public final void mN() throws RecognitionException {
+		try {
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:567:11: ( ( 'n' | 'N' ) )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:
+			{
+			if ( input.LA(1)=='N'||input.LA(1)=='n' ) {
+				input.consume();
+			}
+			else {
+				MismatchedSetException mse = new MismatchedSetException(null,input);
+				recover(mse);
+				throw mse;
+			}
+			}
+
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "N"
+
+	// $ANTLR start "O"
+	public final void mO() throws RecognitionException {
+		try {
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:568:11: ( ( 'o' | 'O' ) )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:
+			{
+			if ( input.LA(1)=='O'||input.LA(1)=='o' ) {
+				input.consume();
+			}
+			else {
+				MismatchedSetException mse = new MismatchedSetException(null,input);
+				recover(mse);
+				throw mse;
+			}
+			}
+
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "O"
+
+	// $ANTLR start "P"
+	public final void mP() throws RecognitionException {
+		try {
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:569:11: ( ( 'p' | 'P' ) )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:
+			{
+			if ( input.LA(1)=='P'||input.LA(1)=='p' ) {
+				input.consume();
+			}
+			else {
+				MismatchedSetException mse = new MismatchedSetException(null,input);
+				recover(mse);
+				throw mse;
+			}
+			}
+
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "P"
+
+	// $ANTLR start "Q"
+	public final void mQ() throws RecognitionException {
+		try {
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:570:11: ( ( 'q' | 'Q' ) )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:
+			{
+			if ( input.LA(1)=='Q'||input.LA(1)=='q' ) {
+				input.consume();
+			}
+			else {
+				MismatchedSetException mse = new MismatchedSetException(null,input);
+				recover(mse);
+				throw mse;
+			}
+			}
+
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "Q"
+
+	// $ANTLR start "R"
+	public final void mR() throws RecognitionException {
+		try {
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:571:11: ( ( 'r' | 'R' ) )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:
+			{
+			if ( input.LA(1)=='R'||input.LA(1)=='r' ) {
+				input.consume();
+			}
+			else {
+				MismatchedSetException mse = new MismatchedSetException(null,input);
+				recover(mse);
+				throw mse;
+			}
+			}
+
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "R"
+
+	// $ANTLR start "S"
+	public final void mS() throws RecognitionException {
+		try {
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:572:11: ( ( 's' | 'S' ) )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:
+			{
+			if ( input.LA(1)=='S'||input.LA(1)=='s' ) {
+				input.consume();
+			}
+			else {
+				MismatchedSetException mse = new MismatchedSetException(null,input);
+				recover(mse);
+				throw mse;
+			}
+			}
+
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "S"
+
+	// $ANTLR start "T"
+	public final void mT() throws RecognitionException {
+		try {
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:573:11: ( ( 't' | 'T' ) )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:
+			{
+			if ( input.LA(1)=='T'||input.LA(1)=='t' ) {
+				input.consume();
+			}
+			else {
+				MismatchedSetException mse = new MismatchedSetException(null,input);
+				recover(mse);
+				throw mse;
+			}
+			}
+
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T"
+
+	// $ANTLR start "U"
+	public final void mU() throws RecognitionException {
+		try {
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:574:11: ( ( 'u' | 'U' ) )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:
+			{
+			if ( input.LA(1)=='U'||input.LA(1)=='u' ) {
+				input.consume();
+			}
+			else {
+				MismatchedSetException mse = new MismatchedSetException(null,input);
+				recover(mse);
+				throw mse;
+			}
+			}
+
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "U"
+
+	// $ANTLR start "V"
+	public final void mV() throws RecognitionException {
+		try {
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:575:11: ( ( 'v' | 'V' ) )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:
+			{
+			if ( input.LA(1)=='V'||input.LA(1)=='v' ) {
+				input.consume();
+			}
+			else {
+				MismatchedSetException mse = new MismatchedSetException(null,input);
+				recover(mse);
+				throw mse;
+			}
+			}
+
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "V"
+
+	// $ANTLR start "W"
+	public final void mW() throws RecognitionException {
+		try {
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:576:11: ( ( 'w' | 'W' ) )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:
+			{
+			if ( input.LA(1)=='W'||input.LA(1)=='w' ) {
+				input.consume();
+			}
+			else {
+				MismatchedSetException mse = new MismatchedSetException(null,input);
+				recover(mse);
+				throw mse;
+			}
+			}
+
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "W"
+
+	// $ANTLR start "X"
+	public final void mX() throws RecognitionException {
+		try {
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:577:11: ( ( 'x' | 'X' ) )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:
+			{
+			if ( input.LA(1)=='X'||input.LA(1)=='x' ) {
+				input.consume();
+			}
+			else {
+				MismatchedSetException mse = new MismatchedSetException(null,input);
+				recover(mse);
+				throw mse;
+			}
+			}
+
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "X"
+
+	// $ANTLR start "Y"
+	public final void mY() throws RecognitionException {
+		try {
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:578:11: ( ( 'y' | 'Y' ) )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:
+			{
+			if ( input.LA(1)=='Y'||input.LA(1)=='y' ) {
+				input.consume();
+			}
+			else {
+				MismatchedSetException mse = new MismatchedSetException(null,input);
+				recover(mse);
+				throw mse;
+			}
+			}
+
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "Y"
+
+	// $ANTLR start "Z"
+	public final void mZ() throws RecognitionException {
+		try {
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:579:11: ( ( 'z' | 'Z' ) )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:
+			{
+			if ( input.LA(1)=='Z'||input.LA(1)=='z' ) {
+				input.consume();
+			}
+			else {
+				MismatchedSetException mse = new MismatchedSetException(null,input);
+				recover(mse);
+				throw mse;
+			}
+			}
+
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "Z"
+
+	// $ANTLR start "STRING_LITERAL"
+	public final void mSTRING_LITERAL() throws RecognitionException {
+		try {
+			int _type = STRING_LITERAL;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			int c;
+
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:582:5: ( '\\'' (c=~ ( '\\'' ) | '\\'' '\\'' )* '\\'' )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:582:7: '\\'' (c=~ ( '\\'' ) | '\\'' '\\'' )* '\\''
+			{
+			match('\''); 
+			 StringBuilder b = new StringBuilder(); 
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:584:7: (c=~ ( '\\'' ) | '\\'' '\\'' )*
+			loop4:
+			while (true) {
+				int alt4=3;
+				int LA4_0 = input.LA(1);
+				if ( (LA4_0=='\'') ) {
+					int LA4_1 = input.LA(2);
+					if ( (LA4_1=='\'') ) {
+						alt4=2;
+					}
+
+				}
+				else if ( ((LA4_0 >= '\u0000' && LA4_0 <= '&')||(LA4_0 >= '(' && LA4_0 <= '\uFFFF')) ) {
+					alt4=1;
+				}
+
+				switch (alt4) {
+				case 1 :
+					// /root/project/src/java/org/apache/cassandra/cql/Cql.g:584:9: c=~ ( '\\'' )
+					{
+					c= input.LA(1);
+					if ( (input.LA(1) >= '\u0000' && input.LA(1) <= '&')||(input.LA(1) >= '(' && input.LA(1) <= '\uFFFF') ) {
+						input.consume();
+					}
+					else {
+						MismatchedSetException mse = new MismatchedSetException(null,input);
+						recover(mse);
+						throw mse;
+					}
+					 b.appendCodePoint(c);
+					}
+					break;
+				case 2 :
+					// /root/project/src/java/org/apache/cassandra/cql/Cql.g:585:9: '\\'' '\\''
+					{
+					match('\''); 
+					match('\''); 
+					 b.appendCodePoint('\'');
+					}
+					break;
+
+				default :
+					break loop4;
+				}
+			}
+
+			match('\''); 
+			 setText(b.toString()); 
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "STRING_LITERAL"
+
+	// $ANTLR start "DIGIT"
+	public final void mDIGIT() throws RecognitionException {
+		try {
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:592:5: ( '0' .. '9' )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:
+			{
+			if ( (input.LA(1) >= '0' && input.LA(1) <= '9') ) {
+				input.consume();
+			}
+			else {
+				MismatchedSetException mse = new MismatchedSetException(null,input);
+				recover(mse);
+				throw mse;
+			}
+			}
+
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "DIGIT"
+
+	// $ANTLR start "LETTER"
+	public final void mLETTER() throws RecognitionException {
+		try {
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:596:5: ( ( 'A' .. 'Z' | 'a' .. 'z' ) )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:
+			{
+			if ( (input.LA(1) >= 'A' && input.LA(1) <= 'Z')||(input.LA(1) >= 'a' && input.LA(1) <= 'z') ) {
+				input.consume();
+			}
+			else {
+				MismatchedSetException mse = new MismatchedSetException(null,input);
+				recover(mse);
+				throw mse;
+			}
+			}
+
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "LETTER"
+
+	// $ANTLR start "HEX"
+	public final void mHEX() throws RecognitionException {
+		try {
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:600:5: ( ( 'A' .. 'F' | 'a' .. 'f' | '0' .. '9' ) )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:
+			{
+			if ( (input.LA(1) >= '0' && input.LA(1) <= '9')||(input.LA(1) >= 'A' && input.LA(1) <= 'F')||(input.LA(1) >= 'a' && input.LA(1) <= 'f') ) {
+				input.consume();
+			}
+			else {
+				MismatchedSetException mse = new MismatchedSetException(null,input);
+				recover(mse);
+				throw mse;
+			}
+			}
+
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "HEX"
+
+	// $ANTLR start "RANGEOP"
+	public final void mRANGEOP() throws RecognitionException {
+		try {
+			int _type = RANGEOP;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:604:5: ( '..' )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:604:7: '..'
+			{
+			match(".."); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "RANGEOP"
+
+	// $ANTLR start "INTEGER"
+	public final void mINTEGER() throws RecognitionException {
+		try {
+			int _type = INTEGER;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:608:5: ( ( '-' )? ( DIGIT )+ )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:608:7: ( '-' )? ( DIGIT )+
+			{
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:608:7: ( '-' )?
+			int alt5=2;
+			int LA5_0 = input.LA(1);
+			if ( (LA5_0=='-') ) {
+				alt5=1;
+			}
+			switch (alt5) {
+				case 1 :
+					// /root/project/src/java/org/apache/cassandra/cql/Cql.g:608:7: '-'
+					{
+					match('-'); 
+					}
+					break;
+
+			}
+
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:608:12: ( DIGIT )+
+			int cnt6=0;
+			loop6:
+			while (true) {
+				int alt6=2;
+				int LA6_0 = input.LA(1);
+				if ( ((LA6_0 >= '0' && LA6_0 <= '9')) ) {
+					alt6=1;
+				}
+
+				switch (alt6) {
+				case 1 :
+					// /root/project/src/java/org/apache/cassandra/cql/Cql.g:
+					{
+					if ( (input.LA(1) >= '0' && input.LA(1) <= '9') ) {
+						input.consume();
+					}
+					else {
+						MismatchedSetException mse = new MismatchedSetException(null,input);
+						recover(mse);
+						throw mse;
+					}
+					}
+					break;
+
+				default :
+					if ( cnt6 >= 1 ) break loop6;
+					EarlyExitException eee = new EarlyExitException(6, input);
+					throw eee;
+				}
+				cnt6++;
+			}
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "INTEGER"
+
+	// $ANTLR start "QMARK"
+	public final void mQMARK() throws RecognitionException {
+		try {
+			int _type = QMARK;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:612:5: ( '?' )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:612:7: '?'
+			{
+			match('?'); 
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "QMARK"
+
+	// $ANTLR start "FLOAT"
+	public final void mFLOAT() throws RecognitionException {
+		try {
+			int _type = FLOAT;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			CommonToken d=null;
+			CommonToken r=null;
+
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:620:5: (d= INTEGER r= RANGEOP | INTEGER '.' INTEGER )
+			int alt7=2;
+			alt7 = dfa7.predict(input);
+			switch (alt7) {
+				case 1 :
+					// /root/project/src/java/org/apache/cassandra/cql/Cql.g:620:7: d= INTEGER r= RANGEOP
+					{
+					int dStart1853 = getCharIndex();
+					int dStartLine1853 = getLine();
+					int dStartCharPos1853 = getCharPositionInLine();
+					mINTEGER(); 
+					d = new CommonToken(input, Token.INVALID_TOKEN_TYPE, Token.DEFAULT_CHANNEL, dStart1853, getCharIndex()-1);
+					d.setLine(dStartLine1853);
+					d.setCharPositionInLine(dStartCharPos1853);
+
+					int rStart1857 = getCharIndex();
+					int rStartLine1857 = getLine();
+					int rStartCharPos1857 = getCharPositionInLine();
+					mRANGEOP(); 
+					r = new CommonToken(input, Token.INVALID_TOKEN_TYPE, Token.DEFAULT_CHANNEL, rStart1857, getCharIndex()-1);
+					r.setLine(rStartLine1857);
+					r.setCharPositionInLine(rStartCharPos1857);
+
+
+					          d.setType(INTEGER);
+					          emit(d);
+					          r.setType(RANGEOP);
+					          emit(r);
+					      
+					}
+					break;
+				case 2 :
+					// /root/project/src/java/org/apache/cassandra/cql/Cql.g:627:9: INTEGER '.' INTEGER
+					{
+					mINTEGER(); 
+
+					match('.'); 
+					mINTEGER(); 
+
+					}
+					break;
+
+			}
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "FLOAT"
+
+	// $ANTLR start "IDENT"
+	public final void mIDENT() throws RecognitionException {
+		try {
+			int _type = IDENT;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:631:5: ( LETTER ( LETTER | DIGIT | '_' )* )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:631:7: LETTER ( LETTER | DIGIT | '_' )*
+			{
+			mLETTER(); 
+
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:631:14: ( LETTER | DIGIT | '_' )*
+			loop8:
+			while (true) {
+				int alt8=2;
+				int LA8_0 = input.LA(1);
+				if ( ((LA8_0 >= '0' && LA8_0 <= '9')||(LA8_0 >= 'A' && LA8_0 <= 'Z')||LA8_0=='_'||(LA8_0 >= 'a' && LA8_0 <= 'z')) ) {
+					alt8=1;
+				}
+
+				switch (alt8) {
+				case 1 :
+					// /root/project/src/java/org/apache/cassandra/cql/Cql.g:
+					{
+					if ( (input.LA(1) >= '0' && input.LA(1) <= '9')||(input.LA(1) >= 'A' && input.LA(1) <= 'Z')||input.LA(1)=='_'||(input.LA(1) >= 'a' && input.LA(1) <= 'z') ) {
+						input.consume();
+					}
+					else {
+						MismatchedSetException mse = new MismatchedSetException(null,input);
+						recover(mse);
+						throw mse;
+					}
+					}
+					break;
+
+				default :
+					break loop8;
+				}
+			}
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "IDENT"
+
+	// $ANTLR start "COMPIDENT"
+	public final void mCOMPIDENT() throws RecognitionException {
+		try {
+			int _type = COMPIDENT;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:635:5: ( IDENT ( ':' ( IDENT | INTEGER ) )* )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:635:7: IDENT ( ':' ( IDENT | INTEGER ) )*
+			{
+			mIDENT(); 
+
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:635:13: ( ':' ( IDENT | INTEGER ) )*
+			loop10:
+			while (true) {
+				int alt10=2;
+				int LA10_0 = input.LA(1);
+				if ( (LA10_0==':') ) {
+					alt10=1;
+				}
+
+				switch (alt10) {
+				case 1 :
+					// /root/project/src/java/org/apache/cassandra/cql/Cql.g:635:15: ':' ( IDENT | INTEGER )
+					{
+					match(':'); 
+					// /root/project/src/java/org/apache/cassandra/cql/Cql.g:635:19: ( IDENT | INTEGER )
+					int alt9=2;
+					int LA9_0 = input.LA(1);
+					if ( ((LA9_0 >= 'A' && LA9_0 <= 'Z')||(LA9_0 >= 'a' && LA9_0 <= 'z')) ) {
+						alt9=1;
+					}
+					else if ( (LA9_0=='-'||(LA9_0 >= '0' && LA9_0 <= '9')) ) {
+						alt9=2;
+					}
+
+					else {
+						NoViableAltException nvae =
+							new NoViableAltException("", 9, 0, input);
+						throw nvae;
+					}
+
+					switch (alt9) {
+						case 1 :
+							// /root/project/src/java/org/apache/cassandra/cql/Cql.g:635:20: IDENT
+							{
+							mIDENT(); 
+
+							}
+							break;
+						case 2 :
+							// /root/project/src/java/org/apache/cassandra/cql/Cql.g:635:28: INTEGER
+							{
+							mINTEGER(); 
+
+							}
+							break;
+
+					}
+
+					}
+					break;
+
+				default :
+					break loop10;
+				}
+			}
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "COMPIDENT"
+
+	// $ANTLR start "UUID"
+	public final void mUUID() throws RecognitionException {
+		try {
+			int _type = UUID;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:639:5: ( HEX HEX HEX HEX HEX HEX HEX HEX '-' HEX HEX HEX HEX '-' HEX HEX HEX HEX '-' HEX HEX HEX HEX '-' HEX HEX HEX HEX HEX HEX HEX HEX HEX HEX HEX HEX )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:639:7: HEX HEX HEX HEX HEX HEX HEX HEX '-' HEX HEX HEX HEX '-' HEX HEX HEX HEX '-' HEX HEX HEX HEX '-' HEX HEX HEX HEX HEX HEX HEX HEX HEX HEX HEX HEX
+			{
+			mHEX(); 
+
+			mHEX(); 
+
+			mHEX(); 
+
+			mHEX(); 
+
+			mHEX(); 
+
+			mHEX(); 
+
+			mHEX(); 
+
+			mHEX(); 
+
+			match('-'); 
+			mHEX(); 
+
+			mHEX(); 
+
+			mHEX(); 
+
+			mHEX(); 
+
+			match('-'); 
+			mHEX(); 
+
+			mHEX(); 
+
+			mHEX(); 
+
+			mHEX(); 
+
+			match('-'); 
+			mHEX(); 
+
+			mHEX(); 
+
+			mHEX(); 
+
+			mHEX(); 
+
+			match('-'); 
+			mHEX(); 
+
+			mHEX(); 
+
+			mHEX(); 
+
+			mHEX(); 
+
+			mHEX(); 
+
+			mHEX(); 
+
+			mHEX(); 
+
+			mHEX(); 
+
+			mHEX(); 
+
+			mHEX(); 
+
+			mHEX(); 
+
+			mHEX(); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "UUID"
+
+	// $ANTLR start "WS"
+	public final void mWS() throws RecognitionException {
+		try {
+			int _type = WS;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:647:5: ( ( ' ' | '\\t' | '\\n' | '\\r' )+ )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:647:7: ( ' ' | '\\t' | '\\n' | '\\r' )+
+			{
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:647:7: ( ' ' | '\\t' | '\\n' | '\\r' )+
+			int cnt11=0;
+			loop11:
+			while (true) {
+				int alt11=2;
+				int LA11_0 = input.LA(1);
+				if ( ((LA11_0 >= '\t' && LA11_0 <= '\n')||LA11_0=='\r'||LA11_0==' ') ) {
+					alt11=1;
+				}
+
+				switch (alt11) {
+				case 1 :
+					// /root/project/src/java/org/apache/cassandra/cql/Cql.g:
+					{
+					if ( (input.LA(1) >= '\t' && input.LA(1) <= '\n')||input.LA(1)=='\r'||input.LA(1)==' ' ) {
+						input.consume();
+					}
+					else {
+						MismatchedSetException mse = new MismatchedSetException(null,input);
+						recover(mse);
+						throw mse;
+					}
+					}
+					break;
+
+				default :
+					if ( cnt11 >= 1 ) break loop11;
+					EarlyExitException eee = new EarlyExitException(11, input);
+					throw eee;
+				}
+				cnt11++;
+			}
+
+			 _channel = HIDDEN; 
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "WS"
+
+	// $ANTLR start "COMMENT"
+	public final void mCOMMENT() throws RecognitionException {
+		try {
+			int _type = COMMENT;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:651:5: ( ( '--' | '//' ) ( . )* ( '\\n' | '\\r' ) )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:651:7: ( '--' | '//' ) ( . )* ( '\\n' | '\\r' )
+			{
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:651:7: ( '--' | '//' )
+			int alt12=2;
+			int LA12_0 = input.LA(1);
+			if ( (LA12_0=='-') ) {
+				alt12=1;
+			}
+			else if ( (LA12_0=='/') ) {
+				alt12=2;
+			}
+
+			else {
+				NoViableAltException nvae =
+					new NoViableAltException("", 12, 0, input);
+				throw nvae;
+			}
+
+			switch (alt12) {
+				case 1 :
+					// /root/project/src/java/org/apache/cassandra/cql/Cql.g:651:8: '--'
+					{
+					match("--"); 
+
+					}
+					break;
+				case 2 :
+					// /root/project/src/java/org/apache/cassandra/cql/Cql.g:651:15: '//'
+					{
+					match("//"); 
+
+					}
+					break;
+
+			}
+
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:651:21: ( . )*
+			loop13:
+			while (true) {
+				int alt13=2;
+				int LA13_0 = input.LA(1);
+				if ( (LA13_0=='\n'||LA13_0=='\r') ) {
+					alt13=2;
+				}
+				else if ( ((LA13_0 >= '\u0000' && LA13_0 <= '\t')||(LA13_0 >= '\u000B' && LA13_0 <= '\f')||(LA13_0 >= '\u000E' && LA13_0 <= '\uFFFF')) ) {
+					alt13=1;
+				}
+
+				switch (alt13) {
+				case 1 :
+					// /root/project/src/java/org/apache/cassandra/cql/Cql.g:651:21: .
+					{
+					matchAny(); 
+					}
+					break;
+
+				default :
+					break loop13;
+				}
+			}
+
+			if ( input.LA(1)=='\n'||input.LA(1)=='\r' ) {
+				input.consume();
+			}
+			else {
+				MismatchedSetException mse = new MismatchedSetException(null,input);
+				recover(mse);
+				throw mse;
+			}
+			 _channel = HIDDEN; 
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "COMMENT"
+
+	// $ANTLR start "MULTILINE_COMMENT"
+	public final void mMULTILINE_COMMENT() throws RecognitionException {
+		try {
+			int _type = MULTILINE_COMMENT;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:655:5: ( '/*' ( . )* '*/' )
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:655:7: '/*' ( . )* '*/'
+			{
+			match("/*"); 
+
+			// /root/project/src/java/org/apache/cassandra/cql/Cql.g:655:12: ( . )*
+			loop14:
+			while (true) {
+				int alt14=2;
+				int LA14_0 = input.LA(1);
+				if ( (LA14_0=='*') ) {
+					int LA14_1 = input.LA(2);
+					if ( (LA14_1=='/') ) {
+						alt14=2;
+					}
+					else if ( ((LA14_1 >= '\u0000' && LA14_1 <= '.')||(LA14_1 >= '0' && LA14_1 <= '\uFFFF')) ) {
+						alt14=1;
+					}
+
+				}
+				else if ( ((LA14_0 >= '\u0000' && LA14_0 <= ')')||(LA14_0 >= '+' && LA14_0 <= '\uFFFF')) ) {
+					alt14=1;
+				}
+
+				switch (alt14) {
+				case 1 :
+					// /root/project/src/java/org/apache/cassandra/cql/Cql.g:655:12: .
+					{
+					matchAny(); 
+					}
+					break;
+
+				default :
+					break loop14;
+				}
+			}
+
+			match("*/"); 
+
+			 _channel = HIDDEN; 
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "MULTILINE_COMMENT"
+
+	@Override
+	public void mTokens() throws RecognitionException {
+		// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:8: ( T__81 | T__82 | T__83 | T__84 | T__85 | T__86 | T__87 | T__88 | T__89 | T__90 | T__91 | T__92 | T__93 | T__94 | T__95 | T__96 | T__97 | T__98 | T__99 | T__100 | T__101 | T__102 | T__103 | T__104 | T__105 | T__106 | T__107 | K_SELECT | K_FROM | K_WHERE | K_AND | K_KEY | K_INSERT | K_UPDATE | K_WITH | K_LIMIT | K_USING | K_CONSISTENCY | K_LEVEL | K_USE | K_FIRST | K_REVERSED | K_COUNT | K_SET | K_BEGIN | K_APPLY | K_BATCH | K_TRUNCATE | K_DELETE | K_IN | K_CREATE | K_KEYSPACE | K_COLUMNFAMILY | K_INDEX | K_ON | K_DROP | K_PRIMARY | K_INTO | K_VALUES | K_TIMESTAMP | K_TTL | K_ALTER | K_ADD | K_TYPE | STRING_LITERAL | RANGEOP | INTEGER | QMARK | FLOAT | IDENT | COMPIDENT | UUID | WS | COMMENT | MULTILINE_COMMENT )
+		int alt15=75;
+		alt15 = dfa15.predict(input);
+		switch (alt15) {
+			case 1 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:10: T__81
+				{
+				mT__81(); 
+
+				}
+				break;
+			case 2 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:16: T__82
+				{
+				mT__82(); 
+
+				}
+				break;
+			case 3 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:22: T__83
+				{
+				mT__83(); 
+
+				}
+				break;
+			case 4 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:28: T__84
+				{
+				mT__84(); 
+
+				}
+				break;
+			case 5 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:34: T__85
+				{
+				mT__85(); 
+
+				}
+				break;
+			case 6 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:40: T__86
+				{
+				mT__86(); 
+
+				}
+				break;
+			case 7 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:46: T__87
+				{
+				mT__87(); 
+
+				}
+				break;
+			case 8 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:52: T__88
+				{
+				mT__88(); 
+
+				}
+				break;
+			case 9 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:58: T__89
+				{
+				mT__89(); 
+
+				}
+				break;
+			case 10 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:64: T__90
+				{
+				mT__90(); 
+
+				}
+				break;
+			case 11 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:70: T__91
+				{
+				mT__91(); 
+
+				}
+				break;
+			case 12 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:76: T__92
+				{
+				mT__92(); 
+
+				}
+				break;
+			case 13 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:82: T__93
+				{
+				mT__93(); 
+
+				}
+				break;
+			case 14 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:88: T__94
+				{
+				mT__94(); 
+
+				}
+				break;
+			case 15 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:94: T__95
+				{
+				mT__95(); 
+
+				}
+				break;
+			case 16 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:100: T__96
+				{
+				mT__96(); 
+
+				}
+				break;
+			case 17 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:106: T__97
+				{
+				mT__97(); 
+
+				}
+				break;
+			case 18 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:112: T__98
+				{
+				mT__98(); 
+
+				}
+				break;
+			case 19 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:118: T__99
+				{
+				mT__99(); 
+
+				}
+				break;
+			case 20 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:124: T__100
+				{
+				mT__100(); 
+
+				}
+				break;
+			case 21 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:131: T__101
+				{
+				mT__101(); 
+
+				}
+				break;
+			case 22 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:138: T__102
+				{
+				mT__102(); 
+
+				}
+				break;
+			case 23 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:145: T__103
+				{
+				mT__103(); 
+
+				}
+				break;
+			case 24 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:152: T__104
+				{
+				mT__104(); 
+
+				}
+				break;
+			case 25 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:159: T__105
+				{
+				mT__105(); 
+
+				}
+				break;
+			case 26 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:166: T__106
+				{
+				mT__106(); 
+
+				}
+				break;
+			case 27 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:173: T__107
+				{
+				mT__107(); 
+
+				}
+				break;
+			case 28 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:180: K_SELECT
+				{
+				mK_SELECT(); 
+
+				}
+				break;
+			case 29 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:189: K_FROM
+				{
+				mK_FROM(); 
+
+				}
+				break;
+			case 30 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:196: K_WHERE
+				{
+				mK_WHERE(); 
+
+				}
+				break;
+			case 31 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:204: K_AND
+				{
+				mK_AND(); 
+
+				}
+				break;
+			case 32 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:210: K_KEY
+				{
+				mK_KEY(); 
+
+				}
+				break;
+			case 33 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:216: K_INSERT
+				{
+				mK_INSERT(); 
+
+				}
+				break;
+			case 34 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:225: K_UPDATE
+				{
+				mK_UPDATE(); 
+
+				}
+				break;
+			case 35 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:234: K_WITH
+				{
+				mK_WITH(); 
+
+				}
+				break;
+			case 36 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:241: K_LIMIT
+				{
+				mK_LIMIT(); 
+
+				}
+				break;
+			case 37 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:249: K_USING
+				{
+				mK_USING(); 
+
+				}
+				break;
+			case 38 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:257: K_CONSISTENCY
+				{
+				mK_CONSISTENCY(); 
+
+				}
+				break;
+			case 39 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:271: K_LEVEL
+				{
+				mK_LEVEL(); 
+
+				}
+				break;
+			case 40 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:279: K_USE
+				{
+				mK_USE(); 
+
+				}
+				break;
+			case 41 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:285: K_FIRST
+				{
+				mK_FIRST(); 
+
+				}
+				break;
+			case 42 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:293: K_REVERSED
+				{
+				mK_REVERSED(); 
+
+				}
+				break;
+			case 43 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:304: K_COUNT
+				{
+				mK_COUNT(); 
+
+				}
+				break;
+			case 44 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:312: K_SET
+				{
+				mK_SET(); 
+
+				}
+				break;
+			case 45 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:318: K_BEGIN
+				{
+				mK_BEGIN(); 
+
+				}
+				break;
+			case 46 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:326: K_APPLY
+				{
+				mK_APPLY(); 
+
+				}
+				break;
+			case 47 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:334: K_BATCH
+				{
+				mK_BATCH(); 
+
+				}
+				break;
+			case 48 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:342: K_TRUNCATE
+				{
+				mK_TRUNCATE(); 
+
+				}
+				break;
+			case 49 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:353: K_DELETE
+				{
+				mK_DELETE(); 
+
+				}
+				break;
+			case 50 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:362: K_IN
+				{
+				mK_IN(); 
+
+				}
+				break;
+			case 51 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:367: K_CREATE
+				{
+				mK_CREATE(); 
+
+				}
+				break;
+			case 52 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:376: K_KEYSPACE
+				{
+				mK_KEYSPACE(); 
+
+				}
+				break;
+			case 53 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:387: K_COLUMNFAMILY
+				{
+				mK_COLUMNFAMILY(); 
+
+				}
+				break;
+			case 54 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:402: K_INDEX
+				{
+				mK_INDEX(); 
+
+				}
+				break;
+			case 55 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:410: K_ON
+				{
+				mK_ON(); 
+
+				}
+				break;
+			case 56 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:415: K_DROP
+				{
+				mK_DROP(); 
+
+				}
+				break;
+			case 57 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:422: K_PRIMARY
+				{
+				mK_PRIMARY(); 
+
+				}
+				break;
+			case 58 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:432: K_INTO
+				{
+				mK_INTO(); 
+
+				}
+				break;
+			case 59 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:439: K_VALUES
+				{
+				mK_VALUES(); 
+
+				}
+				break;
+			case 60 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:448: K_TIMESTAMP
+				{
+				mK_TIMESTAMP(); 
+
+				}
+				break;
+			case 61 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:460: K_TTL
+				{
+				mK_TTL(); 
+
+				}
+				break;
+			case 62 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:466: K_ALTER
+				{
+				mK_ALTER(); 
+
+				}
+				break;
+			case 63 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:474: K_ADD
+				{
+				mK_ADD(); 
+
+				}
+				break;
+			case 64 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:480: K_TYPE
+				{
+				mK_TYPE(); 
+
+				}
+				break;
+			case 65 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:487: STRING_LITERAL
+				{
+				mSTRING_LITERAL(); 
+
+				}
+				break;
+			case 66 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:502: RANGEOP
+				{
+				mRANGEOP(); 
+
+				}
+				break;
+			case 67 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:510: INTEGER
+				{
+				mINTEGER(); 
+
+				}
+				break;
+			case 68 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:518: QMARK
+				{
+				mQMARK(); 
+
+				}
+				break;
+			case 69 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:524: FLOAT
+				{
+				mFLOAT(); 
+
+				}
+				break;
+			case 70 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:530: IDENT
+				{
+				mIDENT(); 
+
+				}
+				break;
+			case 71 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:536: COMPIDENT
+				{
+				mCOMPIDENT(); 
+
+				}
+				break;
+			case 72 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:546: UUID
+				{
+				mUUID(); 
+
+				}
+				break;
+			case 73 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:551: WS
+				{
+				mWS(); 
+
+				}
+				break;
+			case 74 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:554: COMMENT
+				{
+				mCOMMENT(); 
+
+				}
+				break;
+			case 75 :
+				// /root/project/src/java/org/apache/cassandra/cql/Cql.g:1:562: MULTILINE_COMMENT
+				{
+				mMULTILINE_COMMENT(); 
+
+				}
+				break;
+
+		}
+	}
+
+
+	protected DFA7 dfa7 = new DFA7(this);
+	protected DFA15 dfa15 = new DFA15(this);
+	static final String DFA7_eotS =
+		"\6\uffff";
+	static final String DFA7_eofS =
+		"\6\uffff";
+	static final String DFA7_minS =
+		"\1\55\1\60\1\56\1\55\2\uffff";
+	static final String DFA7_maxS =
+		"\4\71\2\uffff";
+	static final String DFA7_acceptS =
+		"\4\uffff\1\1\1\2";
+	static final String DFA7_specialS =
+		"\6\uffff}>";
+	static final String[] DFA7_transitionS = {
+			"\1\1\2\uffff\12\2",
+			"\12\2",
+			"\1\3\1\uffff\12\2",
+			"\1\5\1\4\1\uffff\12\5",
+			"",
+			""
+	};
+
+	static final short[] DFA7_eot = DFA.unpackEncodedString(DFA7_eotS);
+	static final short[] DFA7_eof = DFA.unpackEncodedString(DFA7_eofS);
+	static final char[] DFA7_min = DFA.unpackEncodedStringToUnsignedChars(DFA7_minS);
+	static final char[] DFA7_max = DFA.unpackEncodedStringToUnsignedChars(DFA7_maxS);
+	static final short[] DFA7_accept = DFA.unpackEncodedString(DFA7_acceptS);
+	static final short[] DFA7_special = DFA.unpackEncodedString(DFA7_specialS);
+	static final short[][] DFA7_transition;
+
+	static {
+		int numStates = DFA7_transitionS.length;
+		DFA7_transition = new short[numStates][];
+		for (int i=0; i<numStates; i++) {
+			DFA7_transition[i] = DFA.unpackEncodedString(DFA7_transitionS[i]);
+		}
+	}
+
+	protected class DFA7 extends DFA {
+
+		public DFA7(BaseRecognizer recognizer) {
+			this.recognizer = recognizer;
+			this.decisionNumber = 7;
+			this.eot = DFA7_eot;
+			this.eof = DFA7_eof;
+			this.min = DFA7_min;
+			this.max = DFA7_max;
+			this.accept = DFA7_accept;
+			this.special = DFA7_special;
+			this.transition = DFA7_transition;
+		}
+		@Override
+		public String getDescription() {
+			return "619:1: FLOAT : (d= INTEGER r= RANGEOP | INTEGER '.' INTEGER );";
+		}
+	}
+
+	static final String DFA15_eotS =
+		"\5\uffff\1\56\1\61\1\uffff\1\63\1\uffff\1\65\1\uffff\33\67\1\uffff\1\152"+
+		"\1\uffff\1\67\4\uffff\1\152\6\uffff\1\67\1\uffff\5\67\1\uffff\20\67\2"+
+		"\u0089\25\67\1\u00a4\4\67\1\uffff\1\152\3\uffff\1\67\1\u00ac\2\u00ad\2"+
+		"\67\1\u00b0\22\67\1\u00c3\1\uffff\6\67\1\u00ad\3\67\1\u00cd\4\67\1\u00d2"+
+		"\3\67\1\u00d7\3\67\1\u00db\2\67\1\uffff\1\u00ad\4\67\1\152\1\67\2\uffff"+
+		"\2\67\1\uffff\2\67\1\u00e9\13\67\1\u00f5\1\67\1\u00f7\1\67\1\uffff\1\u00f9"+
+		"\2\67\1\u00fc\5\67\1\uffff\1\u0102\1\u0103\2\67\1\uffff\4\67\1\uffff\2"+
+		"\67\1\u010c\1\uffff\7\67\1\152\1\u0115\1\u0116\1\u0117\2\67\1\uffff\1"+
+		"\67\1\u011b\1\u011c\2\u011e\6\67\1\uffff\1\u0125\1\uffff\1\u0126\1\uffff"+
+		"\1\67\1\u0128\1\uffff\2\67\1\u00ad\1\67\1\u012c\2\uffff\1\67\1\u012e\5"+
+		"\67\1\u0134\1\uffff\1\67\1\u0136\5\67\1\152\3\uffff\1\67\1\u013e\1\67"+
+		"\2\uffff\1\67\1\uffff\2\67\1\u0143\1\67\1\u0145\1\u0146\2\uffff\1\u0147"+
+		"\1\uffff\3\67\1\uffff\1\u014b\1\uffff\1\67\1\u014d\1\u014e\1\u014f\1\u0150"+
+		"\1\uffff\1\67\1\uffff\1\67\1\u00ad\3\67\1\152\1\67\1\uffff\1\u0158\1\u0159"+
+		"\2\67\1\uffff\1\u015c\3\uffff\3\67\1\uffff\1\u0160\4\uffff\4\67\1\u0165"+
+		"\1\152\1\67\2\uffff\2\67\1\uffff\2\67\1\u016b\1\uffff\1\u0150\2\67\1\u016e"+
+		"\1\uffff\1\152\2\67\1\u0171\1\u0172\1\uffff\2\67\1\uffff\2\67\2\uffff"+
+		"\2\67\1\u0179\2\67\1\u00ad\1\uffff\1\u012c\1\u00ad";
+	static final String DFA15_eofS =
+		"\u017c\uffff";
+	static final String DFA15_minS =
+		"\1\11\4\uffff\1\55\1\56\1\uffff\1\75\1\uffff\1\75\1\uffff\33\60\1\uffff"+
+		"\1\56\1\uffff\1\60\1\uffff\1\52\2\uffff\1\56\6\uffff\1\60\1\uffff\5\60"+
+		"\1\uffff\54\60\1\uffff\1\56\3\uffff\32\60\1\uffff\32\60\1\uffff\5\60\1"+
+		"\56\1\60\2\uffff\2\60\1\uffff\22\60\1\uffff\11\60\1\uffff\4\60\1\uffff"+
+		"\4\60\1\uffff\3\60\1\uffff\7\60\1\56\5\60\1\uffff\13\60\1\uffff\1\60\1"+
+		"\uffff\1\60\1\uffff\2\60\1\uffff\5\60\2\uffff\10\60\1\uffff\7\60\1\56"+
+		"\3\uffff\3\60\2\uffff\1\60\1\uffff\6\60\2\uffff\1\60\1\uffff\3\60\1\uffff"+
+		"\1\60\1\uffff\5\60\1\uffff\1\60\1\uffff\5\60\1\56\1\60\1\uffff\4\60\1"+
+		"\uffff\1\60\3\uffff\3\60\1\uffff\1\60\4\uffff\5\60\1\56\1\55\2\uffff\2"+
+		"\60\1\uffff\3\60\1\uffff\4\60\1\uffff\1\55\4\60\1\uffff\2\60\1\uffff\2"+
+		"\60\2\uffff\6\60\1\uffff\2\60";
+	static final String DFA15_maxS =
+		"\1\172\4\uffff\1\71\1\56\1\uffff\1\75\1\uffff\1\75\1\uffff\33\172\1\uffff"+
+		"\1\146\1\uffff\1\172\1\uffff\1\57\2\uffff\1\71\6\uffff\1\172\1\uffff\5"+
+		"\172\1\uffff\54\172\1\uffff\1\146\3\uffff\32\172\1\uffff\32\172\1\uffff"+
+		"\5\172\1\146\1\172\2\uffff\2\172\1\uffff\22\172\1\uffff\11\172\1\uffff"+
+		"\4\172\1\uffff\4\172\1\uffff\3\172\1\uffff\7\172\1\146\5\172\1\uffff\13"+
+		"\172\1\uffff\1\172\1\uffff\1\172\1\uffff\2\172\1\uffff\5\172\2\uffff\10"+
+		"\172\1\uffff\7\172\1\146\3\uffff\3\172\2\uffff\1\172\1\uffff\6\172\2\uffff"+
+		"\1\172\1\uffff\3\172\1\uffff\1\172\1\uffff\5\172\1\uffff\1\172\1\uffff"+
+		"\5\172\1\146\1\172\1\uffff\4\172\1\uffff\1\172\3\uffff\3\172\1\uffff\1"+
+		"\172\4\uffff\5\172\1\146\1\172\2\uffff\2\172\1\uffff\3\172\1\uffff\4\172"+
+		"\1\uffff\1\71\4\172\1\uffff\2\172\1\uffff\2\172\2\uffff\6\172\1\uffff"+
+		"\2\172";
+	static final String DFA15_acceptS =
+		"\1\uffff\1\1\1\2\1\3\1\4\2\uffff\1\7\1\uffff\1\12\1\uffff\1\15\33\uffff"+
+		"\1\101\1\uffff\1\104\1\uffff\1\111\1\uffff\1\112\1\5\1\uffff\1\102\1\6"+
+		"\1\11\1\10\1\14\1\13\1\uffff\1\106\5\uffff\1\107\54\uffff\1\103\1\uffff"+
+		"\1\105\1\110\1\113\32\uffff\1\62\32\uffff\1\67\7\uffff\1\37\1\47\2\uffff"+
+		"\1\77\22\uffff\1\26\11\uffff\1\75\4\uffff\1\50\4\uffff\1\54\3\uffff\1"+
+		"\40\15\uffff\1\20\13\uffff\1\70\1\uffff\1\35\1\uffff\1\72\2\uffff\1\27"+
+		"\5\uffff\1\100\1\31\10\uffff\1\43\10\uffff\1\16\1\76\1\56\3\uffff\1\55"+
+		"\1\57\1\uffff\1\53\6\uffff\1\25\1\51\1\uffff\1\66\3\uffff\1\65\1\uffff"+
+		"\1\45\5\uffff\1\36\1\uffff\1\44\7\uffff\1\17\4\uffff\1\63\1\uffff\1\61"+
+		"\1\24\1\41\3\uffff\1\42\1\uffff\1\33\1\73\1\34\1\64\7\uffff\1\21\1\22"+
+		"\2\uffff\1\23\3\uffff\1\32\4\uffff\1\71\5\uffff\1\60\2\uffff\1\52\2\uffff"+
+		"\1\30\1\74\6\uffff\1\46\2\uffff";
+	static final String DFA15_specialS =
+		"\u017c\uffff}>";
+	static final String[] DFA15_transitionS = {
+			"\2\53\2\uffff\1\53\22\uffff\1\53\6\uffff\1\47\1\1\1\2\1\13\1\3\1\4\1"+
+			"\5\1\6\1\54\12\50\1\uffff\1\7\1\10\1\11\1\12\1\51\1\uffff\1\30\1\43\1"+
+			"\35\1\44\1\40\1\26\2\52\1\32\1\52\1\31\1\34\2\52\1\36\1\45\1\37\1\42"+
+			"\1\25\1\41\1\33\1\46\1\27\3\52\6\uffff\1\14\1\15\1\16\1\17\1\40\1\20"+
+			"\2\52\1\21\1\52\1\31\1\34\2\52\1\36\1\45\1\37\1\42\1\25\1\22\1\23\1\24"+
+			"\1\27\3\52",
+			"",
+			"",
+			"",
+			"",
+			"\1\55\2\uffff\12\57",
+			"\1\60",
+			"",
+			"\1\62",
+			"",
+			"\1\64",
+			"",
+			"\12\74\1\75\6\uffff\3\74\1\73\2\74\5\76\1\71\1\76\1\70\1\76\1\72\12"+
+			"\76\4\uffff\1\76\1\uffff\3\74\1\73\2\74\5\76\1\71\1\76\1\70\1\76\1\72"+
+			"\2\76\1\66\7\76",
+			"\12\74\1\75\6\uffff\1\103\3\74\1\102\1\74\24\76\4\uffff\1\76\1\uffff"+
+			"\1\103\3\74\1\102\1\74\2\76\1\77\2\76\1\100\2\76\1\101\13\76",
+			"\12\74\1\75\6\uffff\6\74\10\76\1\105\2\76\1\106\10\76\4\uffff\1\76\1"+
+			"\uffff\6\74\10\76\1\104\2\76\1\106\10\76",
+			"\12\74\1\75\6\uffff\4\74\1\111\1\74\13\76\1\112\10\76\4\uffff\1\76\1"+
+			"\uffff\4\74\1\107\1\74\10\76\1\110\2\76\1\112\10\76",
+			"\12\74\1\75\6\uffff\6\74\2\76\1\115\10\76\1\114\10\76\4\uffff\1\76\1"+
+			"\uffff\6\74\2\76\1\115\2\76\1\113\5\76\1\114\10\76",
+			"\12\76\1\75\6\uffff\15\76\1\117\14\76\4\uffff\1\76\1\uffff\15\76\1\116"+
+			"\14\76",
+			"\12\76\1\75\6\uffff\1\125\6\76\1\123\1\126\10\76\1\124\1\76\1\127\2"+
+			"\76\1\122\1\76\1\130\1\76\4\uffff\1\76\1\uffff\1\125\3\76\1\120\2\76"+
+			"\1\123\1\121\10\76\1\124\1\76\1\127\2\76\1\122\1\76\1\130\1\76",
+			"\12\76\1\75\6\uffff\17\76\1\132\2\76\1\133\7\76\4\uffff\1\76\1\uffff"+
+			"\17\76\1\132\2\76\1\133\1\76\1\131\5\76",
+			"\12\76\1\75\6\uffff\1\135\31\76\4\uffff\1\76\1\uffff\1\134\31\76",
+			"\12\76\1\75\6\uffff\2\76\1\137\1\76\1\136\25\76\4\uffff\1\76\1\uffff"+
+			"\2\76\1\137\1\76\1\136\25\76",
+			"\12\74\1\75\6\uffff\6\74\2\76\1\115\10\76\1\114\10\76\4\uffff\1\76\1"+
+			"\uffff\6\74\2\76\1\115\10\76\1\114\10\76",
+			"\12\76\1\75\6\uffff\7\76\1\140\1\141\21\76\4\uffff\1\76\1\uffff\7\76"+
+			"\1\140\1\141\21\76",
+			"\12\74\1\75\6\uffff\3\74\1\73\2\74\5\76\1\71\1\76\1\70\1\76\1\72\12"+
+			"\76\4\uffff\1\76\1\uffff\3\74\1\73\2\74\5\76\1\71\1\76\1\70\1\76\1\72"+
+			"\12\76",
+			"\12\76\1\75\6\uffff\4\76\1\142\25\76\4\uffff\1\76\1\uffff\4\76\1\142"+
+			"\25\76",
+			"\12\76\1\75\6\uffff\15\76\1\117\14\76\4\uffff\1\76\1\uffff\15\76\1\117"+
+			"\14\76",
+			"\12\76\1\75\6\uffff\17\76\1\132\2\76\1\133\7\76\4\uffff\1\76\1\uffff"+
+			"\17\76\1\132\2\76\1\133\7\76",
+			"\12\76\1\75\6\uffff\10\76\1\143\5\76\1\144\13\76\4\uffff\1\76\1\uffff"+
+			"\10\76\1\143\5\76\1\144\13\76",
+			"\12\74\1\75\6\uffff\6\74\10\76\1\105\2\76\1\106\10\76\4\uffff\1\76\1"+
+			"\uffff\6\74\10\76\1\105\2\76\1\106\10\76",
+			"\12\76\1\75\6\uffff\15\76\1\145\14\76\4\uffff\1\76\1\uffff\15\76\1\145"+
+			"\14\76",
+			"\12\76\1\75\6\uffff\24\76\1\146\5\76\4\uffff\1\76\1\uffff\24\76\1\146"+
+			"\5\76",
+			"\12\74\1\75\6\uffff\1\147\5\74\24\76\4\uffff\1\76\1\uffff\1\147\5\74"+
+			"\24\76",
+			"\12\76\1\75\6\uffff\1\125\6\76\1\123\1\126\10\76\1\124\1\76\1\127\2"+
+			"\76\1\122\1\76\1\130\1\76\4\uffff\1\76\1\uffff\1\125\6\76\1\123\1\126"+
+			"\10\76\1\124\1\76\1\127\2\76\1\122\1\76\1\130\1\76",
+			"\12\76\1\75\6\uffff\4\76\1\150\25\76\4\uffff\1\76\1\uffff\4\76\1\150"+
+			"\25\76",
+			"\12\74\1\75\6\uffff\1\103\3\74\1\102\1\74\24\76\4\uffff\1\76\1\uffff"+
+			"\1\103\3\74\1\102\1\74\24\76",
+			"\12\74\1\75\6\uffff\4\74\1\111\1\74\13\76\1\112\10\76\4\uffff\1\76\1"+
+			"\uffff\4\74\1\111\1\74\13\76\1\112\10\76",
+			"\12\76\1\75\6\uffff\21\76\1\151\10\76\4\uffff\1\76\1\uffff\21\76\1\151"+
+			"\10\76",
+			"\12\76\1\75\6\uffff\1\135\31\76\4\uffff\1\76\1\uffff\1\135\31\76",
+			"",
+			"\1\154\1\uffff\12\153\7\uffff\6\155\32\uffff\6\155",
+			"",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\32\76",
+			"",
+			"\1\156\4\uffff\1\55",
+			"",
+			"",
+			"\1\154\1\uffff\12\57",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\2\76\1\157\27\76",
+			"",
+			"\12\76\1\75\6\uffff\3\76\1\160\24\76\1\161\1\76\4\uffff\1\76\1\uffff"+
+			"\3\76\1\160\24\76\1\161\1\76",
+			"\12\76\1\75\6\uffff\13\76\1\162\7\76\1\163\6\76\4\uffff\1\76\1\uffff"+
+			"\13\76\1\162\7\76\1\163\6\76",
+			"\12\76\1\75\6\uffff\17\76\1\164\12\76\4\uffff\1\76\1\uffff\17\76\1\164"+
+			"\12\76",
+			"\12\166\1\75\6\uffff\3\166\1\165\2\166\24\76\4\uffff\1\76\1\uffff\3"+
+			"\166\1\165\2\166\24\76",
+			"\12\166\1\75\6\uffff\6\166\24\76\4\uffff\1\76\1\uffff\6\166\24\76",
+			"",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\32\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\6\76\1\167\23\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\16\76\1\170\13\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\16\76\1\171\13\76",
+			"\12\166\1\75\6\uffff\6\166\1\172\23\76\4\uffff\1\76\1\uffff\6\166\1"+
+			"\172\23\76",
+			"\12\166\1\75\6\uffff\6\166\15\76\1\173\6\76\4\uffff\1\76\1\uffff\6\166"+
+			"\15\76\1\173\6\76",
+			"\12\76\1\75\6\uffff\13\76\1\177\1\76\1\175\6\76\1\176\5\76\4\uffff\1"+
+			"\76\1\uffff\13\76\1\177\1\76\1\175\6\76\1\174\5\76",
+			"\12\76\1\75\6\uffff\13\76\1\177\1\76\1\175\6\76\1\176\5\76\4\uffff\1"+
+			"\76\1\uffff\13\76\1\177\1\76\1\175\6\76\1\176\5\76",
+			"\12\76\1\75\6\uffff\4\76\1\u0080\25\76\4\uffff\1\76\1\uffff\4\76\1\u0080"+
+			"\25\76",
+			"\12\166\1\75\6\uffff\6\166\5\76\1\u0082\16\76\4\uffff\1\76\1\uffff\2"+
+			"\166\1\u0081\3\166\5\76\1\u0082\16\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\24\76\1\u0083\5\76",
+			"\12\166\1\75\6\uffff\6\166\5\76\1\u0082\16\76\4\uffff\1\76\1\uffff\6"+
+			"\166\5\76\1\u0082\16\76",
+			"\12\76\1\75\6\uffff\16\76\1\u0084\13\76\4\uffff\1\76\1\uffff\16\76\1"+
+			"\u0084\13\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\16\76\1\u0085\13\76",
+			"\12\76\1\75\6\uffff\16\76\1\u0086\13\76\4\uffff\1\76\1\uffff\16\76\1"+
+			"\u0086\13\76",
+			"\12\76\1\75\6\uffff\21\76\1\u0087\10\76\4\uffff\1\76\1\uffff\21\76\1"+
+			"\u0087\10\76",
+			"\12\76\1\75\6\uffff\3\76\1\u008b\16\76\1\u008a\1\u008c\6\76\4\uffff"+
+			"\1\76\1\uffff\3\76\1\u008b\16\76\1\u008a\1\u0088\6\76",
+			"\12\76\1\75\6\uffff\3\76\1\u008b\16\76\1\u008a\1\u008c\6\76\4\uffff"+
+			"\1\76\1\uffff\3\76\1\u008b\16\76\1\u008a\1\u008c\6\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\27\76\1\u008d\2\76",
+			"\12\76\1\75\6\uffff\14\76\1\u008f\15\76\4\uffff\1\76\1\uffff\14\76\1"+
+			"\u008e\15\76",
+			"\12\76\1\75\6\uffff\16\76\1\u0090\13\76\4\uffff\1\76\1\uffff\16\76\1"+
+			"\u0090\13\76",
+			"\12\76\1\75\6\uffff\21\76\1\u0091\10\76\4\uffff\1\76\1\uffff\21\76\1"+
+			"\u0091\10\76",
+			"\12\76\1\75\6\uffff\24\76\1\u0092\5\76\4\uffff\1\76\1\uffff\24\76\1"+
+			"\u0092\5\76",
+			"\12\76\1\75\6\uffff\1\76\1\u0093\30\76\4\uffff\1\76\1\uffff\1\76\1\u0093"+
+			"\30\76",
+			"\12\76\1\75\6\uffff\14\76\1\u008f\15\76\4\uffff\1\76\1\uffff\14\76\1"+
+			"\u008f\15\76",
+			"\12\76\1\75\6\uffff\13\76\1\u0094\16\76\4\uffff\1\76\1\uffff\13\76\1"+
+			"\u0094\16\76",
+			"\12\76\1\75\6\uffff\17\76\1\u0095\12\76\4\uffff\1\76\1\uffff\17\76\1"+
+			"\u0095\12\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\10\76\1\u0096\21\76",
+			"\12\76\1\75\6\uffff\3\76\1\u0097\26\76\4\uffff\1\76\1\uffff\3\76\1\u0097"+
+			"\26\76",
+			"\12\76\1\75\6\uffff\4\76\1\u0099\3\76\1\u0098\21\76\4\uffff\1\76\1\uffff"+
+			"\4\76\1\u0099\3\76\1\u0098\21\76",
+			"\12\76\1\75\6\uffff\13\76\1\u009b\16\76\4\uffff\1\76\1\uffff\13\76\1"+
+			"\u009b\5\76\1\u009a\10\76",
+			"\12\76\1\75\6\uffff\13\76\1\u009b\16\76\4\uffff\1\76\1\uffff\13\76\1"+
+			"\u009b\16\76",
+			"\12\76\1\75\6\uffff\13\76\1\u009c\7\76\1\u009d\6\76\4\uffff\1\76\1\uffff"+
+			"\13\76\1\u009c\7\76\1\u009d\6\76",
+			"\12\76\1\75\6\uffff\7\76\1\u009e\22\76\4\uffff\1\76\1\uffff\7\76\1\u009e"+
+			"\22\76",
+			"\12\76\1\75\6\uffff\4\76\1\u009f\25\76\4\uffff\1\76\1\uffff\4\76\1\u009f"+
+			"\25\76",
+			"\12\76\1\75\6\uffff\23\76\1\u00a0\6\76\4\uffff\1\76\1\uffff\23\76\1"+
+			"\u00a0\6\76",
+			"\12\76\1\75\6\uffff\30\76\1\u00a1\1\76\4\uffff\1\76\1\uffff\30\76\1"+
+			"\u00a1\1\76",
+			"\12\76\1\75\6\uffff\14\76\1\u00a2\15\76\4\uffff\1\76\1\uffff\14\76\1"+
+			"\u00a2\15\76",
+			"\12\76\1\75\6\uffff\2\76\1\u00a3\27\76\4\uffff\1\76\1\uffff\2\76\1\u00a3"+
+			"\27\76",
+			"\12\76\1\75\6\uffff\4\76\1\u00a5\25\76\4\uffff\1\76\1\uffff\4\76\1\u00a5"+
+			"\25\76",
+			"\12\76\1\75\6\uffff\16\76\1\u00a6\13\76\4\uffff\1\76\1\uffff\16\76\1"+
+			"\u00a6\13\76",
+			"\12\166\1\75\6\uffff\2\166\1\u00a7\3\166\24\76\4\uffff\1\76\1\uffff"+
+			"\2\166\1\u00a7\3\166\24\76",
+			"\12\76\1\75\6\uffff\25\76\1\u00a8\4\76\4\uffff\1\76\1\uffff\25\76\1"+
+			"\u00a8\4\76",
+			"\12\76\1\75\6\uffff\10\76\1\u00a9\21\76\4\uffff\1\76\1\uffff\10\76\1"+
+			"\u00a9\21\76",
+			"",
+			"\1\154\1\uffff\12\u00aa\7\uffff\6\155\32\uffff\6\155",
+			"",
+			"",
+			"",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\10\76\1\u00ab\21\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\32\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\32\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\32\76",
+			"\12\76\1\75\6\uffff\4\76\1\u00ae\25\76\4\uffff\1\76\1\uffff\4\76\1\u00ae"+
+			"\25\76",
+			"\12\76\1\75\6\uffff\13\76\1\u00af\16\76\4\uffff\1\76\1\uffff\13\76\1"+
+			"\u00af\16\76",
+			"\12\u00b1\1\75\6\uffff\6\u00b1\24\76\4\uffff\1\76\1\uffff\6\u00b1\24"+
+			"\76",
+			"\12\u00b1\1\75\6\uffff\6\u00b1\24\76\4\uffff\1\76\1\uffff\6\u00b1\24"+
+			"\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\10\76\1\u00b2\21\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\1\76\1\u00b3\30\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\13\76\1\u00b4\16\76",
+			"\12\76\1\75\6\uffff\10\76\1\u00b5\21\76\4\uffff\1\76\1\uffff\10\76\1"+
+			"\u00b5\21\76",
+			"\12\76\1\75\6\uffff\2\76\1\u00b6\27\76\4\uffff\1\76\1\uffff\2\76\1\u00b6"+
+			"\27\76",
+			"\12\76\1\75\6\uffff\15\76\1\u00b8\14\76\4\uffff\1\76\1\uffff\15\76\1"+
+			"\u00b7\14\76",
+			"\12\76\1\75\6\uffff\22\76\1\u00b9\7\76\4\uffff\1\76\1\uffff\22\76\1"+
+			"\u00b9\7\76",
+			"\12\76\1\75\6\uffff\15\76\1\u00b8\14\76\4\uffff\1\76\1\uffff\15\76\1"+
+			"\u00b8\14\76",
+			"\12\76\1\75\6\uffff\24\76\1\u00ba\5\76\4\uffff\1\76\1\uffff\24\76\1"+
+			"\u00ba\5\76",
+			"\12\76\1\75\6\uffff\1\u00bb\31\76\4\uffff\1\76\1\uffff\1\u00bb\31\76",
+			"\12\u00b1\1\75\6\uffff\6\u00b1\24\76\4\uffff\1\76\1\uffff\6\u00b1\2"+
+			"\76\1\u00bc\21\76",
+			"\12\76\1\75\6\uffff\4\76\1\u00bd\25\76\4\uffff\1\76\1\uffff\4\76\1\u00bd"+
+			"\25\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\1\76\1\u00be\30\76",
+			"\12\76\1\75\6\uffff\17\76\1\u00bf\12\76\4\uffff\1\76\1\uffff\17\76\1"+
+			"\u00bf\12\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\1\u00c0\31\76",
+			"\12\76\1\75\6\uffff\14\76\1\u00c1\15\76\4\uffff\1\76\1\uffff\14\76\1"+
+			"\u00c1\15\76",
+			"\12\76\1\75\6\uffff\22\76\1\u00c2\7\76\4\uffff\1\76\1\uffff\22\76\1"+
+			"\u00c2\7\76",
+			"\12\76\1\75\6\uffff\16\76\1\u00c4\13\76\4\uffff\1\76\1\uffff\16\76\1"+
+			"\u00c4\13\76",
+			"",
+			"\12\76\1\75\6\uffff\4\76\1\u00c5\25\76\4\uffff\1\76\1\uffff\4\76\1\u00c5"+
+			"\25\76",
+			"\12\76\1\75\6\uffff\4\76\1\u00c6\25\76\4\uffff\1\76\1\uffff\4\76\1\u00c6"+
+			"\25\76",
+			"\12\76\1\75\6\uffff\16\76\1\u00c4\13\76\4\uffff\1\76\1\uffff\16\76\1"+
+			"\u00c4\13\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\23\76\1\u00c7\6\76",
+			"\12\76\1\75\6\uffff\4\76\1\u00c9\25\76\4\uffff\1\76\1\uffff\4\76\1\u00c8"+
+			"\25\76",
+			"\12\76\1\75\6\uffff\4\76\1\u00c9\25\76\4\uffff\1\76\1\uffff\4\76\1\u00c9"+
+			"\25\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\32\76",
+			"\12\76\1\75\6\uffff\4\76\1\u00ca\25\76\4\uffff\1\76\1\uffff\4\76\1\u00ca"+
+			"\25\76",
+			"\12\76\1\75\6\uffff\15\76\1\u00cb\14\76\4\uffff\1\76\1\uffff\15\76\1"+
+			"\u00cb\14\76",
+			"\12\76\1\75\6\uffff\13\76\1\u00cc\16\76\4\uffff\1\76\1\uffff\13\76\1"+
+			"\u00cc\16\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\32\76",
+			"\12\76\1\75\6\uffff\4\76\1\u00ce\25\76\4\uffff\1\76\1\uffff\4\76\1\u00ce"+
+			"\25\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\3\76\1\u00cf\26\76",
+			"\12\76\1\75\6\uffff\1\u00d0\31\76\4\uffff\1\76\1\uffff\1\u00d0\31\76",
+			"\12\76\1\75\6\uffff\15\76\1\u00d1\14\76\4\uffff\1\76\1\uffff\15\76\1"+
+			"\u00d1\14\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\32\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\2\76\1\u00d3\5\76\1\u00d4"+
+			"\21\76",
+			"\12\76\1\75\6\uffff\24\76\1\u00d5\5\76\4\uffff\1\76\1\uffff\24\76\1"+
+			"\u00d5\5\76",
+			"\12\76\1\75\6\uffff\4\76\1\u00d6\25\76\4\uffff\1\76\1\uffff\4\76\1\u00d6"+
+			"\25\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\32\76",
+			"\12\76\1\75\6\uffff\4\76\1\u00d8\25\76\4\uffff\1\76\1\uffff\4\76\1\u00d8"+
+			"\25\76",
+			"\12\76\1\75\6\uffff\21\76\1\u00d9\10\76\4\uffff\1\76\1\uffff\21\76\1"+
+			"\u00d9\10\76",
+			"\12\76\1\75\6\uffff\7\76\1\u00da\22\76\4\uffff\1\76\1\uffff\7\76\1\u00da"+
+			"\22\76",
+			"\12\76\1\75\6\uffff\22\76\1\u00dc\7\76\4\uffff\1\76\1\uffff\22\76\1"+
+			"\u00dc\7\76",
+			"\12\76\1\75\6\uffff\10\76\1\u00dd\21\76\4\uffff\1\76\1\uffff\10\76\1"+
+			"\u00dd\21\76",
+			"\12\76\1\75\6\uffff\1\u00de\31\76\4\uffff\1\76\1\uffff\1\u00de\31\76",
+			"",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\32\76",
+			"\12\76\1\75\6\uffff\21\76\1\u00df\10\76\4\uffff\1\76\1\uffff\21\76\1"+
+			"\u00df\10\76",
+			"\12\u00b1\1\75\6\uffff\6\u00b1\1\76\1\u00e0\22\76\4\uffff\1\76\1\uffff"+
+			"\6\u00b1\1\76\1\u00e0\22\76",
+			"\12\76\1\75\6\uffff\4\76\1\u00e1\25\76\4\uffff\1\76\1\uffff\4\76\1\u00e1"+
+			"\25\76",
+			"\12\76\1\75\6\uffff\14\76\1\u00e2\15\76\4\uffff\1\76\1\uffff\14\76\1"+
+			"\u00e2\15\76",
+			"\1\154\1\uffff\12\u00e3\7\uffff\6\155\32\uffff\6\155",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\10\76\1\u00e4\21\76",
+			"",
+			"",
+			"\12\76\1\75\6\uffff\21\76\1\u00e5\10\76\4\uffff\1\76\1\uffff\21\76\1"+
+			"\u00e5\10\76",
+			"\12\76\1\75\6\uffff\30\76\1\u00e6\1\76\4\uffff\1\76\1\uffff\30\76\1"+
+			"\u00e6\1\76",
+			"",
+			"\12\u00e7\1\75\6\uffff\6\u00e7\24\76\4\uffff\1\76\1\uffff\6\u00e7\24"+
+			"\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\15\76\1\u00e8\14\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\32\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\4\76\1\u00ea\25\76",
+			"\12\76\1\75\6\uffff\15\76\1\u00eb\14\76\4\uffff\1\76\1\uffff\15\76\1"+
+			"\u00eb\14\76",
+			"\12\76\1\75\6\uffff\7\76\1\u00ec\22\76\4\uffff\1\76\1\uffff\7\76\1\u00ec"+
+			"\22\76",
+			"\12\76\1\75\6\uffff\23\76\1\u00ee\6\76\4\uffff\1\76\1\uffff\23\76\1"+
+			"\u00ed\6\76",
+			"\12\76\1\75\6\uffff\23\76\1\u00ee\6\76\4\uffff\1\76\1\uffff\23\76\1"+
+			"\u00ee\6\76",
+			"\12\76\1\75\6\uffff\10\76\1\u00ef\21\76\4\uffff\1\76\1\uffff\10\76\1"+
+			"\u00ef\21\76",
+			"\12\76\1\75\6\uffff\14\76\1\u00f0\15\76\4\uffff\1\76\1\uffff\14\76\1"+
+			"\u00f0\15\76",
+			"\12\76\1\75\6\uffff\23\76\1\u00f1\6\76\4\uffff\1\76\1\uffff\23\76\1"+
+			"\u00f1\6\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\14\76\1\u00f2\15\76",
+			"\12\76\1\75\6\uffff\23\76\1\u00f3\6\76\4\uffff\1\76\1\uffff\23\76\1"+
+			"\u00f3\6\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\13\76\1\u00f4\16\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\32\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\23\76\1\u00f6\6\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\32\76",
+			"\12\76\1\75\6\uffff\23\76\1\u00f8\6\76\4\uffff\1\76\1\uffff\23\76\1"+
+			"\u00f8\6\76",
+			"",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\32\76",
+			"\12\76\1\75\6\uffff\21\76\1\u00fa\10\76\4\uffff\1\76\1\uffff\21\76\1"+
+			"\u00fa\10\76",
+			"\12\76\1\75\6\uffff\27\76\1\u00fb\2\76\4\uffff\1\76\1\uffff\27\76\1"+
+			"\u00fb\2\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\32\76",
+			"\12\76\1\75\6\uffff\22\76\1\u00fe\7\76\4\uffff\1\76\1\uffff\22\76\1"+
+			"\u00fd\7\76",
+			"\12\76\1\75\6\uffff\22\76\1\u00fe\7\76\4\uffff\1\76\1\uffff\22\76\1"+
+			"\u00fe\7\76",
+			"\12\76\1\75\6\uffff\4\76\1\u00ff\25\76\4\uffff\1\76\1\uffff\4\76\1\u00ff"+
+			"\25\76",
+			"\12\76\1\75\6\uffff\2\76\1\u0100\27\76\4\uffff\1\76\1\uffff\2\76\1\u0100"+
+			"\27\76",
+			"\12\76\1\75\6\uffff\4\76\1\u0101\25\76\4\uffff\1\76\1\uffff\4\76\1\u0101"+
+			"\25\76",
+			"",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\32\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\32\76",
+			"\12\76\1\75\6\uffff\23\76\1\u0104\6\76\4\uffff\1\76\1\uffff\23\76\1"+
+			"\u0104\6\76",
+			"\12\76\1\75\6\uffff\6\76\1\u0105\23\76\4\uffff\1\76\1\uffff\6\76\1\u0105"+
+			"\23\76",
+			"",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\7\76\1\u0106\22\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\15\76\1\u0107\14\76",
+			"\12\76\1\75\6\uffff\4\76\1\u0108\25\76\4\uffff\1\76\1\uffff\4\76\1\u0108"+
+			"\25\76",
+			"\12\76\1\75\6\uffff\2\76\1\u0109\27\76\4\uffff\1\76\1\uffff\2\76\1\u0109"+
+			"\27\76",
+			"",
+			"\12\76\1\75\6\uffff\14\76\1\u010a\15\76\4\uffff\1\76\1\uffff\14\76\1"+
+			"\u010a\15\76",
+			"\12\76\1\75\6\uffff\4\76\1\u010b\25\76\4\uffff\1\76\1\uffff\4\76\1\u010b"+
+			"\25\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\32\76",
+			"",
+			"\12\76\1\75\6\uffff\17\76\1\u010d\12\76\4\uffff\1\76\1\uffff\17\76\1"+
+			"\u010d\12\76",
+			"\12\76\1\75\6\uffff\23\76\1\u010e\6\76\4\uffff\1\76\1\uffff\23\76\1"+
+			"\u010e\6\76",
+			"\12\76\1\75\6\uffff\13\76\1\u010f\16\76\4\uffff\1\76\1\uffff\13\76\1"+
+			"\u010f\16\76",
+			"\12\76\1\75\6\uffff\24\76\1\u0110\5\76\4\uffff\1\76\1\uffff\24\76\1"+
+			"\u0110\5\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\u0111\1\uffff\32\76",
+			"\12\76\1\75\6\uffff\21\76\1\u0112\10\76\4\uffff\1\76\1\uffff\21\76\1"+
+			"\u0112\10\76",
+			"\12\76\1\75\6\uffff\1\u0113\31\76\4\uffff\1\76\1\uffff\1\u0113\31\76",
+			"\1\154\1\uffff\12\u0114\7\uffff\6\155\32\uffff\6\155",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\32\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\32\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\32\76",
+			"\12\u0118\1\75\6\uffff\6\u0118\24\76\4\uffff\1\76\1\uffff\6\u0118\24"+
+			"\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\23\76\1\u0119\6\76",
+			"",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\1\u011a\31\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\32\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\32\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\4\76\1\u011d\25\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\32\76",
+			"\12\76\1\75\6\uffff\22\76\1\u011f\7\76\4\uffff\1\76\1\uffff\22\76\1"+
+			"\u011f\7\76",
+			"\12\76\1\75\6\uffff\15\76\1\u0120\14\76\4\uffff\1\76\1\uffff\15\76\1"+
+			"\u0120\14\76",
+			"\12\76\1\75\6\uffff\4\76\1\u0121\25\76\4\uffff\1\76\1\uffff\4\76\1\u0121"+
+			"\25\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\1\u0122\31\76",
+			"\12\76\1\75\6\uffff\4\76\1\u0123\25\76\4\uffff\1\76\1\uffff\4\76\1\u0123"+
+			"\25\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\4\76\1\u0124\25\76",
+			"",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\32\76",
+			"",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\32\76",
+			"",
+			"\12\76\1\75\6\uffff\23\76\1\u0127\6\76\4\uffff\1\76\1\uffff\23\76\1"+
+			"\u0127\6\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\32\76",
+			"",
+			"\12\76\1\75\6\uffff\23\76\1\u012a\6\76\4\uffff\1\76\1\uffff\23\76\1"+
+			"\u0129\6\76",
+			"\12\76\1\75\6\uffff\23\76\1\u012a\6\76\4\uffff\1\76\1\uffff\23\76\1"+
+			"\u012a\6\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\32\76",
+			"\12\76\1\75\6\uffff\1\u012b\31\76\4\uffff\1\76\1\uffff\1\u012b\31\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\32\76",
+			"",
+			"",
+			"\12\76\1\75\6\uffff\4\76\1\u012d\25\76\4\uffff\1\76\1\uffff\4\76\1\u012d"+
+			"\25\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\32\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\1\u012f\31\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\23\76\1\u0130\6\76",
+			"\12\76\1\75\6\uffff\22\76\1\u0131\7\76\4\uffff\1\76\1\uffff\22\76\1"+
+			"\u0131\7\76",
+			"\12\76\1\75\6\uffff\23\76\1\u0132\6\76\4\uffff\1\76\1\uffff\23\76\1"+
+			"\u0132\6\76",
+			"\12\76\1\75\6\uffff\1\u0133\31\76\4\uffff\1\76\1\uffff\1\u0133\31\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\32\76",
+			"",
+			"\12\76\1\75\6\uffff\1\u0135\31\76\4\uffff\1\76\1\uffff\1\u0135\31\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\32\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\u0137\1\uffff\32\76",
+			"\12\76\1\75\6\uffff\14\76\1\u0138\15\76\4\uffff\1\76\1\uffff\14\76\1"+
+			"\u0138\15\76",
+			"\12\76\1\75\6\uffff\20\76\1\u0139\11\76\4\uffff\1\76\1\uffff\20\76\1"+
+			"\u0139\11\76",
+			"\12\76\1\75\6\uffff\22\76\1\u013a\7\76\4\uffff\1\76\1\uffff\22\76\1"+
+			"\u013a\7\76",
+			"\12\76\1\75\6\uffff\21\76\1\u013b\10\76\4\uffff\1\76\1\uffff\21\76\1"+
+			"\u013b\10\76",
+			"\1\154\1\uffff\12\u013c\7\uffff\6\155\32\uffff\6\155",
+			"",
+			"",
+			"",
+			"\12\u013d\1\75\6\uffff\6\u013d\24\76\4\uffff\1\76\1\uffff\6\u013d\24"+
+			"\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\32\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\15\76\1\u013f\14\76",
+			"",
+			"",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\21\76\1\u0140\10\76",
+			"",
+			"\12\76\1\75\6\uffff\23\76\1\u0141\6\76\4\uffff\1\76\1\uffff\23\76\1"+
+			"\u0141\6\76",
+			"\12\76\1\75\6\uffff\5\76\1\u0142\24\76\4\uffff\1\76\1\uffff\5\76\1\u0142"+
+			"\24\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\32\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\13\76\1\u0144\16\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\32\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\32\76",
+			"",
+			"",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\32\76",
+			"",
+			"\12\76\1\75\6\uffff\1\u0149\31\76\4\uffff\1\76\1\uffff\1\u0148\31\76",
+			"\12\76\1\75\6\uffff\1\u0149\31\76\4\uffff\1\76\1\uffff\1\u0149\31\76",
+			"\12\76\1\75\6\uffff\23\76\1\u014a\6\76\4\uffff\1\76\1\uffff\23\76\1"+
+			"\u014a\6\76",
+			"",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\32\76",
+			"",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\21\76\1\u014c\10\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\32\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\32\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\32\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\32\76",
+			"",
+			"\12\76\1\75\6\uffff\2\76\1\u0151\27\76\4\uffff\1\76\1\uffff\2\76\1\u0151"+
+			"\27\76",
+			"",
+			"\12\76\1\75\6\uffff\20\76\1\u0152\11\76\4\uffff\1\76\1\uffff\20\76\1"+
+			"\u0152\11\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\32\76",
+			"\12\76\1\75\6\uffff\24\76\1\u0153\5\76\4\uffff\1\76\1\uffff\24\76\1"+
+			"\u0153\5\76",
+			"\12\76\1\75\6\uffff\4\76\1\u0154\25\76\4\uffff\1\76\1\uffff\4\76\1\u0154"+
+			"\25\76",
+			"\12\76\1\75\6\uffff\30\76\1\u0155\1\76\4\uffff\1\76\1\uffff\30\76\1"+
+			"\u0155\1\76",
+			"\1\154\1\uffff\12\u0156\7\uffff\6\155\32\uffff\6\155",
+			"\12\u0157\1\75\6\uffff\6\u0157\24\76\4\uffff\1\76\1\uffff\6\u0157\24"+
+			"\76",
+			"",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\32\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\32\76",
+			"\12\76\1\75\6\uffff\4\76\1\u015a\25\76\4\uffff\1\76\1\uffff\4\76\1\u015a"+
+			"\25\76",
+			"\12\76\1\75\6\uffff\1\u015b\31\76\4\uffff\1\76\1\uffff\1\u015b\31\76",
+			"",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\32\76",
+			"",
+			"",
+			"",
+			"\12\76\1\75\6\uffff\14\76\1\u015e\15\76\4\uffff\1\76\1\uffff\14\76\1"+
+			"\u015d\15\76",
+			"\12\76\1\75\6\uffff\14\76\1\u015e\15\76\4\uffff\1\76\1\uffff\14\76\1"+
+			"\u015e\15\76",
+			"\12\76\1\75\6\uffff\4\76\1\u015f\25\76\4\uffff\1\76\1\uffff\4\76\1\u015f"+
+			"\25\76",
+			"",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\32\76",
+			"",
+			"",
+			"",
+			"",
+			"\12\76\1\75\6\uffff\4\76\1\u0161\25\76\4\uffff\1\76\1\uffff\4\76\1\u0161"+
+			"\25\76",
+			"\12\76\1\75\6\uffff\24\76\1\u0162\5\76\4\uffff\1\76\1\uffff\24\76\1"+
+			"\u0162\5\76",
+			"\12\76\1\75\6\uffff\16\76\1\u0163\13\76\4\uffff\1\76\1\uffff\16\76\1"+
+			"\u0163\13\76",
+			"\12\76\1\75\6\uffff\3\76\1\u0164\26\76\4\uffff\1\76\1\uffff\3\76\1\u0164"+
+			"\26\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\32\76",
+			"\1\154\1\uffff\12\u0166\7\uffff\6\155\32\uffff\6\155",
+			"\1\155\2\uffff\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\32\76",
+			"",
+			"",
+			"\12\76\1\75\6\uffff\15\76\1\u0167\14\76\4\uffff\1\76\1\uffff\15\76\1"+
+			"\u0167\14\76",
+			"\12\76\1\75\6\uffff\14\76\1\u0168\15\76\4\uffff\1\76\1\uffff\14\76\1"+
+			"\u0168\15\76",
+			"",
+			"\12\76\1\75\6\uffff\17\76\1\u016a\12\76\4\uffff\1\76\1\uffff\17\76\1"+
+			"\u0169\12\76",
+			"\12\76\1\75\6\uffff\17\76\1\u016a\12\76\4\uffff\1\76\1\uffff\17\76\1"+
+			"\u016a\12\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\32\76",
+			"",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\32\76",
+			"\12\76\1\75\6\uffff\16\76\1\u016c\13\76\4\uffff\1\76\1\uffff\16\76\1"+
+			"\u016c\13\76",
+			"\12\76\1\75\6\uffff\21\76\1\u016d\10\76\4\uffff\1\76\1\uffff\21\76\1"+
+			"\u016d\10\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\32\76",
+			"",
+			"\1\155\1\154\1\uffff\12\57",
+			"\12\76\1\75\6\uffff\2\76\1\u016f\27\76\4\uffff\1\76\1\uffff\2\76\1\u016f"+
+			"\27\76",
+			"\12\76\1\75\6\uffff\10\76\1\u0170\21\76\4\uffff\1\76\1\uffff\10\76\1"+
+			"\u0170\21\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\32\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\32\76",
+			"",
+			"\12\76\1\75\6\uffff\21\76\1\u0173\10\76\4\uffff\1\76\1\uffff\21\76\1"+
+			"\u0173\10\76",
+			"\12\76\1\75\6\uffff\24\76\1\u0174\5\76\4\uffff\1\76\1\uffff\24\76\1"+
+			"\u0174\5\76",
+			"",
+			"\12\76\1\75\6\uffff\30\76\1\u0175\1\76\4\uffff\1\76\1\uffff\30\76\1"+
+			"\u0175\1\76",
+			"\12\76\1\75\6\uffff\13\76\1\u0176\16\76\4\uffff\1\76\1\uffff\13\76\1"+
+			"\u0176\16\76",
+			"",
+			"",
+			"\12\76\1\75\6\uffff\24\76\1\u0177\5\76\4\uffff\1\76\1\uffff\24\76\1"+
+			"\u0177\5\76",
+			"\12\76\1\75\6\uffff\14\76\1\u0178\15\76\4\uffff\1\76\1\uffff\14\76\1"+
+			"\u0178\15\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\32\76",
+			"\12\76\1\75\6\uffff\30\76\1\u017a\1\76\4\uffff\1\76\1\uffff\30\76\1"+
+			"\u017a\1\76",
+			"\12\76\1\75\6\uffff\14\76\1\u017b\15\76\4\uffff\1\76\1\uffff\14\76\1"+
+			"\u017b\15\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\32\76",
+			"",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\32\76",
+			"\12\76\1\75\6\uffff\32\76\4\uffff\1\76\1\uffff\32\76"
+	};
+
+	static final short[] DFA15_eot = DFA.unpackEncodedString(DFA15_eotS);
+	static final short[] DFA15_eof = DFA.unpackEncodedString(DFA15_eofS);
+	static final char[] DFA15_min = DFA.unpackEncodedStringToUnsignedChars(DFA15_minS);
+	static final char[] DFA15_max = DFA.unpackEncodedStringToUnsignedChars(DFA15_maxS);
+	static final short[] DFA15_accept = DFA.unpackEncodedString(DFA15_acceptS);
+	static final short[] DFA15_special = DFA.unpackEncodedString(DFA15_specialS);
+	static final short[][] DFA15_transition;
+
+	static {
+		int numStates = DFA15_transitionS.length;
+		DFA15_transition = new short[numStates][];
+		for (int i=0; i<numStates; i++) {
+			DFA15_transition[i] = DFA.unpackEncodedString(DFA15_transitionS[i]);
+		}
+	}
+
+	protected class DFA15 extends DFA {
+
+		public DFA15(BaseRecognizer recognizer) {
+			this.recognizer = recognizer;
+			this.decisionNumber = 15;
+			this.eot = DFA15_eot;
+			this.eof = DFA15_eof;
+			this.min = DFA15_min;
+			this.max = DFA15_max;
+			this.accept = DFA15_accept;
+			this.special = DFA15_special;
+			this.transition = DFA15_transition;
+		}
+		@Override
+		public String getDescription() {
+			return "1:1: Tokens : ( T__81 | T__82 | T__83 | T__84 | T__85 | T__86 | T__87 | T__88 | T__89 | T__90 | T__91 | T__92 | T__93 | T__94 | T__95 | T__96 | T__97 | T__98 | T__99 | T__100 | T__101 | T__102 | T__103 | T__104 | T__105 | T__106 | T__107 | K_SELECT | K_FROM | K_WHERE | K_AND | K_KEY | K_INSERT | K_UPDATE | K_WITH | K_LIMIT | K_USING | K_CONSISTENCY | K_LEVEL | K_USE | K_FIRST | K_REVERSED | K_COUNT | K_SET | K_BEGIN | K_APPLY | K_BATCH | K_TRUNCATE | K_DELETE | K_IN | K_CREATE | K_KEYSPACE | K_COLUMNFAMILY | K_INDEX | K_ON | K_DROP | K_PRIMARY | K_INTO | K_VALUES | K_TIMESTAMP | K_TTL | K_ALTER | K_ADD | K_TYPE | STRING_LITERAL | RANGEOP | INTEGER | QMARK | FLOAT | IDENT | COMPIDENT | UUID | WS | COMMENT | MULTILINE_COMMENT );";
+		}
+	}
+
+}
@@ -31,6 +31,21 @@ import java.util.Map;
  */
 public class RowIndexConfig {
 
+    /**
+     * The criteria for assigning the indexed rows to time buckets.
+     */
+    public enum TimeBucketing {
+
+        /** No time buckets. */
+        NONE,
+
+        /** By the time at which all the row cells will be expired according to their TTLs. */
+        TTL,
+
+        /** By the row write time plus the table default TTL. */
+        TIMESTAMP
+    }
+
     private static final String SCHEMA_OPTION = "schema";
 
     private static final String REFRESH_SECONDS_OPTION = "refresh_seconds";
@@ -47,6 +62,15 @@ public class RowIndexConfig {
     private static final String MAX_CACHED_MB_OPTION = "max_cached_mb";
     private static final int DEFAULT_MAX_CACHED_MB = 30;
 
+    private static final String FILTER_CACHE_MB_OPTION = "filter_cache_mb";
+    private static final int DEFAULT_FILTER_CACHE_MB = 32;
+
+    private static final String TIME_BUCKET_SECONDS_OPTION = "time_bucket_seconds";
+    private static final int DEFAULT_TIME_BUCKET_SECONDS = 0;
+
+    private static final String TIME_BUCKET_BY_OPTION = "time_bucket_by";
+    private static final TimeBucketing DEFAULT_TIME_BUCKET_BY = TimeBucketing.TTL;
+
     private static final String INDEXING_THREADS_OPTION = "indexing_threads";
     private static final int DEFAULT_INDEXING_THREADS = 0;
 
@@ -59,6 +83,9 @@ public class RowIndexConfig {
     private final int ramBufferMB;
     private final int maxMergeMB;
     private final int maxCachedMB;
+    private final int filterCacheMB;
+    private final int timeBucketSeconds;
+    private final TimeBucketing timeBucketing;
     private final int indexingThreads;
     private final int indexingQueuesSize;
 
@@ -139,6 +166,62 @@ public class RowIndexConfig {
             maxCachedMB = DEFAULT_MAX_CACHED_MB;
         }
 
+        // Setup filter cache size
+        String filterCacheMBOption = options.get(FILTER_CACHE_MB_OPTION);
+        if (filterCacheMBOption != null) {
+            try {
+                filterCacheMB = Integer.parseInt(filterCacheMBOption);
+            } catch (NumberFormatException e) {
+                String msg = String.format("'%s'  must be a positive integer", FILTER_CACHE_MB_OPTION);
+                throw new RuntimeException(msg);
+            }
+            if (filterCacheMB < 0) {
+                String msg = String.format("'%s'  must be positive", FILTER_CACHE_MB_OPTION);
+                throw new RuntimeException(msg);
+            }
+        } else {
+            filterCacheMB = DEFAULT_FILTER_CACHE_MB;
+        }
+
+        // Setup time buckets width
+        String timeBucketSecondsOption = options.get(TIME_BUCKET_SECONDS_OPTION);
+        if (timeBucketSecondsOption != null) {
+            try {
+                timeBucketSeconds = Integer.parseInt(timeBucketSecondsOption);
+            } catch (NumberFormatException e) {
+                String msg = String.format("'%s'  must be a positive integer", TIME_BUCKET_SECONDS_OPTION);
+                throw new RuntimeException(msg);
+            }
+            if (timeBucketSeconds < 0) {
+                String msg = String.format("'%s'  must be positive", TIME_BUCKET_SECONDS_OPTION);
+                throw new RuntimeException(msg);
+            }
+        } else {
+            timeBucketSeconds = DEFAULT_TIME_BUCKET_SECONDS;
+        }
+
+        // Setup time buckets criteria
+        String timeBucketByOption = options.get(TIME_BUCKET_BY_OPTION);
+        if (timeBucketSeconds == 0) {
+            timeBucketing = TimeBucketing.NONE;
+        } else if (timeBucketByOption != null) {
+            if (timeBucketByOption.equalsIgnoreCase("ttl")) {
+                timeBucketing = TimeBucketing.TTL;
+            } else if (timeBucketByOption.equalsIgnoreCase("timestamp")) {
+                if (metadata.getDefaultTimeToLive() <= 0) {
+                    String msg = String.format("'%s' 'timestamp' requires a table default_time_to_live",
+                                               TIME_BUCKET_BY_OPTION);
+                    throw new RuntimeException(msg);
+                }
+                timeBucketing = TimeBucketing.TIMESTAMP;
+            } else {
+                String msg = String.format("'%s'  must be one of 'ttl' or 'timestamp'", TIME_BUCKET_BY_OPTION);
+                throw new RuntimeException(msg);
+            }
+        } else {
+            timeBucketing = DEFAULT_TIME_BUCKET_BY;
+        }
+
         // Setup queues in index pool
         String indexPoolNumQueuesOption = options.get(INDEXING_THREADS_OPTION);
         if (indexPoolNumQueuesOption != null) {
@@ -223,6 +306,35 @@ public class RowIndexConfig {
         return maxCachedMB;
     }
 
+    /**
+     * Returns the max size in MB of the cache of filtering {@link org.apache.lucene.search.DocIdSet}s, being {@code 0}
+     * meaning no caching.
+     *
+     * @return The max size in MB of the filter cache.
+     */
+    public int getFilterCacheMB() {
+        return filterCacheMB;
+    }
+
+    /**
+     * Returns the width in seconds of the time buckets in which the index is split, being {@code 0} meaning no time
+     * buckets.
+     *
+     * @return The width in seconds of the time buckets.
+     */
+    public int getTimeBucketSeconds() {
+        return timeBucketSeconds;
+    }
+
+    /**
+     * Returns the criteria for assigning documents to time buckets.
+     *
+     * @return The criteria for assigning documents to time buckets.
+     */
+    public TimeBucketing getTimeBucketing() {
+        return timeBucketing;
+    }
+
     public int getIndexingThreads() {
         return indexingThreads;
     }
@@ -241,6 +353,9 @@ public class RowIndexConfig {
                       .add("ramBufferMB", ramBufferMB)
                       .add("maxMergeMB", maxMergeMB)
                       .add("maxCachedMB", maxCachedMB)
+                      .add("filterCacheMB", filterCacheMB)
+                      .add("timeBucketSeconds", timeBucketSeconds)
+                      .add("timeBucketing", timeBucketing)
                       .add("indexingThreads", indexingThreads)
                       .add("indexingQueuesSize", indexingQueuesSize)
                       .toString();
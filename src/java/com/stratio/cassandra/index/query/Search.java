@@ -149,16 +149,17 @@ public class Search {
     }
 
     /**
-     * Returns the Lucene {@link Query} representation of this search. This {@link Query} include both the querying and
-     * filtering {@link Condition}s. If none of them is set, then a {@link MatchAllDocsQuery} is returned, so it never
-     * returns {@code null}.
+     * Returns the Lucene {@link Query} representation of the querying part of this search. This {@link Query} doesn't
+     * include the filtering {@link Condition}, which is returned by {@link #filter(Schema)}. If neither the querying
+     * condition nor the range query are set, then a {@link MatchAllDocsQuery} is returned, so it never returns {@code
+     * null}.
      *
      * @param schema     The {@link Schema} to be used.
      * @param rangeQuery An additional range {@link Query} to be used.
-     * @return The Lucene {@link Query} representation of this search.
+     * @return The Lucene {@link Query} representation of the querying part of this search.
      */
     public Query query(Schema schema, Query rangeQuery) {
-        if (queryCondition == null && filterCondition == null && rangeQuery == null) {
+        if (queryCondition == null && rangeQuery == null) {
             return new MatchAllDocsQuery();
         }
         BooleanQuery booleanQuery = new BooleanQuery();
@@ -166,25 +167,35 @@ public class Search {
             Query query = queryCondition.query(schema);
             booleanQuery.add(query, BooleanClause.Occur.MUST);
         }
-        if (filterCondition != null) {
-            Query query = new ConstantScoreQuery(filterCondition.query(schema));
-            booleanQuery.add(query, BooleanClause.Occur.MUST);
-        }
         if (rangeQuery != null) {
             booleanQuery.add(rangeQuery, BooleanClause.Occur.MUST);
         }
         return booleanQuery;
     }
 
+    /**
+     * Returns the Lucene {@link Filter} representation of the filtering {@link Condition} of this search, maybe {@code
+     * null} meaning no filtering. Being non-scoring, this {@link Filter} can be cached and reused across searches.
+     *
+     * @param schema The {@link Schema} to be used.
+     * @return The Lucene {@link Filter} representation of the filtering {@link Condition} of this search.
+     */
+    public Filter filter(Schema schema) {
+        return filterCondition == null ? null : filterCondition.filter(schema);
+    }
+
     /**
      * Validates this {@link Search} against the specified {@link Schema}.
      *
      * @param schema A {@link Schema}.
      */
     public void validate(Schema schema) {
-        if (queryCondition != null || filterCondition != null) {
+        if (queryCondition != null) {
             query(schema, null);
         }
+        if (filterCondition != null) {
+            filter(schema);
+        }
         if (sort != null) {
             sort.sort(schema);
         }
@@ -0,0 +1,360 @@
+/*
+ * Copyright 2015, Stratio.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.stratio.cassandra.index.service;
+
+import com.google.common.base.Objects;
+import com.yammer.metrics.Metrics;
+import com.yammer.metrics.core.Gauge;
+import com.yammer.metrics.core.Meter;
+import com.yammer.metrics.util.RatioGauge;
+import org.apache.cassandra.metrics.DefaultNameFactory;
+import org.apache.cassandra.metrics.MetricNameFactory;
+import org.apache.lucene.index.AtomicReader;
+import org.apache.lucene.index.AtomicReaderContext;
+import org.apache.lucene.search.BitsFilteredDocIdSet;
+import org.apache.lucene.search.DocIdSet;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.Filter;
+import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.FixedBitSet;
+import org.apache.lucene.util.RamUsageEstimator;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A size bounded LRU cache of per-segment {@link DocIdSet}s for non-scoring {@link Filter}s.
+ * <p/>
+ * Each cached {@link Filter} is evaluated only once per segment, and the resulting {@link FixedBitSet} is reused by
+ * the following searches until it is evicted. The entries are keyed by the {@link Filter} itself and the core cache
+ * key of the segment, so they survive NRT reopens (deletions are applied at search time with the accepted docs), and
+ * they are eagerly evicted when their segment is closed, typically after being merged away.
+ *
+ * @author Andres de la Pena <adelapena@stratio.com>
+ */
+public class FilterCache {
+
+    /** The metrics type. */
+    private static final String METRICS_TYPE = "LuceneFilterCache";
+
+    /** The approximate per entry memory overhead, including the key and the {@link LinkedHashMap} entry. */
+    private static final long ENTRY_OVERHEAD = 2 * RamUsageEstimator.NUM_BYTES_OBJECT_HEADER +
+                                               6 * RamUsageEstimator.NUM_BYTES_OBJECT_REF +
+                                               RamUsageEstimator.NUM_BYTES_INT;
+
+    /** The max memory to be used by the cached {@link DocIdSet}s, in bytes. */
+    private final long maxBytes;
+
+    /** The cached {@link DocIdSet}s in access order. */
+    private final LinkedHashMap<Key, DocIdSet> cache;
+
+    /** The core cache keys of the segments with an already registered {@link AtomicReader.CoreClosedListener}. */
+    private final Set<Object> listenedCores;
+
+    /** The listener evicting the entries of closed segments. */
+    private final AtomicReader.CoreClosedListener coreClosedListener;
+
+    /** The memory currently used by the cached {@link DocIdSet}s, in bytes. */
+    private long ramBytesUsed;
+
+    private final MetricNameFactory factory;
+    private final Meter hits;
+    private final Meter requests;
+    private final Meter evictions;
+
+    /**
+     * Builds a new {@link FilterCache} using the specified max memory size.
+     *
+     * @param maxMB The max memory to be used by the cached {@link DocIdSet}s, in MB.
+     * @param scope The metrics scope, usually the qualified name of the index.
+     */
+    public FilterCache(int maxMB, String scope) {
+        this.maxBytes = maxMB * RamUsageEstimator.ONE_MB;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true);
+        this.listenedCores = new HashSet<>();
+        this.coreClosedListener = new AtomicReader.CoreClosedListener() {
+            @Override
+            public void onClose(Object ownerCoreCacheKey) {
+                evict(ownerCoreCacheKey);
+            }
+        };
+
+        factory = new DefaultNameFactory(METRICS_TYPE, scope);
+        hits = Metrics.newMeter(factory.createMetricName("Hits"), "hits", TimeUnit.SECONDS);
+        requests = Metrics.newMeter(factory.createMetricName("Requests"), "requests", TimeUnit.SECONDS);
+        evictions = Metrics.newMeter(factory.createMetricName("Evictions"), "evictions", TimeUnit.SECONDS);
+        Metrics.newGauge(factory.createMetricName("HitRate"), new RatioGauge() {
+            protected double getNumerator() {
+                return hits.count();
+            }
+
+            protected double getDenominator() {
+                return requests.count();
+            }
+        });
+        Metrics.newGauge(factory.createMetricName("Size"), new Gauge<Long>() {
+            public Long value() {
+                return getRamBytesUsed();
+            }
+        });
+        Metrics.newGauge(factory.createMetricName("Entries"), new Gauge<Integer>() {
+            public Integer value() {
+                return size();
+            }
+        });
+    }
+
+    /**
+     * Returns a {@link Filter} with the same semantics that the specified one, but caching its per-segment results in
+     * this cache.
+     *
+     * @param filter The {@link Filter} to be cached.
+     * @return A caching version of {@code filter}.
+     */
+    public Filter cached(Filter filter) {
+        return new CachedFilter(filter);
+    }
+
+    /**
+     * Returns the {@link DocIdSet} for the specified {@link Filter} and segment, computing and caching it if it is not
+     * already cached. The returned {@link DocIdSet} ignores the segment deletions.
+     *
+     * @param filter  A {@link Filter}.
+     * @param context The segment to be filtered.
+     * @return The {@link DocIdSet} for {@code filter} in {@code context}, never {@code null}.
+     * @throws IOException If there are I/O errors while reading the segment.
+     */
+    private DocIdSet docIdSet(Filter filter, AtomicReaderContext context) throws IOException {
+        AtomicReader reader = context.reader();
+        Key key = new Key(reader.getCoreCacheKey(), filter);
+
+        requests.mark();
+        synchronized (this) {
+            DocIdSet docIdSet = cache.get(key);
+            if (docIdSet != null) {
+                hits.mark();
+                return docIdSet;
+            }
+        }
+
+        // Compute outside the lock, concurrent misses on the same key are harmless
+        DocIdSet docIdSet = toCacheable(filter.getDocIdSet(context, null), reader.maxDoc());
+        long size = docIdSet.ramBytesUsed() + ENTRY_OVERHEAD;
+        if (size > maxBytes) {
+            return docIdSet;
+        }
+
+        synchronized (this) {
+            if (listenedCores.add(key.core)) {
+                reader.addCoreClosedListener(coreClosedListener);
+            }
+            DocIdSet previous = cache.put(key, docIdSet);
+            if (previous != null) {
+                ramBytesUsed -= previous.ramBytesUsed() + ENTRY_OVERHEAD;
+            }
+            ramBytesUsed += size;
+            Iterator<Map.Entry<Key, DocIdSet>> iterator = cache.entrySet().iterator();
+            while (ramBytesUsed > maxBytes && iterator.hasNext()) {
+                DocIdSet evicted = iterator.next().getValue();
+                iterator.remove();
+                ramBytesUsed -= evicted.ramBytesUsed() + ENTRY_OVERHEAD;
+                evictions.mark();
+            }
+        }
+        return docIdSet;
+    }
+
+    /**
+     * Returns a cacheable version of the specified {@link DocIdSet}.
+     *
+     * @param docIdSet A {@link DocIdSet}, maybe {@code null}.
+     * @param maxDoc   The number of documents in the segment.
+     * @return A cacheable version of {@code docIdSet}.
+     * @throws IOException If there are I/O errors while iterating {@code docIdSet}.
+     */
+    private static DocIdSet toCacheable(DocIdSet docIdSet, int maxDoc) throws IOException {
+        if (docIdSet == null) {
+            return DocIdSet.EMPTY;
+        } else if (docIdSet.isCacheable()) {
+            return docIdSet;
+        } else {
+            DocIdSetIterator iterator = docIdSet.iterator();
+            if (iterator == null) {
+                return DocIdSet.EMPTY;
+            }
+            FixedBitSet bitSet = new FixedBitSet(maxDoc);
+            bitSet.or(iterator);
+            return bitSet;
+        }
+    }
+
+    /**
+     * Evicts all the entries associated to the specified segment core.
+     *
+     * @param core The core cache key of a segment.
+     */
+    private synchronized void evict(Object core) {
+        listenedCores.remove(core);
+        Iterator<Map.Entry<Key, DocIdSet>> iterator = cache.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Key, DocIdSet> entry = iterator.next();
+            if (entry.getKey().core == core) {
+                iterator.remove();
+                ramBytesUsed -= entry.getValue().ramBytesUsed() + ENTRY_OVERHEAD;
+            }
+        }
+    }
+
+    /**
+     * Removes all the cached entries.
+     */
+    public synchronized void clear() {
+        cache.clear();
+        ramBytesUsed = 0;
+    }
+
+    /**
+     * Removes all the cached entries and unregisters the metrics.
+     */
+    public void close() {
+        clear();
+        for (String name : new String[]{"Hits", "Requests", "Evictions", "HitRate", "Size", "Entries"}) {
+            Metrics.defaultRegistry().removeMetric(factory.createMetricName(name));
+        }
+    }
+
+    /**
+     * Returns the memory currently used by the cached {@link DocIdSet}s, in bytes.
+     *
+     * @return The memory currently used by the cached {@link DocIdSet}s, in bytes.
+     */
+    public synchronized long getRamBytesUsed() {
+        return ramBytesUsed;
+    }
+
+    /**
+     * Returns the number of cached entries.
+     *
+     * @return The number of cached entries.
+     */
+    public synchronized int size() {
+        return cache.size();
+    }
+
+    /**
+     * Returns the number of cache hits.
+     *
+     * @return The number of cache hits.
+     */
+    public long getHits() {
+        return hits.count();
+    }
+
+    /**
+     * Returns the number of cache requests.
+     *
+     * @return The number of cache requests.
+     */
+    public long getRequests() {
+        return requests.count();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return Objects.toStringHelper(this)
+                      .add("maxBytes", maxBytes)
+                      .add("ramBytesUsed", getRamBytesUsed())
+                      .add("entries", size())
+                      .add("hits", hits.count())
+                      .add("requests", requests.count())
+                      .add("evictions", evictions.count())
+                      .toString();
+    }
+
+    /**
+     * A cache entry key, composed by a segment core cache key and a {@link Filter}.
+     */
+    private static final class Key {
+
+        private final Object core;
+        private final Filter filter;
+
+        Key(Object core, Filter filter) {
+            this.core = core;
+            this.filter = filter;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return core == key.core && filter.equals(key.filter);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(core) + filter.hashCode();
+        }
+    }
+
+    /**
+     * A {@link Filter} wrapping another {@link Filter} and caching its per-segment results in this cache.
+     */
+    private final class CachedFilter extends Filter {
+
+        private final Filter filter;
+
+        CachedFilter(Filter filter) {
+            this.filter = filter;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public DocIdSet getDocIdSet(AtomicReaderContext context, Bits acceptDocs) throws IOException {
+            DocIdSet docIdSet = docIdSet(filter, context);
+            return docIdSet == DocIdSet.EMPTY ? null : BitsFilteredDocIdSet.wrap(docIdSet, acceptDocs);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof CachedFilter && filter.equals(((CachedFilter) o).filter);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int hashCode() {
+            return filter.hashCode() ^ getClass().hashCode();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public String toString() {
+            return "CachedFilter(" + filter + ")";
+        }
+    }
+}
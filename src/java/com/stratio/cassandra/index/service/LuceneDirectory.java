@@ -0,0 +1,295 @@
+/*
+ * Copyright 2015, Stratio.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.stratio.cassandra.index.service;
+
+import org.apache.cassandra.config.CFMetaData;
+import org.apache.cassandra.io.util.FileUtils;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.index.sorter.SortingMergePolicy;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SearcherFactory;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.store.AlreadyClosedException;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.NRTCachingDirectory;
+import org.apache.lucene.util.Version;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Class wrapping a single Lucene directory and its writer and NRT searchers. A {@link LuceneIndex} is composed by one
+ * or more {@link LuceneDirectory}s, which share its writer RAM buffer and NRT cache sizes. Their NRT searchers are
+ * refreshed by the {@link LuceneIndex}.
+ *
+ * @author Andres de la Pena <adelapena@stratio.com>
+ */
+public class LuceneDirectory {
+
+    private final File file;
+    private final NRTCachingDirectory directory;
+    private final IndexWriter indexWriter;
+    private final SearcherManager searcherManager;
+
+    /**
+     * Opens or creates the Lucene directory at the specified path.
+     *
+     * @param metadata    The indexed table metadata, maybe {@code null} meaning no merge throttling nor tracking.
+     * @param path        The path of the directory in where the Lucene files will be stored.
+     * @param ramBufferMB The index writer buffer size in MB.
+     * @param maxMergeMB  NRTCachingDirectory max merge size in MB.
+     * @param maxCachedMB NRTCachingDirectory max cached MB, for this directory and all the {@code sharing} ones.
+     * @param analyzer    The default {@link Analyzer}.
+     * @param sort        The {@link Sort} to be used for trying to keep the {@link Document}s sorted.
+     * @param sharing     The {@link LuceneDirectory}s sharing the NRTCachingDirectory max cached MB with this one.
+     * @throws IOException If there are I/O errors while opening the directory.
+     */
+    public LuceneDirectory(CFMetaData metadata,
+                           String path,
+                           double ramBufferMB,
+                           Integer maxMergeMB,
+                           Integer maxCachedMB,
+                           Analyzer analyzer,
+                           Sort sort,
+                           final Iterable<LuceneDirectory> sharing) throws IOException {
+
+        // Get directory file
+        file = new File(path);
+
+        // Open or create directory, caching new segments only while all the sharing directories fit in the cache size
+        FSDirectory fsDirectory = FSDirectory.open(file);
+        ThrottledDirectory throttledDirectory = new ThrottledDirectory(fsDirectory);
+        final long maxCachedBytes = maxCachedMB * 1024L * 1024L;
+        directory = new NRTCachingDirectory(throttledDirectory, maxMergeMB, maxCachedMB) {
+            @Override
+            protected boolean doCacheWrite(String name, IOContext context) {
+                return super.doCacheWrite(name, context) && cachedBytes(sharing) + size(context) <= maxCachedBytes;
+            }
+        };
+
+        // Setup index writer
+        IndexWriterConfig config = new IndexWriterConfig(Version.LUCENE_48, analyzer);
+        config.setRAMBufferSizeMB(ramBufferMB);
+        config.setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+        config.setUseCompoundFile(true);
+        config.setMergePolicy(new SortingMergePolicy(config.getMergePolicy(), sort));
+        config.setMergeScheduler(new ThrottledMergeScheduler(metadata));
+        indexWriter = new IndexWriter(directory, config);
+
+        // Setup NRT search
+        SearcherFactory searcherFactory = new SearcherFactory() {
+            public IndexSearcher newSearcher(IndexReader reader) throws IOException {
+                IndexSearcher searcher = new IndexSearcher(reader);
+                searcher.setSimilarity(new NoIDFSimilarity());
+                return searcher;
+            }
+        };
+        searcherManager = new SearcherManager(indexWriter, true, searcherFactory);
+    }
+
+    /**
+     * Returns the number of bytes held in the NRT caches of the specified {@link LuceneDirectory}s.
+     *
+     * @param directories The {@link LuceneDirectory}s.
+     * @return The number of bytes held in the NRT caches of {@code directories}.
+     */
+    private static long cachedBytes(Iterable<LuceneDirectory> directories) {
+        long bytes = 0;
+        for (LuceneDirectory directory : directories) {
+            try {
+                bytes += directory.directory.ramBytesUsed();
+            } catch (AlreadyClosedException e) {
+                // Closed while being dropped, its cache is released
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Returns the estimated size of the file written by a flush or merge, as NRTCachingDirectory estimates it.
+     *
+     * @param context The {@link IOContext} of the file.
+     * @return The estimated size of the file in bytes, {@code 0} if it is not written by a flush or a merge.
+     */
+    private static long size(IOContext context) {
+        if (context.mergeInfo != null) {
+            return context.mergeInfo.estimatedMergeBytes;
+        } else if (context.flushInfo != null) {
+            return context.flushInfo.estimatedSegmentSize;
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the directory {@link File}.
+     *
+     * @return The directory {@link File}.
+     */
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * Updates the specified {@link Document} by first deleting the documents containing {@code Term} and then adding
+     * the new document.
+     *
+     * @param term     The {@link Term} to identify the document(s) to be deleted.
+     * @param document The {@link Document} to be added.
+     * @throws IOException If there are I/O errors.
+     */
+    public void upsert(Term term, Document document) throws IOException {
+        indexWriter.updateDocument(term, document);
+    }
+
+    /**
+     * Deletes all the {@link Document}s containing the specified {@link Term}.
+     *
+     * @param term The {@link Term} to identify the documents to be deleted.
+     * @throws IOException If there are I/O errors.
+     */
+    public void delete(Term term) throws IOException {
+        indexWriter.deleteDocuments(term);
+    }
+
+    /**
+     * Deletes all the {@link Document}s satisfying the specified {@link Query}.
+     *
+     * @param query The {@link Query} to identify the documents to be deleted.
+     * @throws IOException If there are I/O errors.
+     */
+    public void delete(Query query) throws IOException {
+        indexWriter.deleteDocuments(query);
+    }
+
+    /**
+     * Deletes all the {@link Document}s.
+     *
+     * @throws IOException If there are I/O errors.
+     */
+    public void truncate() throws IOException {
+        indexWriter.deleteAll();
+    }
+
+    /**
+     * Commits the pending changes.
+     *
+     * @throws IOException If there are I/O errors.
+     */
+    public void commit() throws IOException {
+        indexWriter.commit();
+    }
+
+    /**
+     * Sets the index writer buffer size, which can be changed while the directory is in use.
+     *
+     * @param ramBufferMB The index writer buffer size in MB.
+     */
+    public void setRAMBufferSizeMB(double ramBufferMB) {
+        indexWriter.getConfig().setRAMBufferSizeMB(ramBufferMB);
+    }
+
+    /**
+     * Returns the index writer buffer size.
+     *
+     * @return The index writer buffer size in MB.
+     */
+    public double getRAMBufferSizeMB() {
+        return indexWriter.getConfig().getRAMBufferSizeMB();
+    }
+
+    /**
+     * Refreshes the NRT searcher, making visible all the changes done so far.
+     *
+     * @throws IOException If there are I/O errors.
+     */
+    public void refresh() throws IOException {
+        searcherManager.maybeRefreshBlocking();
+    }
+
+    /**
+     * Commits all changes, waits for pending merges to complete, and closes all associated resources.
+     *
+     * @throws IOException If there are I/O errors.
+     */
+    public void close() throws IOException {
+        searcherManager.close();
+        indexWriter.close();
+        directory.close();
+    }
+
+    /**
+     * Closes the directory and removes all its files.
+     *
+     * @throws IOException If there are I/O errors.
+     */
+    public void delete() throws IOException {
+        close();
+        FileUtils.deleteRecursive(file);
+    }
+
+    /**
+     * Returns a NRT {@link IndexSearcher} that must be released with {@link #release(IndexSearcher)} after use.
+     *
+     * @return A NRT {@link IndexSearcher}.
+     * @throws IOException If there are I/O errors.
+     */
+    public IndexSearcher acquire() throws IOException {
+        return searcherManager.acquire();
+    }
+
+    /**
+     * Releases the specified {@link IndexSearcher} obtained with {@link #acquire()}.
+     *
+     * @param searcher The {@link IndexSearcher} to be released.
+     * @throws IOException If there are I/O errors.
+     */
+    public void release(IndexSearcher searcher) throws IOException {
+        searcherManager.release(searcher);
+    }
+
+    /**
+     * Forces merging segments leaving one single segment. This operation blocks until all merging completes.
+     *
+     * @throws IOException If there are I/O errors.
+     */
+    public void optimize() throws IOException {
+        indexWriter.forceMerge(1, true);
+        indexWriter.commit();
+    }
+
+    /**
+     * Returns the total number of {@link Document}s in this directory.
+     *
+     * @return The total number of {@link Document}s in this directory.
+     * @throws IOException If there are I/O errors.
+     */
+    public long getNumDocs() throws IOException {
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            return searcher.getIndexReader().numDocs();
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+}
@@ -16,31 +16,57 @@
 package com.stratio.cassandra.index.service;
 
 import com.stratio.cassandra.util.Log;
+import org.apache.cassandra.concurrent.DebuggableScheduledThreadPoolExecutor;
+import org.apache.cassandra.concurrent.ScheduledExecutors;
+import org.apache.cassandra.config.CFMetaData;
 import org.apache.cassandra.io.util.FileUtils;
 import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.document.Document;
 import org.apache.lucene.index.*;
 import org.apache.lucene.index.sorter.EarlyTerminatingSortingCollector;
-import org.apache.lucene.index.sorter.SortingMergePolicy;
 import org.apache.lucene.search.*;
-import org.apache.lucene.store.Directory;
-import org.apache.lucene.store.FSDirectory;
-import org.apache.lucene.store.NRTCachingDirectory;
-import org.apache.lucene.util.Version;
 
+import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
- * Class wrapping a Lucene directory and its readers , writers and searchers for NRT.
+ * Class wrapping a Lucene index and its readers, writers and searchers for NRT.
+ * <p/>
+ * The index can be optionally split into time buckets, each of them stored in its own {@link LuceneDirectory}. Each
+ * {@link Document} is stored in the bucket containing its deadline, that is, the time after which all its data will
+ * be expired. Searches skip the buckets whose data is already expired, and these buckets are periodically dropped as a
+ * whole. The {@link Document}s that never expire are stored in a permanent bucket. Any live bucket may be written, so
+ * all of them have a writer, but they split the writer RAM buffer and NRT cache sizes of the index between them, and
+ * their NRT readers are refreshed by a single thread.
  *
  * @author Andres de la Pena <adelapena@stratio.com>
  */
 public class LuceneIndex {
 
+    /** The deadline of the {@link Document}s that never expire. */
+    public static final long NEVER = Long.MAX_VALUE;
+
+    /** The name prefix of the time bucket directories. */
+    private static final String BUCKET_PREFIX = "bucket-";
+
+    /** The name of the permanent time bucket directory. */
+    private static final String PERMANENT_BUCKET = BUCKET_PREFIX + "permanent";
+
+    /** The max period between checks for expired time buckets, in seconds. */
+    private static final long MAX_EXPIRATION_CHECK_SECONDS = 60;
+
     private final RowMapper rowMapper;
     private final String path;
     private final Double refreshSeconds;
@@ -48,12 +74,18 @@ public class LuceneIndex {
     private final Integer maxMergeMB;
     private final Integer maxCachedMB;
     private final Analyzer analyzer;
+    private final FilterCache filterCache;
+    private final long bucketSeconds;
+
+    /** The directories indexed by the end of their time bucket, in seconds. */
+    private final ConcurrentSkipListMap<Long, LuceneDirectory> directories = new ConcurrentSkipListMap<>();
+
+    /** Lock for preventing the drop of time buckets while they are in use. */
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
 
     private File file;
-    private Directory directory;
-    private IndexWriter indexWriter;
-    private SearcherManager searcherManager;
-    private ControlledRealTimeReopenThread<IndexSearcher> searcherReopener;
+    private ScheduledFuture<?> expirationTask;
+    private ScheduledExecutorService refreshExecutor;
 
     private Sort sort;
 
@@ -69,10 +101,12 @@ public class LuceneIndex {
      *                       stored.
      * @param refreshSeconds The index readers refresh time in seconds. No guarantees that the writings are visible
      *                       until this time.
-     * @param ramBufferMB    The index writer buffer size in MB.
+     * @param ramBufferMB    The index writer buffer size in MB, split between the time buckets.
      * @param maxMergeMB     NRTCachingDirectory max merge size in MB.
-     * @param maxCachedMB    NRTCachingDirectory max cached MB.
+     * @param maxCachedMB    NRTCachingDirectory max cached MB, shared by the time buckets.
      * @param analyzer       The default {@link Analyzer}.
+     * @param filterCache    The {@link FilterCache} for the search filters, maybe {@code null} meaning no caching.
+     * @param bucketSeconds  The width of the time buckets in seconds, being {@code 0} meaning no time buckets.
      */
     public LuceneIndex(RowMapper rowMapper,
                        String path,
@@ -80,7 +114,9 @@ public class LuceneIndex {
                        Integer ramBufferMB,
                        Integer maxMergeMB,
                        Integer maxCachedMB,
-                       Analyzer analyzer) {
+                       Analyzer analyzer,
+                       FilterCache filterCache,
+                       long bucketSeconds) {
         this.rowMapper = rowMapper;
         this.path = path;
         this.refreshSeconds = refreshSeconds;
@@ -88,6 +124,8 @@ public class LuceneIndex {
         this.maxMergeMB = maxMergeMB;
         this.maxCachedMB = maxCachedMB;
         this.analyzer = analyzer;
+        this.filterCache = filterCache;
+        this.bucketSeconds = bucketSeconds;
     }
 
     /**
@@ -103,39 +141,179 @@ public class LuceneIndex {
             // Get directory file
             file = new File(path);
 
-            // Open or create directory
-            FSDirectory fsDirectory = FSDirectory.open(file);
-            directory = new NRTCachingDirectory(fsDirectory, maxMergeMB, maxCachedMB);
-
-            // Setup index writer
-            IndexWriterConfig config = new IndexWriterConfig(Version.LUCENE_48, analyzer);
-            config.setRAMBufferSizeMB(ramBufferMB);
-            config.setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
-            config.setUseCompoundFile(true);
-            config.setMergePolicy(new SortingMergePolicy(config.getMergePolicy(), sort));
-            indexWriter = new IndexWriter(directory, config);
-
-            // Setup NRT search
-            SearcherFactory searcherFactory = new SearcherFactory() {
-                public IndexSearcher newSearcher(IndexReader reader) throws IOException {
-                    IndexSearcher searcher = new IndexSearcher(reader);
-                    searcher.setSimilarity(new NoIDFSimilarity());
-                    return searcher;
+            if (bucketSeconds > 0) {
+                // Open the existing time buckets, dropping the expired ones
+                long now = now();
+                File[] bucketFiles = file.listFiles();
+                if (bucketFiles != null) {
+                    for (File bucketFile : bucketFiles) {
+                        String name = bucketFile.getName();
+                        if (bucketFile.isDirectory() && name.startsWith(BUCKET_PREFIX)) {
+                            long bucket = name.equals(PERMANENT_BUCKET)
+                                          ? NEVER
+                                          : Long.parseLong(name.substring(BUCKET_PREFIX.length()));
+                            if (bucket <= now) {
+                                Log.info("Dropping expired index bucket %s", bucketFile);
+                                FileUtils.deleteRecursive(bucketFile);
+                            } else {
+                                directories.put(bucket, directory(bucketFile.getPath()));
+                            }
+                        }
+                    }
+                }
+
+                // Schedule the drop of expired time buckets
+                long period = Math.min(bucketSeconds, MAX_EXPIRATION_CHECK_SECONDS);
+                expirationTask = ScheduledExecutors.optionalTasks.scheduleWithFixedDelay(new Runnable() {
+                    @Override
+                    public void run() {
+                        dropExpired(now());
+                    }
+                }, period, period, TimeUnit.SECONDS);
+            } else {
+                directories.put(NEVER, directory(path));
+            }
+            resizeRAMBuffers();
+
+            // Periodically refresh the NRT readers of all the time buckets
+            long refreshMillis = (long) (refreshSeconds * 1000);
+            refreshExecutor = new DebuggableScheduledThreadPoolExecutor("LuceneIndexRefresh");
+            refreshExecutor.scheduleWithFixedDelay(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        refresh();
+                    } catch (RuntimeException e) {
+                        // Keep refreshing, the error has already been logged
+                    }
                 }
-            };
-            TrackingIndexWriter trackingIndexWriter = new TrackingIndexWriter(indexWriter);
-            searcherManager = new SearcherManager(indexWriter, true, searcherFactory);
-            searcherReopener = new ControlledRealTimeReopenThread<>(trackingIndexWriter,
-                                                                    searcherManager,
-                                                                    refreshSeconds,
-                                                                    refreshSeconds);
-            searcherReopener.start(); // Start the refresher thread
+            }, refreshMillis, refreshMillis, TimeUnit.MILLISECONDS);
         } catch (IOException e) {
             Log.error(e, "Error while initializing index");
             throw new RuntimeException(e);
         }
     }
 
+    /**
+     * Returns a new {@link LuceneDirectory} stored in the specified path.
+     *
+     * @param path A directory path.
+     * @return A new {@link LuceneDirectory} stored in {@code path}.
+     * @throws IOException If there are I/O errors while opening the directory.
+     */
+    private LuceneDirectory directory(String path) throws IOException {
+        CFMetaData metadata = rowMapper == null ? null : rowMapper.metadata;
+        return new LuceneDirectory(metadata,
+                                   path,
+                                   ramBufferShare(directories.size() + 1),
+                                   maxMergeMB,
+                                   maxCachedMB,
+                                   analyzer,
+                                   sort,
+                                   directories.values());
+    }
+
+    /**
+     * Returns the writer RAM buffer size of each time bucket when there are the specified number of them.
+     *
+     * @param numBuckets A number of time buckets.
+     * @return The writer RAM buffer size in MB of each of {@code numBuckets} time buckets.
+     */
+    private double ramBufferShare(int numBuckets) {
+        return (double) ramBufferMB / Math.max(1, numBuckets);
+    }
+
+    /**
+     * Splits the writer RAM buffer size of the index evenly between the current time buckets.
+     */
+    private void resizeRAMBuffers() {
+        synchronized (directories) {
+            double share = ramBufferShare(directories.size());
+            for (LuceneDirectory directory : directories.values()) {
+                directory.setRAMBufferSizeMB(share);
+            }
+        }
+    }
+
+    /**
+     * Returns the current time in seconds.
+     *
+     * @return The current time in seconds.
+     */
+    private static long now() {
+        return TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis());
+    }
+
+    /**
+     * Returns the end of the time bucket containing the specified deadline, in seconds.
+     *
+     * @param deadline A deadline in seconds.
+     * @return The end of the time bucket containing {@code deadline}.
+     */
+    private long bucket(long deadline) {
+        if (bucketSeconds == 0 || deadline == NEVER) {
+            return NEVER;
+        }
+        return (deadline / bucketSeconds + 1) * bucketSeconds;
+    }
+
+    /**
+     * Returns the {@link LuceneDirectory} for the time bucket ending at the specified time, creating it if it doesn't
+     * exist.
+     *
+     * @param bucket The end of a time bucket, in seconds.
+     * @return The {@link LuceneDirectory} for {@code bucket}.
+     * @throws IOException If there are I/O errors while creating the directory.
+     */
+    private LuceneDirectory bucketDirectory(long bucket) throws IOException {
+        LuceneDirectory directory = directories.get(bucket);
+        if (directory == null) {
+            synchronized (directories) {
+                directory = directories.get(bucket);
+                if (directory == null) {
+                    String name = bucket == NEVER ? PERMANENT_BUCKET : BUCKET_PREFIX + bucket;
+                    directory = directory(new File(file, name).getPath());
+                    directories.put(bucket, directory);
+                    resizeRAMBuffers();
+                }
+            }
+        }
+        return directory;
+    }
+
+    /**
+     * Closes and removes the time buckets containing only data expired at the specified time. The buckets are not
+     * dropped while there are open {@link Searcher}s, which pin them, so this is skipped and left to the next periodic
+     * check rather than blocking the writes until the searches finish.
+     *
+     * @param now A time in seconds.
+     * @return {@code true} if the expired buckets have been dropped, {@code false} if there were open searches.
+     */
+    boolean dropExpired(long now) {
+        if (!lock.writeLock().tryLock()) {
+            Log.debug("Skipping the drop of expired index buckets while there are searches in progress");
+            return false;
+        }
+        try {
+            // Remove the expired buckets before closing them, so the live ones stop sharing the NRT cache size with them
+            NavigableMap<Long, LuceneDirectory> expired = directories.headMap(now, true);
+            List<LuceneDirectory> dropped = new ArrayList<>(expired.values());
+            expired.clear();
+            resizeRAMBuffers();
+            for (LuceneDirectory directory : dropped) {
+                Log.info("Dropping expired index bucket %s", directory.getFile());
+                try {
+                    directory.delete();
+                } catch (IOException e) {
+                    Log.error(e, "Error while dropping expired index bucket %s", directory.getFile());
+                }
+            }
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
     /**
      * Updates the specified {@link Document} by first deleting the documents containing {@code Term} and then adding
      * the new document. The delete and then add are atomic as seen by a reader on the same index (flush may happen only
@@ -145,12 +323,43 @@ public class LuceneIndex {
      * @param document The {@link Document} to be added.
      */
     public void upsert(Term term, Document document) {
+        upsert(term, document, NEVER);
+    }
+
+    /**
+     * Updates the specified {@link Document} by first deleting the documents containing {@code Term} and then adding
+     * the new document into the time bucket containing the specified deadline. If the index is split into time
+     * buckets, the delete and then add are only atomic if the document doesn't change its time bucket.
+     * <p/>
+     * The previous version of the document may be in any live time bucket, because its deadline can move either way
+     * (e.g. overwriting a cell with a shorter TTL), so the delete is sent to all of them. It is only buffered by their
+     * writers, and the expired buckets are skipped because they are never searched and are dropped as a whole.
+     *
+     * @param term     The {@link Term} to identify the document(s) to be deleted.
+     * @param document The {@link Document} to be added.
+     * @param deadline The time in seconds after which all the data in {@code document} will be expired, {@link #NEVER}
+     *                 if it never expires.
+     */
+    public void upsert(Term term, Document document, long deadline) {
         Log.debug("Updating document %s with term %s", document, term);
+        lock.readLock().lock();
         try {
-            indexWriter.updateDocument(term, document);
+            long now = now();
+            long bucket = bucket(deadline);
+            boolean live = bucket > now;
+            for (Map.Entry<Long, LuceneDirectory> entry : directories.tailMap(now, false).entrySet()) {
+                if (!live || entry.getKey() != bucket) {
+                    entry.getValue().delete(term);
+                }
+            }
+            if (live) {
+                bucketDirectory(bucket).upsert(term, document);
+            }
         } catch (IOException e) {
             Log.error(e, "Error while updating document %s with term %s", document, term);
             throw new RuntimeException(e);
+        } finally {
+            lock.readLock().unlock();
         }
     }
 
@@ -161,11 +370,16 @@ public class LuceneIndex {
      */
     public void delete(Term term) {
         Log.debug(String.format("Deleting by term %s", term));
+        lock.readLock().lock();
         try {
-            indexWriter.deleteDocuments(term);
+            for (LuceneDirectory directory : directories.values()) {
+                directory.delete(term);
+            }
         } catch (IOException e) {
             Log.error(e, "Error while deleting by term %s", term);
             throw new RuntimeException(e);
+        } finally {
+            lock.readLock().unlock();
         }
     }
 
@@ -176,11 +390,16 @@ public class LuceneIndex {
      */
     public void delete(Query query) {
         Log.debug("Deleting by query %s", query);
+        lock.readLock().lock();
         try {
-            indexWriter.deleteDocuments(query);
+            for (LuceneDirectory directory : directories.values()) {
+                directory.delete(query);
+            }
         } catch (IOException e) {
             Log.error(e, "Error while deleting by query %s", query);
             throw new RuntimeException(e);
+        } finally {
+            lock.readLock().unlock();
         }
     }
 
@@ -189,11 +408,16 @@ public class LuceneIndex {
      */
     public void truncate() {
         Log.info("Truncating index");
+        lock.readLock().lock();
         try {
-            indexWriter.deleteAll();
+            for (LuceneDirectory directory : directories.values()) {
+                directory.truncate();
+            }
         } catch (IOException e) {
             Log.error(e, "Error while truncating index");
             throw new RuntimeException(e);
+        } finally {
+            lock.readLock().unlock();
         }
     }
 
@@ -202,11 +426,33 @@ public class LuceneIndex {
      */
     public void commit() {
         Log.info("Committing");
+        lock.readLock().lock();
         try {
-            indexWriter.commit();
+            for (LuceneDirectory directory : directories.values()) {
+                directory.commit();
+            }
         } catch (IOException e) {
             Log.error(e, "Error while committing");
             throw new RuntimeException(e);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Refreshes the NRT readers, making visible all the changes done so far, without waiting for the refresh period.
+     */
+    void refresh() {
+        lock.readLock().lock();
+        try {
+            for (LuceneDirectory directory : directories.values()) {
+                directory.refresh();
+            }
+        } catch (IOException e) {
+            Log.error(e, "Error while refreshing index");
+            throw new RuntimeException(e);
+        } finally {
+            lock.readLock().unlock();
         }
     }
 
@@ -215,15 +461,28 @@ public class LuceneIndex {
      */
     public void close() {
         Log.info("Closing index");
+        lock.writeLock().lock();
         try {
             Log.info("Closing");
-            searcherReopener.interrupt();
-            searcherManager.close();
-            indexWriter.close();
-            directory.close();
+            if (expirationTask != null) {
+                expirationTask.cancel(false);
+            }
+            if (refreshExecutor != null) {
+                refreshExecutor.shutdownNow();
+            }
+            List<LuceneDirectory> closed = new ArrayList<>(directories.values());
+            directories.clear();
+            for (LuceneDirectory directory : closed) {
+                directory.close();
+            }
+            if (filterCache != null) {
+                filterCache.close();
+            }
         } catch (IOException e) {
             Log.error(e, "Error while closing index");
             throw new RuntimeException(e);
+        } finally {
+            lock.writeLock().unlock();
         }
     }
 
@@ -237,25 +496,80 @@ public class LuceneIndex {
     }
 
     /**
-     * Finds the top {@code count} hits for {@code query}, applying {@code clusteringKeyFilter} if non-null, and sorting
-     * the hits by the criteria in {@code sortFields}.
+     * Returns a {@link Searcher} over the time buckets whose data is not expired at {@code timestamp}. The buckets and
+     * their NRT readers are pinned until the {@link Searcher} is closed, so the document ids used for paging don't
+     * shift between pages due to buckets being created or dropped, or readers being refreshed. It must be closed by
+     * the same thread that opened it.
      *
-     * @param query        The {@link Query} to search for.
-     * @param sort         The {@link Sort} to be applied.
-     * @param after        The starting {@link SearchResult}.
-     * @param count        Return only the top {@code count} results.
-     * @param fieldsToLoad The name of the fields to be loaded.
-     * @return The found documents, sorted according to the supplied {@link Sort} instance.
+     * @param timestamp The operation time stamp in milliseconds.
+     * @return A {@link Searcher} that must be closed after use.
      */
-    public List<SearchResult> search(Query query,
-                                     Sort sort,
-                                     SearchResult after,
-                                     Integer count,
-                                     Set<String> fieldsToLoad,
-                                     boolean usesRelevance) {
-        Log.debug("Searching by query %s", query);
+    public Searcher searcher(long timestamp) {
+        lock.readLock().lock();
+        boolean opened = false;
         try {
-            IndexSearcher searcher = searcherManager.acquire();
+            long now = TimeUnit.MILLISECONDS.toSeconds(timestamp);
+            Searcher searcher = new Searcher(new ArrayList<>(directories.tailMap(now, false).values()));
+            opened = true;
+            return searcher;
+        } catch (IOException e) {
+            Log.error(e, "Error while acquiring searchers");
+            throw new RuntimeException(e);
+        } finally {
+            if (!opened) {
+                lock.readLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Class searching across a fixed set of time buckets, holding their NRT readers until it is closed.
+     */
+    public class Searcher implements Closeable {
+
+        private final List<LuceneDirectory> liveDirectories;
+        private final List<IndexSearcher> searchers;
+        private final IndexSearcher searcher;
+        private boolean closed = false;
+
+        private Searcher(List<LuceneDirectory> liveDirectories) throws IOException {
+            this.liveDirectories = liveDirectories;
+            searchers = new ArrayList<>(liveDirectories.size());
+            try {
+                for (LuceneDirectory directory : liveDirectories) {
+                    searchers.add(directory.acquire());
+                }
+            } catch (IOException e) {
+                releaseSearchers();
+                throw e;
+            }
+            searcher = searcher(searchers);
+        }
+
+        /**
+         * Finds the top {@code count} hits for {@code query}, applying {@code filter} if non-null, and sorting the hits
+         * by the criteria in {@code sortFields}. The {@code filter} results are cached per segment in the {@link
+         * FilterCache}, if any.
+         *
+         * @param query        The {@link Query} to search for.
+         * @param filter       The non-scoring {@link Filter} to be applied, maybe {@code null} meaning no filtering.
+         * @param sort         The {@link Sort} to be applied.
+         * @param after        The starting {@link SearchResult}, which must have been returned by this searcher.
+         * @param count        Return only the top {@code count} results.
+         * @param fieldsToLoad The name of the fields to be loaded.
+         * @return The found documents, sorted according to the supplied {@link Sort} instance.
+         */
+        public List<SearchResult> search(Query query,
+                                         Filter filter,
+                                         Sort sort,
+                                         SearchResult after,
+                                         Integer count,
+                                         Set<String> fieldsToLoad,
+                                         boolean usesRelevance) {
+            Log.debug("Searching by query %s and filter %s", query, filter);
+            if (filter != null) {
+                query = new FilteredQuery(query, filterCache == null ? filter : filterCache.cached(filter));
+            }
             try {
                 // Search
                 ScoreDoc start = after == null ? null : after.getScoreDoc();
@@ -271,13 +585,72 @@ public class LuceneIndex {
                 }
 
                 return searchResults;
+            } catch (IOException e) {
+                Log.error(e, "Error while searching by query %s", query);
+                throw new RuntimeException(e);
+            }
+        }
+
+        /**
+         * Returns the number of {@link Document}s satisfying the specified {@link Query}.
+         *
+         * @param query The {@link Query} to search for.
+         * @return The number of {@link Document}s satisfying {@code query}.
+         */
+        int count(Query query) {
+            try {
+                TotalHitCountCollector collector = new TotalHitCountCollector();
+                searcher.search(query, collector);
+                return collector.getTotalHits();
+            } catch (IOException e) {
+                Log.error(e, "Error while counting by query %s", query);
+                throw new RuntimeException(e);
+            }
+        }
+
+        /**
+         * Releases the pinned readers and time buckets.
+         */
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                releaseSearchers();
+            } catch (IOException e) {
+                Log.error(e, "Error while releasing searchers");
+                throw new RuntimeException(e);
             } finally {
-                searcherManager.release(searcher);
+                lock.readLock().unlock();
             }
-        } catch (IOException e) {
-            Log.error(e, "Error while searching by query %s", query);
-            throw new RuntimeException(e);
         }
+
+        private void releaseSearchers() throws IOException {
+            for (int i = 0; i < searchers.size(); i++) {
+                liveDirectories.get(i).release(searchers.get(i));
+            }
+        }
+    }
+
+    /**
+     * Returns an {@link IndexSearcher} searching across all the specified {@link IndexSearcher}s.
+     *
+     * @param searchers The {@link IndexSearcher}s to be combined.
+     * @return An {@link IndexSearcher} searching across all {@code searchers}.
+     */
+    private static IndexSearcher searcher(List<IndexSearcher> searchers) {
+        if (searchers.size() == 1) {
+            return searchers.get(0);
+        }
+        IndexReader[] readers = new IndexReader[searchers.size()];
+        for (int i = 0; i < readers.length; i++) {
+            readers[i] = searchers.get(i).getIndexReader();
+        }
+        IndexSearcher searcher = new IndexSearcher(new MultiReader(readers, false));
+        searcher.setSimilarity(new NoIDFSimilarity());
+        return searcher;
     }
 
     private TopDocs topDocs(IndexSearcher searcher,
@@ -301,18 +674,53 @@ public class LuceneIndex {
         }
     }
 
+    /**
+     * Returns the {@link FilterCache} used by this index, maybe {@code null} meaning no caching.
+     *
+     * @return The {@link FilterCache} used by this index.
+     */
+    public FilterCache getFilterCache() {
+        return filterCache;
+    }
+
+    /**
+     * Returns the number of time buckets, including the permanent one.
+     *
+     * @return The number of time buckets.
+     */
+    public int getNumBuckets() {
+        return directories.size();
+    }
+
+    /**
+     * Returns the writer RAM buffer size of all the time buckets together.
+     *
+     * @return The writer RAM buffer size of all the time buckets in MB.
+     */
+    double getRAMBufferSizeMB() {
+        double ramBufferSizeMB = 0;
+        for (LuceneDirectory directory : directories.values()) {
+            ramBufferSizeMB += directory.getRAMBufferSizeMB();
+        }
+        return ramBufferSizeMB;
+    }
+
     /**
      * Optimizes the index forcing merge segments leaving one single segment. This operation blocks until all merging
      * completes.
      */
     public void optimize() {
         Log.debug("Optimizing index");
+        lock.readLock().lock();
         try {
-            indexWriter.forceMerge(1, true);
-            indexWriter.commit();
+            for (LuceneDirectory directory : directories.values()) {
+                directory.optimize();
+            }
         } catch (IOException e) {
             Log.error(e, "Error while optimizing index");
             throw new RuntimeException(e);
+        } finally {
+            lock.readLock().unlock();
         }
     }
 
@@ -323,17 +731,18 @@ public class LuceneIndex {
      */
     public long getNumDocs() {
         Log.debug("Getting num docs");
+        lock.readLock().lock();
         try {
-            IndexSearcher searcher = searcherManager.acquire();
-            try {
-                return searcher.getIndexReader().numDocs();
-            } finally {
-                searcherManager.release(searcher);
+            long numDocs = 0;
+            for (LuceneDirectory directory : directories.values()) {
+                numDocs += directory.getNumDocs();
             }
+            return numDocs;
         } catch (IOException e) {
             Log.error(e, "Error while getting num docs");
             throw new RuntimeException(e);
+        } finally {
+            lock.readLock().unlock();
         }
-
     }
 }
@@ -31,11 +31,13 @@ import org.apache.cassandra.db.composites.CellName;
 import org.apache.cassandra.db.marshal.AbstractType;
 import org.apache.cassandra.db.marshal.UTF8Type;
 import org.apache.lucene.document.Document;
+import org.apache.lucene.search.Filter;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.Sort;
 
 import java.nio.ByteBuffer;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Class for mapping rows between Cassandra and Lucene.
@@ -59,6 +61,9 @@ public abstract class RowService {
 
     private TaskQueue indexQueue;
 
+    /** The criteria for assigning the indexed rows to time buckets. */
+    private final RowIndexConfig.TimeBucketing timeBucketing;
+
     /**
      * Returns a new {@code RowService}.
      *
@@ -76,13 +81,20 @@ public abstract class RowService {
         this.schema = config.getSchema();
         this.rowMapper = RowMapper.build(metadata, columnDefinition, schema);
 
+        int filterCacheMB = config.getFilterCacheMB();
+        String scope = String.format("%s.%s.%s", metadata.ksName, metadata.cfName, columnDefinition.getIndexName());
+        FilterCache filterCache = filterCacheMB > 0 ? new FilterCache(filterCacheMB, scope) : null;
+
         this.luceneIndex = new LuceneIndex(rowMapper,
                                            config.getPath(),
                                            config.getRefreshSeconds(),
                                            config.getRamBufferMB(),
                                            config.getMaxMergeMB(),
                                            config.getMaxCachedMB(),
-                                           schema.getAnalyzer());
+                                           schema.getAnalyzer(),
+                                           filterCache,
+                                           config.getTimeBucketSeconds());
+        this.timeBucketing = config.getTimeBucketing();
 
         int indexingThreads = config.getIndexingThreads();
         if (indexingThreads > 0) {
@@ -243,6 +255,7 @@ public abstract class RowService {
         // Setup search arguments
         Query rangeQuery = rowMapper.query(dataRange);
         Query query = search.query(schema, rangeQuery);
+        Filter filter = search.filter(schema);
         Sort sort = search.sort(schema);
         boolean usesRelevance = search.usesRelevance();
 
@@ -250,34 +263,39 @@ public abstract class RowService {
         List<Row> rows = new LinkedList<>(); // The row list to be returned
         SearchResult lastDoc = null; // The last search result
 
-        // Paginate search collecting documents
+        // Paginate search collecting documents, pinning the index readers so the paging doesn't skip nor repeat hits
         List<SearchResult> searchResults;
         int pageSize = Math.min(limit, MAX_PAGE_SIZE);
         boolean maybeMore;
-        do {
-            // Search rows identifiers in Lucene
-            luceneTime.start();
-            searchResults = luceneIndex.search(query, sort, lastDoc, pageSize, fieldsToLoad(), usesRelevance);
-            numDocs += searchResults.size();
-            lastDoc = searchResults.isEmpty() ? null : searchResults.get(searchResults.size() - 1);
-            luceneTime.stop();
-
-            // Collect rows from Cassandra
-            collectTime.start();
-            for (Row row : rows(searchResults, timestamp, usesRelevance)) {
-                if (row != null && accepted(row, expressions)) {
-                    rows.add(row);
+        LuceneIndex.Searcher searcher = luceneIndex.searcher(timestamp);
+        try {
+            do {
+                // Search rows identifiers in Lucene
+                luceneTime.start();
+                searchResults = searcher.search(query, filter, sort, lastDoc, pageSize, fieldsToLoad(), usesRelevance);
+                numDocs += searchResults.size();
+                lastDoc = searchResults.isEmpty() ? null : searchResults.get(searchResults.size() - 1);
+                luceneTime.stop();
+
+                // Collect rows from Cassandra
+                collectTime.start();
+                for (Row row : rows(searchResults, timestamp, usesRelevance)) {
+                    if (row != null && accepted(row, expressions)) {
+                        rows.add(row);
+                    }
                 }
-            }
-            collectTime.stop();
+                collectTime.stop();
 
-            // Setup next iteration
-            maybeMore = searchResults.size() == pageSize;
-            pageSize = Math.min(Math.max(FILTERING_PAGE_SIZE, rows.size() - limit), MAX_PAGE_SIZE);
-            numPages++;
+                // Setup next iteration
+                maybeMore = searchResults.size() == pageSize;
+                pageSize = Math.min(Math.max(FILTERING_PAGE_SIZE, rows.size() - limit), MAX_PAGE_SIZE);
+                numPages++;
 
-            // Iterate while there are still documents to read and we don't have enough rows
-        } while (maybeMore && rows.size() < limit);
+                // Iterate while there are still documents to read and we don't have enough rows
+            } while (maybeMore && rows.size() < limit);
+        } finally {
+            searcher.close();
+        }
 
         sortTime.start();
         Collections.sort(rows, comparator());
@@ -289,6 +307,9 @@ public abstract class RowService {
         Log.debug("Cassandra time: %s", collectTime);
         Log.debug("Sort time: %s", sortTime);
         Log.debug("Collected %d docs and %d rows in %d pages in %s", numDocs, rows.size(), numPages, searchTime);
+        if (filter != null && luceneIndex.getFilterCache() != null) {
+            Log.debug("Filter cache: %s", luceneIndex.getFilterCache());
+        }
 
         return rows;
     }
@@ -386,6 +407,30 @@ public abstract class RowService {
         return cleanColumnFamily;
     }
 
+    /**
+     * Returns the time in seconds after which all the data of the specified {@link Row} will be expired, or {@link
+     * LuceneIndex#NEVER} if it never expires or the index is not split into time buckets. It is used for choosing the
+     * time bucket in which the {@link Row} is indexed.
+     *
+     * @param row A {@link Row} without expired cells.
+     * @return The time in seconds after which all the data of {@code row} will be expired.
+     */
+    protected long deadline(Row row) {
+        switch (timeBucketing) {
+            case TTL:
+                int maxLocalDeletionTime = Integer.MIN_VALUE;
+                for (Cell cell : row.cf) {
+                    maxLocalDeletionTime = Math.max(maxLocalDeletionTime, cell.getLocalDeletionTime());
+                }
+                return maxLocalDeletionTime == Integer.MAX_VALUE ? LuceneIndex.NEVER : maxLocalDeletionTime;
+            case TIMESTAMP:
+                long maxTimestamp = row.cf.maxTimestamp();
+                return TimeUnit.MICROSECONDS.toSeconds(maxTimestamp) + metadata.getDefaultTimeToLive();
+            default:
+                return LuceneIndex.NEVER;
+        }
+    }
+
     /**
      * Adds to the specified {@link Row} the specified Lucene score column.
      *
@@ -82,7 +82,7 @@ public class RowServiceSkinny extends RowService {
             Row row = row(partitionKey, timestamp); // Read row
             Document document = rowMapper.document(row);
             Term term = rowMapper.term(partitionKey);
-            luceneIndex.upsert(term, document); // Store document
+            luceneIndex.upsert(term, document, deadline(row)); // Store document
         } else if (columnFamily.deletionInfo() != null) // Delete full row
         {
             Term term = rowMapper.term(partitionKey);
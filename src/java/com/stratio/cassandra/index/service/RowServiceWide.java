@@ -84,7 +84,7 @@ public class RowServiceWide extends RowService {
                 Row row = entry.getValue();
                 Document document = rowMapper.document(row);
                 Term term = rowMapper.term(partitionKey, clusteringKey);
-                luceneIndex.upsert(term, document); // Store document
+                luceneIndex.upsert(term, document, deadline(row)); // Store document
             }
         } else if (deletionInfo != null) {
             Iterator<RangeTombstone> iterator = deletionInfo.rangeIterator();
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2015, Stratio.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.stratio.cassandra.index.service;
+
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FilterDirectory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexOutput;
+
+import java.io.IOException;
+
+/**
+ * {@link FilterDirectory} throttling the writes done by the merges run by a {@link ThrottledMergeScheduler}.
+ *
+ * @author Andres de la Pena <adelapena@stratio.com>
+ */
+public class ThrottledDirectory extends FilterDirectory {
+
+    /** The number of written bytes to be accumulated before asking the rate limiter. */
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    /**
+     * Builds a new {@link ThrottledDirectory} wrapping the specified {@link Directory}.
+     *
+     * @param directory The {@link Directory} to be wrapped.
+     */
+    public ThrottledDirectory(Directory directory) {
+        super(directory);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public IndexOutput createOutput(String name, IOContext context) throws IOException {
+        IndexOutput output = super.createOutput(name, context);
+        ThrottledMergeScheduler.Merge merge = ThrottledMergeScheduler.current();
+        if (merge == null || context.context != IOContext.Context.MERGE) {
+            return output;
+        }
+        return new ThrottledIndexOutput(output, merge);
+    }
+
+    /**
+     * {@link IndexOutput} reporting its written bytes to a {@link ThrottledMergeScheduler.Merge}.
+     */
+    private static final class ThrottledIndexOutput extends IndexOutput {
+
+        private final IndexOutput output;
+        private final ThrottledMergeScheduler.Merge merge;
+        private int pendingBytes;
+
+        ThrottledIndexOutput(IndexOutput output, ThrottledMergeScheduler.Merge merge) {
+            this.output = output;
+            this.merge = merge;
+        }
+
+        private void written(int bytes) throws IOException {
+            pendingBytes += bytes;
+            if (pendingBytes >= CHUNK_SIZE) {
+                merge.written(pendingBytes);
+                pendingBytes = 0;
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void writeByte(byte b) throws IOException {
+            written(1);
+            output.writeByte(b);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void writeBytes(byte[] b, int offset, int length) throws IOException {
+            written(length);
+            output.writeBytes(b, offset, length);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void flush() throws IOException {
+            output.flush();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void close() throws IOException {
+            try {
+                merge.written(pendingBytes);
+                pendingBytes = 0;
+            } finally {
+                output.close();
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public long getFilePointer() {
+            return output.getFilePointer();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public long getChecksum() throws IOException {
+            return output.getChecksum();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public long length() throws IOException {
+            return output.length();
+        }
+    }
+}
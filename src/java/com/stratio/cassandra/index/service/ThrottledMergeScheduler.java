@@ -0,0 +1,119 @@
+/*
+ * Copyright 2015, Stratio.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.stratio.cassandra.index.service;
+
+import org.apache.cassandra.config.CFMetaData;
+import org.apache.cassandra.db.compaction.CompactionInfo;
+import org.apache.cassandra.db.compaction.CompactionManager;
+import org.apache.cassandra.db.compaction.OperationType;
+import org.apache.lucene.index.ConcurrentMergeScheduler;
+import org.apache.lucene.index.MergePolicy;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link ConcurrentMergeScheduler} running the Lucene merges as Cassandra compaction-like operations.
+ * <p/>
+ * Each merge is registered in the {@link CompactionManager} with type {@link OperationType#INDEX_MERGE}, so it is
+ * listed by {@code nodetool compactionstats} and it can be aborted with {@code nodetool stop INDEX_MERGE}. The bytes
+ * written by the merge to a {@link ThrottledDirectory} are throttled by the compaction rate limiter, so Lucene merges
+ * and SSTable compactions share the same {@code compaction_throughput_mb_per_sec} budget.
+ *
+ * @author Andres de la Pena <adelapena@stratio.com>
+ */
+public class ThrottledMergeScheduler extends ConcurrentMergeScheduler {
+
+    /** The merge being run by the current thread, if any. */
+    private static final ThreadLocal<Merge> CURRENT = new ThreadLocal<>();
+
+    private final CFMetaData metadata;
+
+    /**
+     * Builds a new {@link ThrottledMergeScheduler} for merging the index of the specified table.
+     *
+     * @param metadata The indexed table metadata, maybe {@code null} meaning no throttling nor tracking.
+     */
+    public ThrottledMergeScheduler(CFMetaData metadata) {
+        this.metadata = metadata;
+    }
+
+    /**
+     * Returns the merge being run by the current thread.
+     *
+     * @return The merge being run by the current thread, or {@code null} if there is no one.
+     */
+    static Merge current() {
+        return CURRENT.get();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void doMerge(MergePolicy.OneMerge oneMerge) throws IOException {
+        if (metadata == null) {
+            super.doMerge(oneMerge);
+            return;
+        }
+        Merge merge = new Merge(metadata, oneMerge.totalBytesSize());
+        CompactionManager.instance.beginCompaction(merge);
+        CURRENT.set(merge);
+        try {
+            super.doMerge(oneMerge);
+        } finally {
+            CURRENT.remove();
+            CompactionManager.instance.finishCompaction(merge);
+        }
+    }
+
+    /**
+     * A running Lucene merge, as seen by the {@link CompactionManager}.
+     */
+    static class Merge extends CompactionInfo.Holder {
+
+        private final CFMetaData metadata;
+        private final long totalBytes;
+        private final AtomicLong writtenBytes = new AtomicLong();
+
+        Merge(CFMetaData metadata, long totalBytes) {
+            this.metadata = metadata;
+            this.totalBytes = totalBytes;
+        }
+
+        /**
+         * Accounts the specified number of written bytes, blocking until they are allowed by the compaction rate
+         * limiter.
+         *
+         * @param bytes The number of written bytes.
+         * @throws MergePolicy.MergeAbortedException If the merge has been stopped.
+         */
+        void written(int bytes) throws MergePolicy.MergeAbortedException {
+            if (isStopRequested()) {
+                throw new MergePolicy.MergeAbortedException("Index merge stopped by user");
+            }
+            if (bytes > 0) {
+                CompactionManager.instance.getRateLimiter().acquire(bytes);
+                writtenBytes.addAndGet(bytes);
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public CompactionInfo getCompactionInfo() {
+            long written = writtenBytes.get();
+            return new CompactionInfo(metadata, OperationType.INDEX_MERGE, written, Math.max(written, totalBytes));
+        }
+    }
+}
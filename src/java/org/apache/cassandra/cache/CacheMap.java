@@ -0,0 +1,329 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.cassandra.cache;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.collect.Iterators;
+
+import com.googlecode.concurrentlinkedhashmap.ConcurrentLinkedHashMap;
+import com.googlecode.concurrentlinkedhashmap.EntryWeigher;
+import com.googlecode.concurrentlinkedhashmap.EvictionListener;
+import org.apache.cassandra.config.Config;
+
+/**
+ * The weighted, concurrent map the caches store their entries in, evicting them according to a {@link Config.CachePolicy}:
+ *
+ * - lru: a single {@link ConcurrentLinkedHashMap}, evicting the least recently used entries.
+ * - tinylfu: W-TinyLFU. New entries go to a small LRU window, so bursts of new keys can still hit. The entries the
+ * window evicts are only admitted to the main LRU region if a {@link FrequencySketch} of recent accesses says they
+ * are accessed more often than the entry they would evict from it, so keys read once, as during a scan, can't push
+ * the frequently read ones out.
+ *
+ * Entries that are evicted or rejected are passed to the eviction listener, if any. Entries that are removed or
+ * replaced are returned to the caller instead, as with {@link ConcurrentLinkedHashMap}.
+ */
+public class CacheMap<K, V>
+{
+    public static final int DEFAULT_CONCURENCY_LEVEL = 64;
+
+    // the share of the capacity given to the window of new entries
+    private static final double WINDOW_RATIO = 0.01;
+
+    private final EntryWeigher<K, V> weigher;
+    private final EvictionListener<K, V> listener;
+    private final ConcurrentLinkedHashMap<K, V> main;
+    // null for lru
+    private final ConcurrentLinkedHashMap<K, V> window;
+    private final FrequencySketch<K> sketch;
+    private final int averageWeight;
+
+    private final AtomicLong admitted = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    /**
+     * @param capacity the maximum total weight of the entries
+     * @param weigher the weigher of the entries
+     * @param listener notified of the entries evicted or rejected, or null
+     * @param policy the eviction policy
+     * @param averageWeight the expected average weight of the entries, used to size the frequency sketch
+     */
+    public CacheMap(long capacity, EntryWeigher<K, V> weigher, final EvictionListener<K, V> listener, Config.CachePolicy policy, int averageWeight)
+    {
+        this.weigher = weigher;
+        this.listener = listener;
+        this.averageWeight = averageWeight;
+
+        ConcurrentLinkedHashMap.Builder<K, V> builder = new ConcurrentLinkedHashMap.Builder<K, V>()
+                                                        .weigher(weigher)
+                                                        .concurrencyLevel(DEFAULT_CONCURENCY_LEVEL);
+        if (listener != null)
+            builder.listener(listener);
+
+        if (policy == Config.CachePolicy.tinylfu)
+        {
+            long windowCapacity = windowCapacity(capacity);
+            main = builder.maximumWeightedCapacity(capacity - windowCapacity).build();
+            window = new ConcurrentLinkedHashMap.Builder<K, V>()
+                     .weigher(weigher)
+                     .concurrencyLevel(DEFAULT_CONCURENCY_LEVEL)
+                     .maximumWeightedCapacity(windowCapacity)
+                     .listener(new EvictionListener<K, V>()
+                     {
+                         public void onEviction(K key, V value)
+                         {
+                             admit(key, value);
+                         }
+                     })
+                     .build();
+            sketch = new FrequencySketch<>(capacity / averageWeight);
+        }
+        else
+        {
+            main = builder.maximumWeightedCapacity(capacity).build();
+            window = null;
+            sketch = null;
+        }
+    }
+
+    private static long windowCapacity(long capacity)
+    {
+        return (long) (capacity * WINDOW_RATIO);
+    }
+
+    /**
+     * Moves an entry evicted from the window to the main region, if it is accessed more often than the entry the
+     * main region would evict for it.
+     */
+    private void admit(K key, V value)
+    {
+        if (main.weightedSize() + weigher.weightOf(key, value) > main.capacity())
+        {
+            Iterator<K> victims = main.ascendingKeySetWithLimit(1).iterator();
+            if (victims.hasNext() && sketch.frequency(key) <= sketch.frequency(victims.next()))
+            {
+                rejected.incrementAndGet();
+                notifyEviction(key, value);
+                return;
+            }
+        }
+
+        admitted.incrementAndGet();
+        V old = main.put(key, value);
+        if (old != null)
+            notifyEviction(key, old);
+    }
+
+    private void notifyEviction(K key, V value)
+    {
+        if (listener != null)
+            listener.onEviction(key, value);
+    }
+
+    public V get(K key)
+    {
+        if (window == null)
+            return main.get(key);
+
+        sketch.increment(key);
+        V value = window.get(key);
+        return value == null ? main.get(key) : value;
+    }
+
+    /**
+     * @return the previous value of the key, or null
+     */
+    public V put(K key, V value)
+    {
+        if (window == null)
+            return main.put(key, value);
+
+        sketch.increment(key);
+        V old = main.replace(key, value);
+        return old == null ? window.put(key, value) : old;
+    }
+
+    /**
+     * @return the current value of the key, or null if the value has been added
+     */
+    public V putIfAbsent(K key, V value)
+    {
+        if (window == null)
+            return main.putIfAbsent(key, value);
+
+        sketch.increment(key);
+        V current = main.get(key);
+        return current == null ? window.putIfAbsent(key, value) : current;
+    }
+
+    public boolean replace(K key, V old, V value)
+    {
+        if (window == null)
+            return main.replace(key, old, value);
+
+        return window.replace(key, old, value) || main.replace(key, old, value);
+    }
+
+    /**
+     * @return the removed value, or null
+     */
+    public V remove(K key)
+    {
+        if (window == null)
+            return main.remove(key);
+
+        V value = window.remove(key);
+        V other = main.remove(key);
+        if (value == null)
+            return other;
+        if (other != null)
+            notifyEviction(key, other); // the key was concurrently added to both regions
+        return value;
+    }
+
+    public boolean containsKey(K key)
+    {
+        return main.containsKey(key) || (window != null && window.containsKey(key));
+    }
+
+    public long capacity()
+    {
+        return window == null ? main.capacity() : main.capacity() + window.capacity();
+    }
+
+    public void setCapacity(long capacity)
+    {
+        if (window == null)
+        {
+            main.setCapacity(capacity);
+            return;
+        }
+
+        long windowCapacity = windowCapacity(capacity);
+        window.setCapacity(windowCapacity);
+        main.setCapacity(capacity - windowCapacity);
+        sketch.ensureCapacity(capacity / averageWeight);
+    }
+
+    public int size()
+    {
+        return window == null ? main.size() : main.size() + window.size();
+    }
+
+    public long weightedSize()
+    {
+        return window == null ? main.weightedSize() : main.weightedSize() + window.weightedSize();
+    }
+
+    public boolean isEmpty()
+    {
+        return main.isEmpty() && (window == null || window.isEmpty());
+    }
+
+    public void clear()
+    {
+        if (window != null)
+            window.clear();
+        main.clear();
+    }
+
+    /**
+     * @return a view of the keys; removing from it removes the entries, passing them to the eviction listener
+     */
+    public Set<K> keySet()
+    {
+        return new AbstractSet<K>()
+        {
+            public Iterator<K> iterator()
+            {
+                final Iterator<K> keys = window == null
+                                       ? main.keySet().iterator()
+                                       : Iterators.concat(window.keySet().iterator(), main.keySet().iterator());
+                return new Iterator<K>()
+                {
+                    private K last;
+
+                    public boolean hasNext()
+                    {
+                        return keys.hasNext();
+                    }
+
+                    public K next()
+                    {
+                        return last = keys.next();
+                    }
+
+                    public void remove()
+                    {
+                        if (last == null)
+                            throw new IllegalStateException();
+                        V value = CacheMap.this.remove(last);
+                        if (value != null)
+                            notifyEviction(last, value);
+                        last = null;
+                    }
+                };
+            }
+
+            public int size()
+            {
+                return CacheMap.this.size();
+            }
+
+            @SuppressWarnings("unchecked")
+            public boolean contains(Object key)
+            {
+                return containsKey((K) key);
+            }
+        };
+    }
+
+    /**
+     * @return up to n keys, from the most to the least recently used, with the window first
+     */
+    public Set<K> descendingKeySetWithLimit(int n)
+    {
+        if (window == null)
+            return main.descendingKeySetWithLimit(n);
+
+        Set<K> keys = new LinkedHashSet<>(window.descendingKeySetWithLimit(n));
+        if (keys.size() < n)
+            keys.addAll(main.descendingKeySetWithLimit(n - keys.size()));
+        return keys;
+    }
+
+    /**
+     * @return the number of entries the admission policy has let into the main region
+     */
+    public long admitted()
+    {
+        return admitted.get();
+    }
+
+    /**
+     * @return the number of entries the admission policy has rejected
+     */
+    public long rejected()
+    {
+        return rejected.get();
+    }
+}
@@ -0,0 +1,308 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.cassandra.cache;
+
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Objects;
+
+import com.googlecode.concurrentlinkedhashmap.ConcurrentLinkedHashMap;
+import com.googlecode.concurrentlinkedhashmap.EvictionListener;
+import com.googlecode.concurrentlinkedhashmap.Weigher;
+import org.apache.cassandra.config.DatabaseDescriptor;
+import org.apache.cassandra.metrics.CacheMetrics;
+
+/**
+ * Off-heap cache of uncompressed sstable chunks, shared by all the compressed data files, so hot chunks are neither
+ * read from disk nor decompressed on every access.
+ *
+ * To keep scans from flushing the cache, a chunk is only admitted the second time it is missed while it is still
+ * remembered as recently missed; chunks that are read only once, as during a range scan, never displace hot ones.
+ */
+public class ChunkCache implements ICache<ChunkCache.Key, RefCountedMemory>
+{
+    private static final int DEFAULT_CONCURENCY_LEVEL = 64;
+
+    // the average chunk size used to bound the number of recently missed chunks that are remembered
+    private static final int GHOST_CHUNK_SIZE = 16 * 1024;
+    private static final int MIN_GHOSTS = 1024;
+
+    public static final ChunkCache instance = new ChunkCache(DatabaseDescriptor.getChunkCacheSizeInMB() * 1024 * 1024);
+
+    private final ConcurrentLinkedHashMap<Key, RefCountedMemory> map;
+    // recently missed chunks that have not been admitted yet
+    private final ConcurrentLinkedHashMap<Key, Boolean> ghosts;
+
+    private final AtomicLong admitted = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    public final CacheMetrics metrics;
+
+    @VisibleForTesting
+    ChunkCache(long capacity)
+    {
+        EvictionListener<Key, RefCountedMemory> listener = new EvictionListener<Key, RefCountedMemory>()
+        {
+            public void onEviction(Key key, RefCountedMemory mem)
+            {
+                mem.unreference();
+            }
+        };
+
+        map = new ConcurrentLinkedHashMap.Builder<Key, RefCountedMemory>()
+              .weigher(new Weigher<RefCountedMemory>()
+              {
+                  public int weightOf(RefCountedMemory value)
+                  {
+                      return (int) value.size();
+                  }
+              })
+              .maximumWeightedCapacity(capacity)
+              .concurrencyLevel(DEFAULT_CONCURENCY_LEVEL)
+              .listener(listener)
+              .build();
+        ghosts = new ConcurrentLinkedHashMap.Builder<Key, Boolean>()
+                 .maximumWeightedCapacity(ghostCapacity(capacity))
+                 .concurrencyLevel(DEFAULT_CONCURENCY_LEVEL)
+                 .build();
+        metrics = new CacheMetrics("ChunkCache", this);
+    }
+
+    private static long ghostCapacity(long capacity)
+    {
+        return Math.max(MIN_GHOSTS, capacity / GHOST_CHUNK_SIZE);
+    }
+
+    public boolean isEnabled()
+    {
+        return map.capacity() > 0;
+    }
+
+    /**
+     * Copies the uncompressed chunk at the given offset of a data file into buffer, if it is cached.
+     *
+     * @param path the path of the data file
+     * @param offset the offset of the compressed chunk in the data file
+     * @return the length of the uncompressed chunk, or -1 if it isn't cached
+     */
+    public int read(String path, long offset, byte[] buffer)
+    {
+        metrics.requests.mark();
+        RefCountedMemory mem = map.get(new Key(path, offset));
+        if (mem == null || !mem.reference())
+            return -1;
+
+        try
+        {
+            int length = (int) mem.size();
+            mem.getBytes(0, buffer, 0, length);
+            metrics.hits.mark();
+            return length;
+        }
+        finally
+        {
+            mem.unreference();
+        }
+    }
+
+    /**
+     * Offers an uncompressed chunk that has just been read from disk after a {@link #read} miss. The chunk is only
+     * cached if it has been missed recently, otherwise it is just remembered as missed.
+     *
+     * @param path the path of the data file
+     * @param offset the offset of the compressed chunk in the data file
+     * @param buffer the uncompressed chunk
+     * @param length the length of the uncompressed chunk
+     */
+    public void offer(String path, long offset, byte[] buffer, int length)
+    {
+        if (!isEnabled())
+            return;
+
+        Key key = new Key(path, offset);
+        if (ghosts.remove(key) == null)
+        {
+            ghosts.put(key, Boolean.TRUE);
+            rejected.incrementAndGet();
+            return;
+        }
+
+        RefCountedMemory mem;
+        try
+        {
+            mem = new RefCountedMemory(length);
+        }
+        catch (OutOfMemoryError e)
+        {
+            return; // never mind, we'll read it from disk
+        }
+        mem.setBytes(0, buffer, 0, length);
+
+        RefCountedMemory old = map.putIfAbsent(key, mem);
+        if (old != null)
+            mem.unreference(); // cached concurrently by another reader
+        else
+            admitted.incrementAndGet();
+    }
+
+    /**
+     * Drops the chunks of a data file, once it has been deleted.
+     */
+    public void invalidateFile(String path)
+    {
+        if (map.isEmpty() && ghosts.isEmpty())
+            return;
+
+        for (Key key : map.keySet())
+            if (key.path.equals(path))
+                remove(key);
+        for (Iterator<Key> iter = ghosts.keySet().iterator(); iter.hasNext();)
+            if (iter.next().path.equals(path))
+                iter.remove();
+    }
+
+    public long capacity()
+    {
+        return map.capacity();
+    }
+
+    public void setCapacity(long capacity)
+    {
+        map.setCapacity(capacity);
+        ghosts.setCapacity(ghostCapacity(capacity));
+    }
+
+    public void put(Key key, RefCountedMemory value)
+    {
+        RefCountedMemory old = map.put(key, value);
+        if (old != null)
+            old.unreference();
+    }
+
+    public boolean putIfAbsent(Key key, RefCountedMemory value)
+    {
+        return map.putIfAbsent(key, value) == null;
+    }
+
+    public boolean replace(Key key, RefCountedMemory old, RefCountedMemory value)
+    {
+        if (!map.replace(key, old, value))
+            return false;
+        old.unreference();
+        return true;
+    }
+
+    /**
+     * @return the cached chunk, already referenced so it can't be freed while in use; the caller must unreference it
+     */
+    public RefCountedMemory get(Key key)
+    {
+        RefCountedMemory mem = map.get(key);
+        return mem == null || !mem.reference() ? null : mem;
+    }
+
+    public void remove(Key key)
+    {
+        RefCountedMemory mem = map.remove(key);
+        if (mem != null)
+            mem.unreference();
+    }
+
+    public int size()
+    {
+        return map.size();
+    }
+
+    public long weightedSize()
+    {
+        return map.weightedSize();
+    }
+
+    public void clear()
+    {
+        for (Key key : map.keySet())
+            remove(key);
+        ghosts.clear();
+    }
+
+    public Set<Key> keySet()
+    {
+        return map.keySet();
+    }
+
+    public Set<Key> hotKeySet(int n)
+    {
+        return map.descendingKeySetWithLimit(n);
+    }
+
+    public boolean containsKey(Key key)
+    {
+        return map.containsKey(key);
+    }
+
+    public long admitted()
+    {
+        return admitted.get();
+    }
+
+    public long rejected()
+    {
+        return rejected.get();
+    }
+
+    /**
+     * Identifies a chunk by the path of its data file and its compressed offset.
+     */
+    public static final class Key
+    {
+        public final String path;
+        public final long offset;
+
+        public Key(String path, long offset)
+        {
+            this.path = path;
+            this.offset = offset;
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            if (this == o)
+                return true;
+            if (!(o instanceof Key))
+                return false;
+            Key that = (Key) o;
+            return offset == that.offset && path.equals(that.path);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return Objects.hashCode(path, offset);
+        }
+
+        @Override
+        public String toString()
+        {
+            return path + "@" + offset;
+        }
+    }
+}
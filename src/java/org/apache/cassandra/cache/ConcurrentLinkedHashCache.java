@@ -19,17 +19,21 @@ package org.apache.cassandra.cache;
 
 import java.util.Set;
 
-import com.googlecode.concurrentlinkedhashmap.ConcurrentLinkedHashMap;
 import com.googlecode.concurrentlinkedhashmap.EntryWeigher;
+import org.apache.cassandra.config.Config;
 
 /** Wrapper so CLHM can implement ICache interface.
  *  (this is what you get for making library classes final.) */
 public class ConcurrentLinkedHashCache<K extends IMeasurableMemory, V extends IMeasurableMemory> implements ICache<K, V>
 {
-    public static final int DEFAULT_CONCURENCY_LEVEL = 64;
-    private final ConcurrentLinkedHashMap<K, V> map;
+    public static final int DEFAULT_CONCURENCY_LEVEL = CacheMap.DEFAULT_CONCURENCY_LEVEL;
 
-    private ConcurrentLinkedHashCache(ConcurrentLinkedHashMap<K, V> map)
+    // the expected average weight of an entry, used to size the frequency sketch of tinylfu caches
+    private static final int AVERAGE_ENTRY_WEIGHT = 128;
+
+    private final CacheMap<K, V> map;
+
+    private ConcurrentLinkedHashCache(CacheMap<K, V> map)
     {
         this.map = map;
     }
@@ -37,18 +41,17 @@ public class ConcurrentLinkedHashCache<K extends IMeasurableMemory, V extends IM
     /**
      * Initialize a cache with initial capacity with weightedCapacity
      */
-    public static <K extends IMeasurableMemory, V extends IMeasurableMemory> ConcurrentLinkedHashCache<K, V> create(long weightedCapacity, EntryWeigher<K, V> entryWeiger)
+    public static <K extends IMeasurableMemory, V extends IMeasurableMemory> ConcurrentLinkedHashCache<K, V> create(long weightedCapacity, EntryWeigher<K, V> entryWeiger, Config.CachePolicy policy)
     {
-        ConcurrentLinkedHashMap<K, V> map = new ConcurrentLinkedHashMap.Builder<K, V>()
-                                            .weigher(entryWeiger)
-                                            .maximumWeightedCapacity(weightedCapacity)
-                                            .concurrencyLevel(DEFAULT_CONCURENCY_LEVEL)
-                                            .build();
+        return new ConcurrentLinkedHashCache<K, V>(new CacheMap<>(weightedCapacity, entryWeiger, null, policy, AVERAGE_ENTRY_WEIGHT));
+    }
 
-        return new ConcurrentLinkedHashCache<K, V>(map);
+    public static <K extends IMeasurableMemory, V extends IMeasurableMemory> ConcurrentLinkedHashCache<K, V> create(long weightedCapacity, EntryWeigher<K, V> entryWeiger)
+    {
+        return create(weightedCapacity, entryWeiger, Config.CachePolicy.lru);
     }
 
-    public static <K extends IMeasurableMemory, V extends IMeasurableMemory> ConcurrentLinkedHashCache<K, V> create(long weightedCapacity)
+    public static <K extends IMeasurableMemory, V extends IMeasurableMemory> ConcurrentLinkedHashCache<K, V> create(long weightedCapacity, Config.CachePolicy policy)
     {
         return create(weightedCapacity, new EntryWeigher<K, V>()
         {
@@ -58,7 +61,12 @@ public class ConcurrentLinkedHashCache<K extends IMeasurableMemory, V extends IM
                 assert size <= Integer.MAX_VALUE : "Serialized size cannot be more than 2GB/Integer.MAX_VALUE";
                 return (int) size;
             }
-        });
+        }, policy);
+    }
+
+    public static <K extends IMeasurableMemory, V extends IMeasurableMemory> ConcurrentLinkedHashCache<K, V> create(long weightedCapacity)
+    {
+        return create(weightedCapacity, Config.CachePolicy.lru);
     }
 
     public long capacity()
@@ -130,4 +138,14 @@ public class ConcurrentLinkedHashCache<K extends IMeasurableMemory, V extends IM
     {
         return map.containsKey(key);
     }
+
+    public long admitted()
+    {
+        return map.admitted();
+    }
+
+    public long rejected()
+    {
+        return map.rejected();
+    }
 }
@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.cassandra.cache;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A count-min sketch estimating how often keys have been accessed recently, with 4-bit counters so it takes 8 bytes
+ * per expected entry. Each key has four counters, one per hash function, and its frequency is the minimum of them.
+ * Each counter is in the long picked by its own hash function, so they are usually in four different longs. Within
+ * its long, the counter of the i-th hash function is the i-th of the group of four counters picked by the key hash.
+ * Once the number of increments reaches ten times the expected number of entries, all the counters are halved, so
+ * the estimates favour recent accesses.
+ *
+ * Counters are updated with compare-and-set, but the periodic halving may race with concurrent increments, which
+ * only makes the estimates a bit less accurate.
+ */
+final class FrequencySketch<K>
+{
+    private static final long[] SEEDS = { 0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L };
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final long ONE_MASK = 0x1111111111111111L;
+    private static final int MAX_TABLE_SIZE = 1 << 22;
+
+    static final int MAX_FREQUENCY = 15;
+
+    private volatile AtomicLongArray table;
+    private volatile int sampleSize;
+    private final AtomicInteger size = new AtomicInteger();
+
+    FrequencySketch(long expectedEntries)
+    {
+        ensureCapacity(expectedEntries);
+    }
+
+    /**
+     * Resizes the sketch for the given number of entries, forgetting the current frequencies if it changes.
+     */
+    void ensureCapacity(long expectedEntries)
+    {
+        int tableSize = (int) Math.min(MAX_TABLE_SIZE, Long.highestOneBit(Math.max(16, expectedEntries - 1)) << 1);
+        AtomicLongArray current = table;
+        if (current != null && current.length() == tableSize)
+            return;
+
+        sampleSize = 10 * tableSize;
+        size.set(0);
+        table = new AtomicLongArray(tableSize);
+    }
+
+    /**
+     * @return the estimated number of recent accesses to the key, up to {@link #MAX_FREQUENCY}
+     */
+    int frequency(K key)
+    {
+        AtomicLongArray table = this.table;
+        int hash = spread(key.hashCode());
+        int start = (hash & 3) << 2;
+        int frequency = Integer.MAX_VALUE;
+        for (int i = 0; i < 4; i++)
+        {
+            int index = indexOf(table, hash, i);
+            int count = (int) ((table.get(index) >>> ((start + i) << 2)) & 0xfL);
+            frequency = Math.min(frequency, count);
+        }
+        return frequency;
+    }
+
+    /**
+     * Records an access to the key.
+     */
+    void increment(K key)
+    {
+        AtomicLongArray table = this.table;
+        int hash = spread(key.hashCode());
+        int start = (hash & 3) << 2;
+
+        boolean added = false;
+        for (int i = 0; i < 4; i++)
+            added |= incrementAt(table, indexOf(table, hash, i), start + i);
+
+        if (added && size.incrementAndGet() >= sampleSize)
+            reset(table);
+    }
+
+    private static boolean incrementAt(AtomicLongArray table, int index, int counter)
+    {
+        int offset = counter << 2;
+        long mask = 0xfL << offset;
+        while (true)
+        {
+            long value = table.get(index);
+            if ((value & mask) == mask)
+                return false; // saturated
+            if (table.compareAndSet(index, value, value + (1L << offset)))
+                return true;
+        }
+    }
+
+    /**
+     * Halves all the counters, so older accesses weigh less than recent ones.
+     */
+    private synchronized void reset(AtomicLongArray table)
+    {
+        if (table != this.table || size.get() < sampleSize)
+            return; // resized or reset concurrently
+
+        int odd = 0;
+        for (int i = 0; i < table.length(); i++)
+        {
+            while (true)
+            {
+                long value = table.get(i);
+                if (table.compareAndSet(i, value, (value >>> 1) & RESET_MASK))
+                {
+                    odd += Long.bitCount(value & ONE_MASK);
+                    break;
+                }
+            }
+        }
+        // the odd counters lose half an access to truncation
+        size.set((size.get() >>> 1) - (odd >>> 2));
+    }
+
+    private static int indexOf(AtomicLongArray table, int hash, int row)
+    {
+        long h = (hash + SEEDS[row]) * SEEDS[row];
+        h += h >>> 32;
+        return ((int) h) & (table.length() - 1);
+    }
+
+    /**
+     * Applies a supplemental hash function, so keys with poor hash codes don't all hit the same counters.
+     */
+    private static int spread(int x)
+    {
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        return (x >>> 16) ^ x;
+    }
+}
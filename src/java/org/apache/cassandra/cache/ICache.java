@@ -51,4 +51,14 @@ public interface ICache<K, V>
     public Set<K> hotKeySet(int n);
 
     public boolean containsKey(K key);
+
+    /**
+     * @return the number of entries the admission policy of the cache has accepted, 0 if it doesn't have one
+     */
+    public long admitted();
+
+    /**
+     * @return the number of entries the admission policy of the cache has rejected, 0 if it doesn't have one
+     */
+    public long rejected();
 }
@@ -17,17 +17,21 @@
  */
 package org.apache.cassandra.cache;
 
+import java.io.DataInput;
 import java.io.IOException;
 import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.googlecode.concurrentlinkedhashmap.ConcurrentLinkedHashMap;
+import com.googlecode.concurrentlinkedhashmap.EntryWeigher;
 import com.googlecode.concurrentlinkedhashmap.EvictionListener;
 import com.googlecode.concurrentlinkedhashmap.Weigher;
+import com.googlecode.concurrentlinkedhashmap.Weighers;
+import org.apache.cassandra.config.Config;
 import org.apache.cassandra.db.TypeSizes;
 import org.apache.cassandra.io.ISerializer;
+import org.apache.cassandra.io.util.DataOutputPlus;
 import org.apache.cassandra.io.util.MemoryInputStream;
 import org.apache.cassandra.io.util.MemoryOutputStream;
 import org.apache.cassandra.utils.vint.EncodedDataInputStream;
@@ -41,12 +45,26 @@ public class SerializingCache<K, V> implements ICache<K, V>
     private static final Logger logger = LoggerFactory.getLogger(SerializingCache.class);
     private static final TypeSizes ENCODED_TYPE_SIZES = TypeSizes.VINT;
 
-    private static final int DEFAULT_CONCURENCY_LEVEL = 64;
+    // the expected average weight of an entry, used to size the frequency sketch of tinylfu caches
+    private static final int AVERAGE_ENTRY_WEIGHT = 1024;
 
-    private final ConcurrentLinkedHashMap<K, RefCountedMemory> map;
-    private final ISerializer<V> serializer;
+    private final CacheMap<K, RefCountedMemory> map;
+    private final ValueSerializer<K, V> serializer;
 
-    private SerializingCache(long capacity, Weigher<RefCountedMemory> weigher, ISerializer<V> serializer)
+    /**
+     * Serializes the values of the cache, with access to the key they are cached under, for values whose encoding
+     * depends on it.
+     */
+    public interface ValueSerializer<K, V>
+    {
+        public void serialize(K key, V value, DataOutputPlus out) throws IOException;
+
+        public V deserialize(K key, DataInput in) throws IOException;
+
+        public long serializedSize(K key, V value, TypeSizes typeSizes);
+    }
+
+    private SerializingCache(long capacity, EntryWeigher<K, RefCountedMemory> weigher, ValueSerializer<K, V> serializer, Config.CachePolicy policy, int averageWeight)
     {
         this.serializer = serializer;
 
@@ -58,20 +76,44 @@ public class SerializingCache<K, V> implements ICache<K, V>
             }
         };
 
-        this.map = new ConcurrentLinkedHashMap.Builder<K, RefCountedMemory>()
-                   .weigher(weigher)
-                   .maximumWeightedCapacity(capacity)
-                   .concurrencyLevel(DEFAULT_CONCURENCY_LEVEL)
-                   .listener(listener)
-                   .build();
+        this.map = new CacheMap<>(capacity, weigher, listener, policy, averageWeight);
+    }
+
+    /**
+     * @param averageWeight the expected average weight of the entries, used to size the frequency sketch of tinylfu caches
+     */
+    public static <K, V> SerializingCache<K, V> create(long weightedCapacity, EntryWeigher<K, RefCountedMemory> weigher, ValueSerializer<K, V> serializer, Config.CachePolicy policy, int averageWeight)
+    {
+        return new SerializingCache<>(weightedCapacity, weigher, serializer, policy, averageWeight);
+    }
+
+    public static <K, V> SerializingCache<K, V> create(long weightedCapacity, Weigher<RefCountedMemory> weigher, final ISerializer<V> serializer, Config.CachePolicy policy)
+    {
+        return create(weightedCapacity, Weighers.<K, RefCountedMemory>asEntryWeigher(weigher), new ValueSerializer<K, V>()
+        {
+            public void serialize(K key, V value, DataOutputPlus out) throws IOException
+            {
+                serializer.serialize(value, out);
+            }
+
+            public V deserialize(K key, DataInput in) throws IOException
+            {
+                return serializer.deserialize(in);
+            }
+
+            public long serializedSize(K key, V value, TypeSizes typeSizes)
+            {
+                return serializer.serializedSize(value, typeSizes);
+            }
+        }, policy, AVERAGE_ENTRY_WEIGHT);
     }
 
     public static <K, V> SerializingCache<K, V> create(long weightedCapacity, Weigher<RefCountedMemory> weigher, ISerializer<V> serializer)
     {
-        return new SerializingCache<>(weightedCapacity, weigher, serializer);
+        return create(weightedCapacity, weigher, serializer, Config.CachePolicy.lru);
     }
 
-    public static <K, V> SerializingCache<K, V> create(long weightedCapacity, ISerializer<V> serializer)
+    public static <K, V> SerializingCache<K, V> create(long weightedCapacity, ISerializer<V> serializer, Config.CachePolicy policy)
     {
         return create(weightedCapacity, new Weigher<RefCountedMemory>()
         {
@@ -81,14 +123,19 @@ public class SerializingCache<K, V> implements ICache<K, V>
                 assert size < Integer.MAX_VALUE : "Serialized size cannot be more than 2GB";
                 return (int) size;
             }
-        }, serializer);
+        }, serializer, policy);
     }
 
-    private V deserialize(RefCountedMemory mem)
+    public static <K, V> SerializingCache<K, V> create(long weightedCapacity, ISerializer<V> serializer)
+    {
+        return create(weightedCapacity, serializer, Config.CachePolicy.lru);
+    }
+
+    private V deserialize(K key, RefCountedMemory mem)
     {
         try
         {
-            return serializer.deserialize(new EncodedDataInputStream(new MemoryInputStream(mem)));
+            return serializer.deserialize(key, new EncodedDataInputStream(new MemoryInputStream(mem)));
         }
         catch (IOException e)
         {
@@ -97,9 +144,9 @@ public class SerializingCache<K, V> implements ICache<K, V>
         }
     }
 
-    private RefCountedMemory serialize(V value)
+    private RefCountedMemory serialize(K key, V value)
     {
-        long serializedSize = serializer.serializedSize(value, ENCODED_TYPE_SIZES);
+        long serializedSize = serializer.serializedSize(key, value, ENCODED_TYPE_SIZES);
         if (serializedSize > Integer.MAX_VALUE)
             throw new IllegalArgumentException("Unable to allocate " + serializedSize + " bytes");
 
@@ -115,7 +162,7 @@ public class SerializingCache<K, V> implements ICache<K, V>
 
         try
         {
-            serializer.serialize(value, new EncodedDataOutputStream(new MemoryOutputStream(freeableMemory)));
+            serializer.serialize(key, value, new EncodedDataOutputStream(new MemoryOutputStream(freeableMemory)));
         }
         catch (IOException e)
         {
@@ -164,7 +211,7 @@ public class SerializingCache<K, V> implements ICache<K, V>
             return null;
         try
         {
-            return deserialize(mem);
+            return deserialize(key, mem);
         }
         finally
         {
@@ -174,7 +221,7 @@ public class SerializingCache<K, V> implements ICache<K, V>
 
     public void put(K key, V value)
     {
-        RefCountedMemory mem = serialize(value);
+        RefCountedMemory mem = serialize(key, value);
         if (mem == null)
             return; // out of memory.  never mind.
 
@@ -195,7 +242,7 @@ public class SerializingCache<K, V> implements ICache<K, V>
 
     public boolean putIfAbsent(K key, V value)
     {
-        RefCountedMemory mem = serialize(value);
+        RefCountedMemory mem = serialize(key, value);
         if (mem == null)
             return false; // out of memory.  never mind.
 
@@ -228,14 +275,14 @@ public class SerializingCache<K, V> implements ICache<K, V>
         if (!old.reference())
             return false; // we have already freed hence noop.
 
-        oldValue = deserialize(old);
+        oldValue = deserialize(key, old);
         old.unreference();
 
-        if (!oldValue.equals(oldToReplace))
+        if (oldValue == null || !oldValue.equals(oldToReplace))
             return false;
 
         // see if the old value matches the one we want to replace
-        RefCountedMemory mem = serialize(value);
+        RefCountedMemory mem = serialize(key, value);
         if (mem == null)
             return false; // out of memory.  never mind.
 
@@ -278,4 +325,14 @@ public class SerializingCache<K, V> implements ICache<K, V>
     {
         return map.containsKey(key);
     }
+
+    public long admitted()
+    {
+        return map.admitted();
+    }
+
+    public long rejected()
+    {
+        return map.rejected();
+    }
 }
@@ -20,7 +20,12 @@ package org.apache.cassandra.cache;
 import java.io.DataInput;
 import java.io.IOException;
 
+import com.googlecode.concurrentlinkedhashmap.EntryWeigher;
+import org.apache.cassandra.config.CFMetaData;
+import org.apache.cassandra.config.Config;
+import org.apache.cassandra.config.Schema;
 import org.apache.cassandra.db.ColumnFamily;
+import org.apache.cassandra.db.RowIndexEntry;
 import org.apache.cassandra.db.TypeSizes;
 import org.apache.cassandra.io.ISerializer;
 import org.apache.cassandra.io.util.DataOutputPlus;
@@ -28,9 +33,67 @@ import org.apache.cassandra.net.MessagingService;
 
 public class SerializingCacheProvider
 {
+    // the expected average weight of a key cache entry, used to size the frequency sketch of tinylfu caches
+    private static final int AVERAGE_KEY_CACHE_ENTRY_WEIGHT = 128;
+
     public ICache<RowCacheKey, IRowCacheEntry> create(long capacity)
     {
-        return SerializingCache.create(capacity, new RowCacheSerializer());
+        return create(capacity, Config.CachePolicy.lru);
+    }
+
+    public ICache<RowCacheKey, IRowCacheEntry> create(long capacity, Config.CachePolicy policy)
+    {
+        return SerializingCache.create(capacity, new RowCacheSerializer(), policy);
+    }
+
+    /**
+     * Creates a key cache keeping the index entries off-heap, in the compact form of
+     * {@link RowIndexEntry.Serializer#serializeForCache}. The keys stay on heap, so they are weighed along with the
+     * serialized entries.
+     */
+    public ICache<KeyCacheKey, RowIndexEntry> createKeyCache(long capacity, Config.CachePolicy policy)
+    {
+        EntryWeigher<KeyCacheKey, RefCountedMemory> weigher = new EntryWeigher<KeyCacheKey, RefCountedMemory>()
+        {
+            public int weightOf(KeyCacheKey key, RefCountedMemory value)
+            {
+                long size = key.unsharedHeapSize() + value.size();
+                assert size < Integer.MAX_VALUE : "Serialized size cannot be more than 2GB";
+                return (int) size;
+            }
+        };
+        return SerializingCache.create(capacity, weigher, new KeyCacheValueSerializer(), policy, AVERAGE_KEY_CACHE_ENTRY_WEIGHT);
+    }
+
+    // Package protected for tests
+    static class KeyCacheValueSerializer implements SerializingCache.ValueSerializer<KeyCacheKey, RowIndexEntry>
+    {
+        public void serialize(KeyCacheKey key, RowIndexEntry entry, DataOutputPlus out) throws IOException
+        {
+            RowIndexEntry.Serializer serializer = serializer(key);
+            if (serializer == null)
+                out.writeLong(entry.position); // a placeholder, the entries of dropped tables are never read back
+            else
+                serializer.serializeForCache(entry, out);
+        }
+
+        public RowIndexEntry deserialize(KeyCacheKey key, DataInput in) throws IOException
+        {
+            RowIndexEntry.Serializer serializer = serializer(key);
+            return serializer == null ? null : serializer.deserializeForCache(in);
+        }
+
+        public long serializedSize(KeyCacheKey key, RowIndexEntry entry, TypeSizes typeSizes)
+        {
+            RowIndexEntry.Serializer serializer = serializer(key);
+            return serializer == null ? typeSizes.sizeof(entry.position) : serializer.serializedSizeForCache(entry, typeSizes);
+        }
+
+        private static RowIndexEntry.Serializer serializer(KeyCacheKey key)
+        {
+            CFMetaData cfm = Schema.instance.getCFMetaData(key.cfId);
+            return cfm == null ? null : cfm.comparator.rowIndexEntrySerializer();
+        }
     }
 
     // Package protected for tests
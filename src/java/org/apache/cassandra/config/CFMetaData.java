@@ -56,6 +56,7 @@ import org.apache.cassandra.thrift.CqlRow;
 import org.apache.cassandra.tracing.Tracing;
 import org.apache.cassandra.utils.ByteBufferUtil;
 import org.apache.cassandra.utils.FBUtilities;
+import org.apache.cassandra.utils.FilterFactory;
 import org.apache.cassandra.utils.UUIDGen;
 import org.github.jamm.Unmetered;
 
@@ -139,6 +140,7 @@ public final class CFMetaData
                                                                     + "min_index_interval int,"
                                                                     + "max_index_interval int,"
                                                                     + "dropped_columns map<text, bigint>,"
+                                                                    + "bloom_filter_type text,"
                                                                     + "PRIMARY KEY (keyspace_name, columnfamily_name)"
                                                                     + ") WITH COMMENT='ColumnFamily definitions' AND gc_grace_seconds=604800");
 
@@ -395,6 +397,7 @@ public final class CFMetaData
     private volatile int minCompactionThreshold = DEFAULT_MIN_COMPACTION_THRESHOLD;
     private volatile int maxCompactionThreshold = DEFAULT_MAX_COMPACTION_THRESHOLD;
     private volatile Double bloomFilterFpChance = null;
+    private volatile FilterFactory.Type bloomFilterType = FilterFactory.Type.STANDARD;
     private volatile CachingOptions caching = DEFAULT_CACHING_STRATEGY;
     private volatile int minIndexInterval = DEFAULT_MIN_INDEX_INTERVAL;
     private volatile int maxIndexInterval = DEFAULT_MAX_INDEX_INTERVAL;
@@ -445,6 +448,7 @@ public final class CFMetaData
     public CFMetaData compactionStrategyOptions(Map<String, String> prop) {compactionStrategyOptions = prop; return this;}
     public CFMetaData compressionParameters(CompressionParameters prop) {compressionParameters = prop; return this;}
     public CFMetaData bloomFilterFpChance(Double prop) {bloomFilterFpChance = prop; return this;}
+    public CFMetaData bloomFilterType(FilterFactory.Type prop) {bloomFilterType = prop; return this;}
     public CFMetaData caching(CachingOptions prop) {caching = prop; return this;}
     public CFMetaData minIndexInterval(int prop) {minIndexInterval = prop; return this;}
     public CFMetaData maxIndexInterval(int prop) {maxIndexInterval = prop; return this;}
@@ -571,6 +575,7 @@ public final class CFMetaData
                              .gcGraceSeconds(0)
                              .caching(indexCaching)
                              .speculativeRetry(parent.speculativeRetry)
+                             .bloomFilterType(parent.bloomFilterType)
                              .compactionStrategyClass(parent.compactionStrategyClass)
                              .compactionStrategyOptions(parent.compactionStrategyOptions)
                              .reloadSecondaryIndexMetadata(parent)
@@ -622,6 +627,7 @@ public final class CFMetaData
                       .compactionStrategyOptions(new HashMap<>(oldCFMD.compactionStrategyOptions))
                       .compressionParameters(oldCFMD.compressionParameters.copy())
                       .bloomFilterFpChance(oldCFMD.bloomFilterFpChance)
+                      .bloomFilterType(oldCFMD.bloomFilterType)
                       .caching(oldCFMD.caching)
                       .defaultTimeToLive(oldCFMD.defaultTimeToLive)
                       .minIndexInterval(oldCFMD.minIndexInterval)
@@ -829,6 +835,11 @@ public final class CFMetaData
                : bloomFilterFpChance;
     }
 
+    public FilterFactory.Type getBloomFilterType()
+    {
+        return bloomFilterType;
+    }
+
     public CachingOptions getCaching()
     {
         return caching;
@@ -898,6 +909,7 @@ public final class CFMetaData
             && Objects.equal(compactionStrategyOptions, other.compactionStrategyOptions)
             && Objects.equal(compressionParameters, other.compressionParameters)
             && Objects.equal(bloomFilterFpChance, other.bloomFilterFpChance)
+            && Objects.equal(bloomFilterType, other.bloomFilterType)
             && Objects.equal(memtableFlushPeriod, other.memtableFlushPeriod)
             && Objects.equal(caching, other.caching)
             && Objects.equal(defaultTimeToLive, other.defaultTimeToLive)
@@ -931,6 +943,7 @@ public final class CFMetaData
             .append(compactionStrategyOptions)
             .append(compressionParameters)
             .append(bloomFilterFpChance)
+            .append(bloomFilterType)
             .append(memtableFlushPeriod)
             .append(caching)
             .append(defaultTimeToLive)
@@ -997,7 +1010,8 @@ public final class CFMetaData
 
     public static CFMetaData fromThriftForUpdate(CfDef cf_def, CFMetaData toUpdate) throws InvalidRequestException, ConfigurationException
     {
-        return internalFromThrift(cf_def, toUpdate.allColumns());
+        // thrift has no bloom filter type, keep the current one
+        return internalFromThrift(cf_def, toUpdate.allColumns()).bloomFilterType(toUpdate.bloomFilterType);
     }
 
     // Convert a thrift CfDef, given a list of ColumnDefinitions to copy over to the created CFMetadata before the CQL metadata are rebuild
@@ -1175,6 +1189,7 @@ public final class CFMetaData
         maxCompactionThreshold = cfm.maxCompactionThreshold;
 
         bloomFilterFpChance = cfm.bloomFilterFpChance;
+        bloomFilterType = cfm.bloomFilterType;
         caching = cfm.caching;
         minIndexInterval = cfm.minIndexInterval;
         maxIndexInterval = cfm.maxIndexInterval;
@@ -1708,6 +1723,9 @@ public final class CFMetaData
         adder.add("min_compaction_threshold", minCompactionThreshold);
         adder.add("max_compaction_threshold", maxCompactionThreshold);
         adder.add("bloom_filter_fp_chance", bloomFilterFpChance);
+        // only written when not the default, so tables that keep it have the same schema digest as on nodes
+        // that predate the option; the tombstone drops a previous value when switching back to the default
+        adder.add("bloom_filter_type", bloomFilterType == FilterFactory.Type.STANDARD ? null : bloomFilterType.toString());
 
         adder.add("memtable_flush_period_in_ms", memtableFlushPeriod);
         adder.add("caching", caching.toString());
@@ -1776,6 +1794,8 @@ public final class CFMetaData
                 cfm.comment(result.getString("comment"));
             if (result.has("bloom_filter_fp_chance"))
                 cfm.bloomFilterFpChance(result.getDouble("bloom_filter_fp_chance"));
+            if (result.has("bloom_filter_type"))
+                cfm.bloomFilterType(FilterFactory.Type.fromString(result.getString("bloom_filter_type")));
             if (result.has("memtable_flush_period_in_ms"))
                 cfm.memtableFlushPeriod(result.getInt("memtable_flush_period_in_ms"));
             cfm.caching(CachingOptions.fromString(result.getString("caching")));
@@ -2266,6 +2286,7 @@ public final class CFMetaData
             .append("compactionStrategyOptions", compactionStrategyOptions)
             .append("compressionParameters", compressionParameters.asThriftOptions())
             .append("bloomFilterFpChance", bloomFilterFpChance)
+            .append("bloomFilterType", bloomFilterType)
             .append("memtableFlushPeriod", memtableFlushPeriod)
             .append("caching", caching)
             .append("defaultTimeToLive", defaultTimeToLive)
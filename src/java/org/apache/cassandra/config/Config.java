@@ -94,11 +94,14 @@ public class Config
     public Integer concurrent_reads = 32;
     public Integer concurrent_writes = 32;
     public Integer concurrent_counter_writes = 32;
+    public volatile int range_scan_parallelism = 1;
+    public int latency_histogram_significant_digits = 2;
 
     @Deprecated
     public Integer concurrent_replicates = null;
 
     public Integer memtable_flush_writers = null;
+    public Integer min_flush_split_size_in_mb = null;
     public Integer memtable_heap_space_in_mb;
     public Integer memtable_offheap_space_in_mb;
     public Float memtable_cleanup_threshold = null;
@@ -144,18 +147,27 @@ public class Config
     /* if the size of columns or super-columns are more than this, indexing will kick in */
     public Integer column_index_size_in_kb = 64;
     public Integer batch_size_warn_threshold_in_kb = 5;
+    public volatile boolean group_unlogged_batches_by_replica = false;
     public Integer concurrent_compactors;
     public volatile Integer compaction_throughput_mb_per_sec = 16;
 
+    public RepairRowHash repair_row_hash = RepairRowHash.sha256;
+    public boolean repair_reuse_sstable_hashes = false;
+    public volatile int max_compaction_splits = 1;
+    public volatile int min_compaction_split_size_in_mb = 1024;
+
     public Integer max_streaming_retries = 3;
 
     public volatile Integer stream_throughput_outbound_megabits_per_sec = 200;
     public volatile Integer inter_dc_stream_throughput_outbound_megabits_per_sec = 0;
+    public volatile boolean stream_entire_sstables = false;
 
     public String[] data_file_directories;
 
     public String saved_caches_directory;
 
+    public String hints_directory;
+
     // Commit Log
     public String commitlog_directory;
     public Integer commitlog_total_space_in_mb;
@@ -163,6 +175,7 @@ public class Config
     public Double commitlog_sync_batch_window_in_ms;
     public Integer commitlog_sync_period_in_ms;
     public int commitlog_segment_size_in_mb = 32;
+    public String commitlog_compression;
 
     @Deprecated
     public int commitlog_periodic_queue_size = -1;
@@ -172,6 +185,7 @@ public class Config
     public Integer dynamic_snitch_update_interval_in_ms = 100;
     public Integer dynamic_snitch_reset_interval_in_ms = 600000;
     public Double dynamic_snitch_badness_threshold = 0.1;
+    public DynamicSnitchScore dynamic_snitch_score = DynamicSnitchScore.median;
 
     public String request_scheduler;
     public RequestSchedulerId request_scheduler_id;
@@ -197,10 +211,15 @@ public class Config
     public int trickle_fsync_interval_in_kb = 10240;
 
     public Long key_cache_size_in_mb = null;
+    public CachePolicy key_cache_policy = CachePolicy.lru;
+    public boolean key_cache_off_heap = false;
     public volatile int key_cache_save_period = 14400;
     public volatile int key_cache_keys_to_save = Integer.MAX_VALUE;
 
+    public Long chunk_cache_size_in_mb = null;
+
     public long row_cache_size_in_mb = 0;
+    public CachePolicy row_cache_policy = CachePolicy.lru;
     public volatile int row_cache_save_period = 0;
     public volatile int row_cache_keys_to_save = Integer.MAX_VALUE;
 
@@ -315,6 +334,25 @@ public class Config
         standard,
     }
 
+    public static enum CachePolicy
+    {
+        lru,
+        tinylfu
+    }
+
+    public static enum DynamicSnitchScore
+    {
+        median,
+        p95,
+        p99
+    }
+
+    public static enum RepairRowHash
+    {
+        sha256,
+        murmur3
+    }
+
     public static enum MemtableAllocationType
     {
         unslabbed_heap_buffers,
@@ -59,6 +59,8 @@ import org.apache.cassandra.db.SystemKeyspace;
 import org.apache.cassandra.dht.IPartitioner;
 import org.apache.cassandra.exceptions.ConfigurationException;
 import org.apache.cassandra.io.FSWriteError;
+import org.apache.cassandra.io.compress.CompressionParameters;
+import org.apache.cassandra.io.compress.ICompressor;
 import org.apache.cassandra.io.util.FileUtils;
 import org.apache.cassandra.io.util.IAllocator;
 import org.apache.cassandra.locator.DynamicEndpointSnitch;
@@ -110,7 +112,10 @@ public class DatabaseDescriptor
     private static RequestSchedulerId requestSchedulerId;
     private static RequestSchedulerOptions requestSchedulerOptions;
 
+    private static String commitLogCompressor;
+
     private static long keyCacheSizeInMB;
+    private static long chunkCacheSizeInMB;
     private static long counterCacheSizeInMB;
     private static IAllocator memoryAllocator;
     private static long indexSummaryCapacityInMB;
@@ -325,6 +330,16 @@ public class DatabaseDescriptor
         if (conf.commitlog_total_space_in_mb == null)
             conf.commitlog_total_space_in_mb = hasLargeAddressSpace() ? 8192 : 32;
 
+        if (conf.commitlog_compression != null)
+        {
+            Map<String, String> options = Collections.singletonMap(CompressionParameters.SSTABLE_COMPRESSION, conf.commitlog_compression);
+            ICompressor compressor = CompressionParameters.create(options).sstableCompressor;
+            if (compressor == null)
+                throw new ConfigurationException("Invalid commitlog_compression " + conf.commitlog_compression);
+            commitLogCompressor = compressor.getClass().getName();
+            logger.debug("Compressing commit log with {}", commitLogCompressor);
+        }
+
         // Always force standard mode access on Windows - CASSANDRA-6993. Windows won't allow deletion of hard-links to files that
         // are memory-mapped which causes trouble with snapshots.
         if (FBUtilities.isWindows())
@@ -414,6 +429,12 @@ public class DatabaseDescriptor
         if (conf.concurrent_counter_writes != null && conf.concurrent_counter_writes < 2)
             throw new ConfigurationException("concurrent_counter_writes must be at least 2");
 
+        if (conf.range_scan_parallelism < 1)
+            throw new ConfigurationException("range_scan_parallelism must be at least 1");
+
+        if (conf.latency_histogram_significant_digits < 1 || conf.latency_histogram_significant_digits > 4)
+            throw new ConfigurationException("latency_histogram_significant_digits must be between 1 and 4");
+
         if (conf.concurrent_replicates != null)
             logger.warn("concurrent_replicates has been deprecated and should be removed from cassandra.yaml");
 
@@ -525,6 +546,13 @@ public class DatabaseDescriptor
                 throw new ConfigurationException("saved_caches_directory is missing and -Dcassandra.storagedir is not set");
             conf.saved_caches_directory += File.separator + "saved_caches";
         }
+        if (conf.hints_directory == null)
+        {
+            conf.hints_directory = System.getProperty("cassandra.storagedir", null);
+            if (conf.hints_directory == null)
+                throw new ConfigurationException("hints_directory is missing and -Dcassandra.storagedir is not set");
+            conf.hints_directory += File.separator + "hints";
+        }
         if (conf.data_file_directories == null)
         {
             String defaultDataDir = System.getProperty("cassandra.storagedir", null);
@@ -540,10 +568,14 @@ public class DatabaseDescriptor
                 throw new ConfigurationException("commitlog_directory must not be the same as any data_file_directories");
             if (datadir.equals(conf.saved_caches_directory))
                 throw new ConfigurationException("saved_caches_directory must not be the same as any data_file_directories");
+            if (datadir.equals(conf.hints_directory))
+                throw new ConfigurationException("hints_directory must not be the same as any data_file_directories");
         }
 
         if (conf.commitlog_directory.equals(conf.saved_caches_directory))
             throw new ConfigurationException("saved_caches_directory must not be the same as the commitlog_directory");
+        if (conf.commitlog_directory.equals(conf.hints_directory))
+            throw new ConfigurationException("hints_directory must not be the same as the commitlog_directory");
 
         if (conf.memtable_flush_writers == null)
             conf.memtable_flush_writers = Math.min(8, Math.max(2, Math.min(FBUtilities.getAvailableProcessors(), conf.data_file_directories.length)));
@@ -551,6 +583,9 @@ public class DatabaseDescriptor
         if (conf.memtable_flush_writers < 1)
             throw new ConfigurationException("memtable_flush_writers must be at least 1");
 
+        if (conf.min_flush_split_size_in_mb != null && conf.min_flush_split_size_in_mb <= 0)
+            throw new ConfigurationException("min_flush_split_size_in_mb should be strictly greater than 0");
+
         if (conf.memtable_cleanup_threshold == null)
             conf.memtable_cleanup_threshold = (float) (1.0 / (1 + conf.memtable_flush_writers));
 
@@ -567,6 +602,12 @@ public class DatabaseDescriptor
         if (conf.concurrent_compactors <= 0)
             throw new ConfigurationException("concurrent_compactors should be strictly greater than 0");
 
+        if (conf.max_compaction_splits <= 0)
+            throw new ConfigurationException("max_compaction_splits should be strictly greater than 0");
+
+        if (conf.min_compaction_split_size_in_mb <= 0)
+            throw new ConfigurationException("min_compaction_split_size_in_mb should be strictly greater than 0");
+
         if (conf.initial_token != null)
             for (String token : tokensFromString(conf.initial_token))
                 partitioner.getTokenFactory().validate(token);
@@ -592,6 +633,15 @@ public class DatabaseDescriptor
                     + conf.key_cache_size_in_mb + "', supported values are <integer> >= 0.");
         }
 
+        // if chunk_cache_size_in_mb option was set to "auto" then size of the cache should be "min(25% of Heap (in MB), 512MB)
+        chunkCacheSizeInMB = (conf.chunk_cache_size_in_mb == null)
+            ? Math.min(Math.max(1, (int) (Runtime.getRuntime().maxMemory() * 0.25 / 1024 / 1024)), 512)
+            : conf.chunk_cache_size_in_mb;
+
+        if (chunkCacheSizeInMB < 0)
+            throw new ConfigurationException("chunk_cache_size_in_mb option was set incorrectly to '"
+                    + conf.chunk_cache_size_in_mb + "', supported values are <integer> >= 0.");
+
         try
         {
             // if counter_cache_size_in_mb option was set to "auto" then size of the cache should be "min(2.5% of Heap (in MB), 50MB)
@@ -788,6 +838,11 @@ public class DatabaseDescriptor
                 throw new ConfigurationException("saved_caches_directory must be specified");
 
             FileUtils.createDirectory(conf.saved_caches_directory);
+
+            if (conf.hints_directory == null)
+                throw new ConfigurationException("hints_directory must be specified");
+
+            FileUtils.createDirectory(conf.hints_directory);
         }
         catch (ConfigurationException e)
         {
@@ -853,6 +908,17 @@ public class DatabaseDescriptor
         return conf.batch_size_warn_threshold_in_kb * 1024;
     }
 
+    public static boolean groupUnloggedBatchesByReplica()
+    {
+        return conf.group_unlogged_batches_by_replica;
+    }
+
+    @VisibleForTesting
+    public static void setGroupUnloggedBatchesByReplica(boolean groupUnloggedBatchesByReplica)
+    {
+        conf.group_unlogged_batches_by_replica = groupUnloggedBatchesByReplica;
+    }
+
     public static Collection<String> getInitialTokens()
     {
         return tokensFromString(System.getProperty("cassandra.initial_token", conf.initial_token));
@@ -1032,6 +1098,7 @@ public class DatabaseDescriptor
                 return getTruncateRpcTimeout();
             case READ_REPAIR:
             case MUTATION:
+            case MUTATION_BATCH:
             case PAXOS_COMMIT:
             case PAXOS_PREPARE:
             case PAXOS_PROPOSE:
@@ -1081,11 +1148,36 @@ public class DatabaseDescriptor
         return conf.concurrent_counter_writes;
     }
 
+    public static int getRangeScanParallelism()
+    {
+        return conf.range_scan_parallelism;
+    }
+
+    @VisibleForTesting
+    public static void setRangeScanParallelism(int parallelism)
+    {
+        conf.range_scan_parallelism = parallelism;
+    }
+
+    public static int getLatencyHistogramSignificantDigits()
+    {
+        return conf.latency_histogram_significant_digits;
+    }
+
     public static int getFlushWriters()
     {
             return conf.memtable_flush_writers;
     }
 
+    /**
+     * @return the minimum size of each of the token ranges a flush can be split in, Long.MAX_VALUE if flushes are
+     * never split
+     */
+    public static long getMinFlushSplitSize()
+    {
+        return conf.min_flush_split_size_in_mb == null ? Long.MAX_VALUE : conf.min_flush_split_size_in_mb * 1024L * 1024L;
+    }
+
     public static int getConcurrentCompactors()
     {
         return conf.concurrent_compactors;
@@ -1101,6 +1193,26 @@ public class DatabaseDescriptor
         conf.compaction_throughput_mb_per_sec = value;
     }
 
+    public static int getMaxCompactionSplits()
+    {
+        return conf.max_compaction_splits;
+    }
+
+    public static void setMaxCompactionSplits(int value)
+    {
+        conf.max_compaction_splits = value;
+    }
+
+    public static long getMinCompactionSplitSize()
+    {
+        return conf.min_compaction_split_size_in_mb * 1024L * 1024L;
+    }
+
+    public static void setMinCompactionSplitSizeInMB(int value)
+    {
+        conf.min_compaction_split_size_in_mb = value;
+    }
+
     public static boolean getDisableSTCSInL0()
     {
         return Boolean.getBoolean("cassandra.disable_stcs_in_l0");
@@ -1126,6 +1238,17 @@ public class DatabaseDescriptor
         conf.inter_dc_stream_throughput_outbound_megabits_per_sec = value;
     }
 
+    public static boolean streamEntireSSTables()
+    {
+        return conf.stream_entire_sstables;
+    }
+
+    @VisibleForTesting
+    public static void setStreamEntireSSTables(boolean value)
+    {
+        conf.stream_entire_sstables = value;
+    }
+
     public static String[] getAllDataFileLocations()
     {
         return conf.data_file_directories;
@@ -1164,6 +1287,25 @@ public class DatabaseDescriptor
         return conf.commitlog_segment_size_in_mb * 1024 * 1024;
     }
 
+    /**
+     * @return the class name of the compressor of the commit log segments, or null if they are not compressed
+     */
+    public static String getCommitLogCompressor()
+    {
+        return commitLogCompressor;
+    }
+
+    @VisibleForTesting
+    public static void setCommitLogCompressor(String compressorClass)
+    {
+        commitLogCompressor = compressorClass;
+    }
+
+    public static String getHintsLocation()
+    {
+        return conf.hints_directory;
+    }
+
     public static String getSavedCachesLocation()
     {
         return conf.saved_caches_directory;
@@ -1463,6 +1605,17 @@ public class DatabaseDescriptor
         conf.dynamic_snitch_badness_threshold = dynamicBadnessThreshold;
     }
 
+    public static Config.DynamicSnitchScore getDynamicSnitchScore()
+    {
+        return conf.dynamic_snitch_score;
+    }
+
+    @VisibleForTesting
+    public static void setDynamicSnitchScore(Config.DynamicSnitchScore dynamicSnitchScore)
+    {
+        conf.dynamic_snitch_score = dynamicSnitchScore;
+    }
+
     public static ServerEncryptionOptions getServerEncryptionOptions()
     {
         return conf.server_encryption_options;
@@ -1533,6 +1686,37 @@ public class DatabaseDescriptor
         return keyCacheSizeInMB;
     }
 
+    public static Config.RepairRowHash getRepairRowHash()
+    {
+        return conf.repair_row_hash;
+    }
+
+    public static boolean getRepairReuseSSTableHashes()
+    {
+        return conf.repair_reuse_sstable_hashes;
+    }
+
+    @VisibleForTesting
+    public static void setRepairReuseSSTableHashes(boolean reuse)
+    {
+        conf.repair_reuse_sstable_hashes = reuse;
+    }
+
+    public static Config.CachePolicy getKeyCachePolicy()
+    {
+        return conf.key_cache_policy;
+    }
+
+    public static boolean isKeyCacheOffHeap()
+    {
+        return conf.key_cache_off_heap;
+    }
+
+    public static long getChunkCacheSizeInMB()
+    {
+        return chunkCacheSizeInMB;
+    }
+
     public static long getIndexSummaryCapacityInMB()
     {
         return indexSummaryCapacityInMB;
@@ -1563,6 +1747,11 @@ public class DatabaseDescriptor
         return conf.row_cache_size_in_mb;
     }
 
+    public static Config.CachePolicy getRowCachePolicy()
+    {
+        return conf.row_cache_policy;
+    }
+
     public static int getRowCacheSavePeriod()
     {
         return conf.row_cache_save_period;
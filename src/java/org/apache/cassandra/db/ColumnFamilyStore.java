@@ -138,6 +138,9 @@ public class ColumnFamilyStore implements ColumnFamilyStoreMBean
         }
     }
 
+    // the sstables opened at startup ahead of the creation of their table, by keyspace and table name
+    private static final ConcurrentMap<Pair<String, String>, Collection<SSTableReader>> preloadedSSTables = new ConcurrentHashMap<>();
+
     public final Keyspace keyspace;
     public final String name;
     public final CFMetaData metadata;
@@ -318,8 +321,12 @@ public class ColumnFamilyStore implements ColumnFamilyStoreMBean
 
         if (loadSSTables)
         {
-            Directories.SSTableLister sstableFiles = directories.sstableLister().skipTemporary(true);
-            Collection<SSTableReader> sstables = SSTableReader.openAll(sstableFiles.list().entrySet(), metadata, this.partitioner);
+            Collection<SSTableReader> sstables = preloadedSSTables.remove(Pair.create(metadata.ksName, metadata.cfName));
+            if (sstables == null)
+            {
+                Directories.SSTableLister sstableFiles = directories.sstableLister().skipTemporary(true);
+                sstables = SSTableReader.openAll(sstableFiles.list().entrySet(), metadata, this.partitioner);
+            }
             data.addInitialSSTables(sstables);
         }
 
@@ -479,6 +486,54 @@ public class ColumnFamilyStore implements ColumnFamilyStoreMBean
         return new ColumnFamilyStore(keyspace, columnFamily, partitioner, value, metadata, directories, loadSSTables);
     }
 
+    /**
+     * Opens the sstables of the given tables all at once at startup, rather than table by table as their keyspaces
+     * are initialized, so that nodes with many tables open them with all the available threads and disks. The
+     * ColumnFamilyStores of the tables then pick them up when they are created.
+     *
+     * Tables with sstables in an incompatible format are skipped, to fail their creation as usual.
+     */
+    public static void preloadSSTables(Iterable<CFMetaData> tables)
+    {
+        Map<CFMetaData, Set<Map.Entry<Descriptor, Set<Component>>>> entries = new HashMap<>();
+        outer:
+        for (CFMetaData metadata : tables)
+        {
+            Map<Descriptor, Set<Component>> sstables = new Directories(metadata).sstableLister().skipTemporary(true).list();
+            for (Descriptor desc : sstables.keySet())
+            {
+                if (!desc.isCompatible())
+                    continue outer;
+            }
+            entries.put(metadata, sstables.entrySet());
+        }
+
+        for (Map.Entry<CFMetaData, Collection<SSTableReader>> opened : SSTableReader.openAll(entries, StorageService.getPartitioner()).entrySet())
+            preloadedSSTables.put(Pair.create(opened.getKey().ksName, opened.getKey().cfName), opened.getValue());
+    }
+
+    /**
+     * Releases the sstables preloaded at startup that no ColumnFamilyStore has picked up, so that they don't stay open
+     * for the life of the process. To be called once the keyspaces have been initialized.
+     *
+     * @return the number of sstables released
+     */
+    public static int releasePreloadedSSTables()
+    {
+        int released = 0;
+        for (Pair<String, String> table : preloadedSSTables.keySet())
+        {
+            Collection<SSTableReader> sstables = preloadedSSTables.remove(table);
+            if (sstables == null)
+                continue;
+            logger.warn("Releasing {} sstables opened at startup for {}.{}, which wasn't initialized", sstables.size(), table.left, table.right);
+            for (SSTableReader sstable : sstables)
+                sstable.selfRef().release();
+            released += sstables.size();
+        }
+        return released;
+    }
+
     /**
      * Removes unnecessary files from the cf directory at startup: these include temp files, orphans, zero-length files
      * and compacted sstables. Files that cannot be recognized will be ignored.
@@ -1077,7 +1132,7 @@ public class ColumnFamilyStore implements ColumnFamilyStoreMBean
                 memtable.cfs.data.markFlushing(memtable);
                 if (memtable.isClean() || truncate)
                 {
-                    memtable.cfs.replaceFlushed(memtable, null);
+                    memtable.cfs.replaceFlushed(memtable, Collections.<SSTableReader>emptyList());
                     memtable.setDiscarded();
                     iter.remove();
                 }
@@ -1418,9 +1473,9 @@ public class ColumnFamilyStore implements ColumnFamilyStoreMBean
         data.markObsolete(sstables, compactionType);
     }
 
-    void replaceFlushed(Memtable memtable, SSTableReader sstable)
+    void replaceFlushed(Memtable memtable, Collection<SSTableReader> sstables)
     {
-        compactionStrategyWrapper.replaceFlushed(memtable, sstable);
+        compactionStrategyWrapper.replaceFlushed(memtable, sstables);
     }
 
     public boolean isValid()
@@ -1551,6 +1606,21 @@ public class ColumnFamilyStore implements ColumnFamilyStoreMBean
         return metric.rangeLatency.totalLatency.count();
     }
 
+    public double[] getRecentReadLatencyPercentilesMicros()
+    {
+        return metric.readLatency.getRecentPercentiles();
+    }
+
+    public double[] getRecentWriteLatencyPercentilesMicros()
+    {
+        return metric.writeLatency.getRecentPercentiles();
+    }
+
+    public double[] getRecentRangeLatencyPercentilesMicros()
+    {
+        return metric.rangeLatency.getRecentPercentiles();
+    }
+
     public ColumnFamily getColumnFamily(DecoratedKey key,
                                         Composite start,
                                         Composite finish,
@@ -1981,6 +2051,14 @@ public class ColumnFamilyStore implements ColumnFamilyStoreMBean
         {
             return true;
         }
+
+        /**
+         * @return the number of live (grouped) cells, as counted by the query filter, of the last row returned
+         */
+        public int lastCounted(ExtendedFilter filter, ColumnFamily data)
+        {
+            return filter.lastCounted(data);
+        }
     }
 
     /**
@@ -1988,7 +2066,7 @@ public class ColumnFamilyStore implements ColumnFamilyStoreMBean
       *
       * @param range The range of keys and columns within those keys to fetch
      */
-    private AbstractScanIterator getSequentialIterator(final DataRange range, long now)
+    AbstractScanIterator getSequentialIterator(final DataRange range, long now)
     {
         assert !(range.keyRange() instanceof Range) || !((Range)range.keyRange()).isWrapAround() || range.keyRange().right.isMinimum(partitioner) : range.keyRange();
 
@@ -2112,7 +2190,7 @@ public class ColumnFamilyStore implements ColumnFamilyStoreMBean
         long start = System.nanoTime();
         try (OpOrder.Group op = readOrdering.start())
         {
-            return filter(getSequentialIterator(filter.dataRange, filter.timestamp), filter);
+            return filter(getRangeScanIterator(filter), filter);
         }
         finally
         {
@@ -2120,6 +2198,25 @@ public class ColumnFamilyStore implements ColumnFamilyStoreMBean
         }
     }
 
+    /**
+     * Scans large ranges as concurrently scanned sub-ranges if range_scan_parallelism allows it, and sequentially
+     * otherwise.
+     */
+    private AbstractScanIterator getRangeScanIterator(ExtendedFilter filter)
+    {
+        int parallelism = DatabaseDescriptor.getRangeScanParallelism();
+        if (parallelism > 1)
+        {
+            List<DataRange> subRanges = ParallelScanIterator.split(this, filter.dataRange, parallelism);
+            if (subRanges.size() > 1)
+            {
+                Tracing.trace("Executing parallel seq scan of {} sub-ranges for {}", subRanges.size(), filter.dataRange.keyRange().getString(metadata.getKeyValidator()));
+                return new ParallelScanIterator(this, filter, subRanges, parallelism);
+            }
+        }
+        return getSequentialIterator(filter.dataRange, filter.timestamp);
+    }
+
     @VisibleForTesting
     public List<Row> search(AbstractBounds<RowPosition> range,
                             List<IndexExpression> clause,
@@ -2190,7 +2287,7 @@ public class ColumnFamilyStore implements ColumnFamilyStoreMBean
                     matched++;
 
                 if (data != null)
-                    columnsCount += filter.lastCounted(data);
+                    columnsCount += rowIterator.lastCounted(filter, data);
                 // Update the underlying filter to avoid querying more columns per slice than necessary and to handle paging
                 filter.updateFilter(columnsCount);
             }
@@ -183,6 +183,25 @@ public interface ColumnFamilyStoreMBean
     @Deprecated
     public double getRecentRangeLatencyMicros();
 
+    /**
+     * @see org.apache.cassandra.metrics.ColumnFamilyMetrics#readLatency
+     * @return the LatencyMetrics.PERCENTILES of the read latencies since the last call, followed by their min and max
+     */
+    public double[] getRecentReadLatencyPercentilesMicros();
+
+    /**
+     * @see org.apache.cassandra.metrics.ColumnFamilyMetrics#writeLatency
+     * @return the LatencyMetrics.PERCENTILES of the write latencies since the last call, followed by their min and max
+     */
+    public double[] getRecentWriteLatencyPercentilesMicros();
+
+    /**
+     * @see org.apache.cassandra.metrics.ColumnFamilyMetrics#rangeLatency
+     * @return the LatencyMetrics.PERCENTILES of the range slice latencies since the last call, followed by their min
+     * and max
+     */
+    public double[] getRecentRangeLatencyPercentilesMicros();
+
     /**
      * @see org.apache.cassandra.metrics.ColumnFamilyMetrics#pendingFlushes
      * @return the estimated number of tasks pending for this column family
@@ -142,6 +142,15 @@ public class DataRange
         columnFilter.updateColumnsLimit(count);
     }
 
+    /**
+     * Returns a copy of this DataRange restricted to the provided sub-range of its keys. The copy has its own column
+     * filter, so it can be used concurrently with this DataRange.
+     */
+    public DataRange forSubRange(AbstractBounds<RowPosition> range)
+    {
+        return new DataRange(range, columnFilter.cloneShallow());
+    }
+
     public static class Paging extends DataRange
     {
         // The slice of columns that we want to fetch for each row, ignoring page start/end issues.
@@ -251,5 +260,16 @@ public class DataRange
             columnFilter.updateColumnsLimit(count);
             sliceFilter.updateColumnsLimit(count);
         }
+
+        /**
+         * The first partition column start (resp. last partition column finish) only applies to the sub-range that
+         * starts (resp. stops) at the start (resp. stop) key of this range, so the sub-ranges should be split on
+         * positions that are not keys.
+         */
+        @Override
+        public DataRange forSubRange(AbstractBounds<RowPosition> range)
+        {
+            return new Paging(range, sliceFilter.cloneShallow(), firstPartitionColumnStart, lastPartitionColumnFinish, comparator);
+        }
     }
 }
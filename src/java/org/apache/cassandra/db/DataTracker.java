@@ -139,9 +139,9 @@ public class DataTracker
         while (!view.compareAndSet(currentView, newView));
     }
 
-    public void replaceFlushed(Memtable memtable, SSTableReader sstable)
+    public void replaceFlushed(Memtable memtable, Collection<SSTableReader> sstables)
     {
-        // sstable may be null if we flushed batchlog and nothing needed to be retained
+        // sstables may be empty if we flushed batchlog and nothing needed to be retained
 
         if (!cfstore.isValid())
         {
@@ -149,31 +149,29 @@ public class DataTracker
             do
             {
                 currentView = view.get();
-                newView = currentView.replaceFlushed(memtable, sstable);
-                if (sstable != null)
-                    newView = newView.replace(Arrays.asList(sstable), Collections.<SSTableReader>emptyList());
+                newView = currentView.replaceFlushed(memtable, sstables);
+                if (!sstables.isEmpty())
+                    newView = newView.replace(sstables, Collections.<SSTableReader>emptyList());
             }
             while (!view.compareAndSet(currentView, newView));
             return;
         }
 
-        // back up before creating a new View (which makes the new one eligible for compaction)
-        if (sstable != null)
+        // back up before creating a new View (which makes the new ones eligible for compaction)
+        for (SSTableReader sstable : sstables)
             maybeIncrementallyBackup(sstable);
 
         View currentView, newView;
         do
         {
             currentView = view.get();
-            newView = currentView.replaceFlushed(memtable, sstable);
+            newView = currentView.replaceFlushed(memtable, sstables);
         }
         while (!view.compareAndSet(currentView, newView));
 
-        if (sstable != null)
-        {
-            addNewSSTablesSize(Arrays.asList(sstable));
+        addNewSSTablesSize(sstables);
+        for (SSTableReader sstable : sstables)
             notifyAdded(sstable);
-        }
     }
 
     public void maybeIncrementallyBackup(final SSTableReader sstable)
@@ -280,6 +278,25 @@ public class DataTracker
         addNewSSTablesSize(allReplacements);
     }
 
+    /**
+     * Replaces the compacted sstables by the ones they were compacted to, in a single update of the view, for
+     * compactions that didn't add their new sstables to the tracker as they wrote them.
+     */
+    public void replaceCompactedSSTables(Collection<SSTableReader> oldSSTables, Collection<SSTableReader> replacements, OperationType compactionType)
+    {
+        View currentView, newView;
+        do
+        {
+            currentView = view.get();
+            newView = currentView.replace(oldSSTables, replacements);
+        }
+        while (!view.compareAndSet(currentView, newView));
+        removeOldSSTablesSize(oldSSTables);
+        releaseReferences(oldSSTables, false);
+        notifySSTablesChanged(oldSSTables, replacements, compactionType);
+        addNewSSTablesSize(replacements);
+    }
+
     public void addInitialSSTables(Collection<SSTableReader> sstables)
     {
         addSSTablesToTracker(sstables);
@@ -709,7 +726,7 @@ public class DataTracker
             return new View(newLive, newFlushing, sstablesMap, compacting, shadowed, intervalTree);
         }
 
-        View replaceFlushed(Memtable flushedMemtable, SSTableReader newSSTable)
+        View replaceFlushed(Memtable flushedMemtable, Collection<SSTableReader> flushedSSTables)
         {
             int index = flushingMemtables.indexOf(flushedMemtable);
             List<Memtable> newQueuedMemtables = ImmutableList.<Memtable>builder()
@@ -718,12 +735,16 @@ public class DataTracker
                                                              .build();
             Map<SSTableReader, SSTableReader> newSSTables = sstablesMap;
             SSTableIntervalTree intervalTree = this.intervalTree;
-            if (newSSTable != null)
+            if (!flushedSSTables.isEmpty())
             {
-                assert !sstables.contains(newSSTable);
-                assert !shadowed.contains(newSSTable);
-                newSSTables = ImmutableMap.<SSTableReader, SSTableReader>builder()
-                                          .putAll(sstablesMap).put(newSSTable, newSSTable).build();
+                ImmutableMap.Builder<SSTableReader, SSTableReader> builder = ImmutableMap.<SSTableReader, SSTableReader>builder().putAll(sstablesMap);
+                for (SSTableReader newSSTable : flushedSSTables)
+                {
+                    assert !sstables.contains(newSSTable);
+                    assert !shadowed.contains(newSSTable);
+                    builder.put(newSSTable, newSSTable);
+                }
+                newSSTables = builder.build();
                 intervalTree = buildIntervalTree(newSSTables.keySet());
             }
             return new View(liveMemtables, newQueuedMemtables, newSSTables, compacting, shadowed, intervalTree);
@@ -321,6 +321,24 @@ public class Directories
         return pickWriteableDirectory(candidates);
     }
 
+    /**
+     * @return the data directories that are not blacklisted for writes and have room for writeSize bytes, in their
+     * configured order
+     */
+    public List<DataDirectory> getWriteableLocations(long writeSize)
+    {
+        List<DataDirectory> locations = new ArrayList<>(dataDirectories.length);
+        for (DataDirectory dataDir : dataDirectories)
+        {
+            if (BlacklistedDirectories.isUnwritable(getLocationForDisk(dataDir)))
+                continue;
+            if (dataDir.getAvailableSpace() < writeSize)
+                continue;
+            locations.add(dataDir);
+        }
+        return locations;
+    }
+
     // separated for unit testing
     static DataDirectory pickWriteableDirectory(List<DataDirectoryCandidate> candidates)
     {
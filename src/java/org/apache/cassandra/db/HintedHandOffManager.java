@@ -18,6 +18,7 @@
 package org.apache.cassandra.db;
 
 import java.io.DataInputStream;
+import java.io.File;
 import java.io.IOException;
 import java.lang.management.ManagementFactory;
 import java.net.InetAddress;
@@ -39,12 +40,18 @@ import org.slf4j.LoggerFactory;
 
 import org.apache.cassandra.concurrent.JMXEnabledScheduledThreadPoolExecutor;
 import org.apache.cassandra.concurrent.NamedThreadFactory;
+import org.apache.cassandra.concurrent.ScheduledExecutors;
 import org.apache.cassandra.config.CFMetaData;
+import org.apache.cassandra.config.Config;
 import org.apache.cassandra.config.DatabaseDescriptor;
 import org.apache.cassandra.config.Schema;
 import org.apache.cassandra.db.compaction.CompactionManager;
 import org.apache.cassandra.db.composites.*;
 import org.apache.cassandra.db.filter.*;
+import org.apache.cassandra.db.hints.Hint;
+import org.apache.cassandra.db.hints.HintsDescriptor;
+import org.apache.cassandra.db.hints.HintsReader;
+import org.apache.cassandra.db.hints.HintsStore;
 import org.apache.cassandra.db.marshal.Int32Type;
 import org.apache.cassandra.db.marshal.UUIDType;
 import org.apache.cassandra.dht.IPartitioner;
@@ -56,6 +63,8 @@ import org.apache.cassandra.gms.FailureDetector;
 import org.apache.cassandra.gms.Gossiper;
 import org.apache.cassandra.io.sstable.Descriptor;
 import org.apache.cassandra.io.sstable.SSTable;
+import org.apache.cassandra.io.util.DataOutputBuffer;
+import org.apache.cassandra.io.util.FileUtils;
 import org.apache.cassandra.metrics.HintedHandoffMetrics;
 import org.apache.cassandra.net.MessageOut;
 import org.apache.cassandra.net.MessagingService;
@@ -64,7 +73,14 @@ import org.apache.cassandra.utils.*;
 import org.cliffc.high_scale_lib.NonBlockingHashSet;
 
 /**
- * The hint schema looks like this:
+ * Hints are stored in an append-only log of checksummed files per target host, under hints_directory.
+ * Each hint holds the mutation to replay along with its creation time and TTL, see {@link HintsStore}.
+ *
+ * When FailureDetector signals that a node that was down is back up, we close the current hints file
+ * of that node, and stream through its complete files sending the hinted mutations over, throttled by
+ * hinted_handoff_throttle_in_kb. A fully delivered file is deleted.
+ *
+ * The legacy hints table is only used to import the hints of previous versions and of decommissioned nodes:
  *
  * CREATE TABLE hints (
  *   target_id uuid,
@@ -74,13 +90,6 @@ import org.cliffc.high_scale_lib.NonBlockingHashSet;
  *   PRIMARY KEY (target_id, hint_id, message_version)
  * ) WITH COMPACT STORAGE;
  *
- * Thus, for each node in the cluster we treat its uuid as the partition key; each hint is a logical row
- * (physical composite column) containing the mutation to replay and associated metadata.
- *
- * When FailureDetector signals that a node that was down is back up, we page through
- * the hinted mutations and send them over one at a time, waiting for
- * hinted_handoff_throttle_delay in between each.
- *
  * deliverHints is also exposed to JMX so it can be run manually if FD ever misses
  * its cue somehow.
  */
@@ -92,7 +101,6 @@ public class HintedHandOffManager implements HintedHandOffManagerMBean
 
     private static final Logger logger = LoggerFactory.getLogger(HintedHandOffManager.class);
     private static final int PAGE_SIZE = 128;
-    private static final int LARGE_NUMBER = 65536; // 64k nodes ought to be enough for anybody.
 
     public final HintedHandoffMetrics metrics = new HintedHandoffMetrics();
 
@@ -110,11 +118,49 @@ public class HintedHandOffManager implements HintedHandOffManagerMBean
 
     private final ColumnFamilyStore hintStore = Keyspace.open(Keyspace.SYSTEM_KS).getColumnFamilyStore(SystemKeyspace.HINTS_CF);
 
+    private final File hintsDirectory;
+    private final ConcurrentMap<UUID, HintsStore> stores = new ConcurrentHashMap<>();
+
+    private HintedHandOffManager()
+    {
+        hintsDirectory = new File(DatabaseDescriptor.getHintsLocation());
+        FileUtils.createDirectory(hintsDirectory);
+        for (File file : hintsDirectory.listFiles())
+        {
+            // the offset file of a hints file deleted right before a crash
+            HintsDescriptor offsetDescriptor = HintsDescriptor.fromOffsetFileName(file.getName());
+            if (offsetDescriptor != null && !new File(hintsDirectory, offsetDescriptor.fileName()).exists())
+                FileUtils.deleteWithConfirm(file);
+
+            HintsDescriptor descriptor = HintsDescriptor.fromFileName(file.getName());
+            if (descriptor == null)
+                continue;
+            if (file.length() == 0)
+                FileUtils.deleteWithConfirm(file);
+            else
+                getStore(descriptor.hostId).addFile(descriptor);
+        }
+    }
+
+    private HintsStore getStore(UUID hostId)
+    {
+        HintsStore store = stores.get(hostId);
+        if (store == null)
+        {
+            HintsStore newStore = new HintsStore(hostId, hintsDirectory);
+            store = stores.putIfAbsent(hostId, newStore);
+            if (store == null)
+                store = newStore;
+        }
+        return store;
+    }
+
     /**
-     * Returns a mutation representing a Hint to be sent to <code>targetId</code>
-     * as soon as it becomes available again.
+     * Stores a hint to be sent to <code>targetId</code> as soon as it becomes available again.
+     *
+     * @param now current time in milliseconds - relevant for hint replay handling of truncated CFs
      */
-    public Mutation hintFor(Mutation mutation, long now, int ttl, UUID targetId)
+    public void writeHint(Mutation mutation, long now, int ttl, UUID targetId)
     {
         assert ttl > 0;
 
@@ -125,6 +171,40 @@ public class HintedHandOffManager implements HintedHandOffManagerMBean
         else
             logger.warn("Unable to find matching endpoint for target {} when storing a hint", targetId);
 
+        HintsStore store = writeHint(new Hint(mutation, now, ttl), targetId);
+        // with the batch commit log, the hint is on disk by the time the write is acknowledged, as the commit log is;
+        // the hints written to a host concurrently share syncs, as batched commit log writes do
+        if (DatabaseDescriptor.getCommitLogSync() == Config.CommitLogSync.batch)
+            store.sync();
+    }
+
+    /**
+     * Appends the hint to the current file of the host, without syncing it.
+     */
+    private HintsStore writeHint(Hint hint, UUID targetId)
+    {
+        DataOutputBuffer buffer = new DataOutputBuffer();
+        try
+        {
+            hint.serialize(buffer, MessagingService.current_version);
+        }
+        catch (IOException e)
+        {
+            throw new AssertionError(e);
+        }
+        HintsStore store = getStore(targetId);
+        metrics.bytesWritten.mark(store.write(buffer.getData(), buffer.getLength()));
+        return store;
+    }
+
+    /**
+     * Returns a mutation of the legacy hints table representing a hint to be sent to <code>targetId</code>.
+     */
+    @VisibleForTesting
+    static Mutation legacyHintFor(Mutation mutation, long now, int ttl, UUID targetId)
+    {
+        assert ttl > 0;
+
         UUID hintId = UUIDGen.getTimeUUID();
         // serialize the hint with id and version as a composite column name
         CellName name = CFMetaData.HintsCf.comparator.makeCellName(hintId, MessagingService.current_version);
@@ -161,6 +241,8 @@ public class HintedHandOffManager implements HintedHandOffManagerMBean
         }
         logger.debug("Created HHOM instance, registered MBean.");
 
+        migrateLegacyHints();
+
         Runnable runnable = new Runnable()
         {
             public void run()
@@ -170,13 +252,29 @@ public class HintedHandOffManager implements HintedHandOffManagerMBean
             }
         };
         executor.scheduleWithFixedDelay(runnable, 10, 10, TimeUnit.MINUTES);
+
+        // hints are buffered, so with the periodic commit log they are synced to disk at the same period
+        if (DatabaseDescriptor.getCommitLogSync() == Config.CommitLogSync.periodic)
+        {
+            Runnable syncer = new Runnable()
+            {
+                public void run()
+                {
+                    sync();
+                }
+            };
+            int period = DatabaseDescriptor.getCommitLogSyncPeriod();
+            ScheduledExecutors.optionalTasks.scheduleWithFixedDelay(syncer, period, period, TimeUnit.MILLISECONDS);
+        }
     }
 
-    private static void deleteHint(ByteBuffer tokenBytes, CellName columnName, long timestamp)
+    /**
+     * Syncs the buffered hints of all the hosts to disk.
+     */
+    public void sync()
     {
-        Mutation mutation = new Mutation(Keyspace.SYSTEM_KS, tokenBytes);
-        mutation.delete(SystemKeyspace.HINTS_CF, columnName, timestamp);
-        mutation.applyUnsafe(); // don't bother with commitlog since we're going to flush as soon as we're done with delivery
+        for (HintsStore store : stores.values())
+            store.sync();
     }
 
     public void deleteHintsForEndpoint(final String ipOrHostname)
@@ -197,10 +295,7 @@ public class HintedHandOffManager implements HintedHandOffManagerMBean
     {
         if (!StorageService.instance.getTokenMetadata().isMember(endpoint))
             return;
-        UUID hostId = StorageService.instance.getTokenMetadata().getHostId(endpoint);
-        ByteBuffer hostIdBytes = ByteBuffer.wrap(UUIDGen.decompose(hostId));
-        final Mutation mutation = new Mutation(Keyspace.SYSTEM_KS, hostIdBytes);
-        mutation.delete(SystemKeyspace.HINTS_CF, System.currentTimeMillis());
+        final UUID hostId = StorageService.instance.getTokenMetadata().getHostId(endpoint);
 
         // execute asynchronously to avoid blocking caller (which may be processing gossip)
         Runnable runnable = new Runnable()
@@ -210,9 +305,9 @@ public class HintedHandOffManager implements HintedHandOffManagerMBean
                 try
                 {
                     logger.info("Deleting any stored hints for {}", endpoint);
-                    mutation.apply();
-                    hintStore.forceBlockingFlush();
-                    compact();
+                    HintsStore store = stores.get(hostId);
+                    if (store != null)
+                        store.deleteAll();
                 }
                 catch (Exception e)
                 {
@@ -224,7 +319,6 @@ public class HintedHandOffManager implements HintedHandOffManagerMBean
         executor.submit(runnable);
     }
 
-    //foobar
     public void truncateAllHints() throws ExecutionException, InterruptedException
     {
         Runnable runnable = new Runnable()
@@ -234,7 +328,8 @@ public class HintedHandOffManager implements HintedHandOffManagerMBean
                 try
                 {
                     logger.info("Truncating all stored hints.");
-                    Keyspace.open(Keyspace.SYSTEM_KS).getColumnFamilyStore(SystemKeyspace.HINTS_CF).truncateBlocking();
+                    for (HintsStore store : stores.values())
+                        store.deleteAll();
                 }
                 catch (Exception e)
                 {
@@ -246,8 +341,117 @@ public class HintedHandOffManager implements HintedHandOffManagerMBean
 
     }
 
+    /**
+     * @return the size of all the hints files, in bytes
+     */
+    public long getHintsSize()
+    {
+        long size = 0;
+        for (HintsStore store : stores.values())
+            size += store.size();
+        return size;
+    }
+
+    /**
+     * Moves the hints of the legacy hints table, as left by previous versions or streamed by a decommissioned node,
+     * to the hints files.
+     *
+     * Only the cells that have been read are deleted, rather than truncating the table, as hints can be streamed in
+     * while we migrate: those that the range slice doesn't see are left for the next migration.
+     */
     @VisibleForTesting
-    protected synchronized void compact()
+    synchronized void migrateLegacyHints()
+    {
+        if (hintStore.isEmpty())
+            return;
+
+        logger.info("Migrating legacy hints to {}", hintsDirectory);
+        int migrated = 0;
+        int deleted = 0;
+        IPartitioner p = StorageService.getPartitioner();
+        RowPosition minPos = p.getMinimumToken().minKeyBound();
+        Range<RowPosition> range = new Range<>(minPos, minPos, p);
+        IDiskAtomFilter namesFilter = new NamesQueryFilter(ImmutableSortedSet.<CellName>of());
+        for (Row row : hintStore.getRangeSlice(range, null, namesFilter, Integer.MAX_VALUE, System.currentTimeMillis()))
+        {
+            UUID hostId = UUIDGen.getUUID(row.key.getKey());
+            Composite startColumn = Composites.EMPTY;
+            while (true)
+            {
+                long now = System.currentTimeMillis();
+                QueryFilter filter = QueryFilter.getSliceFilter(row.key,
+                                                                SystemKeyspace.HINTS_CF,
+                                                                startColumn,
+                                                                Composites.EMPTY,
+                                                                false,
+                                                                PAGE_SIZE,
+                                                                now);
+                ColumnFamily hintsPage = ColumnFamilyStore.removeDeleted(hintStore.getColumnFamily(filter), (int) (now / 1000));
+                if (pagingFinished(hintsPage, startColumn))
+                    break;
+
+                for (Cell hint : hintsPage)
+                {
+                    // the start column of a page has already been migrated with the previous one
+                    if (hint.name().equals(startColumn))
+                        continue;
+                    startColumn = hint.name();
+                    // already migrated, but not purged yet
+                    if (hint instanceof DeletedCell)
+                        continue;
+                    deleteLegacyHint(row.key.getKey(), hint.name(), hint.timestamp());
+                    deleted++;
+                    if (!hint.isLive(now))
+                        continue;
+
+                    int version = Int32Type.instance.compose(hint.name().get(1));
+                    DataInputStream in = new DataInputStream(ByteBufferUtil.inputStream(hint.value()));
+                    Mutation mutation;
+                    try
+                    {
+                        mutation = Mutation.serializer.deserialize(in, version);
+                    }
+                    catch (UnknownColumnFamilyException e)
+                    {
+                        logger.debug("Skipping migration of hint for deleted columnfamily", e);
+                        continue;
+                    }
+                    catch (IOException e)
+                    {
+                        throw new AssertionError(e);
+                    }
+
+                    // the cell timestamp is the creation time, and the TTL counts from it
+                    int ttl = hint.getLocalDeletionTime() - (int) (hint.timestamp() / 1000);
+                    if (ttl > 0)
+                    {
+                        writeHint(new Hint(mutation, hint.timestamp(), ttl), hostId);
+                        migrated++;
+                    }
+                }
+            }
+        }
+        // the migrated hints must be on disk before their deletion from the table is
+        sync();
+        if (deleted > 0)
+        {
+            hintStore.forceBlockingFlush();
+            compact();
+        }
+        logger.info("Migrated {} legacy hints", migrated);
+    }
+
+    private static void deleteLegacyHint(ByteBuffer key, CellName name, long timestamp)
+    {
+        Mutation mutation = new Mutation(Keyspace.SYSTEM_KS, key);
+        mutation.delete(SystemKeyspace.HINTS_CF, name, timestamp);
+        mutation.applyUnsafe(); // don't bother with commitlog since we flush as soon as we're done with the migration
+    }
+
+    /**
+     * Compacts the legacy hints table to purge the tombstones of the migrated hints, as it has no gc grace.
+     */
+    private void compact()
     {
         ArrayList<Descriptor> descriptors = new ArrayList<>();
         for (SSTable sstable : hintStore.getDataTracker().getUncompactingSSTables())
@@ -266,6 +470,37 @@ public class HintedHandOffManager implements HintedHandOffManagerMBean
         }
     }
 
+    /**
+     * Moves the hints files of all the hosts to the legacy hints table, so they can be streamed to another node
+     * when decommissioning. The receiving node moves them back to its own hints files.
+     */
+    public synchronized void exportHintsToTable()
+    {
+        for (HintsStore store : stores.values())
+        {
+            store.closeWriter();
+            for (HintsDescriptor descriptor : store.getFiles())
+            {
+                HintsReader reader = HintsReader.open(store.getFile(descriptor), descriptor, store.getDeliveredOffset(descriptor));
+                try
+                {
+                    Hint hint;
+                    while ((hint = reader.readHint()) != null)
+                    {
+                        long now = System.currentTimeMillis();
+                        if (hint.isLive(now))
+                            legacyHintFor(hint.mutation, hint.creationTime, hint.remainingTTL(now), store.hostId).applyUnsafe();
+                    }
+                }
+                finally
+                {
+                    reader.close();
+                }
+                store.delete(descriptor);
+            }
+        }
+    }
+
     private static boolean pagingFinished(ColumnFamily hintColumnFamily, Composite startColumn)
     {
         // done if no hints found or the start column (same as last column processed in previous iteration) is the only one
@@ -308,7 +543,9 @@ public class HintedHandOffManager implements HintedHandOffManagerMBean
 
     private void deliverHintsToEndpoint(InetAddress endpoint)
     {
-        if (hintStore.isEmpty())
+        UUID hostId = Gossiper.instance.getHostId(endpoint);
+        final HintsStore store = hostId == null ? null : stores.get(hostId);
+        if (store == null || !store.hasHints())
             return; // nothing to do, don't confuse users by logging a no-op handoff
 
         // check if hints delivery has been paused
@@ -334,28 +571,18 @@ public class HintedHandOffManager implements HintedHandOffManagerMBean
             return;
         }
 
-        doDeliverHintsToEndpoint(endpoint);
+        doDeliverHintsToEndpoint(endpoint, store);
     }
 
     /*
-     * 1. Get the key of the endpoint we need to handoff
-     * 2. For each column, deserialize the mutation and send it to the endpoint
-     * 3. Delete the column if the write was successful
-     * 4. Force a flush
+     * 1. Close the current hints file of the endpoint, so new hints go to a new one
+     * 2. For each hints file, read the hints and send them to the endpoint, a page at a time
+     * 3. Delete the file once all its hints have been delivered
      */
-    private void doDeliverHintsToEndpoint(InetAddress endpoint)
+    private void doDeliverHintsToEndpoint(InetAddress endpoint, HintsStore store)
     {
-        // find the hints for the node using its token.
-        UUID hostId = Gossiper.instance.getHostId(endpoint);
-        logger.info("Started hinted handoff for host: {} with IP: {}", hostId, endpoint);
-        final ByteBuffer hostIdBytes = ByteBuffer.wrap(UUIDGen.decompose(hostId));
-        DecoratedKey epkey =  StorageService.getPartitioner().decorateKey(hostIdBytes);
-
-        final AtomicInteger rowsReplayed = new AtomicInteger(0);
-        Composite startColumn = Composites.EMPTY;
-
-        int pageSize = calculatePageSize();
-        logger.debug("Using pageSize of {}", pageSize);
+        logger.info("Started hinted handoff for host: {} with IP: {}", store.hostId, endpoint);
+        store.closeWriter();
 
         // rate limit is in bytes per second. Uses Double.MAX_VALUE if disabled (set to 0 in cassandra.yaml).
         // max rate is scaled by the number of nodes in the cluster (CASSANDRA-5272).
@@ -363,132 +590,109 @@ public class HintedHandOffManager implements HintedHandOffManagerMBean
                            / (StorageService.instance.getTokenMetadata().getAllEndpoints().size() - 1);
         RateLimiter rateLimiter = RateLimiter.create(throttleInKB == 0 ? Double.MAX_VALUE : throttleInKB * 1024);
 
-        delivery:
-        while (true)
+        AtomicInteger rowsReplayed = new AtomicInteger(0);
+        for (HintsDescriptor descriptor : store.getFiles())
         {
-            long now = System.currentTimeMillis();
-            QueryFilter filter = QueryFilter.getSliceFilter(epkey,
-                                                            SystemKeyspace.HINTS_CF,
-                                                            startColumn,
-                                                            Composites.EMPTY,
-                                                            false,
-                                                            pageSize,
-                                                            now);
-
-            ColumnFamily hintsPage = ColumnFamilyStore.removeDeleted(hintStore.getColumnFamily(filter), (int) (now / 1000));
-
-            if (pagingFinished(hintsPage, startColumn))
-            {
-                logger.info("Finished hinted handoff of {} rows to endpoint {}", rowsReplayed, endpoint);
-                break;
-            }
-
-            // check if node is still alive and we should continue delivery process
-            if (!FailureDetector.instance.isAlive(endpoint))
-            {
-                logger.info("Endpoint {} died during hint delivery; aborting ({} delivered)", endpoint, rowsReplayed);
-                break;
-            }
+            if (!deliverHintsFile(endpoint, store, descriptor, rateLimiter, rowsReplayed))
+                return;
+            store.delete(descriptor);
+        }
+        logger.info("Finished hinted handoff of {} rows to endpoint {}", rowsReplayed, endpoint);
+    }
 
-            List<WriteResponseHandler> responseHandlers = Lists.newArrayList();
-            for (final Cell hint : hintsPage)
+    /**
+     * @return true if all the hints of the file have been delivered, false if delivery has been interrupted
+     */
+    private boolean deliverHintsFile(InetAddress endpoint,
+                                     HintsStore store,
+                                     HintsDescriptor descriptor,
+                                     RateLimiter rateLimiter,
+                                     final AtomicInteger rowsReplayed)
+    {
+        HintsReader reader = HintsReader.open(store.getFile(descriptor), descriptor, store.getDeliveredOffset(descriptor));
+        try
+        {
+            while (true)
             {
-                // check if hints delivery has been paused during the process
-                if (hintedHandOffPaused)
+                // check if node is still alive and we should continue delivery process
+                if (!FailureDetector.instance.isAlive(endpoint))
                 {
-                    logger.debug("Hints delivery process is paused, aborting");
-                    break delivery;
+                    logger.info("Endpoint {} died during hint delivery; aborting ({} delivered)", endpoint, rowsReplayed);
+                    return false;
                 }
 
-                // Skip tombstones:
-                // if we iterate quickly enough, it's possible that we could request a new page in the same millisecond
-                // in which the local deletion timestamp was generated on the last column in the old page, in which
-                // case the hint will have no columns (since it's deleted) but will still be included in the resultset
-                // since (even with gcgs=0) it's still a "relevant" tombstone.
-                if (!hint.isLive())
-                    continue;
-
-                startColumn = hint.name();
-
-                int version = Int32Type.instance.compose(hint.name().get(1));
-                DataInputStream in = new DataInputStream(ByteBufferUtil.inputStream(hint.value()));
-                Mutation mutation;
-                try
+                boolean finished = false;
+                List<WriteResponseHandler> responseHandlers = Lists.newArrayList();
+                while (responseHandlers.size() < PAGE_SIZE)
                 {
-                    mutation = Mutation.serializer.deserialize(in, version);
-                }
-                catch (UnknownColumnFamilyException e)
-                {
-                    logger.debug("Skipping delivery of hint for deleted columnfamily", e);
-                    deleteHint(hostIdBytes, hint.name(), hint.timestamp());
-                    continue;
-                }
-                catch (IOException e)
-                {
-                    throw new AssertionError(e);
-                }
-
-                for (UUID cfId : mutation.getColumnFamilyIds())
-                {
-                    if (hint.timestamp() <= SystemKeyspace.getTruncatedAt(cfId))
+                    // check if hints delivery has been paused during the process
+                    if (hintedHandOffPaused)
                     {
-                        logger.debug("Skipping delivery of hint for truncated columnfamily {}", cfId);
-                        mutation = mutation.without(cfId);
+                        logger.debug("Hints delivery process is paused, aborting");
+                        return false;
                     }
-                }
 
-                if (mutation.isEmpty())
-                {
-                    deleteHint(hostIdBytes, hint.name(), hint.timestamp());
-                    continue;
-                }
+                    Hint hint = reader.readHint();
+                    if (hint == null)
+                    {
+                        finished = true;
+                        break;
+                    }
+                    if (!hint.isLive(System.currentTimeMillis()))
+                        continue;
 
-                MessageOut<Mutation> message = mutation.createMessage();
-                rateLimiter.acquire(message.serializedSize(MessagingService.current_version));
-                Runnable callback = new Runnable()
-                {
-                    public void run()
+                    Mutation mutation = hint.mutation;
+                    for (UUID cfId : mutation.getColumnFamilyIds())
                     {
-                        rowsReplayed.incrementAndGet();
-                        deleteHint(hostIdBytes, hint.name(), hint.timestamp());
+                        if (hint.creationTime <= SystemKeyspace.getTruncatedAt(cfId))
+                        {
+                            logger.debug("Skipping delivery of hint for truncated columnfamily {}", cfId);
+                            mutation = mutation.without(cfId);
+                        }
                     }
-                };
-                WriteResponseHandler responseHandler = new WriteResponseHandler(endpoint, WriteType.SIMPLE, callback);
-                MessagingService.instance().sendRR(message, endpoint, responseHandler, false);
-                responseHandlers.add(responseHandler);
-            }
 
-            for (WriteResponseHandler handler : responseHandlers)
-            {
-                try
-                {
-                    handler.get();
+                    if (mutation.isEmpty())
+                        continue;
+
+                    MessageOut<Mutation> message = mutation.createMessage();
+                    int size = message.serializedSize(MessagingService.current_version);
+                    rateLimiter.acquire(size);
+                    metrics.bytesDelivered.mark(size);
+                    Runnable callback = new Runnable()
+                    {
+                        public void run()
+                        {
+                            rowsReplayed.incrementAndGet();
+                            metrics.hintsDelivered.mark();
+                        }
+                    };
+                    WriteResponseHandler responseHandler = new WriteResponseHandler(endpoint, WriteType.SIMPLE, callback);
+                    MessagingService.instance().sendRR(message, endpoint, responseHandler, false);
+                    responseHandlers.add(responseHandler);
                 }
-                catch (WriteTimeoutException e)
+
+                for (WriteResponseHandler handler : responseHandlers)
                 {
-                    logger.info("Timed out replaying hints to {}; aborting ({} delivered)", endpoint, rowsReplayed);
-                    break delivery;
+                    try
+                    {
+                        handler.get();
+                    }
+                    catch (WriteTimeoutException e)
+                    {
+                        logger.info("Timed out replaying hints to {}; aborting ({} delivered)", endpoint, rowsReplayed);
+                        return false;
+                    }
                 }
+                store.markDelivered(descriptor, reader.getPosition());
+
+                if (finished)
+                    return true;
             }
         }
-
-        // Flush all the tombstones to disk
-        hintStore.forceBlockingFlush();
-    }
-
-    // read less columns (mutations) per page if they are very large
-    private int calculatePageSize()
-    {
-        int meanColumnCount = hintStore.getMeanColumns();
-        if (meanColumnCount <= 0)
-            return PAGE_SIZE;
-
-        int averageColumnSize = (int) (hintStore.getMeanRowSize() / meanColumnCount);
-        if (averageColumnSize <= 0)
-            return PAGE_SIZE;
-
-        // page size of 1 does not allow actual paging b/c of >= behavior on startColumn
-        return Math.max(2, Math.min(PAGE_SIZE, 4 * 1024 * 1024 / averageColumnSize));
+        finally
+        {
+            reader.close();
+        }
     }
 
     /**
@@ -499,23 +703,17 @@ public class HintedHandOffManager implements HintedHandOffManagerMBean
     {
         logger.debug("Started scheduleAllDeliveries");
 
-        // Force a major compaction to get rid of the tombstones and expired hints. Do it once, before we schedule any
-        // individual replay, to avoid N - 1 redundant individual compactions (when N is the number of nodes with hints
-        // to deliver to).
-        compact();
+        // pick up any hints streamed to the legacy table by a decommissioned node since startup
+        migrateLegacyHints();
 
-        IPartitioner p = StorageService.getPartitioner();
-        RowPosition minPos = p.getMinimumToken().minKeyBound();
-        Range<RowPosition> range = new Range<>(minPos, minPos, p);
-        IDiskAtomFilter filter = new NamesQueryFilter(ImmutableSortedSet.<CellName>of());
-        List<Row> rows = hintStore.getRangeSlice(range, null, filter, Integer.MAX_VALUE, System.currentTimeMillis());
-        for (Row row : rows)
+        for (HintsStore store : stores.values())
         {
-            UUID hostId = UUIDGen.getUUID(row.key.getKey());
-            InetAddress target = StorageService.instance.getTokenMetadata().getEndpointForHostId(hostId);
-            // token may have since been removed (in which case we have just read back a tombstone)
+            if (!store.hasHints())
+                continue;
+            InetAddress target = StorageService.instance.getTokenMetadata().getEndpointForHostId(store.hostId);
+            // token may have since been removed
             if (target != null)
-                scheduleHintDelivery(target, false);
+                scheduleHintDelivery(target);
         }
 
         logger.debug("Finished scheduleAllDeliveries");
@@ -526,7 +724,7 @@ public class HintedHandOffManager implements HintedHandOffManagerMBean
      * When we learn that some endpoint is back up we deliver the data
      * to him via an event driven mechanism.
     */
-    public void scheduleHintDelivery(final InetAddress to, final boolean precompact)
+    public void scheduleHintDelivery(final InetAddress to)
     {
         // We should not deliver hints to the same host in 2 different threads
         if (!queuedDeliveries.add(to))
@@ -540,11 +738,6 @@ public class HintedHandOffManager implements HintedHandOffManagerMBean
             {
                 try
                 {
-                    // If it's an individual node hint replay (triggered by Gossip or via JMX), and not the global scheduled replay
-                    // (every 10 minutes), force a major compaction to get rid of the tombstones and expired hints.
-                    if (precompact)
-                        compact();
-
                     deliverHintsToEndpoint(to);
                 }
                 finally
@@ -557,7 +750,7 @@ public class HintedHandOffManager implements HintedHandOffManagerMBean
 
     public void scheduleHintDelivery(String to) throws UnknownHostException
     {
-        scheduleHintDelivery(InetAddress.getByName(to), true);
+        scheduleHintDelivery(InetAddress.getByName(to));
     }
 
     public void pauseHintsDelivery(boolean b)
@@ -567,46 +760,15 @@ public class HintedHandOffManager implements HintedHandOffManagerMBean
 
     public List<String> listEndpointsPendingHints()
     {
-        Token.TokenFactory tokenFactory = StorageService.getPartitioner().getTokenFactory();
-
-        // Extract the keys as strings to be reported.
-        LinkedList<String> result = new LinkedList<>();
-        for (Row row : getHintsSlice(1))
-        {
-            if (row.cf != null) //ignore removed rows
-                result.addFirst(tokenFactory.toString(row.key.getToken()));
-        }
-        return result;
-    }
-
-    private List<Row> getHintsSlice(int columnCount)
-    {
-        // Get count # of columns...
-        SliceQueryFilter predicate = new SliceQueryFilter(ColumnSlice.ALL_COLUMNS_ARRAY,
-                                                          false,
-                                                          columnCount);
-
-        // From keys "" to ""...
+        // the tokens of the partitions of the hosts in the legacy hints table, as reported by previous versions
         IPartitioner partitioner = StorageService.getPartitioner();
-        RowPosition minPos = partitioner.getMinimumToken().minKeyBound();
-        Range<RowPosition> range = new Range<>(minPos, minPos);
-
-        try
-        {
-            RangeSliceCommand cmd = new RangeSliceCommand(Keyspace.SYSTEM_KS,
-                                                          SystemKeyspace.HINTS_CF,
-                                                          System.currentTimeMillis(),
-                                                          predicate,
-                                                          range,
-                                                          null,
-                                                          LARGE_NUMBER);
-            return StorageProxy.getRangeSlice(cmd, ConsistencyLevel.ONE);
-        }
-        catch (Exception e)
+        Token.TokenFactory tokenFactory = partitioner.getTokenFactory();
+        List<String> result = new ArrayList<>();
+        for (HintsStore store : stores.values())
         {
-            logger.info("HintsCF getEPPendingHints timed out.");
-            throw new RuntimeException(e);
+            if (store.hasHints())
+                result.add(tokenFactory.toString(partitioner.getToken(UUIDType.instance.decompose(store.hostId))));
         }
+        return result;
     }
-
 }
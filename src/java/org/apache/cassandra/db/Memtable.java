@@ -19,20 +19,32 @@ package org.apache.cassandra.db;
 
 import java.io.File;
 import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentNavigableMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Throwables;
 import org.apache.cassandra.utils.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import org.apache.cassandra.concurrent.JMXEnabledThreadPoolExecutor;
+import org.apache.cassandra.concurrent.NamedThreadFactory;
+import org.apache.cassandra.concurrent.StageManager;
 import org.apache.cassandra.config.DatabaseDescriptor;
 import org.apache.cassandra.db.commitlog.CommitLog;
 import org.apache.cassandra.db.commitlog.ReplayPosition;
@@ -52,6 +64,15 @@ public class Memtable
     private static final Logger logger = LoggerFactory.getLogger(Memtable.class);
 
     static final MemtablePool MEMORY_POOL = DatabaseDescriptor.getMemtableAllocatorPool();
+
+    // writes the token ranges of split flushes but the first, which is written by the flush writer itself
+    private static final ExecutorService perDiskFlushExecutor = new JMXEnabledThreadPoolExecutor(1,
+                                                                                                 Integer.MAX_VALUE,
+                                                                                                 StageManager.KEEPALIVE,
+                                                                                                 TimeUnit.SECONDS,
+                                                                                                 new SynchronousQueue<Runnable>(),
+                                                                                                 new NamedThreadFactory("PerDiskMemtableFlushWriter"),
+                                                                                                 "internal");
     private static final int ROW_OVERHEAD_HEAP_SIZE = estimateRowOverhead(Integer.valueOf(System.getProperty("cassandra.memtable_row_overhead_computation_step", "100000")));
 
     private final MemtableAllocator allocator;
@@ -321,11 +342,24 @@ public class Memtable
         protected void runMayThrow() throws Exception
         {
             long writeSize = getExpectedWriteSize();
-            Directories.DataDirectory dataDirectory = getWriteDirectory(writeSize);
-            File sstableDirectory = cfs.directories.getLocationForDisk(dataDirectory);
-            assert sstableDirectory != null : "Flush task is not bound to any disk";
-            SSTableReader sstable = writeSortedContents(context, sstableDirectory);
-            cfs.replaceFlushed(Memtable.this, sstable);
+            List<File> sstableDirectories = new ArrayList<>();
+            long splits = Math.min(Directories.dataDirectories.length, writeSize / DatabaseDescriptor.getMinFlushSplitSize());
+            if (splits > 1)
+            {
+                for (Directories.DataDirectory dataDirectory : cfs.directories.getWriteableLocations(writeSize / splits))
+                {
+                    if (sstableDirectories.size() < splits)
+                        sstableDirectories.add(cfs.directories.getLocationForDisk(dataDirectory));
+                }
+            }
+            if (sstableDirectories.size() < 2)
+            {
+                Directories.DataDirectory dataDirectory = getWriteDirectory(writeSize);
+                File sstableDirectory = cfs.directories.getLocationForDisk(dataDirectory);
+                assert sstableDirectory != null : "Flush task is not bound to any disk";
+                sstableDirectories = Collections.singletonList(sstableDirectory);
+            }
+            cfs.replaceFlushed(Memtable.this, writeSortedContents(context, sstableDirectories));
         }
 
         protected Directories getDirectories()
@@ -333,21 +367,117 @@ public class Memtable
             return cfs.directories;
         }
 
-        private SSTableReader writeSortedContents(ReplayPosition context, File sstableDirectory)
+        /**
+         * Writes the partitions to one sstable per directory, each holding a distinct token range of about the same
+         * number of partitions, written concurrently.
+         *
+         * @return the new sstables, that are only added to the tracker by the caller
+         */
+        @VisibleForTesting
+        List<SSTableReader> writeSortedContents(final ReplayPosition context, List<File> sstableDirectories)
         throws ExecutionException, InterruptedException
         {
             logger.info("Writing {}", Memtable.this.toString());
 
+            if (sstableDirectories.size() == 1)
+            {
+                SSTableReader sstable = writeSortedContents(context, sstableDirectories.get(0), rows);
+                return sstable == null ? Collections.<SSTableReader>emptyList() : Collections.singletonList(sstable);
+            }
+
+            // nothing is written to the memtable anymore, so its partitions can be split by their count
+            List<RowPosition> boundaries = new ArrayList<>(sstableDirectories.size() - 1);
+            int partitionsPerRange = rows.size() / sstableDirectories.size();
+            if (partitionsPerRange > 0)
+            {
+                int i = 0;
+                for (RowPosition key : rows.keySet())
+                {
+                    if (i > 0 && i % partitionsPerRange == 0)
+                    {
+                        boundaries.add(key);
+                        if (boundaries.size() == sstableDirectories.size() - 1)
+                            break;
+                    }
+                    i++;
+                }
+            }
+
+            List<Future<SSTableReader>> futures = new ArrayList<>(boundaries.size() + 1);
+            FutureTask<SSTableReader> first = null;
+            for (int range = 0; range <= boundaries.size(); range++)
+            {
+                final File sstableDirectory = sstableDirectories.get(range);
+                final Map<RowPosition, AtomicBTreeColumns> partitions;
+                if (boundaries.isEmpty())
+                    partitions = rows;
+                else if (range == 0)
+                    partitions = rows.headMap(boundaries.get(0));
+                else if (range == boundaries.size())
+                    partitions = rows.tailMap(boundaries.get(range - 1));
+                else
+                    partitions = rows.subMap(boundaries.get(range - 1), boundaries.get(range));
+
+                Callable<SSTableReader> write = new Callable<SSTableReader>()
+                {
+                    public SSTableReader call() throws Exception
+                    {
+                        return writeSortedContents(context, sstableDirectory, partitions);
+                    }
+                };
+                if (range == 0)
+                    futures.add(first = new FutureTask<>(write));
+                else
+                    futures.add(perDiskFlushExecutor.submit(write));
+            }
+            // the first range is written by this thread, which would otherwise only be waiting for the others
+            first.run();
+
+            List<SSTableReader> sstables = new ArrayList<>(futures.size());
+            Throwable fail = null;
+            for (Future<SSTableReader> future : futures)
+            {
+                try
+                {
+                    SSTableReader sstable = future.get();
+                    if (sstable != null)
+                        sstables.add(sstable);
+                }
+                catch (ExecutionException e)
+                {
+                    if (fail == null)
+                        fail = e.getCause();
+                    else
+                        fail.addSuppressed(e.getCause());
+                }
+            }
+
+            if (fail != null)
+            {
+                // the memtable stays in the flushing state, so none of its ranges can be kept
+                for (SSTableReader sstable : sstables)
+                {
+                    sstable.markObsolete();
+                    sstable.selfRef().release();
+                }
+                throw Throwables.propagate(fail);
+            }
+            return sstables;
+        }
+
+        private SSTableReader writeSortedContents(ReplayPosition context, File sstableDirectory, Map<RowPosition, AtomicBTreeColumns> partitions)
+        throws ExecutionException, InterruptedException
+        {
             SSTableReader ssTable;
             // errors when creating the writer that may leave empty temp files.
-            SSTableWriter writer = createFlushWriter(cfs.getTempSSTablePath(sstableDirectory));
+            SSTableWriter writer = createFlushWriter(cfs.getTempSSTablePath(sstableDirectory), partitions.size());
             try
             {
                 boolean trackContention = logger.isDebugEnabled();
                 int heavilyContendedRowCount = 0;
                 // (we can't clear out the map as-we-go to free up memory,
                 //  since the memtable is being used for queries in the "pending flush" category)
-                for (Map.Entry<RowPosition, AtomicBTreeColumns> entry : rows.entrySet())
+                for (Map.Entry<RowPosition, AtomicBTreeColumns> entry : partitions.entrySet())
                 {
                     AtomicBTreeColumns cf = entry.getValue();
 
@@ -387,7 +517,7 @@ public class Memtable
                 }
 
                 if (heavilyContendedRowCount > 0)
-                    logger.debug(String.format("High update contention in %d/%d partitions of %s ", heavilyContendedRowCount, rows.size(), Memtable.this.toString()));
+                    logger.debug(String.format("High update contention in %d/%d partitions of %s ", heavilyContendedRowCount, partitions.size(), Memtable.this.toString()));
 
                 return ssTable;
             }
@@ -399,10 +529,15 @@ public class Memtable
         }
 
         public SSTableWriter createFlushWriter(String filename) throws ExecutionException, InterruptedException
+        {
+            return createFlushWriter(filename, rows.size());
+        }
+
+        private SSTableWriter createFlushWriter(String filename, long keyCount)
         {
             MetadataCollector sstableMetadataCollector = new MetadataCollector(cfs.metadata.comparator).replayPosition(context);
             return new SSTableWriter(filename,
-                                     rows.size(),
+                                     keyCount,
                                      ActiveRepairService.UNREPAIRED_SSTABLE,
                                      cfs.metadata,
                                      cfs.partitioner,
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.cassandra.db;
+
+import java.io.DataInput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.cassandra.io.IVersionedSerializer;
+import org.apache.cassandra.io.util.DataOutputPlus;
+import org.apache.cassandra.net.MessageOut;
+import org.apache.cassandra.net.MessagingService;
+
+/**
+ * The mutations of an unlogged batch that go to the same replica, sent to it as a single message.
+ * Each mutation is sent along with the id of the callback it is acknowledged to on the coordinator, so that the
+ * consistency level of each of them is still tracked separately.
+ */
+public class MutationBatch
+{
+    public static final MutationBatchSerializer serializer = new MutationBatchSerializer();
+
+    private final List<Integer> ids;
+    private final List<Mutation> mutations;
+
+    public MutationBatch()
+    {
+        this(new ArrayList<Integer>(), new ArrayList<Mutation>());
+    }
+
+    private MutationBatch(List<Integer> ids, List<Mutation> mutations)
+    {
+        this.ids = ids;
+        this.mutations = mutations;
+    }
+
+    public void add(int id, Mutation mutation)
+    {
+        ids.add(id);
+        mutations.add(mutation);
+    }
+
+    public int size()
+    {
+        return mutations.size();
+    }
+
+    public int id(int i)
+    {
+        return ids.get(i);
+    }
+
+    public Mutation mutation(int i)
+    {
+        return mutations.get(i);
+    }
+
+    public MessageOut<MutationBatch> createMessage()
+    {
+        return new MessageOut<>(MessagingService.Verb.MUTATION_BATCH, this, serializer);
+    }
+
+    public static class MutationBatchSerializer implements IVersionedSerializer<MutationBatch>
+    {
+        public void serialize(MutationBatch batch, DataOutputPlus out, int version) throws IOException
+        {
+            out.writeInt(batch.size());
+            for (int i = 0; i < batch.size(); i++)
+            {
+                out.writeInt(batch.id(i));
+                Mutation.serializer.serialize(batch.mutation(i), out, version);
+            }
+        }
+
+        public MutationBatch deserialize(DataInput in, int version) throws IOException
+        {
+            int size = in.readInt();
+            List<Integer> ids = new ArrayList<>(size);
+            List<Mutation> mutations = new ArrayList<>(size);
+            for (int i = 0; i < size; i++)
+            {
+                ids.add(in.readInt());
+                mutations.add(Mutation.serializer.deserialize(in, version));
+            }
+            return new MutationBatch(ids, mutations);
+        }
+
+        public long serializedSize(MutationBatch batch, int version)
+        {
+            TypeSizes sizes = TypeSizes.NATIVE;
+            long size = sizes.sizeof(batch.size());
+            for (int i = 0; i < batch.size(); i++)
+                size += sizes.sizeof(batch.id(i)) + Mutation.serializer.serializedSize(batch.mutation(i), version);
+            return size;
+        }
+    }
+}
@@ -0,0 +1,342 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.cassandra.db;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.common.base.Throwables;
+import com.google.common.util.concurrent.Uninterruptibles;
+
+import org.apache.cassandra.concurrent.JMXEnabledThreadPoolExecutor;
+import org.apache.cassandra.concurrent.NamedThreadFactory;
+import org.apache.cassandra.concurrent.StageManager;
+import org.apache.cassandra.config.DatabaseDescriptor;
+import org.apache.cassandra.db.filter.ExtendedFilter;
+import org.apache.cassandra.db.filter.IDiskAtomFilter;
+import org.apache.cassandra.db.filter.QueryFilter;
+import org.apache.cassandra.dht.AbstractBounds;
+import org.apache.cassandra.dht.Range;
+import org.apache.cassandra.dht.Token;
+import org.apache.cassandra.utils.Pair;
+
+/**
+ * Scans the sub-ranges of a range query concurrently and returns their rows in token order.
+ *
+ * At most {@code parallelism} sub-ranges are scanned at once: the current one, which the iterating thread scans
+ * itself if no scan thread has picked it up yet, and the following ones, whose rows are buffered in bounded queues
+ * until the iterating thread gets to them.
+ *
+ * As it is only closed once the scan threads are done, this iterator can be used within the read OpOrder group of
+ * the iterating thread.
+ */
+public class ParallelScanIterator extends ColumnFamilyStore.AbstractScanIterator
+{
+    // rows buffered by each sub-range scan until the iterating thread gets to it
+    private static final int QUEUE_CAPACITY = 128;
+    // a sub-range spans at least that many index summary samples
+    private static final int MIN_SAMPLES_PER_SUB_RANGE = 4;
+    // more sub-ranges than scan threads, so that a single slow sub-range doesn't delay the whole scan
+    private static final int SUB_RANGES_PER_THREAD = 4;
+
+    private static final ExecutorService executor = new JMXEnabledThreadPoolExecutor(DatabaseDescriptor.getConcurrentReaders(),
+                                                                                     StageManager.KEEPALIVE,
+                                                                                     TimeUnit.SECONDS,
+                                                                                     new LinkedBlockingQueue<Runnable>(),
+                                                                                     new NamedThreadFactory("RangeScanWorker"),
+                                                                                     "internal");
+
+    private static final int PENDING = 0, SCANNING = 1, INLINE = 2, SKIPPED = 3;
+    private static final Object END_OF_SUB_RANGE = new Object();
+
+    private final ColumnFamilyStore cfs;
+    private final ExtendedFilter filter;
+    private final List<SubRangeScan> scans;
+    private final int parallelism;
+
+    private int current;
+    private int submitted;
+    // the last row returned and its live count, as the query filter would have counted it during a sequential scan
+    private Row lastReturned;
+    private int lastCounted;
+    private volatile boolean closed;
+
+    public ParallelScanIterator(ColumnFamilyStore cfs, ExtendedFilter filter, List<DataRange> subRanges, int parallelism)
+    {
+        this.cfs = cfs;
+        this.filter = filter;
+        this.parallelism = parallelism;
+        this.scans = new ArrayList<>(subRanges.size());
+        for (DataRange subRange : subRanges)
+            scans.add(new SubRangeScan(subRange));
+    }
+
+    /**
+     * Splits the range in sub-ranges spanning a similar number of the partitions sampled by the index summaries of
+     * the live sstables.
+     *
+     * @return the sub-ranges, in token order, or a list holding the range alone if it is too small to be split
+     */
+    public static List<DataRange> split(ColumnFamilyStore cfs, DataRange range, int parallelism)
+    {
+        AbstractBounds<RowPosition> keyRange = range.keyRange();
+        List<DataRange> subRanges = new ArrayList<>();
+        Token left = keyRange.left.getToken();
+        Token right = keyRange.right.getToken();
+        if (left.equals(right) && !left.isMinimum(cfs.partitioner))
+        {
+            subRanges.add(range);
+            return subRanges;
+        }
+
+        SortedSet<Token> samples = new TreeSet<>();
+        for (DecoratedKey sample : cfs.keySamples(new Range<>(left, right)))
+        {
+            RowPosition boundary = sample.getToken().maxKeyBound(cfs.partitioner);
+            if (keyRange.contains(boundary) && !boundary.equals(keyRange.right))
+                samples.add(sample.getToken());
+        }
+
+        int count = Math.min(parallelism * SUB_RANGES_PER_THREAD, samples.size() / MIN_SAMPLES_PER_SUB_RANGE);
+        if (count < 2)
+        {
+            subRanges.add(range);
+            return subRanges;
+        }
+
+        // split on token bounds rather than on keys, as a paging range restricts the columns of its start and stop keys
+        List<Token> tokens = new ArrayList<>(samples);
+        AbstractBounds<RowPosition> remainder = keyRange;
+        for (int i = 1; i < count; i++)
+        {
+            Token boundary = tokens.get(i * tokens.size() / count);
+            Pair<AbstractBounds<RowPosition>, AbstractBounds<RowPosition>> halves = remainder.split(boundary.maxKeyBound(cfs.partitioner));
+            if (halves == null)
+                continue;
+            subRanges.add(range.forSubRange(halves.left));
+            remainder = halves.right;
+        }
+        subRanges.add(range.forSubRange(remainder));
+        return subRanges;
+    }
+
+    protected Row computeNext()
+    {
+        while (current < scans.size())
+        {
+            submitUpTo(Math.min(current + parallelism, scans.size()));
+            CountedRow row = scans.get(current).next();
+            if (row != null)
+                return limit(row);
+            current++;
+        }
+        return endOfData();
+    }
+
+    private void submitUpTo(int end)
+    {
+        // the current sub-range is scanned by this thread if no scan thread has started it yet
+        submitted = Math.max(submitted, current + 1);
+        while (submitted < end)
+            executor.execute(scans.get(submitted++));
+    }
+
+    /**
+     * Sub-ranges are scanned with the limit of the query, while a sequential scan lowers the limit of the filter as it
+     * counts the returned rows, so we cut the row back to the current limit if that's necessary.
+     */
+    private Row limit(CountedRow row)
+    {
+        lastReturned = row.row;
+        lastCounted = row.count;
+        if (!filter.countCQL3Rows() || row.count <= filter.currentLimit() || row.row.cf == null)
+            return row.row;
+
+        // the column filter of the query rather than the one widened to the columns of its clauses, which doesn't cut
+        ColumnFamily data = row.row.cf;
+        ColumnFamily limited = data.cloneMeShallow();
+        IDiskAtomFilter columnFilter = filter.dataRange.columnFilter(row.row.key.getKey());
+        columnFilter.collectReducedColumns(limited,
+                                           QueryFilter.gatherTombstones(limited, columnFilter.getColumnIterator(data)),
+                                           cfs.gcBefore(filter.timestamp),
+                                           filter.timestamp);
+        lastReturned = new Row(row.row.key, limited);
+        lastCounted = columnFilter.getLiveCount(limited, filter.timestamp);
+        return lastReturned;
+    }
+
+    /**
+     * The slice filter of the query only counts the rows it collects itself, and the rows of a parallel scan are
+     * collected by the copies of it used by the sub-range scans. So unless the row has been pruned after its clauses
+     * were checked, which collects it with the filter of the query, we return the count of its sub-range scan.
+     */
+    @Override
+    public int lastCounted(ExtendedFilter filter, ColumnFamily data)
+    {
+        return lastReturned != null && data == lastReturned.cf ? lastCounted : filter.lastCounted(data);
+    }
+
+    public void close()
+    {
+        closed = true;
+        for (SubRangeScan scan : scans)
+            scan.close();
+    }
+
+    private static class CountedRow
+    {
+        private final Row row;
+        private final int count;
+
+        private CountedRow(Row row, int count)
+        {
+            this.row = row;
+            this.count = count;
+        }
+    }
+
+    private class SubRangeScan implements Runnable
+    {
+        private final DataRange range;
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+        private final BlockingQueue<Object> rows = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        private final CountDownLatch finished = new CountDownLatch(1);
+
+        // only used when the iterating thread scans this sub-range itself
+        private ColumnFamilyStore.AbstractScanIterator iterator;
+        private boolean exhausted;
+
+        private SubRangeScan(DataRange range)
+        {
+            this.range = range;
+        }
+
+        public void run()
+        {
+            if (!state.compareAndSet(PENDING, SCANNING))
+                return;
+
+            try (ColumnFamilyStore.AbstractScanIterator iter = cfs.getSequentialIterator(range, filter.timestamp))
+            {
+                while (!closed && iter.hasNext())
+                {
+                    Row row = iter.next();
+                    put(new CountedRow(row, range.getLiveCount(row.cf, filter.timestamp)));
+                }
+            }
+            catch (Throwable t)
+            {
+                put(t);
+            }
+            finally
+            {
+                put(END_OF_SUB_RANGE);
+                finished.countDown();
+            }
+        }
+
+        private void put(Object o)
+        {
+            try
+            {
+                // the iterating thread doesn't consume the rows anymore once closed
+                boolean added = false;
+                while (!added && !closed)
+                    added = rows.offer(o, 100, TimeUnit.MILLISECONDS);
+            }
+            catch (InterruptedException e)
+            {
+                throw new AssertionError(e);
+            }
+        }
+
+        /**
+         * @return the next row of the sub-range, or null if it has been entirely scanned
+         */
+        private CountedRow next()
+        {
+            if (exhausted)
+                return null;
+
+            if (state.compareAndSet(PENDING, INLINE))
+                iterator = cfs.getSequentialIterator(range, filter.timestamp);
+
+            if (iterator != null)
+            {
+                if (iterator.hasNext())
+                {
+                    Row row = iterator.next();
+                    return new CountedRow(row, range.getLiveCount(row.cf, filter.timestamp));
+                }
+                exhausted = true;
+                closeIterator();
+                return null;
+            }
+
+            Object next = Uninterruptibles.takeUninterruptibly(rows);
+            if (next == END_OF_SUB_RANGE)
+            {
+                exhausted = true;
+                return null;
+            }
+            if (next instanceof Throwable)
+            {
+                exhausted = true;
+                throw Throwables.propagate((Throwable) next);
+            }
+            return (CountedRow) next;
+        }
+
+        private void closeIterator()
+        {
+            try
+            {
+                iterator.close();
+            }
+            catch (IOException e)
+            {
+                throw new RuntimeException(e);
+            }
+            finally
+            {
+                iterator = null;
+            }
+        }
+
+        private void close()
+        {
+            if (state.compareAndSet(PENDING, SKIPPED))
+                return;
+
+            if (state.get() == SCANNING)
+                Uninterruptibles.awaitUninterruptibly(finished);
+            else if (iterator != null)
+                closeIterator();
+        }
+    }
+}
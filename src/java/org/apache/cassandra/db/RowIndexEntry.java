@@ -18,11 +18,14 @@
 package org.apache.cassandra.db;
 
 import java.io.DataInput;
+import java.io.DataInputStream;
 import java.io.IOException;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.RandomAccess;
 
 import com.google.common.primitives.Ints;
 
@@ -31,8 +34,11 @@ import org.apache.cassandra.db.composites.CType;
 import org.apache.cassandra.io.ISerializer;
 import org.apache.cassandra.io.sstable.Descriptor;
 import org.apache.cassandra.io.sstable.IndexHelper;
+import org.apache.cassandra.io.util.DataOutputBuffer;
 import org.apache.cassandra.io.util.DataOutputPlus;
+import org.apache.cassandra.io.util.FastByteArrayInputStream;
 import org.apache.cassandra.io.util.FileUtils;
+import org.apache.cassandra.utils.ByteBufferUtil;
 import org.apache.cassandra.utils.ObjectSizes;
 
 public class RowIndexEntry implements IMeasurableMemory
@@ -46,7 +52,11 @@ public class RowIndexEntry implements IMeasurableMemory
         this.position = position;
     }
 
-    protected int promotedSize(CType type)
+    /**
+     * @return the size of the deletion time and column index that are "promoted" to the index file, in the
+     * format of the given version
+     */
+    protected int promotedSize(CType type, Descriptor.Version version)
     {
         return 0;
     }
@@ -98,18 +108,53 @@ public class RowIndexEntry implements IMeasurableMemory
             this.type = type;
         }
 
+        /**
+         * Serializes the entry in the format of the current version.
+         */
         public void serialize(RowIndexEntry rie, DataOutputPlus out) throws IOException
+        {
+            serialize(rie, out, Descriptor.Version.CURRENT);
+        }
+
+        public void serialize(RowIndexEntry rie, DataOutputPlus out, Descriptor.Version version) throws IOException
         {
             out.writeLong(rie.position);
-            out.writeInt(rie.promotedSize(type));
+            out.writeInt(rie.promotedSize(type, version));
 
             if (rie.isIndexed())
             {
                 DeletionTime.serializer.serialize(rie.deletionTime(), out);
                 out.writeInt(rie.columnsIndex().size());
-                ISerializer<IndexHelper.IndexInfo> idxSerializer = type.indexSerializer();
-                for (IndexHelper.IndexInfo info : rie.columnsIndex())
-                    idxSerializer.serialize(info, out);
+                if (rie instanceof SerializedIndexedEntry)
+                {
+                    SerializedIndexedEntry entry = (SerializedIndexedEntry) rie;
+                    out.write(entry.index, 0, version.hasIndexOffsets ? entry.index.length : entry.offsetsStart());
+                }
+                else
+                {
+                    serializeIndex(rie.columnsIndex(), out, version.hasIndexOffsets);
+                }
+            }
+        }
+
+        /**
+         * Writes the IndexInfos of a column index, followed by their offsets from the first one if requested, so
+         * they can be looked up by binary search without deserializing all of them.
+         */
+        private void serializeIndex(List<IndexHelper.IndexInfo> index, DataOutputPlus out, boolean withOffsets) throws IOException
+        {
+            ISerializer<IndexHelper.IndexInfo> idxSerializer = type.indexSerializer();
+            for (IndexHelper.IndexInfo info : index)
+                idxSerializer.serialize(info, out);
+
+            if (!withOffsets)
+                return;
+
+            int offset = 0;
+            for (IndexHelper.IndexInfo info : index)
+            {
+                out.writeInt(offset);
+                offset += idxSerializer.serializedSize(info, TypeSizes.NATIVE);
             }
         }
 
@@ -123,6 +168,13 @@ public class RowIndexEntry implements IMeasurableMemory
                 DeletionTime deletionTime = DeletionTime.serializer.deserialize(in);
 
                 int entries = in.readInt();
+                if (version.hasIndexOffsets)
+                {
+                    // copy the column index as is, its IndexInfos are only deserialized when a lookup reaches them
+                    long indexSize = size - DeletionTime.serializer.serializedSize(deletionTime, TypeSizes.NATIVE) - TypeSizes.NATIVE.sizeof(entries);
+                    return new SerializedIndexedEntry(position, deletionTime, entries, ByteBufferUtil.readBytes(in, (int) indexSize), type);
+                }
+
                 ISerializer<IndexHelper.IndexInfo> idxSerializer = type.indexSerializer();
                 List<IndexHelper.IndexInfo> columnsIndex = new ArrayList<IndexHelper.IndexInfo>(entries);
                 for (int i = 0; i < entries; i++)
@@ -151,26 +203,206 @@ public class RowIndexEntry implements IMeasurableMemory
             FileUtils.skipBytesFully(in, size);
         }
 
+        /**
+         * @return the serialized size of the entry in the format of the current version
+         */
         public int serializedSize(RowIndexEntry rie)
         {
-            int size = TypeSizes.NATIVE.sizeof(rie.position) + TypeSizes.NATIVE.sizeof(rie.promotedSize(type));
+            return serializedSize(rie, Descriptor.Version.CURRENT);
+        }
 
-            if (rie.isIndexed())
-            {
-                List<IndexHelper.IndexInfo> index = rie.columnsIndex();
+        public int serializedSize(RowIndexEntry rie, Descriptor.Version version)
+        {
+            return TypeSizes.NATIVE.sizeof(rie.position) + TypeSizes.NATIVE.sizeof(0) + rie.promotedSize(type, version);
+        }
 
-                size += DeletionTime.serializer.serializedSize(rie.deletionTime(), TypeSizes.NATIVE);
-                size += TypeSizes.NATIVE.sizeof(index.size());
+        /**
+         * Serializes the entry for the off-heap key cache. The column index is written as a single block, followed
+         * by the offsets of its {@link IndexHelper.IndexInfo}s as in the index file, so that {@link #deserializeForCache}
+         * can copy it back in one piece and only deserialize the IndexInfos a lookup actually reaches.
+         */
+        public void serializeForCache(RowIndexEntry rie, DataOutputPlus out) throws IOException
+        {
+            out.writeLong(rie.position);
+            out.writeBoolean(rie.isIndexed());
+            if (!rie.isIndexed())
+                return;
 
-                ISerializer<IndexHelper.IndexInfo> idxSerializer = type.indexSerializer();
-                for (IndexHelper.IndexInfo info : index)
-                    size += idxSerializer.serializedSize(info, TypeSizes.NATIVE);
+            DeletionTime.serializer.serialize(rie.deletionTime(), out);
+            out.writeInt(rie.columnsIndex().size());
+            byte[] index = rie instanceof SerializedIndexedEntry
+                         ? ((SerializedIndexedEntry) rie).index
+                         : serializeIndex(rie.columnsIndex());
+            out.writeInt(index.length);
+            out.write(index);
+        }
+
+        public RowIndexEntry deserializeForCache(DataInput in) throws IOException
+        {
+            long position = in.readLong();
+            if (!in.readBoolean())
+                return new RowIndexEntry(position);
+
+            DeletionTime deletionTime = DeletionTime.serializer.deserialize(in);
+            int entries = in.readInt();
+            byte[] index = new byte[in.readInt()];
+            in.readFully(index);
+            return new SerializedIndexedEntry(position, deletionTime, entries, index, type);
+        }
+
+        public long serializedSizeForCache(RowIndexEntry rie, TypeSizes typeSizes)
+        {
+            long size = typeSizes.sizeof(rie.position) + typeSizes.sizeof(rie.isIndexed());
+            if (!rie.isIndexed())
+                return size;
+
+            int indexSize = rie instanceof SerializedIndexedEntry
+                          ? ((SerializedIndexedEntry) rie).index.length
+                          : serializedIndexSize(rie.columnsIndex(), true);
+            return size
+                   + DeletionTime.serializer.serializedSize(rie.deletionTime(), typeSizes)
+                   + typeSizes.sizeof(rie.columnsIndex().size())
+                   + typeSizes.sizeof(indexSize)
+                   + indexSize;
+        }
+
+        private byte[] serializeIndex(List<IndexHelper.IndexInfo> index) throws IOException
+        {
+            int size = serializedIndexSize(index, true);
+            DataOutputBuffer out = new DataOutputBuffer(size);
+            serializeIndex(index, out, true);
+            assert out.getLength() == size;
+            return out.getData();
+        }
+
+        private int serializedIndexSize(List<IndexHelper.IndexInfo> index, boolean withOffsets)
+        {
+            long size = withOffsets ? TypeSizes.NATIVE.sizeof(0) * index.size() : 0;
+            ISerializer<IndexHelper.IndexInfo> idxSerializer = type.indexSerializer();
+            for (IndexHelper.IndexInfo info : index)
+                size += idxSerializer.serializedSize(info, TypeSizes.NATIVE);
+            return Ints.checkedCast(size);
+        }
+    }
+
+    /**
+     * An indexed entry whose column index is kept serialized, as read from an index file with offsets or from the
+     * off-heap key cache: its IndexInfos followed by their offsets. Each {@link IndexHelper.IndexInfo} is
+     * deserialized on its first access, so looking up a row by binary search only deserializes a few of them.
+     */
+    private static class SerializedIndexedEntry extends RowIndexEntry
+    {
+        private static final long BASE_SIZE = ObjectSizes.measure(new SerializedIndexedEntry(0, DeletionTime.LIVE, 0, new byte[0], null));
+
+        private final DeletionTime deletionTime;
+        private final byte[] index;
+        private final List<IndexHelper.IndexInfo> columnsIndex;
+
+        private SerializedIndexedEntry(long position, DeletionTime deletionTime, int entries, byte[] index, CType type)
+        {
+            super(position);
+            this.deletionTime = deletionTime;
+            this.index = index;
+            this.columnsIndex = new SerializedIndexList(entries, index, type);
+        }
+
+        /**
+         * @return the position of the offsets in the serialized index, which is also the size of its IndexInfos
+         */
+        private int offsetsStart()
+        {
+            return index.length - TypeSizes.NATIVE.sizeof(0) * columnsIndex.size();
+        }
+
+        @Override
+        public DeletionTime deletionTime()
+        {
+            return deletionTime;
+        }
+
+        @Override
+        public List<IndexHelper.IndexInfo> columnsIndex()
+        {
+            return columnsIndex;
+        }
+
+        @Override
+        public int promotedSize(CType type, Descriptor.Version version)
+        {
+            long size = DeletionTime.serializer.serializedSize(deletionTime, TypeSizes.NATIVE);
+            size += TypeSizes.NATIVE.sizeof(columnsIndex.size()); // number of entries
+            size += version.hasIndexOffsets ? index.length : offsetsStart();
+            return Ints.checkedCast(size);
+        }
+
+        @Override
+        public long unsharedHeapSize()
+        {
+            return BASE_SIZE
+                   + deletionTime.unsharedHeapSize()
+                   + ObjectSizes.sizeOfArray(index)
+                   + ObjectSizes.sizeOfReferenceArray(columnsIndex.size());
+        }
+    }
+
+    /**
+     * The IndexInfos of a serialized column index. Each one is deserialized on its first access and kept, so the
+     * blocks a lookup revisits, like the middle ones of every binary search, are only deserialized once.
+     */
+    private static class SerializedIndexList extends AbstractList<IndexHelper.IndexInfo> implements RandomAccess
+    {
+        private final int size;
+        private final byte[] index;
+        private final CType type;
+        // IndexInfo is immutable, so racing threads may at worst deserialize the same entry twice
+        private final IndexHelper.IndexInfo[] deserialized;
+
+        private SerializedIndexList(int size, byte[] index, CType type)
+        {
+            this.size = size;
+            this.index = index;
+            this.type = type;
+            this.deserialized = new IndexHelper.IndexInfo[size];
+        }
+
+        public IndexHelper.IndexInfo get(int i)
+        {
+            if (i < 0 || i >= size)
+                throw new IndexOutOfBoundsException(String.valueOf(i));
+
+            IndexHelper.IndexInfo info = deserialized[i];
+            if (info == null)
+            {
+                info = deserialize(i);
+                deserialized[i] = info;
             }
+            return info;
+        }
 
+        private IndexHelper.IndexInfo deserialize(int i)
+        {
+            int offset = readInt(index, index.length - TypeSizes.NATIVE.sizeof(i) * (size - i));
+            try
+            {
+                return type.indexSerializer().deserialize(new DataInputStream(new FastByteArrayInputStream(index, offset, index.length - offset)));
+            }
+            catch (IOException e)
+            {
+                throw new AssertionError(e); // can't happen reading from a byte array
+            }
+        }
+
+        public int size()
+        {
             return size;
         }
     }
 
+    private static int readInt(byte[] bytes, int offset)
+    {
+        return Ints.fromBytes(bytes[offset], bytes[offset + 1], bytes[offset + 2], bytes[offset + 3]);
+    }
+
     /**
      * An entry in the row index for a row whose columns are indexed.
      */
@@ -204,7 +436,7 @@ public class RowIndexEntry implements IMeasurableMemory
         }
 
         @Override
-        public int promotedSize(CType type)
+        public int promotedSize(CType type, Descriptor.Version version)
         {
             TypeSizes typeSizes = TypeSizes.NATIVE;
             long size = DeletionTime.serializer.serializedSize(deletionTime, typeSizes);
@@ -212,6 +444,8 @@ public class RowIndexEntry implements IMeasurableMemory
             ISerializer<IndexHelper.IndexInfo> idxSerializer = type.indexSerializer();
             for (IndexHelper.IndexInfo info : columnsIndex)
                 size += idxSerializer.serializedSize(info, typeSizes);
+            if (version.hasIndexOffsets)
+                size += typeSizes.sizeof(0) * columnsIndex.size();
 
             return Ints.checkedCast(size);
         }
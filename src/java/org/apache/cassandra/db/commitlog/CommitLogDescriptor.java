@@ -20,15 +20,21 @@
  */
 package org.apache.cassandra.db.commitlog;
 
+import java.io.DataInput;
 import java.io.EOFException;
 import java.io.File;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import org.apache.cassandra.exceptions.ConfigurationException;
 import org.apache.cassandra.io.FSReadError;
+import org.apache.cassandra.io.compress.CompressionParameters;
+import org.apache.cassandra.io.compress.ICompressor;
 import org.apache.cassandra.net.MessagingService;
 import org.apache.cassandra.utils.FBUtilities;
 import org.apache.cassandra.utils.PureJavaCrc32;
@@ -44,38 +50,79 @@ public class CommitLogDescriptor
     public static final int VERSION_12 = 2;
     public static final int VERSION_20 = 3;
     public static final int VERSION_21 = 4;
+    public static final int VERSION_22 = 5;
     /**
      * Increment this number if there is a changes in the commit log disc layout or MessagingVersion changes.
      * Note: make sure to handle {@link #getMessagingVersion()}
      */
-    public static final int current_version = VERSION_21;
+    public static final int current_version = VERSION_22;
 
     // [version, id, checksum]
     static final int HEADER_SIZE = 4 + 8 + 4;
 
     final int version;
     public final long id;
+    // the class name of the compressor of the segment chunks, or null if the segment is not compressed
+    public final String compressorClass;
 
-    public CommitLogDescriptor(int version, long id)
+    public CommitLogDescriptor(int version, long id, String compressorClass)
     {
         this.version = version;
         this.id = id;
+        this.compressorClass = compressorClass;
+    }
+
+    public CommitLogDescriptor(int version, long id)
+    {
+        this(version, id, null);
+    }
+
+    public CommitLogDescriptor(long id, String compressorClass)
+    {
+        this(current_version, id, compressorClass);
     }
 
     public CommitLogDescriptor(long id)
     {
-        this(current_version, id);
+        this(current_version, id, null);
+    }
+
+    /**
+     * @return the size of the segment header, which since {@link #VERSION_22} also holds the compressor class name
+     */
+    public int headerSize()
+    {
+        if (version < VERSION_22)
+            return HEADER_SIZE;
+        // [version, id, compressor length, compressor, checksum]
+        return 4 + 8 + 2 + compressorBytes().length + 4;
+    }
+
+    private byte[] compressorBytes()
+    {
+        return compressorClass == null ? new byte[0] : compressorClass.getBytes(StandardCharsets.UTF_8);
     }
 
     static void writeHeader(ByteBuffer out, CommitLogDescriptor descriptor)
     {
-        out.putInt(0, descriptor.version);
-        out.putLong(4, descriptor.id);
         PureJavaCrc32 crc = new PureJavaCrc32();
+        out.putInt(0, descriptor.version);
         crc.updateInt(descriptor.version);
+        out.putLong(4, descriptor.id);
         crc.updateInt((int) (descriptor.id & 0xFFFFFFFFL));
         crc.updateInt((int) (descriptor.id >>> 32));
-        out.putInt(12, crc.getCrc());
+        int position = 12;
+        if (descriptor.version >= VERSION_22)
+        {
+            byte[] compressor = descriptor.compressorBytes();
+            out.putShort(position, (short) compressor.length);
+            crc.updateInt(compressor.length);
+            position += 2;
+            for (byte b : compressor)
+                out.put(position++, b);
+            crc.update(compressor, 0, compressor.length);
+        }
+        out.putInt(position, crc.getCrc());
     }
 
     public static CommitLogDescriptor fromHeader(File file)
@@ -83,16 +130,7 @@ public class CommitLogDescriptor
         try (RandomAccessFile raf = new RandomAccessFile(file, "r"))
         {
             assert raf.getFilePointer() == 0;
-            int version = raf.readInt();
-            long id = raf.readLong();
-            int crc = raf.readInt();
-            PureJavaCrc32 checkcrc = new PureJavaCrc32();
-            checkcrc.updateInt(version);
-            checkcrc.updateInt((int) (id & 0xFFFFFFFFL));
-            checkcrc.updateInt((int) (id >>> 32));
-            if (crc == checkcrc.getCrc())
-                return new CommitLogDescriptor(version, id);
-            return null;
+            return readHeader(raf);
         }
         catch (EOFException e)
         {
@@ -104,6 +142,53 @@ public class CommitLogDescriptor
         }
     }
 
+    /**
+     * Reads a segment header.
+     *
+     * @return the header descriptor, or null if its checksum doesn't match
+     */
+    public static CommitLogDescriptor readHeader(DataInput in) throws IOException
+    {
+        PureJavaCrc32 checkcrc = new PureJavaCrc32();
+        int version = in.readInt();
+        checkcrc.updateInt(version);
+        long id = in.readLong();
+        checkcrc.updateInt((int) (id & 0xFFFFFFFFL));
+        checkcrc.updateInt((int) (id >>> 32));
+        String compressorClass = null;
+        if (version >= VERSION_22)
+        {
+            int length = in.readUnsignedShort();
+            checkcrc.updateInt(length);
+            byte[] compressor = new byte[length];
+            in.readFully(compressor);
+            checkcrc.update(compressor, 0, length);
+            if (length > 0)
+                compressorClass = new String(compressor, StandardCharsets.UTF_8);
+        }
+        int crc = in.readInt();
+        if (crc == checkcrc.getCrc())
+            return new CommitLogDescriptor(version, id, compressorClass);
+        return null;
+    }
+
+    /**
+     * Creates the compressor named in a segment header.
+     *
+     * @param compressorClass the compressor class name, as given by {@code commitlog_compression}
+     */
+    public static ICompressor createCompressor(String compressorClass)
+    {
+        try
+        {
+            return CompressionParameters.create(Collections.singletonMap(CompressionParameters.SSTABLE_COMPRESSION, compressorClass)).sstableCompressor;
+        }
+        catch (ConfigurationException e)
+        {
+            throw new IllegalArgumentException("Invalid commit log compressor " + compressorClass, e);
+        }
+    }
+
     public static CommitLogDescriptor fromFileName(String name)
     {
         Matcher matcher;
@@ -126,6 +211,7 @@ public class CommitLogDescriptor
             case VERSION_20:
                 return MessagingService.VERSION_20;
             case VERSION_21:
+            case VERSION_22:
                 return MessagingService.VERSION_21;
             default:
                 throw new IllegalStateException("Unknown commitlog version " + version);
@@ -148,7 +234,7 @@ public class CommitLogDescriptor
 
     public String toString()
     {
-        return "(" + version + "," + id + ")";
+        return "(" + version + "," + id + (compressorClass == null ? "" : "," + compressorClass) + ")";
     }
 
     public boolean equals(Object that)
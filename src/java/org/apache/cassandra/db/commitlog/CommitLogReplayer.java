@@ -20,22 +20,32 @@ package org.apache.cassandra.db.commitlog;
 
 import java.io.*;
 import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import com.google.common.base.Predicate;
+import com.google.common.base.Throwables;
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Multimap;
 import com.google.common.collect.Ordering;
+import com.google.common.util.concurrent.Uninterruptibles;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import org.apache.cassandra.concurrent.Stage;
-import org.apache.cassandra.concurrent.StageManager;
+import org.apache.cassandra.concurrent.NamedThreadFactory;
+import org.apache.cassandra.config.DatabaseDescriptor;
 import org.apache.cassandra.config.Schema;
 import org.apache.cassandra.db.*;
+import org.apache.cassandra.io.compress.ICompressor;
 import org.apache.cassandra.io.util.FastByteArrayInputStream;
 import org.apache.cassandra.io.util.FileUtils;
 import org.apache.cassandra.io.util.RandomAccessReader;
@@ -47,26 +57,29 @@ public class CommitLogReplayer
 {
     private static final Logger logger = LoggerFactory.getLogger(CommitLogReplayer.class);
     private static final int MAX_OUTSTANDING_REPLAY_COUNT = Integer.getInteger("cassandra.commitlog_max_outstanding_replay_count", 1024);
+    private static final int MAX_REPLAY_READERS = Integer.getInteger("cassandra.commitlog_replay_readers", Math.min(4, FBUtilities.getAvailableProcessors()));
     private static final int LEGACY_END_OF_SEGMENT_MARKER = 0;
+    private static final Object END_OF_SEGMENT = new Object();
 
     private final Set<Keyspace> keyspacesRecovered;
     private final List<Future<?>> futures;
-    private final Map<UUID, AtomicInteger> invalidMutations;
+    private final ConcurrentMap<UUID, AtomicInteger> invalidMutations;
     private final AtomicInteger replayedCount;
     private final Map<UUID, ReplayPosition> cfPositions;
     private final ReplayPosition globalPosition;
-    private final PureJavaCrc32 checksum;
-    private byte[] buffer;
+    // single threaded executors applying the mutations of each partition in commit log order
+    private final ExecutorService[] lanes;
 
     public CommitLogReplayer()
     {
         this.keyspacesRecovered = new NonBlockingHashSet<Keyspace>();
         this.futures = new ArrayList<Future<?>>();
-        this.buffer = new byte[4096];
-        this.invalidMutations = new HashMap<UUID, AtomicInteger>();
+        this.invalidMutations = new ConcurrentHashMap<UUID, AtomicInteger>();
         // count the number of replayed mutation. We don't really care about atomicity, but we need it to be a reference.
         this.replayedCount = new AtomicInteger();
-        this.checksum = new PureJavaCrc32();
+        this.lanes = new ExecutorService[DatabaseDescriptor.getConcurrentWriters()];
+        for (int i = 0; i < lanes.length; i++)
+            lanes[i] = Executors.newSingleThreadExecutor(new NamedThreadFactory("CommitLogReplay:" + i));
 
         // compute per-CF and global replay positions
         cfPositions = new HashMap<UUID, ReplayPosition>();
@@ -89,10 +102,50 @@ public class CommitLogReplayer
         logger.debug("Global replay position is {} from columnfamilies {}", globalPosition, FBUtilities.toString(cfPositions));
     }
 
+    /**
+     * Replays the given segments, which must be sorted by segment id.
+     *
+     * Segments are read, checksummed and deserialized concurrently by up to cassandra.commitlog_replay_readers
+     * threads, each one buffering a bounded number of mutations, but their mutations are dispatched in segment order,
+     * so the mutations of each partition are applied in the same order they were written.
+     */
     public void recover(File[] clogs) throws IOException
     {
-        for (final File file : clogs)
-            recover(file);
+        long start = System.nanoTime();
+        int readers = Math.min(MAX_REPLAY_READERS, clogs.length);
+        if (readers <= 1)
+        {
+            for (final File file : clogs)
+                recover(file);
+        }
+        else
+        {
+            ExecutorService executor = Executors.newFixedThreadPool(readers, new NamedThreadFactory("CommitLogReplayReader"));
+            try
+            {
+                // readers are submitted in segment order, so the first segment not yet dispatched always has a reader
+                List<SegmentReader> segments = new ArrayList<>(clogs.length);
+                for (File file : clogs)
+                {
+                    SegmentReader segment = new SegmentReader(file);
+                    segments.add(segment);
+                    executor.execute(segment);
+                }
+
+                for (SegmentReader segment : segments)
+                {
+                    Mutation mutation;
+                    while ((mutation = segment.take()) != null)
+                        dispatch(mutation);
+                }
+            }
+            finally
+            {
+                // interrupts the readers blocked on their queues if we failed
+                executor.shutdownNow();
+            }
+        }
+        logger.info("Read {} commit log segments in {} ms", clogs.length, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
     }
 
     public int blockForWrites()
@@ -100,9 +153,11 @@ public class CommitLogReplayer
         for (Map.Entry<UUID, AtomicInteger> entry : invalidMutations.entrySet())
             logger.info(String.format("Skipped %d mutations from unknown (probably removed) CF with id %s", entry.getValue().intValue(), entry.getKey()));
 
-        // wait for all the writes to finish on the mutation stage
+        // wait for all the writes to finish on the replay lanes
         FBUtilities.waitOnFutures(futures);
         logger.debug("Finished waiting on mutations from recovery");
+        for (ExecutorService lane : lanes)
+            lane.shutdown();
 
         // flush replayed keyspaces
         futures.clear();
@@ -148,12 +203,33 @@ public class CommitLogReplayer
         return end;
     }
 
-    private int getStartOffset(long segmentId, int version)
+    /**
+     * Returns the position of the given segment after which the mutations of each table must be replayed, computed
+     * once per segment from the per-table replay positions. Tables missing from the map don't need any replay.
+     */
+    private Map<UUID, Integer> getReplayOffsets(long segmentId)
+    {
+        Map<UUID, Integer> offsets = new HashMap<UUID, Integer>();
+        for (Map.Entry<UUID, ReplayPosition> entry : cfPositions.entrySet())
+        {
+            ReplayPosition rp = entry.getValue();
+            // replay if current segment is newer than last flushed one or,
+            // if it is the last known segment, if we are after the replay position
+            if (segmentId > rp.segment)
+                offsets.put(entry.getKey(), -1);
+            else if (segmentId == rp.segment)
+                offsets.put(entry.getKey(), rp.position);
+        }
+        return offsets;
+    }
+
+    private int getStartOffset(CommitLogDescriptor desc)
     {
+        long segmentId = desc.id;
         if (globalPosition.segment < segmentId)
         {
-            if (version >= CommitLogDescriptor.VERSION_21)
-                return CommitLogDescriptor.HEADER_SIZE + CommitLogSegment.SYNC_MARKER_SIZE;
+            if (desc.version >= CommitLogDescriptor.VERSION_21)
+                return desc.headerSize() + CommitLogSegment.SYNC_MARKER_SIZE;
             else
                 return 0;
         }
@@ -226,29 +302,159 @@ public class CommitLogReplayer
     }
 
     public void recover(File file) throws IOException
+    {
+        read(file, new MutationSink()
+        {
+            public void accept(Mutation mutation)
+            {
+                dispatch(mutation);
+            }
+        });
+    }
+
+    /**
+     * Receives the mutations to be replayed from a segment, in segment order.
+     */
+    private interface MutationSink
+    {
+        void accept(Mutation mutation) throws IOException;
+    }
+
+    /**
+     * Reads a segment in its own thread, buffering its mutations until they are dispatched.
+     */
+    private final class SegmentReader implements Runnable, MutationSink
+    {
+        private final File file;
+        private final BlockingQueue<Object> queue = new ArrayBlockingQueue<Object>(MAX_OUTSTANDING_REPLAY_COUNT);
+
+        private SegmentReader(File file)
+        {
+            this.file = file;
+        }
+
+        public void run()
+        {
+            Object last = END_OF_SEGMENT;
+            try
+            {
+                read(file, this);
+            }
+            catch (InterruptedIOException e)
+            {
+                return; // replay has been aborted
+            }
+            catch (Throwable t)
+            {
+                last = t;
+            }
+
+            try
+            {
+                queue.put(last);
+            }
+            catch (InterruptedException e)
+            {
+                // replay has been aborted
+            }
+        }
+
+        public void accept(Mutation mutation) throws IOException
+        {
+            try
+            {
+                queue.put(mutation);
+            }
+            catch (InterruptedException e)
+            {
+                throw new InterruptedIOException();
+            }
+        }
+
+        /**
+         * @return the next mutation of the segment, or null if all its mutations have been read
+         */
+        public Mutation take() throws IOException
+        {
+            Object next = Uninterruptibles.takeUninterruptibly(queue);
+            if (next == END_OF_SEGMENT)
+                return null;
+            if (next instanceof Throwable)
+            {
+                Throwables.propagateIfInstanceOf((Throwable) next, IOException.class);
+                throw Throwables.propagate((Throwable) next);
+            }
+            return (Mutation) next;
+        }
+    }
+
+    private void dispatch(final Mutation mutation)
+    {
+        Runnable runnable = new WrappedRunnable()
+        {
+            public void runMayThrow() throws IOException
+            {
+                Keyspace keyspace = Keyspace.open(mutation.getKeyspaceName());
+                keyspace.apply(mutation, false);
+                keyspacesRecovered.add(keyspace);
+                CommitLog.instance.metrics.replayedMutations.mark();
+            }
+        };
+        // mutations of the same partition always go to the same lane, so they are applied in order
+        int lane = (mutation.key().hashCode() & Integer.MAX_VALUE) % lanes.length;
+        futures.add(lanes[lane].submit(runnable));
+        if (futures.size() > MAX_OUTSTANDING_REPLAY_COUNT)
+        {
+            FBUtilities.waitOnFutures(futures);
+            futures.clear();
+        }
+    }
+
+    private void read(File file, MutationSink sink) throws IOException
     {
         final ReplayFilter replayFilter = ReplayFilter.create();
         logger.info("Replaying {}", file.getPath());
         CommitLogDescriptor desc = CommitLogDescriptor.fromFileName(file.getName());
         final long segmentId = desc.id;
-        logger.info("Replaying {} (CL version {}, messaging version {})",
-                    file.getPath(),
-                    desc.version,
-                    desc.getMessagingVersion());
         RandomAccessReader reader = RandomAccessReader.open(new File(file.getAbsolutePath()));
 
         try
         {
+            if (desc.version >= CommitLogDescriptor.VERSION_22)
+            {
+                // the header tells us if and how the segment is compressed
+                CommitLogDescriptor header = readHeader(reader);
+                if (header == null || header.id != segmentId)
+                {
+                    logger.warn("Skipping replay of commit log {} with invalid header", file);
+                    return;
+                }
+                desc = header;
+            }
+            logger.info("Replaying {} (CL version {}, messaging version {}, compression {})",
+                        file.getPath(),
+                        desc.version,
+                        desc.getMessagingVersion(),
+                        desc.compressorClass);
+
             assert reader.length() <= Integer.MAX_VALUE;
-            int offset = getStartOffset(segmentId, desc.version);
-            if (offset < 0)
+            int offset = getStartOffset(desc);
+            Map<UUID, Integer> replayOffsets = getReplayOffsets(segmentId);
+            if (offset < 0 || replayOffsets.isEmpty())
             {
                 logger.debug("skipping replay of fully-flushed {}", file);
                 return;
             }
 
-            int prevEnd = CommitLogDescriptor.HEADER_SIZE;
-            main: while (true)
+            Section section = new Section(desc, replayFilter, replayOffsets, sink);
+            if (desc.compressorClass != null)
+            {
+                readCompressed(desc, reader, offset, section);
+                return;
+            }
+
+            int prevEnd = desc.headerSize();
+            while (true)
             {
 
                 int end = prevEnd;
@@ -267,179 +473,275 @@ public class CommitLogReplayer
                     logger.debug("Replaying {} between {} and {}", file, offset, end);
 
                 reader.seek(offset);
+                if (!section.replay(reader, offset, (int) Math.min(end, reader.length())))
+                    break;
 
-                 /* read the logs populate Mutation and apply */
-                while (reader.getPosition() < end && !reader.isEOF())
-                {
-                    if (logger.isDebugEnabled())
-                        logger.debug("Reading mutation at {}", reader.getFilePointer());
+                if (desc.version < CommitLogDescriptor.VERSION_21)
+                    break;
 
-                    long claimedCRC32;
-                    int serializedSize;
-                    try
-                    {
-                        // any of the reads may hit EOF
-                        serializedSize = reader.readInt();
-                        if (serializedSize == LEGACY_END_OF_SEGMENT_MARKER)
-                        {
-                            logger.debug("Encountered end of segment marker at {}", reader.getFilePointer());
-                            break main;
-                        }
-
-                        // Mutation must be at LEAST 10 bytes:
-                        // 3 each for a non-empty Keyspace and Key (including the
-                        // 2-byte length from writeUTF/writeWithShortLength) and 4 bytes for column count.
-                        // This prevents CRC by being fooled by special-case garbage in the file; see CASSANDRA-2128
-                        if (serializedSize < 10)
-                            break main;
-
-                        long claimedSizeChecksum;
-                        if (desc.version < CommitLogDescriptor.VERSION_21)
-                            claimedSizeChecksum = reader.readLong();
-                        else
-                            claimedSizeChecksum = reader.readInt() & 0xffffffffL;
-                        checksum.reset();
-                        if (desc.version < CommitLogDescriptor.VERSION_20)
-                            checksum.update(serializedSize);
-                        else
-                            checksum.updateInt(serializedSize);
-
-                        if (checksum.getValue() != claimedSizeChecksum)
-                            break main; // entry wasn't synced correctly/fully. that's
-                        // ok.
-
-                        if (serializedSize > buffer.length)
-                            buffer = new byte[(int) (1.2 * serializedSize)];
-                        reader.readFully(buffer, 0, serializedSize);
-                        if (desc.version < CommitLogDescriptor.VERSION_21)
-                            claimedCRC32 = reader.readLong();
-                        else
-                            claimedCRC32 = reader.readInt() & 0xffffffffL;
-                    }
-                    catch (EOFException eof)
-                    {
-                        break main; // last CL entry didn't get completely written. that's ok.
-                    }
+                offset = end + CommitLogSegment.SYNC_MARKER_SIZE;
+                prevEnd = end;
+            }
+        }
+        finally
+        {
+            FileUtils.closeQuietly(reader);
+            logger.info("Finished reading {}", file);
+        }
+    }
+
+    private CommitLogDescriptor readHeader(RandomAccessReader reader) throws IOException
+    {
+        try
+        {
+            return CommitLogDescriptor.readHeader(reader);
+        }
+        catch (EOFException e)
+        {
+            return null;
+        }
+    }
+
+    /**
+     * Reads a compressed segment, where each sync marker is followed by the uncompressed length of the section and
+     * its compressed contents. Replay positions refer to the uncompressed sections, which are laid out as in an
+     * uncompressed segment.
+     */
+    private void readCompressed(CommitLogDescriptor desc, RandomAccessReader reader, int offset, Section section) throws IOException
+    {
+        ICompressor compressor = CommitLogDescriptor.createCompressor(desc.compressorClass);
+        byte[] compressed = new byte[0];
+        byte[] uncompressed = new byte[0];
+
+        int prevEnd = desc.headerSize();
+        int uncompressedEnd = desc.headerSize();
+        while (true)
+        {
+            int end = readSyncMarker(desc, prevEnd, reader);
+            if (end < prevEnd)
+                break;
+
+            int uncompressedLength = reader.readInt();
+            int compressedLength = end - (int) reader.getPosition();
+            int sectionStart = uncompressedEnd + CommitLogSegment.SYNC_MARKER_SIZE;
+            uncompressedEnd = sectionStart + uncompressedLength;
+            prevEnd = end;
+            if (uncompressedLength < 0 || compressedLength < 0)
+            {
+                logger.warn("Encountered bad compressed section at position {} of commit log {}", end, reader.getPath());
+                break;
+            }
+
+            // skip the sections before the replay position without uncompressing them
+            if (uncompressedEnd <= offset)
+                continue;
+
+            if (compressed.length < compressedLength)
+                compressed = new byte[compressedLength];
+            if (uncompressed.length < uncompressedLength)
+                uncompressed = new byte[uncompressedLength];
+            reader.readFully(compressed, 0, compressedLength);
+            int length;
+            try
+            {
+                length = compressor.uncompress(compressed, 0, compressedLength, uncompressed, 0);
+            }
+            catch (IOException e)
+            {
+                logger.warn("Unable to uncompress section at position {} of commit log {}: {}", end, reader.getPath(), e.getMessage());
+                break;
+            }
+            if (length != uncompressedLength)
+            {
+                logger.warn("Encountered bad compressed section at position {} of commit log {}", end, reader.getPath());
+                break;
+            }
+
+            if (logger.isDebugEnabled())
+                logger.debug("Replaying {} between {} and {}", reader.getPath(), sectionStart, uncompressedEnd);
+
+            DataInput in = new DataInputStream(new FastByteArrayInputStream(uncompressed, 0, uncompressedLength));
+            if (!section.replay(in, sectionStart, uncompressedEnd))
+                break;
+        }
+    }
+
+    /**
+     * Reads the entries of a synced section of a segment, sending the mutations that need to be replayed to a sink.
+     */
+    private final class Section
+    {
+        private final CommitLogDescriptor desc;
+        private final ReplayFilter replayFilter;
+        private final Map<UUID, Integer> replayOffsets;
+        private final MutationSink sink;
+        private final PureJavaCrc32 checksum = new PureJavaCrc32();
+        private byte[] buffer = new byte[4096];
+
+        private Section(CommitLogDescriptor desc, ReplayFilter replayFilter, Map<UUID, Integer> replayOffsets, MutationSink sink)
+        {
+            this.desc = desc;
+            this.replayFilter = replayFilter;
+            this.replayOffsets = replayOffsets;
+            this.sink = sink;
+        }
+
+        /**
+         * Replays the entries between the given positions of the segment.
+         *
+         * @param in the input, placed at {@code position}
+         * @return false if the end of the segment has been found, so no more sections should be read
+         */
+        private boolean replay(DataInput in, int position, int end) throws IOException
+        {
+            final long segmentId = desc.id;
+
+             /* read the logs populate Mutation and apply */
+            while (position < end)
+            {
+                if (logger.isDebugEnabled())
+                    logger.debug("Reading mutation at {}", position);
 
-                    checksum.update(buffer, 0, serializedSize);
-                    if (claimedCRC32 != checksum.getValue())
+                long claimedCRC32;
+                int serializedSize;
+                try
+                {
+                    // any of the reads may hit EOF
+                    serializedSize = in.readInt();
+                    if (serializedSize == LEGACY_END_OF_SEGMENT_MARKER)
                     {
-                        // this entry must not have been fsynced. probably the rest is bad too,
-                        // but just in case there is no harm in trying them (since we still read on an entry boundary)
-                        continue;
+                        logger.debug("Encountered end of segment marker at {}", position);
+                        return false;
                     }
 
-                    /* deserialize the commit log entry */
-                    FastByteArrayInputStream bufIn = new FastByteArrayInputStream(buffer, 0, serializedSize);
-                    final Mutation mutation;
-                    try
+                    // Mutation must be at LEAST 10 bytes:
+                    // 3 each for a non-empty Keyspace and Key (including the
+                    // 2-byte length from writeUTF/writeWithShortLength) and 4 bytes for column count.
+                    // This prevents CRC by being fooled by special-case garbage in the file; see CASSANDRA-2128
+                    if (serializedSize < 10)
+                        return false;
+
+                    long claimedSizeChecksum;
+                    if (desc.version < CommitLogDescriptor.VERSION_21)
+                        claimedSizeChecksum = in.readLong();
+                    else
+                        claimedSizeChecksum = in.readInt() & 0xffffffffL;
+                    checksum.reset();
+                    if (desc.version < CommitLogDescriptor.VERSION_20)
+                        checksum.update(serializedSize);
+                    else
+                        checksum.updateInt(serializedSize);
+
+                    if (checksum.getValue() != claimedSizeChecksum)
+                        return false; // entry wasn't synced correctly/fully. that's
+                    // ok.
+
+                    if (serializedSize > buffer.length)
+                        buffer = new byte[(int) (1.2 * serializedSize)];
+                    in.readFully(buffer, 0, serializedSize);
+                    CommitLog.instance.metrics.replayedBytes.mark(serializedSize);
+                    if (desc.version < CommitLogDescriptor.VERSION_21)
+                        claimedCRC32 = in.readLong();
+                    else
+                        claimedCRC32 = in.readInt() & 0xffffffffL;
+                }
+                catch (EOFException eof)
+                {
+                    return false; // last CL entry didn't get completely written. that's ok.
+                }
+                position += serializedSize + (desc.version < CommitLogDescriptor.VERSION_21 ? 4 + 8 + 8 : CommitLogSegment.ENTRY_OVERHEAD_SIZE);
+
+                checksum.update(buffer, 0, serializedSize);
+                if (claimedCRC32 != checksum.getValue())
+                {
+                    // this entry must not have been fsynced. probably the rest is bad too,
+                    // but just in case there is no harm in trying them (since we still read on an entry boundary)
+                    continue;
+                }
+
+                /* deserialize the commit log entry */
+                FastByteArrayInputStream bufIn = new FastByteArrayInputStream(buffer, 0, serializedSize);
+                final Mutation mutation;
+                try
+                {
+                    mutation = Mutation.serializer.deserialize(new DataInputStream(bufIn),
+                                                               desc.getMessagingVersion(),
+                                                               ColumnSerializer.Flag.LOCAL);
+                    // doublecheck that what we read is [still] valid for the current schema
+                    for (ColumnFamily cf : mutation.getColumnFamilies())
+                        for (Cell cell : cf)
+                            cf.getComparator().validate(cell.name());
+                }
+                catch (UnknownColumnFamilyException ex)
+                {
+                    if (ex.cfId == null)
+                        continue;
+                    AtomicInteger i = invalidMutations.get(ex.cfId);
+                    if (i == null)
                     {
-                        mutation = Mutation.serializer.deserialize(new DataInputStream(bufIn),
-                                                                   desc.getMessagingVersion(),
-                                                                   ColumnSerializer.Flag.LOCAL);
-                        // doublecheck that what we read is [still] valid for the current schema
-                        for (ColumnFamily cf : mutation.getColumnFamilies())
-                            for (Cell cell : cf)
-                                cf.getComparator().validate(cell.name());
+                        i = invalidMutations.putIfAbsent(ex.cfId, new AtomicInteger(1));
+                        if (i != null)
+                            i.incrementAndGet();
                     }
-                    catch (UnknownColumnFamilyException ex)
+                    else
+                        i.incrementAndGet();
+                    continue;
+                }
+                catch (Throwable t)
+                {
+                    JVMStabilityInspector.inspectThrowable(t);
+                    File f = File.createTempFile("mutation", "dat");
+                    DataOutputStream out = new DataOutputStream(new FileOutputStream(f));
+                    try
                     {
-                        if (ex.cfId == null)
-                            continue;
-                        AtomicInteger i = invalidMutations.get(ex.cfId);
-                        if (i == null)
-                        {
-                            i = new AtomicInteger(1);
-                            invalidMutations.put(ex.cfId, i);
-                        }
-                        else
-                            i.incrementAndGet();
-                        continue;
+                        out.write(buffer, 0, serializedSize);
                     }
-                    catch (Throwable t)
+                    finally
                     {
-                        JVMStabilityInspector.inspectThrowable(t);
-                        File f = File.createTempFile("mutation", "dat");
-                        DataOutputStream out = new DataOutputStream(new FileOutputStream(f));
-                        try
-                        {
-                            out.write(buffer, 0, serializedSize);
-                        }
-                        finally
-                        {
-                            out.close();
-                        }
-                        String st = String.format("Unexpected error deserializing mutation; saved to %s and ignored.  This may be caused by replaying a mutation against a table with the same name but incompatible schema.  Exception follows: ",
-                                                  f.getAbsolutePath());
-                        logger.error(st, t);
-                        continue;
+                        out.close();
                     }
+                    String st = String.format("Unexpected error deserializing mutation; saved to %s and ignored.  This may be caused by replaying a mutation against a table with the same name but incompatible schema.  Exception follows: ",
+                                              f.getAbsolutePath());
+                    logger.error(st, t);
+                    continue;
+                }
 
-                    if (logger.isDebugEnabled())
-                        logger.debug("replaying mutation for {}.{}: {}", mutation.getKeyspaceName(), ByteBufferUtil.bytesToHex(mutation.key()), "{" + StringUtils.join(mutation.getColumnFamilies().iterator(), ", ") + "}");
+                if (logger.isDebugEnabled())
+                    logger.debug("replaying mutation for {}.{}: {}", mutation.getKeyspaceName(), ByteBufferUtil.bytesToHex(mutation.key()), "{" + StringUtils.join(mutation.getColumnFamilies().iterator(), ", ") + "}");
+
+                if (Schema.instance.getKSMetaData(mutation.getKeyspaceName()) == null)
+                    continue;
+                if (pointInTimeExceeded(mutation))
+                    continue;
+
+                // Rebuild the mutation, omitting column families that
+                //    a) the user has requested that we ignore,
+                //    b) have already been flushed,
+                // or c) are part of a cf that was dropped.
+                // Keep in mind that the cf.name() is suspect. do every thing based on the cfid instead.
+                long entryLocation = position;
+                Mutation newMutation = null;
+                for (ColumnFamily columnFamily : replayFilter.filter(mutation))
+                {
+                    if (Schema.instance.getCF(columnFamily.id()) == null)
+                        continue; // dropped
 
-                    final long entryLocation = reader.getFilePointer();
-                    Runnable runnable = new WrappedRunnable()
-                    {
-                        public void runMayThrow() throws IOException
-                        {
-                            if (Schema.instance.getKSMetaData(mutation.getKeyspaceName()) == null)
-                                return;
-                            if (pointInTimeExceeded(mutation))
-                                return;
-
-                            final Keyspace keyspace = Keyspace.open(mutation.getKeyspaceName());
-
-                            // Rebuild the mutation, omitting column families that
-                            //    a) the user has requested that we ignore,
-                            //    b) have already been flushed,
-                            // or c) are part of a cf that was dropped.
-                            // Keep in mind that the cf.name() is suspect. do every thing based on the cfid instead.
-                            Mutation newMutation = null;
-                            for (ColumnFamily columnFamily : replayFilter.filter(mutation))
-                            {
-                                if (Schema.instance.getCF(columnFamily.id()) == null)
-                                    continue; // dropped
-
-                                ReplayPosition rp = cfPositions.get(columnFamily.id());
-
-                                // replay if current segment is newer than last flushed one or,
-                                // if it is the last known segment, if we are after the replay position
-                                if (segmentId > rp.segment || (segmentId == rp.segment && entryLocation > rp.position))
-                                {
-                                    if (newMutation == null)
-                                        newMutation = new Mutation(mutation.getKeyspaceName(), mutation.key());
-                                    newMutation.add(columnFamily);
-                                    replayedCount.incrementAndGet();
-                                }
-                            }
-                            if (newMutation != null)
-                            {
-                                assert !newMutation.isEmpty();
-                                Keyspace.open(newMutation.getKeyspaceName()).apply(newMutation, false);
-                                keyspacesRecovered.add(keyspace);
-                            }
-                        }
-                    };
-                    futures.add(StageManager.getStage(Stage.MUTATION).submit(runnable));
-                    if (futures.size() > MAX_OUTSTANDING_REPLAY_COUNT)
+                    Integer replayOffset = replayOffsets.get(columnFamily.id());
+                    if (replayOffset != null && entryLocation > replayOffset)
                     {
-                        FBUtilities.waitOnFutures(futures);
-                        futures.clear();
+                        if (newMutation == null)
+                            newMutation = new Mutation(mutation.getKeyspaceName(), mutation.key());
+                        newMutation.add(columnFamily);
+                        replayedCount.incrementAndGet();
                     }
                 }
-
-                if (desc.version < CommitLogDescriptor.VERSION_21)
-                    break;
-
-                offset = end + CommitLogSegment.SYNC_MARKER_SIZE;
-                prevEnd = end;
+                if (newMutation != null)
+                {
+                    assert !newMutation.isEmpty();
+                    sink.accept(newMutation);
+                }
             }
-        }
-        finally
-        {
-            FileUtils.closeQuietly(reader);
-            logger.info("Finished reading {}", file);
+            return true;
         }
     }
 
@@ -29,11 +29,14 @@ import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import com.google.common.annotations.VisibleForTesting;
 import org.cliffc.high_scale_lib.NonBlockingHashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -44,6 +47,7 @@ import org.apache.cassandra.config.Schema;
 import org.apache.cassandra.db.ColumnFamily;
 import org.apache.cassandra.db.Mutation;
 import org.apache.cassandra.io.FSWriteError;
+import org.apache.cassandra.io.compress.ICompressor;
 import org.apache.cassandra.io.util.FileUtils;
 import org.apache.cassandra.utils.CLibrary;
 import org.apache.cassandra.utils.PureJavaCrc32;
@@ -78,11 +82,19 @@ public class CommitLogSegment
     // The commit log (chained) sync marker/header size in bytes (int: length + int: checksum [segmentId, position])
     static final int SYNC_MARKER_SIZE = 4 + 4;
 
+    // The compressed chunk header size in bytes (sync marker + int: uncompressed length)
+    static final int COMPRESSED_MARKER_SIZE = SYNC_MARKER_SIZE + 4;
+
     // The OpOrder used to order appends wrt sync
     private final OpOrder appendOrder = new OpOrder();
 
     private final AtomicInteger allocatePosition = new AtomicInteger();
 
+    // The uncompressed buffers of closed compressed segments, reused by the next ones. Besides the segment being
+    // written, at most one is needed for the segment prepared in advance by the CommitLogSegmentManager.
+    private static final int MAX_POOLED_BUFFERS = 2;
+    private static final Queue<ByteBuffer> bufferPool = new ConcurrentLinkedQueue<>();
+
     // Everything before this offset has been synced and written.  The SYNC_MARKER_SIZE bytes after
     // each sync are reserved, and point forwards to the next such offset.  The final
     // sync marker in a segment will be zeroed out, or point to EOF.
@@ -107,7 +119,15 @@ public class CommitLogSegment
     private final RandomAccessFile logFileAccessor;
     private final int fd;
 
-    private final MappedByteBuffer buffer;
+    // the mapped segment file, or a heap buffer holding the uncompressed contents of a compressed segment;
+    // released once the segment is closed, as closed segments are retained until their mutations are flushed
+    private ByteBuffer buffer;
+    private final int capacity;
+
+    // compressed segments only: the compressor, its output buffer, and the file offset of the next chunk
+    private final ICompressor compressor;
+    private ICompressor.WrappedArray compressed;
+    private int fileOffset;
 
     public final CommitLogDescriptor descriptor;
 
@@ -132,7 +152,9 @@ public class CommitLogSegment
     CommitLogSegment(String filePath)
     {
         id = getNextId();
-        descriptor = new CommitLogDescriptor(id);
+        String compressorClass = DatabaseDescriptor.getCommitLogCompressor();
+        compressor = compressorClass == null ? null : CommitLogDescriptor.createCompressor(compressorClass);
+        descriptor = new CommitLogDescriptor(id, compressorClass);
         logFile = new File(DatabaseDescriptor.getCommitLogLocation(), descriptor.fileName());
         boolean isCreating = true;
 
@@ -157,20 +179,35 @@ public class CommitLogSegment
             if (isCreating)
                 logger.debug("Creating new commit log segment {}", logFile.getPath());
 
-            // Map the segment, extending or truncating it to the standard segment size.
-            // (We may have restarted after a segment size configuration change, leaving "incorrectly"
-            // sized segments on disk.)
-            logFileAccessor.setLength(DatabaseDescriptor.getCommitLogSegmentSize());
+            int headerSize = descriptor.headerSize();
+            if (compressor == null)
+            {
+                // Map the segment, extending or truncating it to the standard segment size.
+                // (We may have restarted after a segment size configuration change, leaving "incorrectly"
+                // sized segments on disk.)
+                logFileAccessor.setLength(DatabaseDescriptor.getCommitLogSegmentSize());
+                buffer = logFileAccessor.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, DatabaseDescriptor.getCommitLogSegmentSize());
+                // write the header
+                CommitLogDescriptor.writeHeader(buffer, descriptor);
+                // mark the initial sync marker as uninitialised
+                buffer.putInt(headerSize, 0);
+                buffer.putLong(headerSize + 4, 0);
+            }
+            else
+            {
+                // Mutations are appended to an in-memory buffer, and each sync appends the newly written section
+                // as a compressed chunk to the file, which grows from just the header.
+                logFileAccessor.setLength(0);
+                buffer = allocateBuffer(DatabaseDescriptor.getCommitLogSegmentSize());
+                CommitLogDescriptor.writeHeader(buffer, descriptor);
+                write((ByteBuffer) buffer.duplicate().position(0).limit(headerSize), 0);
+                compressed = new ICompressor.WrappedArray(new byte[0]);
+                fileOffset = headerSize;
+            }
+            capacity = buffer.capacity();
             fd = CLibrary.getfd(logFileAccessor.getFD());
-
-            buffer = logFileAccessor.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, DatabaseDescriptor.getCommitLogSegmentSize());
-            // write the header
-            CommitLogDescriptor.writeHeader(buffer, descriptor);
-            // mark the initial sync marker as uninitialised
-            buffer.putInt(CommitLogDescriptor.HEADER_SIZE, 0);
-            buffer.putLong(CommitLogDescriptor.HEADER_SIZE + 4, 0);
-            allocatePosition.set(CommitLogDescriptor.HEADER_SIZE + SYNC_MARKER_SIZE);
-            lastSyncedOffset = CommitLogDescriptor.HEADER_SIZE;
+            allocatePosition.set(headerSize + SYNC_MARKER_SIZE);
+            lastSyncedOffset = headerSize;
         }
         catch (IOException e)
         {
@@ -178,6 +215,24 @@ public class CommitLogSegment
         }
     }
 
+    /**
+     * @return a pooled heap buffer of the given size if there is one, or a new one
+     */
+    private static ByteBuffer allocateBuffer(int size)
+    {
+        ByteBuffer pooled = bufferPool.poll();
+        // the buffer contents are not cleared, as only sections written since the segment was created are compressed
+        if (pooled != null && pooled.capacity() == size)
+            return pooled;
+        return ByteBuffer.allocate(size);
+    }
+
+    @VisibleForTesting
+    public static int pooledBuffers()
+    {
+        return bufferPool.size();
+    }
+
     /**
      * Allocate space in this buffer for the provided mutation, and return the allocated Allocation object.
      * Returns null if there is not enough space in this segment, and a new segment is needed.
@@ -210,7 +265,7 @@ public class CommitLogSegment
         {
             int prev = allocatePosition.get();
             int next = prev + size;
-            if (next >= buffer.capacity())
+            if (next >= capacity)
                 return -1;
             if (allocatePosition.compareAndSet(prev, next))
                 return prev;
@@ -229,8 +284,8 @@ public class CommitLogSegment
             while (true)
             {
                 int prev = allocatePosition.get();
-                // we set allocatePosition past buffer.capacity() to make sure we always set discardedTailFrom
-                int next = buffer.capacity() + 1;
+                // we set allocatePosition past capacity to make sure we always set discardedTailFrom
+                int next = capacity + 1;
                 if (prev == next)
                     return;
                 if (allocatePosition.compareAndSet(prev, next))
@@ -276,7 +331,7 @@ public class CommitLogSegment
                 // wait for modifications guards both discardedTailFrom, and any outstanding appends
                 waitForModifications();
 
-                if (discardedTailFrom < buffer.capacity() - SYNC_MARKER_SIZE)
+                if (discardedTailFrom < capacity - SYNC_MARKER_SIZE)
                 {
                     // if there's room in the discard section to write an empty header, use that as the nextMarker
                     nextMarker = discardedTailFrom;
@@ -284,7 +339,7 @@ public class CommitLogSegment
                 else
                 {
                     // not enough space left in the buffer, so mark the next sync marker as the EOF position
-                    nextMarker = buffer.capacity();
+                    nextMarker = capacity;
                 }
             }
             else
@@ -294,33 +349,44 @@ public class CommitLogSegment
 
             assert nextMarker > lastSyncedOffset;
 
-            // write previous sync marker to point to next sync marker
-            // we don't chain the crcs here to ensure this method is idempotent if it fails
             int offset = lastSyncedOffset;
-            final PureJavaCrc32 crc = new PureJavaCrc32();
-            crc.updateInt((int) (id & 0xFFFFFFFFL));
-            crc.updateInt((int) (id >>> 32));
-            crc.updateInt(offset);
-            buffer.putInt(offset, nextMarker);
-            buffer.putInt(offset + 4, crc.getCrc());
-
-            // zero out the next sync marker so replayer can cleanly exit
-            if (nextMarker < buffer.capacity())
+            int fileStart, fileEnd;
+            if (compressor == null)
             {
-                buffer.putInt(nextMarker, 0);
-                buffer.putInt(nextMarker + 4, 0);
-            }
+                // write previous sync marker to point to next sync marker
+                // we don't chain the crcs here to ensure this method is idempotent if it fails
+                buffer.putInt(offset, nextMarker);
+                buffer.putInt(offset + 4, syncMarkerCrc(offset));
 
-            // actually perform the sync and signal those waiting for it
-            buffer.force();
+                // zero out the next sync marker so replayer can cleanly exit
+                if (nextMarker < capacity)
+                {
+                    buffer.putInt(nextMarker, 0);
+                    buffer.putInt(nextMarker + 4, 0);
+                }
+
+                // actually perform the sync
+                ((MappedByteBuffer) buffer).force();
+                fileStart = offset;
+                fileEnd = nextMarker;
+            }
+            else
+            {
+                fileStart = fileOffset;
+                writeCompressedChunk(offset + SYNC_MARKER_SIZE, nextMarker);
+                fileEnd = fileOffset;
+            }
+            CommitLog.instance.metrics.bytesWritten.mark(nextMarker - offset);
+            CommitLog.instance.metrics.compressedBytesWritten.mark(fileEnd - fileStart);
 
             if (close)
-                nextMarker = buffer.capacity();
+                nextMarker = capacity;
 
+            // signal those waiting for the sync
             lastSyncedOffset = nextMarker;
             syncComplete.signalAll();
 
-            CLibrary.trySkipCache(fd, offset, nextMarker);
+            CLibrary.trySkipCache(fd, fileStart, fileEnd);
             if (close)
                 internalClose();
         }
@@ -330,9 +396,47 @@ public class CommitLogSegment
         }
     }
 
+    private int syncMarkerCrc(int offset)
+    {
+        final PureJavaCrc32 crc = new PureJavaCrc32();
+        crc.updateInt((int) (id & 0xFFFFFFFFL));
+        crc.updateInt((int) (id >>> 32));
+        crc.updateInt(offset);
+        return crc.getCrc();
+    }
+
+    /**
+     * Compresses the given section of the buffer and appends it to the file as a chunk, preceded by a sync marker
+     * pointing to the file offset of the next chunk and by the uncompressed length of the section.
+     */
+    private void writeCompressedChunk(int start, int end) throws IOException
+    {
+        int length = end - start;
+        int maxLength = COMPRESSED_MARKER_SIZE + compressor.initialCompressedBufferLength(length);
+        if (compressed.buffer.length < maxLength)
+            compressed.buffer = new byte[maxLength];
+        int compressedLength = compressor.compress(buffer.array(), start, length, compressed, COMPRESSED_MARKER_SIZE);
+
+        ByteBuffer chunk = ByteBuffer.wrap(compressed.buffer, 0, COMPRESSED_MARKER_SIZE + compressedLength);
+        int nextFileOffset = fileOffset + chunk.remaining();
+        chunk.putInt(0, nextFileOffset);
+        chunk.putInt(4, syncMarkerCrc(fileOffset));
+        chunk.putInt(8, length);
+        write(chunk, fileOffset);
+        logFileAccessor.getChannel().force(true);
+        fileOffset = nextFileOffset;
+    }
+
+    private void write(ByteBuffer bytes, long position) throws IOException
+    {
+        FileChannel channel = logFileAccessor.getChannel();
+        while (bytes.hasRemaining())
+            position += channel.write(bytes, position);
+    }
+
     public boolean isStillAllocating()
     {
-        return allocatePosition.get() < buffer.capacity();
+        return allocatePosition.get() < capacity;
     }
 
     /**
@@ -394,7 +498,7 @@ public class CommitLogSegment
         while (true)
         {
             WaitQueue.Signal signal = syncComplete.register();
-            if (lastSyncedOffset < buffer.capacity())
+            if (lastSyncedOffset < capacity)
             {
                 signal.awaitUninterruptibly();
             }
@@ -413,7 +517,7 @@ public class CommitLogSegment
     {
         discardUnusedTail();
         waitForModifications();
-        lastSyncedOffset = buffer.capacity();
+        lastSyncedOffset = capacity;
         internalClose();
     }
 
@@ -421,8 +525,21 @@ public class CommitLogSegment
     {
         try
         {
-            if (FileUtils.isCleanerAvailable())
-                FileUtils.clean(buffer);
+            if (buffer != null)
+            {
+                if (compressor == null)
+                {
+                    if (FileUtils.isCleanerAvailable())
+                        FileUtils.clean((MappedByteBuffer) buffer);
+                }
+                else
+                {
+                    if (bufferPool.size() < MAX_POOLED_BUFFERS)
+                        bufferPool.add(buffer);
+                    compressed = null;
+                }
+                buffer = null;
+            }
             logFileAccessor.close();
         }
         catch (IOException e)
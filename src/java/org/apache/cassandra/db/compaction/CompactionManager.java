@@ -24,6 +24,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -46,9 +47,11 @@ import com.google.common.base.Throwables;
 import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.ConcurrentHashMultiset;
 import com.google.common.collect.Iterables;
+import com.google.common.collect.Iterators;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Multimap;
 import com.google.common.collect.Multiset;
+import com.google.common.collect.PeekingIterator;
 import com.google.common.collect.Sets;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.RateLimiter;
@@ -68,15 +71,18 @@ import org.apache.cassandra.db.DecoratedKey;
 import org.apache.cassandra.db.Keyspace;
 import org.apache.cassandra.db.OnDiskAtom;
 import org.apache.cassandra.db.SystemKeyspace;
+import org.apache.cassandra.db.columniterator.OnDiskAtomIterator;
 import org.apache.cassandra.db.compaction.CompactionInfo.Holder;
 import org.apache.cassandra.db.index.SecondaryIndexBuilder;
 import org.apache.cassandra.dht.Bounds;
 import org.apache.cassandra.dht.Range;
 import org.apache.cassandra.dht.Token;
+import org.apache.cassandra.io.FSWriteError;
 import org.apache.cassandra.io.sstable.*;
 import org.apache.cassandra.io.sstable.metadata.MetadataCollector;
 import org.apache.cassandra.io.util.FileUtils;
 import org.apache.cassandra.metrics.CompactionMetrics;
+import org.apache.cassandra.repair.SSTableHashes;
 import org.apache.cassandra.repair.Validator;
 import org.apache.cassandra.service.ActiveRepairService;
 import org.apache.cassandra.service.StorageService;
@@ -101,6 +107,9 @@ public class CompactionManager implements CompactionManagerMBean
     public static final int NO_GC = Integer.MIN_VALUE;
     public static final int GC_ALL = Integer.MAX_VALUE;
 
+    // the hashes collected for an sstable during a validation are kept in memory until it's done
+    private static final long MAX_COLLECTED_HASHES_SIZE = 32 * 1024 * 1024;
+
     // A thread local that tells us if the current thread is owned by the compaction manager. Used
     // by CounterContext to figure out if it should log a warning for invalid counter shards.
     public static final ThreadLocal<Boolean> isCompactionManager = new ThreadLocal<Boolean>()
@@ -128,6 +137,7 @@ public class CompactionManager implements CompactionManagerMBean
 
     private final CompactionExecutor executor = new CompactionExecutor();
     private final CompactionExecutor validationExecutor = new ValidationExecutor();
+    private final CompactionExecutor rangeCompactionExecutor = new RangeCompactionExecutor();
     private final static CompactionExecutor cacheCleanupExecutor = new CacheCleanupExecutor();
 
     private final CompactionMetrics metrics = new CompactionMetrics(executor, validationExecutor);
@@ -628,6 +638,14 @@ public class CompactionManager implements CompactionManagerMBean
         return validationExecutor.submit(callable);
     }
 
+    /**
+     * Runs one of the token ranges a compaction has been split in, concurrently with the thread of that compaction.
+     */
+    <T> Future<T> submitRangeCompaction(Callable<T> callable)
+    {
+        return rangeCompactionExecutor.submit(callable);
+    }
+
     /* Used in tests. */
     public void disableAutoCompaction()
     {
@@ -987,11 +1005,34 @@ public class CompactionManager implements CompactionManagerMBean
             int depth = numPartitions > 0 ? (int) Math.min(Math.floor(Math.log(numPartitions)), 20) : 0;
             MerkleTree tree = new MerkleTree(cfs.partitioner, validator.desc.range, MerkleTree.RECOMMENDED_DEPTH, (int) Math.pow(2, depth));
 
+            // the sstables hashed by a previous validation of the range don't have to be read again
+            boolean reuseHashes = DatabaseDescriptor.getRepairReuseSSTableHashes() && !isSnapshotValidation;
+            List<SSTableReader> toRead = Lists.newArrayList(sstables);
+            Map<SSTableReader, SSTableHashes.Section> hashed = reuseHashes
+                                                             ? SSTableHashes.findReusable(toRead, validator.desc.range, validator.rowHashAlgorithm)
+                                                             : Collections.<SSTableReader, SSTableHashes.Section>emptyMap();
+            toRead.removeAll(hashed.keySet());
+            if (!hashed.isEmpty())
+                logger.debug("Reusing the hashes of {} for {}", hashed.keySet(), validator.desc);
+
+            // and the hashes of the sstables read are collected for the next ones, when they can be reused
+            Map<SSTableReader, SSTableHashes.Writer> hashing = new HashMap<>();
+            if (reuseHashes)
+            {
+                for (SSTableReader sstable : toRead)
+                {
+                    if (SSTableHashes.canPersist(sstable) && SSTableHashes.find(sstable, validator.desc.range, validator.rowHashAlgorithm) == null)
+                        hashing.put(sstable, new SSTableHashes.Writer(sstable, validator.desc.range, validator.rowHashAlgorithm));
+                }
+            }
+
             long start = System.nanoTime();
-            try (AbstractCompactionStrategy.ScannerList scanners = cfs.getCompactionStrategy().getScanners(sstables, validator.desc.range))
+            try (AbstractCompactionStrategy.ScannerList scanners = cfs.getCompactionStrategy().getScanners(toRead, validator.desc.range);
+                 CloseableIterator<SSTableHashes.Entry> hashes = SSTableHashes.merge(hashed.values()))
             {
-                CompactionIterable ci = new ValidationCompactionIterable(cfs, scanners.scanners, gcBefore);
+                ValidationCompactionIterable ci = new ValidationCompactionIterable(cfs, scanners.scanners, gcBefore);
                 Iterator<AbstractCompactedRow> iter = ci.iterator();
+                PeekingIterator<SSTableHashes.Entry> reused = Iterators.peekingIterator(hashes);
                 metrics.beginCompaction(ci);
                 try
                 {
@@ -1002,7 +1043,20 @@ public class CompactionManager implements CompactionManagerMBean
                         if (ci.isStopRequested())
                             throw new CompactionInterruptedException(ci.getCompactionInfo());
                         AbstractCompactedRow row = iter.next();
-                        validator.add(row);
+                        // the partitions of the reused hashes are in none of the sstables read
+                        while (reused.hasNext() && reused.peek().key.compareTo(row.key) < 0)
+                        {
+                            SSTableHashes.Entry entry = reused.next();
+                            validator.add(entry.key, entry.hash);
+                        }
+                        MerkleTree.RowHash rowHash = validator.add(row);
+                        if (!hashing.isEmpty())
+                            collectHash(hashing, ci.sources, row.key, rowHash);
+                    }
+                    while (reused.hasNext())
+                    {
+                        SSTableHashes.Entry entry = reused.next();
+                        validator.add(entry.key, entry.hash);
                     }
                     validator.complete();
                 }
@@ -1017,6 +1071,18 @@ public class CompactionManager implements CompactionManagerMBean
                 }
             }
 
+            for (SSTableHashes.Writer writer : hashing.values())
+            {
+                try
+                {
+                    writer.append();
+                }
+                catch (FSWriteError e)
+                {
+                    logger.warn("Could not persist the hashes of {}", writer.sstable, e);
+                }
+            }
+
             if (logger.isDebugEnabled())
             {
                 // MT serialize may take time
@@ -1036,6 +1102,34 @@ public class CompactionManager implements CompactionManagerMBean
         }
     }
 
+    /**
+     * Collects the hash of a row for the sstable it is read from, as long as none of the rows of that sstable is in
+     * another one: the hash of a row merged from several sstables isn't the hash of any of them.
+     */
+    private static void collectHash(Map<SSTableReader, SSTableHashes.Writer> hashing, List<SSTableReader> sources, DecoratedKey key, MerkleTree.RowHash rowHash)
+    {
+        if (sources.contains(null))
+        {
+            hashing.clear();
+            return;
+        }
+
+        if (sources.size() > 1 || rowHash == null)
+        {
+            for (SSTableReader sstable : sources)
+                hashing.remove(sstable);
+            return;
+        }
+
+        SSTableHashes.Writer writer = hashing.get(sources.get(0));
+        if (writer == null)
+            return;
+
+        writer.add(key, rowHash);
+        if (writer.size() > MAX_COLLECTED_HASHES_SIZE)
+            hashing.remove(writer.sstable);
+    }
+
     /**
      * Splits up an sstable into two new sstables. The first of the new tables will store repaired ranges, the second
      * will store the non-repaired ranges. Once anticompation is completed, the original sstable is marked as compacted
@@ -1198,10 +1292,31 @@ public class CompactionManager implements CompactionManagerMBean
 
     private static class ValidationCompactionIterable extends CompactionIterable
     {
+        // the sstables the last row was merged from, null for the rows not read as a whole from an sstable
+        private final List<SSTableReader> sources = new ArrayList<>();
+
         public ValidationCompactionIterable(ColumnFamilyStore cfs, List<ISSTableScanner> scanners, int gcBefore)
         {
             super(OperationType.VALIDATION, scanners, new ValidationCompactionController(cfs, gcBefore));
         }
+
+        @Override
+        public CloseableIterator<AbstractCompactedRow> iterator()
+        {
+            return MergeIterator.get(scanners, comparator, new ValidationReducer());
+        }
+
+        private class ValidationReducer extends Reducer
+        {
+            @Override
+            protected AbstractCompactedRow getReduced()
+            {
+                sources.clear();
+                for (OnDiskAtomIterator row : rows)
+                    sources.add(row instanceof SSTableIdentityIterator ? ((SSTableIdentityIterator) row).sstable : null);
+                return super.getReduced();
+            }
+        }
     }
 
     /*
@@ -1299,6 +1414,14 @@ public class CompactionManager implements CompactionManagerMBean
         }
     }
 
+    private static class RangeCompactionExecutor extends CompactionExecutor
+    {
+        public RangeCompactionExecutor()
+        {
+            super(1, Integer.MAX_VALUE, "RangeCompactionExecutor", new SynchronousQueue<Runnable>());
+        }
+    }
+
     private static class CacheCleanupExecutor extends CompactionExecutor
     {
         public CacheCleanupExecutor()
@@ -1391,6 +1514,21 @@ public class CompactionManager implements CompactionManagerMBean
         }
     }
 
+    /**
+     * Registers an operation running outside of the compaction executors, such as a secondary index merge, so that it
+     * is reported by compactionstats and can be stopped with {@link #stopCompaction(String)}.
+     * Must be paired with a call to {@link #finishCompaction(Holder)}.
+     */
+    public void beginCompaction(Holder ci)
+    {
+        metrics.beginCompaction(ci);
+    }
+
+    public void finishCompaction(Holder ci)
+    {
+        metrics.finishCompaction(ci);
+    }
+
     public void stopCompaction(String type)
     {
         OperationType operation = OperationType.valueOf(type);
@@ -78,6 +78,7 @@ public interface CompactionManagerMBean
      *   - CLEANUP
      *   - SCRUB
      *   - INDEX_BUILD
+     *   - INDEX_MERGE
      */
     public void stopCompaction(String type);
 
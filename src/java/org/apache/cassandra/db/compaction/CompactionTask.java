@@ -18,17 +18,23 @@
 package org.apache.cassandra.db.compaction;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
 import com.google.common.base.Predicate;
+import com.google.common.base.Throwables;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Sets;
 import org.apache.commons.lang3.StringUtils;
@@ -37,8 +43,11 @@ import org.slf4j.LoggerFactory;
 
 import org.apache.cassandra.config.DatabaseDescriptor;
 import org.apache.cassandra.db.ColumnFamilyStore;
+import org.apache.cassandra.db.DecoratedKey;
 import org.apache.cassandra.db.SystemKeyspace;
 import org.apache.cassandra.db.compaction.CompactionManager.CompactionExecutorStatsCollector;
+import org.apache.cassandra.dht.Range;
+import org.apache.cassandra.dht.Token;
 import org.apache.cassandra.io.sstable.SSTableReader;
 import org.apache.cassandra.io.sstable.SSTableRewriter;
 import org.apache.cassandra.io.sstable.SSTableWriter;
@@ -154,90 +163,131 @@ public class CompactionTask extends AbstractCompactionTask
             logger.debug("Expected bloom filter size : {}", keysPerSSTable);
 
             List<SSTableReader> newSStables;
-            AbstractCompactionIterable ci;
+            long[] mergedRowCounts;
 
-            // SSTableScanners need to be closed before markCompactedSSTablesReplaced call as scanners contain references
-            // to both ifile and dfile and SSTR will throw deletion errors on Windows if it tries to delete before scanner is closed.
-            // See CASSANDRA-8019 and CASSANDRA-8399
-            try (AbstractCompactionStrategy.ScannerList scanners = strategy.getScanners(actuallyCompact))
+            List<Range<Token>> ranges = offline ? Collections.<Range<Token>>emptyList() : splitRanges(actuallyCompact);
+            if (ranges.size() > 1)
             {
-                ci = new CompactionIterable(compactionType, scanners.scanners, controller);
-                Iterator<AbstractCompactedRow> iter = ci.iterator();
-                // we can't preheat until the tracker has been set. This doesn't happen until we tell the cfs to
-                // replace the old entries.  Track entries to preheat here until then.
-                long minRepairedAt = getMinRepairedAt(actuallyCompact);
-                // we only need the age of the data that we're actually retaining
-                long maxAge = getMaxDataAge(actuallyCompact);
-                if (collector != null)
-                    collector.beginCompaction(ci);
-                long lastCheckObsoletion = start;
-                SSTableRewriter writer = new SSTableRewriter(cfs, sstables, maxAge, offline);
+                logger.debug("Compacting {} in {} token ranges: {}", sstables, ranges.size(), ranges);
+                List<RangeCompaction> compactions = new ArrayList<>(ranges.size());
+                for (Range<Token> range : ranges)
+                    compactions.add(new RangeCompaction(range,
+                                                        actuallyCompact,
+                                                        Math.min(keysPerSSTable, estimatedTotalKeys / ranges.size()),
+                                                        Math.min(expectedSSTableSize, getExpectedWriteSize() / ranges.size())));
                 try
                 {
-                    if (!controller.cfs.getCompactionStrategy().isActive)
-                       throw new CompactionInterruptedException(ci.getCompactionInfo());
-                    if (!iter.hasNext())
-                    {
-                        // don't mark compacted in the finally block, since if there _is_ nondeleted data,
-                        // we need to sync it (via closeAndOpen) first, so there is no period during which
-                        // a crash could cause data loss.
-                        cfs.markObsolete(sstables, compactionType);
-                        return;
-                    }
+                    newSStables = compactRanges(compactions);
+                }
+                finally
+                {
+                    if (taskId != null)
+                        SystemKeyspace.finishCompaction(taskId);
+                }
 
-                    writer.switchWriter(createCompactionWriter(cfs.directories.getLocationForDisk(getWriteDirectory(expectedSSTableSize)), keysPerSSTable, minRepairedAt));
-                    while (iter.hasNext())
+                mergedRowCounts = new long[0];
+                for (RangeCompaction compaction : compactions)
+                {
+                    totalKeysWritten += compaction.keysWritten;
+                    long[] counts = compaction.ci.getMergedRowCounts();
+                    if (counts.length > mergedRowCounts.length)
+                        mergedRowCounts = Arrays.copyOf(mergedRowCounts, counts.length);
+                    for (int i = 0; i < counts.length; i++)
+                        mergedRowCounts[i] += counts[i];
+                }
+
+                // the new sstables were left out of the tracker until all the ranges were done, to swap them all at once
+                cfs.getDataTracker().replaceCompactedSSTables(sstables, newSStables, compactionType);
+            }
+            else
+            {
+                AbstractCompactionIterable ci;
+
+                // SSTableScanners need to be closed before markCompactedSSTablesReplaced call as scanners contain references
+                // to both ifile and dfile and SSTR will throw deletion errors on Windows if it tries to delete before scanner is closed.
+                // See CASSANDRA-8019 and CASSANDRA-8399
+                try (AbstractCompactionStrategy.ScannerList scanners = strategy.getScanners(actuallyCompact))
+                {
+                    ci = new CompactionIterable(compactionType, scanners.scanners, controller);
+                    Iterator<AbstractCompactedRow> iter = ci.iterator();
+                    // we can't preheat until the tracker has been set. This doesn't happen until we tell the cfs to
+                    // replace the old entries.  Track entries to preheat here until then.
+                    long minRepairedAt = getMinRepairedAt(actuallyCompact);
+                    // we only need the age of the data that we're actually retaining
+                    long maxAge = getMaxDataAge(actuallyCompact);
+                    if (collector != null)
+                        collector.beginCompaction(ci);
+                    long lastCheckObsoletion = start;
+                    SSTableRewriter writer = new SSTableRewriter(cfs, sstables, maxAge, offline);
+                    try
                     {
-                        if (ci.isStopRequested())
-                            throw new CompactionInterruptedException(ci.getCompactionInfo());
+                        if (!controller.cfs.getCompactionStrategy().isActive)
+                           throw new CompactionInterruptedException(ci.getCompactionInfo());
+                        if (!iter.hasNext())
+                        {
+                            // don't mark compacted in the finally block, since if there _is_ nondeleted data,
+                            // we need to sync it (via closeAndOpen) first, so there is no period during which
+                            // a crash could cause data loss.
+                            cfs.markObsolete(sstables, compactionType);
+                            return;
+                        }
 
-                        AbstractCompactedRow row = iter.next();
-                        if (writer.append(row) != null)
+                        writer.switchWriter(createCompactionWriter(cfs.directories.getLocationForDisk(getWriteDirectory(expectedSSTableSize)), keysPerSSTable, minRepairedAt));
+                        while (iter.hasNext())
                         {
-                            totalKeysWritten++;
-                            if (newSSTableSegmentThresholdReached(writer.currentWriter()))
+                            if (ci.isStopRequested())
+                                throw new CompactionInterruptedException(ci.getCompactionInfo());
+
+                            AbstractCompactedRow row = iter.next();
+                            if (writer.append(row) != null)
                             {
-                                writer.switchWriter(createCompactionWriter(cfs.directories.getLocationForDisk(getWriteDirectory(expectedSSTableSize)), keysPerSSTable, minRepairedAt));
+                                totalKeysWritten++;
+                                if (newSSTableSegmentThresholdReached(writer.currentWriter()))
+                                {
+                                    writer.switchWriter(createCompactionWriter(cfs.directories.getLocationForDisk(getWriteDirectory(expectedSSTableSize)), keysPerSSTable, minRepairedAt));
+                                }
                             }
-                        }
 
-                        if (System.nanoTime() - lastCheckObsoletion > TimeUnit.MINUTES.toNanos(1L))
-                        {
-                            controller.maybeRefreshOverlaps();
-                            lastCheckObsoletion = System.nanoTime();
+                            if (System.nanoTime() - lastCheckObsoletion > TimeUnit.MINUTES.toNanos(1L))
+                            {
+                                controller.maybeRefreshOverlaps();
+                                lastCheckObsoletion = System.nanoTime();
+                            }
                         }
-                    }
 
-                    // don't replace old sstables yet, as we need to mark the compaction finished in the system table
-                    newSStables = writer.finish();
-                }
-                catch (Throwable t)
-                {
-                    try
+                        // don't replace old sstables yet, as we need to mark the compaction finished in the system table
+                        newSStables = writer.finish();
+                    }
+                    catch (Throwable t)
                     {
-                        writer.abort();
+                        try
+                        {
+                            writer.abort();
+                        }
+                        catch (Throwable t2)
+                        {
+                            t.addSuppressed(t2);
+                        }
+                        throw t;
                     }
-                    catch (Throwable t2)
+                    finally
                     {
-                        t.addSuppressed(t2);
+                        // point of no return -- the new sstables are live on disk; next we'll start deleting the old ones
+                        // (in replaceCompactedSSTables)
+                        if (taskId != null)
+                            SystemKeyspace.finishCompaction(taskId);
+
+                        if (collector != null)
+                            collector.finishCompaction(ci);
                     }
-                    throw t;
                 }
-                finally
-                {
-                    // point of no return -- the new sstables are live on disk; next we'll start deleting the old ones
-                    // (in replaceCompactedSSTables)
-                    if (taskId != null)
-                        SystemKeyspace.finishCompaction(taskId);
 
-                    if (collector != null)
-                        collector.finishCompaction(ci);
-                }
+                mergedRowCounts = ci.getMergedRowCounts();
+                if (!offline)
+                    cfs.getDataTracker().markCompactedSSTablesReplaced(sstables, newSStables, compactionType);
             }
 
             Collection<SSTableReader> oldSStables = this.sstables;
-            if (!offline)
-                cfs.getDataTracker().markCompactedSSTablesReplaced(oldSStables, newSStables, compactionType);
 
             // log a bunch of statistics about the result and save to system table compaction_history
             long dTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
@@ -251,7 +301,7 @@ public class CompactionTask extends AbstractCompactionTask
 
             double mbps = dTime > 0 ? (double) endsize / (1024 * 1024) / ((double) dTime / 1000) : 0;
             long totalSourceRows = 0;
-            long[] counts = ci.getMergedRowCounts();
+            long[] counts = mergedRowCounts;
             StringBuilder mergeSummary = new StringBuilder(counts.length * 10);
             Map<Integer, Long> mergedRows = new HashMap<>();
             for (int i = 0; i < counts.length; i++)
@@ -274,6 +324,212 @@ public class CompactionTask extends AbstractCompactionTask
         }
     }
 
+    /**
+     * Splits the token ring in as many ranges holding about the same number of partitions of the sstables as their size
+     * allows, up to max_compaction_splits, using the samples of their index summaries.
+     */
+    private List<Range<Token>> splitRanges(Set<SSTableReader> toCompact)
+    {
+        Token minimum = cfs.partitioner.getMinimumToken();
+        Range<Token> ring = new Range<>(minimum, minimum, cfs.partitioner);
+        long splits = Math.min(DatabaseDescriptor.getMaxCompactionSplits(), SSTableReader.getTotalBytes(toCompact) / DatabaseDescriptor.getMinCompactionSplitSize());
+        if (splits < 2)
+            return Collections.singletonList(ring);
+
+        List<Token> samples = new ArrayList<>();
+        for (SSTableReader sstable : toCompact)
+        {
+            for (DecoratedKey key : sstable.getKeySamples(ring))
+                samples.add(key.getToken());
+        }
+        Collections.sort(samples);
+
+        List<Range<Token>> ranges = new ArrayList<>();
+        Token left = minimum;
+        for (int i = 1; i < splits; i++)
+        {
+            Token right = samples.get((int) (i * samples.size() / splits));
+            // too few distinct samples for that many ranges
+            if (right.compareTo(left) <= 0)
+                continue;
+            ranges.add(new Range<>(left, right, cfs.partitioner));
+            left = right;
+        }
+        ranges.add(new Range<>(left, minimum, cfs.partitioner));
+        return ranges;
+    }
+
+    /**
+     * Compacts each of the ranges concurrently, the first one in this thread, and finishes their sstables once they
+     * are all done, so that either all of them or none are committed.
+     *
+     * @return the new sstables, that are not in the tracker yet
+     */
+    private List<SSTableReader> compactRanges(List<RangeCompaction> compactions) throws Exception
+    {
+        List<Future<?>> futures = new ArrayList<>(compactions.size() - 1);
+        try
+        {
+            for (RangeCompaction compaction : compactions.subList(1, compactions.size()))
+                futures.add(CompactionManager.instance.submitRangeCompaction(compaction));
+            compactions.get(0).call();
+            for (Future<?> future : futures)
+            {
+                try
+                {
+                    future.get();
+                }
+                catch (ExecutionException e)
+                {
+                    Throwables.propagateIfPossible(e.getCause(), Exception.class);
+                    throw Throwables.propagate(e.getCause());
+                }
+            }
+        }
+        catch (Throwable t)
+        {
+            for (RangeCompaction compaction : compactions)
+                compaction.stop();
+            // the writers of the other ranges can only be aborted once they have stopped writing to them
+            for (Future<?> future : futures)
+            {
+                try
+                {
+                    future.get();
+                }
+                catch (Throwable t2)
+                {
+                    // it has been interrupted, or is the failure we are handling
+                }
+            }
+            for (RangeCompaction compaction : compactions)
+            {
+                try
+                {
+                    compaction.writer.abort();
+                }
+                catch (Throwable t2)
+                {
+                    t.addSuppressed(t2);
+                }
+            }
+            throw t;
+        }
+
+        List<SSTableReader> newSSTables = new ArrayList<>();
+        int finished = 0;
+        try
+        {
+            for (; finished < compactions.size(); finished++)
+                newSSTables.addAll(compactions.get(finished).writer.finish());
+        }
+        catch (Throwable t)
+        {
+            for (SSTableReader sstable : newSSTables)
+            {
+                try
+                {
+                    sstable.markObsolete();
+                    sstable.selfRef().release();
+                }
+                catch (Throwable t2)
+                {
+                    t.addSuppressed(t2);
+                }
+            }
+            for (RangeCompaction compaction : compactions.subList(finished, compactions.size()))
+            {
+                try
+                {
+                    compaction.writer.abort();
+                }
+                catch (Throwable t2)
+                {
+                    t.addSuppressed(t2);
+                }
+            }
+            throw t;
+        }
+        return newSSTables;
+    }
+
+    /**
+     * Compacts the partitions of one token range of the sstables, with a detached rewriter that the caller finishes.
+     */
+    private final class RangeCompaction implements Callable<Void>
+    {
+        private final Range<Token> range;
+        private final Set<SSTableReader> actuallyCompact;
+        private final long keysPerSSTable;
+        private final long expectedSSTableSize;
+        private final SSTableRewriter writer;
+
+        private volatile AbstractCompactionIterable ci;
+        private volatile boolean stopped;
+        private long keysWritten;
+
+        private RangeCompaction(Range<Token> range, Set<SSTableReader> actuallyCompact, long keysPerSSTable, long expectedSSTableSize)
+        {
+            this.range = range;
+            this.actuallyCompact = actuallyCompact;
+            this.keysPerSSTable = keysPerSSTable;
+            this.expectedSSTableSize = expectedSSTableSize;
+            this.writer = new SSTableRewriter(cfs, sstables, getMaxDataAge(actuallyCompact), false, true);
+        }
+
+        public Void call() throws Exception
+        {
+            long minRepairedAt = getMinRepairedAt(actuallyCompact);
+            try (CompactionController controller = getCompactionController(sstables);
+                 AbstractCompactionStrategy.ScannerList scanners = cfs.getCompactionStrategy().getScanners(actuallyCompact, range))
+            {
+                ci = new CompactionIterable(compactionType, scanners.scanners, controller);
+                Iterator<AbstractCompactedRow> iter = ci.iterator();
+                if (collector != null)
+                    collector.beginCompaction(ci);
+                try
+                {
+                    if (!cfs.getCompactionStrategy().isActive)
+                        throw new CompactionInterruptedException(ci.getCompactionInfo());
+
+                    long lastCheckObsoletion = System.nanoTime();
+                    while (iter.hasNext())
+                    {
+                        if (stopped || ci.isStopRequested())
+                            throw new CompactionInterruptedException(ci.getCompactionInfo());
+
+                        AbstractCompactedRow row = iter.next();
+                        if (writer.currentWriter() == null)
+                            writer.switchWriter(createCompactionWriter(cfs.directories.getLocationForDisk(getWriteDirectory(expectedSSTableSize)), keysPerSSTable, minRepairedAt));
+                        if (writer.append(row) != null)
+                        {
+                            keysWritten++;
+                            if (newSSTableSegmentThresholdReached(writer.currentWriter()))
+                                writer.switchWriter(createCompactionWriter(cfs.directories.getLocationForDisk(getWriteDirectory(expectedSSTableSize)), keysPerSSTable, minRepairedAt));
+                        }
+
+                        if (System.nanoTime() - lastCheckObsoletion > TimeUnit.MINUTES.toNanos(1L))
+                        {
+                            controller.maybeRefreshOverlaps();
+                            lastCheckObsoletion = System.nanoTime();
+                        }
+                    }
+                }
+                finally
+                {
+                    if (collector != null)
+                        collector.finishCompaction(ci);
+                }
+            }
+            return null;
+        }
+
+        private void stop()
+        {
+            stopped = true;
+        }
+    }
+
     private long getMinRepairedAt(Set<SSTableReader> actuallyCompact)
     {
         long minRepairedAt= Long.MAX_VALUE;
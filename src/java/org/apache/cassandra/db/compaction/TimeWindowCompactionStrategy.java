@@ -0,0 +1,287 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.cassandra.db.compaction;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.apache.cassandra.cql3.statements.CFPropDefs;
+import org.apache.cassandra.db.ColumnFamilyStore;
+import org.apache.cassandra.exceptions.ConfigurationException;
+import org.apache.cassandra.io.sstable.SSTableReader;
+import org.apache.cassandra.utils.Pair;
+
+/**
+ * Groups the sstables in fixed time windows, by their max timestamp. The sstables of the current window are compacted
+ * with size tiering, and once a window is over, all of its sstables are compacted together, so that there is a single
+ * sstable per past window. Sstables holding only expired data are dropped as a whole.
+ */
+public class TimeWindowCompactionStrategy extends AbstractCompactionStrategy
+{
+    private static final Logger logger = LoggerFactory.getLogger(TimeWindowCompactionStrategy.class);
+
+    private final TimeWindowCompactionStrategyOptions options;
+    protected volatile int estimatedRemainingTasks;
+    private final Set<SSTableReader> sstables = new HashSet<>();
+    private long lastExpiredCheck;
+
+    public TimeWindowCompactionStrategy(ColumnFamilyStore cfs, Map<String, String> options)
+    {
+        super(cfs, options);
+        this.estimatedRemainingTasks = 0;
+        this.options = new TimeWindowCompactionStrategyOptions(options);
+    }
+
+    @Override
+    public synchronized AbstractCompactionTask getNextBackgroundTask(int gcBefore)
+    {
+        if (!isEnabled())
+            return null;
+
+        while (true)
+        {
+            List<SSTableReader> latestBucket = getNextBackgroundSSTables(gcBefore);
+
+            if (latestBucket.isEmpty())
+                return null;
+
+            if (cfs.getDataTracker().markCompacting(latestBucket))
+                return new CompactionTask(cfs, latestBucket, gcBefore, false);
+        }
+    }
+
+    private List<SSTableReader> getNextBackgroundSSTables(final int gcBefore)
+    {
+        if (!isEnabled() || cfs.getSSTables().isEmpty())
+            return Collections.emptyList();
+
+        Set<SSTableReader> uncompacting = Sets.intersection(sstables, cfs.getUncompactingSSTables());
+
+        // Fully expired sstables are dropped on their own, without compacting anything else: the task doesn't even
+        // read them. Checking it means finding their overlaps, so it is only done once in a while.
+        if (System.currentTimeMillis() - lastExpiredCheck > options.expiredSSTableCheckFrequency)
+        {
+            Set<SSTableReader> expired = CompactionController.getFullyExpiredSSTables(cfs, uncompacting, cfs.getOverlappingSSTables(uncompacting), gcBefore);
+            lastExpiredCheck = System.currentTimeMillis();
+            if (!expired.isEmpty())
+            {
+                logger.debug("Dropping expired sstables: {}", expired);
+                return new ArrayList<>(expired);
+            }
+        }
+
+        Set<SSTableReader> candidates = Sets.newHashSet(filterSuspectSSTables(uncompacting));
+        List<SSTableReader> compactionCandidates = getCompactionCandidates(candidates);
+        if (!compactionCandidates.isEmpty())
+            return compactionCandidates;
+
+        // if there is no sstable to compact in standard way, try compacting single sstable whose droppable tombstone
+        // ratio is greater than threshold.
+        List<SSTableReader> sstablesWithTombstones = Lists.newArrayList();
+        for (SSTableReader sstable : candidates)
+        {
+            if (worthDroppingTombstones(sstable, gcBefore))
+                sstablesWithTombstones.add(sstable);
+        }
+        if (sstablesWithTombstones.isEmpty())
+            return Collections.emptyList();
+
+        return Collections.singletonList(Collections.min(sstablesWithTombstones, new SSTableReader.SizeComparator()));
+    }
+
+    private List<SSTableReader> getCompactionCandidates(Iterable<SSTableReader> candidateSSTables)
+    {
+        Pair<TreeMap<Long, List<SSTableReader>>, Long> buckets = getBuckets(candidateSSTables, options.windowTimeUnit, options.windowTimeSize, options.timestampResolution);
+        logger.debug("Compaction buckets are {}", buckets.left);
+        updateEstimatedCompactionsByTasks(buckets.left, buckets.right);
+        return newestBucket(buckets.left,
+                            cfs.getMinimumCompactionThreshold(),
+                            cfs.getMaximumCompactionThreshold(),
+                            buckets.right,
+                            options.stcsOptions);
+    }
+
+    /**
+     * @param timestampInMillis a timestamp, in milliseconds
+     * @return the lower bound of the window the timestamp falls in, in milliseconds
+     */
+    @VisibleForTesting
+    static long getWindowLowerBound(TimeUnit windowTimeUnit, int windowTimeSize, long timestampInMillis)
+    {
+        long windowSize = TimeUnit.MILLISECONDS.convert(windowTimeSize, windowTimeUnit);
+        return timestampInMillis - (timestampInMillis % windowSize);
+    }
+
+    /**
+     * Group files by the window of their max timestamp.
+     * @param files the sstables to group
+     * @param timestampResolution the unit of the timestamps of the cells
+     * @return the buckets, keyed by the lower bound of their window in milliseconds, and the lower bound of the newest
+     *         window
+     */
+    @VisibleForTesting
+    static Pair<TreeMap<Long, List<SSTableReader>>, Long> getBuckets(Iterable<SSTableReader> files, TimeUnit windowTimeUnit, int windowTimeSize, TimeUnit timestampResolution)
+    {
+        TreeMap<Long, List<SSTableReader>> buckets = new TreeMap<>(Collections.reverseOrder());
+        long newestWindow = 0;
+        for (SSTableReader sstable : files)
+        {
+            long maxTimestamp = TimeUnit.MILLISECONDS.convert(sstable.getMaxTimestamp(), timestampResolution);
+            long window = getWindowLowerBound(windowTimeUnit, windowTimeSize, maxTimestamp);
+            List<SSTableReader> bucket = buckets.get(window);
+            if (bucket == null)
+            {
+                bucket = new ArrayList<>();
+                buckets.put(window, bucket);
+            }
+            bucket.add(sstable);
+            newestWindow = Math.max(newestWindow, window);
+        }
+        return Pair.create(buckets, newestWindow);
+    }
+
+    private void updateEstimatedCompactionsByTasks(TreeMap<Long, List<SSTableReader>> tasks, long now)
+    {
+        int n = 0;
+        for (Map.Entry<Long, List<SSTableReader>> bucket : tasks.entrySet())
+        {
+            int size = bucket.getValue().size();
+            // the current window only needs compacting once it has enough sstables, past ones as soon as they have 2
+            if (size >= (bucket.getKey() == now ? cfs.getMinimumCompactionThreshold() : 2))
+                n += Math.ceil((double) size / cfs.getMaximumCompactionThreshold());
+        }
+        estimatedRemainingTasks = n;
+    }
+
+    /**
+     * @param buckets the buckets of sstables, from the newest window to the oldest
+     * @param minThreshold minimum number of sstables of a tier of the current window to compact them
+     * @param maxThreshold maximum number of sstables to compact at once
+     * @param now the lower bound of the current window
+     * @return the sstables to compact: a size tier of the current window, or the sstables of the newest past window
+     *         that has several of them
+     */
+    @VisibleForTesting
+    static List<SSTableReader> newestBucket(TreeMap<Long, List<SSTableReader>> buckets, int minThreshold, int maxThreshold, long now, SizeTieredCompactionStrategyOptions stcsOptions)
+    {
+        for (Map.Entry<Long, List<SSTableReader>> entry : buckets.entrySet())
+        {
+            List<SSTableReader> bucket = entry.getValue();
+            if (entry.getKey() == now)
+            {
+                // the current window is still written to, so it is size tiered like STCS would
+                if (bucket.size() >= minThreshold)
+                {
+                    List<List<SSTableReader>> stcsBuckets = SizeTieredCompactionStrategy.getBuckets(SizeTieredCompactionStrategy.createSSTableAndLengthPairs(bucket),
+                                                                                                   stcsOptions.bucketHigh,
+                                                                                                   stcsOptions.bucketLow,
+                                                                                                   stcsOptions.minSSTableSize);
+                    List<SSTableReader> stcsInterestingBucket = SizeTieredCompactionStrategy.mostInterestingBucket(stcsBuckets, minThreshold, maxThreshold);
+                    if (!stcsInterestingBucket.isEmpty())
+                        return stcsInterestingBucket;
+                }
+            }
+            else if (bucket.size() >= 2)
+            {
+                // a past window gets a major compaction, the smallest sstables first if there are too many of them
+                return trimToThreshold(bucket, maxThreshold);
+            }
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * @return the <code>maxThreshold</code> smallest sstables of the bucket
+     */
+    @VisibleForTesting
+    static List<SSTableReader> trimToThreshold(List<SSTableReader> bucket, int maxThreshold)
+    {
+        List<SSTableReader> sorted = new ArrayList<>(bucket);
+        Collections.sort(sorted, new SSTableReader.SizeComparator());
+        return sorted.subList(0, Math.min(sorted.size(), maxThreshold));
+    }
+
+    @Override
+    public void addSSTable(SSTableReader sstable)
+    {
+        sstables.add(sstable);
+    }
+
+    @Override
+    public void removeSSTable(SSTableReader sstable)
+    {
+        sstables.remove(sstable);
+    }
+
+    @Override
+    public synchronized Collection<AbstractCompactionTask> getMaximalTask(int gcBefore)
+    {
+        Iterable<SSTableReader> sstables = cfs.markAllCompacting();
+        if (sstables == null)
+            return null;
+
+        return Arrays.<AbstractCompactionTask>asList(new CompactionTask(cfs, sstables, gcBefore, false));
+    }
+
+    @Override
+    public synchronized AbstractCompactionTask getUserDefinedTask(Collection<SSTableReader> sstables, int gcBefore)
+    {
+        assert !sstables.isEmpty(); // checked for by CM.submitUserDefined
+
+        if (!cfs.getDataTracker().markCompacting(sstables))
+        {
+            logger.debug("Unable to mark {} for compaction; probably a background compaction got to it first.  You can disable background compactions temporarily if this is a problem", sstables);
+            return null;
+        }
+
+        return new CompactionTask(cfs, sstables, gcBefore, false).setUserDefined(true);
+    }
+
+    public int getEstimatedRemainingTasks()
+    {
+        return estimatedRemainingTasks;
+    }
+
+    public long getMaxSSTableBytes()
+    {
+        return Long.MAX_VALUE;
+    }
+
+    public static Map<String, String> validateOptions(Map<String, String> options) throws ConfigurationException
+    {
+        Map<String, String> uncheckedOptions = AbstractCompactionStrategy.validateOptions(options);
+        uncheckedOptions = TimeWindowCompactionStrategyOptions.validateOptions(options, uncheckedOptions);
+
+        uncheckedOptions.remove(CFPropDefs.KW_MINCOMPACTIONTHRESHOLD);
+        uncheckedOptions.remove(CFPropDefs.KW_MAXCOMPACTIONTHRESHOLD);
+
+        return uncheckedOptions;
+    }
+
+    public String toString()
+    {
+        return String.format("TimeWindowCompactionStrategy[%s/%s]",
+                cfs.getMinimumCompactionThreshold(),
+                cfs.getMaximumCompactionThreshold());
+    }
+}
@@ -98,6 +98,11 @@ public abstract class ExtendedFilter
         return currentLimit;
     }
 
+    public boolean countCQL3Rows()
+    {
+        return countCQL3Rows;
+    }
+
     public IDiskAtomFilter columnFilter(ByteBuffer key)
     {
         return dataRange.columnFilter(key);
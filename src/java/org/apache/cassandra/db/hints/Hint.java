@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.cassandra.db.hints;
+
+import java.io.DataInput;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.cassandra.db.Mutation;
+import org.apache.cassandra.io.util.DataOutputPlus;
+
+/**
+ * A mutation to be delivered to a node once it is available again, along with the time it was created and the
+ * number of seconds it can be delivered for.
+ */
+public class Hint
+{
+    public final Mutation mutation;
+    // creation time in milliseconds, relevant for hint delivery of truncated CFs
+    public final long creationTime;
+    public final int ttl;
+
+    public Hint(Mutation mutation, long creationTime, int ttl)
+    {
+        assert ttl > 0;
+        this.mutation = mutation;
+        this.creationTime = creationTime;
+        this.ttl = ttl;
+    }
+
+    /**
+     * @param now current time in milliseconds
+     * @return the number of seconds this hint can still be delivered for, 0 or less if it has expired
+     */
+    public int remainingTTL(long now)
+    {
+        return ttl - (int) TimeUnit.MILLISECONDS.toSeconds(now - creationTime);
+    }
+
+    public boolean isLive(long now)
+    {
+        return remainingTTL(now) > 0;
+    }
+
+    public void serialize(DataOutputPlus out, int version) throws IOException
+    {
+        out.writeLong(creationTime);
+        out.writeInt(ttl);
+        Mutation.serializer.serialize(mutation, out, version);
+    }
+
+    public static Hint deserialize(DataInput in, int version) throws IOException
+    {
+        long creationTime = in.readLong();
+        int ttl = in.readInt();
+        return new Hint(Mutation.serializer.deserialize(in, version), creationTime, ttl);
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.cassandra.db.hints;
+
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.google.common.primitives.Longs;
+
+/**
+ * Identifies a hints file: the host the hints are for, the time the file was created, and the messaging version
+ * the hinted mutations are serialized with. Files of the same host are delivered in creation order.
+ */
+public class HintsDescriptor implements Comparable<HintsDescriptor>
+{
+    private static final String SEPARATOR = "-";
+    private static final String EXTENSION = ".hints";
+    private static final String OFFSET_EXTENSION = ".offset";
+    private static final Pattern FILE_NAME_PATTERN = Pattern.compile("([0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12})-(\\d+)-(\\d+)(\\.hints|\\.offset)");
+
+    public final UUID hostId;
+    public final long timestamp;
+    public final int version;
+
+    public HintsDescriptor(UUID hostId, long timestamp, int version)
+    {
+        this.hostId = hostId;
+        this.timestamp = timestamp;
+        this.version = version;
+    }
+
+    public String fileName()
+    {
+        return hostId + SEPARATOR + timestamp + SEPARATOR + version + EXTENSION;
+    }
+
+    /**
+     * @return the name of the file recording how far the hints file has been delivered
+     */
+    public String offsetFileName()
+    {
+        return hostId + SEPARATOR + timestamp + SEPARATOR + version + OFFSET_EXTENSION;
+    }
+
+    /**
+     * @return the descriptor of the given hints file name, or null if it isn't a hints file
+     */
+    public static HintsDescriptor fromFileName(String name)
+    {
+        return fromFileName(name, EXTENSION);
+    }
+
+    /**
+     * @return the descriptor of the hints file of the given offset file name, or null if it isn't an offset file
+     */
+    public static HintsDescriptor fromOffsetFileName(String name)
+    {
+        return fromFileName(name, OFFSET_EXTENSION);
+    }
+
+    private static HintsDescriptor fromFileName(String name, String extension)
+    {
+        Matcher matcher = FILE_NAME_PATTERN.matcher(name);
+        if (!matcher.matches() || !matcher.group(4).equals(extension))
+            return null;
+        return new HintsDescriptor(UUID.fromString(matcher.group(1)), Long.parseLong(matcher.group(2)), Integer.parseInt(matcher.group(3)));
+    }
+
+    public int compareTo(HintsDescriptor that)
+    {
+        return Longs.compare(timestamp, that.timestamp);
+    }
+
+    @Override
+    public boolean equals(Object o)
+    {
+        if (!(o instanceof HintsDescriptor))
+            return false;
+        HintsDescriptor that = (HintsDescriptor) o;
+        return hostId.equals(that.hostId) && timestamp == that.timestamp && version == that.version;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return 31 * hostId.hashCode() + Longs.hashCode(timestamp);
+    }
+
+    @Override
+    public String toString()
+    {
+        return fileName();
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.cassandra.db.hints;
+
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.apache.cassandra.db.UnknownColumnFamilyException;
+import org.apache.cassandra.io.FSReadError;
+import org.apache.cassandra.io.util.FastByteArrayInputStream;
+import org.apache.cassandra.io.util.FileUtils;
+import org.apache.cassandra.io.util.RandomAccessReader;
+import org.apache.cassandra.utils.PureJavaCrc32;
+
+/**
+ * Sequentially reads the hints of a file written by {@link HintsStore}, verifying the checksums of each entry.
+ */
+public class HintsReader implements Closeable
+{
+    private static final Logger logger = LoggerFactory.getLogger(HintsReader.class);
+
+    private final File file;
+    private final HintsDescriptor descriptor;
+    private final RandomAccessReader reader;
+    private final PureJavaCrc32 checksum = new PureJavaCrc32();
+    private byte[] buffer = new byte[4096];
+
+    private HintsReader(File file, HintsDescriptor descriptor, RandomAccessReader reader)
+    {
+        this.file = file;
+        this.descriptor = descriptor;
+        this.reader = reader;
+    }
+
+    /**
+     * @param offset the position to start reading from, the end of the last entry read by a previous reader
+     */
+    public static HintsReader open(File file, HintsDescriptor descriptor, long offset)
+    {
+        RandomAccessReader reader = RandomAccessReader.open(file);
+        try
+        {
+            reader.seek(offset);
+        }
+        catch (RuntimeException e)
+        {
+            FileUtils.closeQuietly(reader);
+            throw e;
+        }
+        return new HintsReader(file, descriptor, reader);
+    }
+
+    /**
+     * @return the next hint of the file, or null once it has been fully read. An entry that is truncated or doesn't
+     * match its checksums, as left by a crash while appending, also ends the file.
+     */
+    public Hint readHint()
+    {
+        try
+        {
+            while (!reader.isEOF())
+            {
+                long position = reader.getFilePointer();
+                int size;
+                try
+                {
+                    size = reader.readInt();
+                    checksum.reset();
+                    checksum.updateInt(size);
+                    if (reader.readInt() != checksum.getCrc())
+                    {
+                        logger.warn("Encountered bad entry size at position {} of hints file {}", position, file);
+                        return null;
+                    }
+
+                    if (size > buffer.length)
+                        buffer = new byte[(int) (1.2 * size)];
+                    reader.readFully(buffer, 0, size);
+                    checksum.update(buffer, 0, size);
+                    if (reader.readInt() != checksum.getCrc())
+                    {
+                        logger.warn("Encountered bad entry at position {} of hints file {}", position, file);
+                        return null;
+                    }
+                }
+                catch (EOFException e)
+                {
+                    logger.warn("Encountered truncated entry at the end of hints file {}", file);
+                    return null;
+                }
+
+                try
+                {
+                    return Hint.deserialize(new DataInputStream(new FastByteArrayInputStream(buffer, 0, size)), descriptor.version);
+                }
+                catch (UnknownColumnFamilyException e)
+                {
+                    logger.debug("Skipping hint for deleted columnfamily", e);
+                }
+            }
+            return null;
+        }
+        catch (IOException e)
+        {
+            throw new FSReadError(e, file);
+        }
+    }
+
+    /**
+     * @return the position after the last entry read
+     */
+    public long getPosition()
+    {
+        return reader.getFilePointer();
+    }
+
+    public void close()
+    {
+        reader.close();
+    }
+}
@@ -0,0 +1,407 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.cassandra.db.hints;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.common.annotations.VisibleForTesting;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.apache.cassandra.io.FSReadError;
+import org.apache.cassandra.io.FSWriteError;
+import org.apache.cassandra.io.util.FileUtils;
+import org.apache.cassandra.net.MessagingService;
+import org.apache.cassandra.utils.PureJavaCrc32;
+
+/**
+ * The hints for a single host, as an append-only sequence of files. Hints are appended to the current file, which
+ * is closed when it grows past {@link #MAX_FILE_SIZE} or when delivery starts, so delivery only reads complete
+ * files and simply deletes them once they have been fully delivered.
+ *
+ * Each entry of a file is [int: size][int: size checksum][size bytes: hint][int: checksum].
+ *
+ * How far a file has been delivered is recorded in an offset file next to it, [long: offset][int: checksum], so
+ * the delivered hints aren't sent again after a restart.
+ */
+public class HintsStore
+{
+    private static final Logger logger = LoggerFactory.getLogger(HintsStore.class);
+
+    public static final long MAX_FILE_SIZE = Long.getLong("cassandra.max_hints_file_size_in_mb", 128) * 1024 * 1024;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    public final UUID hostId;
+    private final File directory;
+
+    // the complete files, in creation order
+    private final List<HintsDescriptor> descriptors = new ArrayList<>();
+    // the position up to which partially delivered files have been delivered, as recorded in their offset files
+    private final Map<HintsDescriptor, Long> deliveredOffsets = new ConcurrentHashMap<>();
+
+    private Writer writer;
+    private long lastTimestamp;
+
+    // the number of hints appended, and the number of them known to be on disk
+    private long appended;
+    private volatile long synced;
+    private volatile long syncs;
+    // only one sync runs at a time, the hints appended meanwhile are synced together by the next one
+    private final Object syncLock = new Object();
+
+    public HintsStore(UUID hostId, File directory)
+    {
+        this.hostId = hostId;
+        this.directory = directory;
+    }
+
+    /**
+     * Adds an existing complete file to the store, as found on startup.
+     */
+    public synchronized void addFile(HintsDescriptor descriptor)
+    {
+        assert descriptor.hostId.equals(hostId);
+        descriptors.add(descriptor);
+        Collections.sort(descriptors);
+        lastTimestamp = Math.max(lastTimestamp, descriptor.timestamp);
+
+        long offset = readDeliveredOffset(descriptor);
+        if (offset > 0)
+            deliveredOffsets.put(descriptor, offset);
+    }
+
+    /**
+     * Appends a serialized hint to the current file, which is not synced to disk until {@link #sync()} is called.
+     *
+     * @return the number of bytes written
+     */
+    public synchronized int write(byte[] hint, int length)
+    {
+        if (writer == null)
+            writer = new Writer(new HintsDescriptor(hostId, nextTimestamp(), MessagingService.current_version));
+
+        int written = writer.write(hint, length);
+        appended++;
+        if (writer.size >= MAX_FILE_SIZE)
+            closeWriter();
+        return written;
+    }
+
+    private long nextTimestamp()
+    {
+        lastTimestamp = Math.max(System.currentTimeMillis(), lastTimestamp + 1);
+        return lastTimestamp;
+    }
+
+    /**
+     * Flushes and syncs the current file to disk, so all the hints appended before the call are on disk when it
+     * returns. Concurrent callers share syncs: the file is synced outside the lock of the store, so hints keep being
+     * appended meanwhile, and the callers waiting for it are all covered by the next sync.
+     */
+    public void sync()
+    {
+        long position;
+        synchronized (this)
+        {
+            position = appended;
+        }
+        if (synced >= position)
+            return;
+
+        synchronized (syncLock)
+        {
+            if (synced >= position)
+                return;
+
+            Writer current;
+            long target;
+            synchronized (this)
+            {
+                current = writer;
+                target = appended;
+                if (current != null)
+                    current.flush();
+            }
+            // a file closed in the meantime was synced when it was closed
+            if (current != null)
+                current.syncUnlessClosed();
+            synced = target;
+            syncs++;
+        }
+    }
+
+    /**
+     * @return the number of times the hints of the host have been synced by {@link #sync()}
+     */
+    @VisibleForTesting
+    public long syncCount()
+    {
+        return syncs;
+    }
+
+    /**
+     * Closes the current file, making it available for delivery.
+     */
+    public synchronized void closeWriter()
+    {
+        if (writer == null)
+            return;
+
+        writer.close();
+        if (writer.size > 0)
+            descriptors.add(writer.descriptor);
+        else
+            FileUtils.deleteWithConfirm(getFile(writer.descriptor));
+        writer = null;
+    }
+
+    /**
+     * @return the complete files, in the order their hints should be delivered
+     */
+    public synchronized List<HintsDescriptor> getFiles()
+    {
+        return new ArrayList<>(descriptors);
+    }
+
+    public File getFile(HintsDescriptor descriptor)
+    {
+        return new File(directory, descriptor.fileName());
+    }
+
+    public long getDeliveredOffset(HintsDescriptor descriptor)
+    {
+        Long offset = deliveredOffsets.get(descriptor);
+        return offset == null ? 0 : offset;
+    }
+
+    public File getOffsetFile(HintsDescriptor descriptor)
+    {
+        return new File(directory, descriptor.offsetFileName());
+    }
+
+    /**
+     * Records that the hints of a file have been delivered up to the given position, so a delivery that is
+     * interrupted, or that resumes after a restart, doesn't send them again.
+     */
+    public void markDelivered(HintsDescriptor descriptor, long offset)
+    {
+        writeDeliveredOffset(descriptor, offset);
+        deliveredOffsets.put(descriptor, offset);
+    }
+
+    private void writeDeliveredOffset(HintsDescriptor descriptor, long offset)
+    {
+        File file = getOffsetFile(descriptor);
+        PureJavaCrc32 checksum = new PureJavaCrc32();
+        checksum.updateInt((int) (offset >>> 32));
+        checksum.updateInt((int) offset);
+        try (FileOutputStream fos = new FileOutputStream(file))
+        {
+            DataOutputStream out = new DataOutputStream(fos);
+            out.writeLong(offset);
+            out.writeInt(checksum.getCrc());
+            out.flush();
+            fos.getFD().sync();
+        }
+        catch (IOException e)
+        {
+            throw new FSWriteError(e, file);
+        }
+    }
+
+    /**
+     * @return the offset recorded for the file, or 0 if there isn't any or it has been torn by a crash while being
+     * written, in which case the file is delivered again from its start
+     */
+    private long readDeliveredOffset(HintsDescriptor descriptor)
+    {
+        File file = getOffsetFile(descriptor);
+        if (!file.exists())
+            return 0;
+
+        try (DataInputStream in = new DataInputStream(new FileInputStream(file)))
+        {
+            if (file.length() != 12)
+                return 0;
+
+            long offset = in.readLong();
+            PureJavaCrc32 checksum = new PureJavaCrc32();
+            checksum.updateInt((int) (offset >>> 32));
+            checksum.updateInt((int) offset);
+            if (in.readInt() != checksum.getCrc())
+            {
+                logger.warn("Ignoring corrupted offset file {}", file);
+                return 0;
+            }
+            return offset;
+        }
+        catch (IOException e)
+        {
+            throw new FSReadError(e, file);
+        }
+    }
+
+    /**
+     * Deletes a complete file, typically once it has been fully delivered.
+     */
+    public synchronized void delete(HintsDescriptor descriptor)
+    {
+        if (!descriptors.remove(descriptor))
+            return;
+        deliveredOffsets.remove(descriptor);
+        FileUtils.deleteWithConfirm(getFile(descriptor));
+        File offsetFile = getOffsetFile(descriptor);
+        if (offsetFile.exists())
+            FileUtils.deleteWithConfirm(offsetFile);
+        logger.debug("Deleted hints file {}", descriptor);
+    }
+
+    /**
+     * Deletes all the hints of the host, including the current file.
+     */
+    public synchronized void deleteAll()
+    {
+        closeWriter();
+        for (HintsDescriptor descriptor : getFiles())
+            delete(descriptor);
+    }
+
+    public synchronized boolean hasHints()
+    {
+        return writer != null || !descriptors.isEmpty();
+    }
+
+    /**
+     * @return the size of the hints files of the host, in bytes
+     */
+    public synchronized long size()
+    {
+        long size = writer == null ? 0 : writer.size;
+        for (HintsDescriptor descriptor : descriptors)
+            size += getFile(descriptor).length();
+        return size;
+    }
+
+    private class Writer
+    {
+        private final HintsDescriptor descriptor;
+        private final File file;
+        private final FileOutputStream fos;
+        private final DataOutputStream out;
+        private final PureJavaCrc32 checksum = new PureJavaCrc32();
+        private long size;
+        private volatile boolean closed;
+
+        private Writer(HintsDescriptor descriptor)
+        {
+            this.descriptor = descriptor;
+            this.file = getFile(descriptor);
+            try
+            {
+                fos = new FileOutputStream(file);
+            }
+            catch (IOException e)
+            {
+                throw new FSWriteError(e, file);
+            }
+            out = new DataOutputStream(new BufferedOutputStream(fos, BUFFER_SIZE));
+            logger.debug("Created hints file {}", file);
+        }
+
+        private int write(byte[] hint, int length)
+        {
+            try
+            {
+                checksum.reset();
+                checksum.updateInt(length);
+                out.writeInt(length);
+                out.writeInt(checksum.getCrc());
+                checksum.update(hint, 0, length);
+                out.write(hint, 0, length);
+                out.writeInt(checksum.getCrc());
+            }
+            catch (IOException e)
+            {
+                throw new FSWriteError(e, file);
+            }
+            int written = 4 + 4 + length + 4;
+            size += written;
+            return written;
+        }
+
+        private void flush()
+        {
+            try
+            {
+                out.flush();
+            }
+            catch (IOException e)
+            {
+                throw new FSWriteError(e, file);
+            }
+        }
+
+        private void sync()
+        {
+            flush();
+            try
+            {
+                fos.getFD().sync();
+            }
+            catch (IOException e)
+            {
+                throw new FSWriteError(e, file);
+            }
+        }
+
+        /**
+         * Syncs what has been flushed, without holding the lock of the store, so the file may be closed concurrently.
+         */
+        private void syncUnlessClosed()
+        {
+            try
+            {
+                fos.getFD().sync();
+            }
+            catch (IOException e)
+            {
+                if (!closed)
+                    throw new FSWriteError(e, file);
+            }
+        }
+
+        private void close()
+        {
+            sync();
+            closed = true;
+            FileUtils.closeQuietly(out);
+        }
+    }
+}
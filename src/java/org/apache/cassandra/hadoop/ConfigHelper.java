@@ -56,6 +56,8 @@ public class ConfigHelper
     private static final String INPUT_KEYRANGE_CONFIG = "cassandra.input.keyRange";
     private static final String INPUT_SPLIT_SIZE_CONFIG = "cassandra.input.split.size";
     private static final String INPUT_WIDEROWS_CONFIG = "cassandra.input.widerows";
+    private static final String INPUT_SNAPSHOT_CONFIG = "cassandra.input.snapshot";
+    private static final String INPUT_DATA_DIRECTORIES_CONFIG = "cassandra.input.data.directories";
     private static final int DEFAULT_SPLIT_SIZE = 64 * 1024;
     private static final String RANGE_BATCH_SIZE_CONFIG = "cassandra.range.batch.size";
     private static final int DEFAULT_RANGE_BATCH_SIZE = 4096;
@@ -427,6 +429,39 @@ public class ConfigHelper
         }
     }
 
+    /**
+     * Set the name of the snapshot that SSTableInputFormat reads the sstables of.
+     *
+     * @param conf     Job configuration you are about to run
+     * @param snapshot the snapshot name, as given to nodetool snapshot -t
+     */
+    public static void setInputSnapshot(Configuration conf, String snapshot)
+    {
+        conf.set(INPUT_SNAPSHOT_CONFIG, snapshot);
+    }
+
+    public static String getInputSnapshot(Configuration conf)
+    {
+        return conf.get(INPUT_SNAPSHOT_CONFIG);
+    }
+
+    /**
+     * Set the data directories (data_file_directories of cassandra.yaml) of the nodes that SSTableInputFormat
+     * reads the snapshots from.
+     *
+     * @param conf        Job configuration you are about to run
+     * @param directories the data directories
+     */
+    public static void setInputDataDirectories(Configuration conf, String... directories)
+    {
+        conf.setStrings(INPUT_DATA_DIRECTORIES_CONFIG, directories);
+    }
+
+    public static String[] getInputDataDirectories(Configuration conf)
+    {
+        return conf.getStrings(INPUT_DATA_DIRECTORIES_CONFIG);
+    }
+
     public static int getOutputRpcPort(Configuration conf)
     {
         return Integer.parseInt(conf.get(OUTPUT_THRIFT_PORT, "9160"));
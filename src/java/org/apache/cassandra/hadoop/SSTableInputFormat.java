@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.cassandra.hadoop;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.SortedMap;
+
+import org.apache.cassandra.db.Cell;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.hadoop.mapred.Reporter;
+import org.apache.hadoop.mapreduce.*;
+
+/**
+ * Hadoop InputFormat reading the rows of one ColumnFamily straight from the sstables of a snapshot, without going
+ * through the read path of the cluster.
+ *
+ * The splits are computed as for ColumnFamilyInputFormat, and each split must be read on one of its replicas, from
+ * the snapshot in the local data directories. The rows are thus those of a single replica, as of the time of the
+ * snapshot: take the snapshot on every node (nodetool snapshot -t name) before running the job, and repair
+ * beforehand if replicas may be inconsistent.
+ *
+ * In addition to the settings of ColumnFamilyInputFormat, you need to set the snapshot and the data directories of
+ * the nodes in your Hadoop job Configuration with
+ *   ConfigHelper.setInputSnapshot
+ *   ConfigHelper.setInputDataDirectories
+ * The slice predicate is optional, all the columns of the rows are read by default. Wide rows and row filters
+ * aren't supported.
+ */
+public class SSTableInputFormat extends AbstractColumnFamilyInputFormat<ByteBuffer, SortedMap<ByteBuffer, Cell>>
+{
+    public RecordReader<ByteBuffer, SortedMap<ByteBuffer, Cell>> createRecordReader(InputSplit inputSplit, TaskAttemptContext taskAttemptContext) throws IOException, InterruptedException
+    {
+        return new SSTableRecordReader();
+    }
+
+    public org.apache.hadoop.mapred.RecordReader<ByteBuffer, SortedMap<ByteBuffer, Cell>> getRecordReader(org.apache.hadoop.mapred.InputSplit split, JobConf jobConf, final Reporter reporter) throws IOException
+    {
+        TaskAttemptContext tac = HadoopCompat.newMapContext(
+                jobConf,
+                TaskAttemptID.forName(jobConf.get(MAPRED_TASK_ID)),
+                null,
+                null,
+                null,
+                new ReporterWrapper(reporter),
+                null);
+
+        SSTableRecordReader recordReader = new SSTableRecordReader(jobConf.getInt(CASSANDRA_HADOOP_MAX_KEY_SIZE, CASSANDRA_HADOOP_MAX_KEY_SIZE_DEFAULT));
+        recordReader.initialize((org.apache.hadoop.mapreduce.InputSplit)split, tac);
+        return recordReader;
+    }
+
+    @Override
+    protected void validateConfiguration(Configuration conf)
+    {
+        super.validateConfiguration(conf);
+
+        if (ConfigHelper.getInputSnapshot(conf) == null)
+            throw new UnsupportedOperationException("you must set the snapshot to read with setInputSnapshot");
+        if (ConfigHelper.getInputDataDirectories(conf) == null)
+            throw new UnsupportedOperationException("you must set the data directories of the nodes with setInputDataDirectories");
+        if (ConfigHelper.getInputIsWide(conf))
+            throw new UnsupportedOperationException("wide rows aren't supported when reading sstables");
+        if (ConfigHelper.getInputKeyRange(conf) != null && ConfigHelper.getInputKeyRange(conf).row_filter != null)
+            throw new UnsupportedOperationException("row filters aren't supported when reading sstables");
+    }
+}
@@ -0,0 +1,415 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.cassandra.hadoop;
+
+import java.io.File;
+import java.io.FileFilter;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
+import java.util.*;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.AbstractIterator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.apache.cassandra.config.CFMetaData;
+import org.apache.cassandra.config.Config;
+import org.apache.cassandra.db.*;
+import org.apache.cassandra.db.columniterator.IdentityQueryFilter;
+import org.apache.cassandra.db.columniterator.OnDiskAtomIterator;
+import org.apache.cassandra.db.filter.IDiskAtomFilter;
+import org.apache.cassandra.db.filter.QueryFilter;
+import org.apache.cassandra.dht.IPartitioner;
+import org.apache.cassandra.dht.Range;
+import org.apache.cassandra.dht.Token;
+import org.apache.cassandra.io.sstable.Component;
+import org.apache.cassandra.io.sstable.Descriptor;
+import org.apache.cassandra.io.sstable.SSTable;
+import org.apache.cassandra.io.sstable.SSTableReader;
+import org.apache.cassandra.thrift.*;
+import org.apache.cassandra.utils.ByteBufferUtil;
+import org.apache.cassandra.utils.CloseableIterator;
+import org.apache.cassandra.utils.FBUtilities;
+import org.apache.cassandra.utils.MergeIterator;
+import org.apache.cassandra.utils.Pair;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.mapreduce.InputSplit;
+import org.apache.hadoop.mapreduce.RecordReader;
+import org.apache.hadoop.mapreduce.TaskAttemptContext;
+import org.apache.thrift.transport.TTransport;
+
+/**
+ * Reads the rows of a split from the sstables of a snapshot in the local data directories, merging the sstables
+ * as the read path would. Only the live cells of the rows are returned, and the rows without any are skipped.
+ */
+public class SSTableRecordReader extends RecordReader<ByteBuffer, SortedMap<ByteBuffer, Cell>>
+    implements org.apache.hadoop.mapred.RecordReader<ByteBuffer, SortedMap<ByteBuffer, Cell>>
+{
+    private static final Logger logger = LoggerFactory.getLogger(SSTableRecordReader.class);
+
+    private static final Comparator<OnDiskAtomIterator> COMPARE_BY_KEY = new Comparator<OnDiskAtomIterator>()
+    {
+        public int compare(OnDiskAtomIterator o1, OnDiskAtomIterator o2)
+        {
+            return DecoratedKey.comparator.compare(o1.getKey(), o2.getKey());
+        }
+    };
+
+    private ColumnFamilySplit split;
+    private String keyspace;
+    private String cfName;
+    private List<SSTableReader> sstables;
+    private RowIterator iter;
+    private Pair<ByteBuffer, SortedMap<ByteBuffer, Cell>> currentRow;
+    private long totalRowCount; // estimated number of rows of the split
+    private int keyBufferSize = ColumnFamilyRecordReader.CASSANDRA_HADOOP_MAX_KEY_SIZE_DEFAULT;
+
+    public SSTableRecordReader()
+    {
+        this(ColumnFamilyRecordReader.CASSANDRA_HADOOP_MAX_KEY_SIZE_DEFAULT);
+    }
+
+    public SSTableRecordReader(int keyBufferSize)
+    {
+        super();
+        this.keyBufferSize = keyBufferSize;
+    }
+
+    public void initialize(InputSplit split, TaskAttemptContext context) throws IOException
+    {
+        // we only read local files and don't want to load cassandra.yaml
+        Config.setClientMode(true);
+        Configuration conf = HadoopCompat.getConfiguration(context);
+        this.split = (ColumnFamilySplit) split;
+        initialize(this.split, conf, fetchMetadata(conf, getLocalLocation()));
+    }
+
+    @VisibleForTesting
+    void initialize(ColumnFamilySplit split, Configuration conf, CFMetaData metadata) throws IOException
+    {
+        this.split = split;
+        keyspace = ConfigHelper.getInputKeyspace(conf);
+        cfName = ConfigHelper.getInputColumnFamily(conf);
+        totalRowCount = split.getLength() < Long.MAX_VALUE ? split.getLength() : ConfigHelper.getInputSplitSize(conf);
+
+        IPartitioner partitioner = ConfigHelper.getInputPartitioner(conf);
+        Token.TokenFactory factory = partitioner.getTokenFactory();
+        Range<Token> range = new Range<>(factory.fromString(split.getStartToken()), factory.fromString(split.getEndToken()), partitioner);
+
+        SlicePredicate predicate = ConfigHelper.getInputSlicePredicate(conf);
+        IDiskAtomFilter filter = predicate == null ? new IdentityQueryFilter() : ThriftValidation.asIFilter(predicate, metadata, null);
+
+        sstables = openSnapshot(conf, metadata, partitioner);
+        iter = new RowIterator(metadata, new DataRange(range.toRowBounds(), filter), filter.isReversed());
+        logger.debug("reading {} from {}", split, sstables);
+    }
+
+    /**
+     * The split has to be read on one of its replicas, as only those hold its rows.
+     */
+    private String getLocalLocation() throws IOException
+    {
+        Collection<InetAddress> localAddresses = FBUtilities.getAllLocalAddresses();
+        for (String location : split.getLocations())
+        {
+            try
+            {
+                if (localAddresses.contains(InetAddress.getByName(location)))
+                    return location;
+            }
+            catch (UnknownHostException e)
+            {
+                throw new AssertionError(e);
+            }
+        }
+        throw new IOException(String.format("%s must be read on one of its replicas, not on %s", split, localAddresses));
+    }
+
+    private CFMetaData fetchMetadata(Configuration conf, String location) throws IOException
+    {
+        String keyspace = ConfigHelper.getInputKeyspace(conf);
+        String cfName = ConfigHelper.getInputColumnFamily(conf);
+        Cassandra.Client client = null;
+        try
+        {
+            client = ColumnFamilyInputFormat.createAuthenticatedClient(location, ConfigHelper.getInputRpcPort(conf), conf);
+            for (CfDef cfDef : client.describe_keyspace(keyspace).cf_defs)
+            {
+                if (cfDef.name.equals(cfName))
+                    return CFMetaData.fromThrift(cfDef);
+            }
+        }
+        catch (Exception e)
+        {
+            throw new IOException("Could not fetch the schema of " + keyspace + "." + cfName, e);
+        }
+        finally
+        {
+            if (client != null)
+            {
+                TTransport transport = client.getOutputProtocol().getTransport();
+                if (transport.isOpen())
+                    transport.close();
+            }
+        }
+        throw new IOException(String.format("Column family %s.%s doesn't exist", keyspace, cfName));
+    }
+
+    private List<SSTableReader> openSnapshot(Configuration conf, CFMetaData metadata, IPartitioner partitioner) throws IOException
+    {
+        String snapshot = ConfigHelper.getInputSnapshot(conf);
+        List<File> snapshotDirectories = new ArrayList<>();
+        for (String dataDirectory : ConfigHelper.getInputDataDirectories(conf))
+        {
+            // the directory of a table is named after it and its id, and the id isn't part of the thrift schema
+            File[] cfDirectories = new File(dataDirectory, keyspace).listFiles(new FileFilter()
+            {
+                public boolean accept(File file)
+                {
+                    return file.isDirectory() && (file.getName().equals(cfName) || file.getName().startsWith(cfName + "-"));
+                }
+            });
+            if (cfDirectories == null)
+                continue;
+
+            for (File cfDirectory : cfDirectories)
+            {
+                File snapshotDirectory = new File(new File(cfDirectory, Directories.SNAPSHOT_SUBDIR), snapshot);
+                if (snapshotDirectory.isDirectory())
+                    snapshotDirectories.add(snapshotDirectory);
+            }
+        }
+        if (snapshotDirectories.isEmpty())
+            throw new IOException(String.format("No snapshot %s of %s.%s in %s", snapshot, keyspace, cfName, Arrays.toString(ConfigHelper.getInputDataDirectories(conf))));
+
+        List<SSTableReader> opened = new ArrayList<>();
+        try
+        {
+            for (File directory : snapshotDirectories)
+            {
+                for (File file : directory.listFiles())
+                {
+                    Pair<Descriptor, Component> p = SSTable.tryComponentFromFilename(directory, file.getName());
+                    if (p == null || !p.right.equals(Component.DATA) || p.left.type.isTemporary || !p.left.cfname.equals(cfName))
+                        continue;
+
+                    Descriptor desc = p.left;
+                    Set<Component> components = new HashSet<>();
+                    components.add(Component.DATA);
+                    components.add(Component.PRIMARY_INDEX);
+                    if (new File(desc.filenameFor(Component.SUMMARY)).exists())
+                        components.add(Component.SUMMARY);
+                    if (new File(desc.filenameFor(Component.COMPRESSION_INFO)).exists())
+                        components.add(Component.COMPRESSION_INFO);
+                    if (new File(desc.filenameFor(Component.STATS)).exists())
+                        components.add(Component.STATS);
+                    opened.add(SSTableReader.openForBatch(desc, components, metadata, partitioner));
+                }
+            }
+            return opened;
+        }
+        catch (IOException | RuntimeException e)
+        {
+            release(opened);
+            throw e;
+        }
+    }
+
+    private static void release(List<SSTableReader> sstables)
+    {
+        for (SSTableReader sstable : sstables)
+            sstable.selfRef().release();
+    }
+
+    public void close()
+    {
+        try
+        {
+            if (iter != null)
+                iter.close();
+        }
+        finally
+        {
+            if (sstables != null)
+                release(sstables);
+        }
+    }
+
+    public ByteBuffer getCurrentKey()
+    {
+        return currentRow.left;
+    }
+
+    public SortedMap<ByteBuffer, Cell> getCurrentValue()
+    {
+        return currentRow.right;
+    }
+
+    public float getProgress()
+    {
+        if (!iter.hasNext())
+            return 1.0F;
+
+        // the progress is likely to be reported slightly off the actual but close enough
+        float progress = ((float) iter.rowsRead() / totalRowCount);
+        return progress > 1.0F ? 1.0F : progress;
+    }
+
+    public boolean nextKeyValue() throws IOException
+    {
+        if (!iter.hasNext())
+        {
+            logger.debug("Finished scanning {} rows (estimate was: {})", iter.rowsRead(), totalRowCount);
+            return false;
+        }
+
+        currentRow = iter.next();
+        return true;
+    }
+
+    private class RowIterator extends AbstractIterator<Pair<ByteBuffer, SortedMap<ByteBuffer, Cell>>>
+    {
+        private final CFMetaData metadata;
+        private final long now = System.currentTimeMillis();
+        private final CloseableIterator<Row> rows;
+        private int totalRead;
+
+        private RowIterator(final CFMetaData metadata, final DataRange range, final boolean isReversed)
+        {
+            this.metadata = metadata;
+
+            List<CloseableIterator<OnDiskAtomIterator>> scanners = new ArrayList<>(sstables.size());
+            for (SSTableReader sstable : sstables)
+                scanners.add(sstable.getScanner(range));
+
+            // reduce the row of each sstable into a single row, as RowIteratorFactory does
+            rows = MergeIterator.get(scanners, COMPARE_BY_KEY, new MergeIterator.Reducer<OnDiskAtomIterator, Row>()
+            {
+                private final int gcBefore = (int) (now / 1000) - metadata.getGcGraceSeconds();
+                private final List<OnDiskAtomIterator> colIters = new ArrayList<>();
+                private DecoratedKey key;
+                private ColumnFamily returnCF;
+
+                @Override
+                protected void onKeyChange()
+                {
+                    this.returnCF = ArrayBackedSortedColumns.factory.create(metadata, isReversed);
+                }
+
+                public void reduce(OnDiskAtomIterator current)
+                {
+                    this.colIters.add(current);
+                    this.key = current.getKey();
+                    this.returnCF.delete(current.getColumnFamily());
+                }
+
+                protected Row getReduced()
+                {
+                    QueryFilter.collateOnDiskAtom(returnCF, colIters, range.columnFilter(key.getKey()), gcBefore, now);
+                    Row rv = new Row(key, returnCF);
+                    colIters.clear();
+                    key = null;
+                    return rv;
+                }
+            });
+        }
+
+        /**
+         * @return total number of rows read by this record reader
+         */
+        public int rowsRead()
+        {
+            return totalRead;
+        }
+
+        protected Pair<ByteBuffer, SortedMap<ByteBuffer, Cell>> computeNext()
+        {
+            while (rows.hasNext())
+            {
+                Row row = rows.next();
+                SortedMap<ByteBuffer, Cell> cells = new TreeMap<ByteBuffer, Cell>(metadata.comparator.asAbstractType());
+                for (Cell cell : row.cf)
+                {
+                    if (!cell.isLive(now))
+                        continue;
+
+                    // as with ColumnFamilyRecordReader, counters are returned as regular cells holding their total
+                    if (cell instanceof CounterCell)
+                        cell = new BufferCell(cell.name(), ByteBufferUtil.bytes(((CounterCell) cell).total()), 0);
+                    cells.put(cell.name().toByteBuffer(), cell);
+                }
+
+                if (cells.isEmpty())
+                    continue;
+
+                totalRead++;
+                return Pair.create(row.key.getKey(), cells);
+            }
+            return endOfData();
+        }
+
+        public void close()
+        {
+            try
+            {
+                rows.close();
+            }
+            catch (IOException e)
+            {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    // Because the old Hadoop API wants us to write to the key and value
+    // and the new asks for them, we need to copy the output of the new API
+    // to the old. Thus, expect a small performance hit.
+    public boolean next(ByteBuffer key, SortedMap<ByteBuffer, Cell> value) throws IOException
+    {
+        if (this.nextKeyValue())
+        {
+            key.clear();
+            key.put(this.getCurrentKey().duplicate());
+            key.flip();
+
+            value.clear();
+            value.putAll(this.getCurrentValue());
+
+            return true;
+        }
+        return false;
+    }
+
+    public ByteBuffer createKey()
+    {
+        return ByteBuffer.wrap(new byte[this.keyBufferSize]);
+    }
+
+    public SortedMap<ByteBuffer, Cell> createValue()
+    {
+        return new TreeMap<ByteBuffer, Cell>();
+    }
+
+    public long getPos() throws IOException
+    {
+        return (long)iter.rowsRead();
+    }
+}
@@ -19,11 +19,15 @@ package org.apache.cassandra.io.compress;
 
 import java.io.*;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.zip.Adler32;
 import java.util.zip.CRC32;
 import java.util.zip.Checksum;
 
+import org.apache.cassandra.cache.ChunkCache;
 import org.apache.cassandra.io.FSReadError;
 import org.apache.cassandra.io.sstable.CorruptSSTableException;
 import org.apache.cassandra.io.util.CompressedPoolingSegmentedFile;
@@ -42,10 +46,19 @@ public class CompressedRandomAccessReader extends RandomAccessReader
         return open(dataFilePath, metadata, null);
     }
     public static CompressedRandomAccessReader open(String path, CompressionMetadata metadata, CompressedPoolingSegmentedFile owner)
+    {
+        return open(path, metadata, null, owner);
+    }
+
+    /**
+     * @param chunkSegments the mapped regions of the data file, by offset, for chunks to be copied from rather than
+     * read from the file channel; or null to read from the channel
+     */
+    public static CompressedRandomAccessReader open(String path, CompressionMetadata metadata, TreeMap<Long, MappedByteBuffer> chunkSegments, PoolingSegmentedFile owner)
     {
         try
         {
-            return new CompressedRandomAccessReader(path, metadata, owner);
+            return new CompressedRandomAccessReader(path, metadata, chunkSegments, owner);
         }
         catch (FileNotFoundException e)
         {
@@ -56,6 +69,9 @@ public class CompressedRandomAccessReader extends RandomAccessReader
 
     private final CompressionMetadata metadata;
 
+    // the mapped regions of the file, keyed by offset, each holding whole chunks; null if the file isn't mapped
+    private final TreeMap<Long, MappedByteBuffer> chunkSegments;
+
     // we read the raw compressed bytes into this buffer, then move the uncompressed ones into super.buffer.
     private ByteBuffer compressed;
 
@@ -66,9 +82,15 @@ public class CompressedRandomAccessReader extends RandomAccessReader
     private final ByteBuffer checksumBytes = ByteBuffer.wrap(new byte[4]);
 
     protected CompressedRandomAccessReader(String dataFilePath, CompressionMetadata metadata, PoolingSegmentedFile owner) throws FileNotFoundException
+    {
+        this(dataFilePath, metadata, null, owner);
+    }
+
+    protected CompressedRandomAccessReader(String dataFilePath, CompressionMetadata metadata, TreeMap<Long, MappedByteBuffer> chunkSegments, PoolingSegmentedFile owner) throws FileNotFoundException
     {
         super(new File(dataFilePath), metadata.chunkLength(), metadata.compressedFileLength, owner);
         this.metadata = metadata;
+        this.chunkSegments = chunkSegments;
         checksum = metadata.hasPostCompressionAdlerChecksums ? new Adler32() : new CRC32();
         compressed = ByteBuffer.wrap(new byte[metadata.compressor().initialCompressedBufferLength(metadata.chunkLength())]);
     }
@@ -92,17 +114,50 @@ public class CompressedRandomAccessReader extends RandomAccessReader
 
     private void decompressChunk(CompressionMetadata.Chunk chunk) throws IOException
     {
-        if (channel.position() != chunk.offset)
-            channel.position(chunk.offset);
+        // only the pooled readers used for queries go through the chunk cache, so compactions, streaming and scrubs
+        // don't pollute it
+        ChunkCache cache = owner != null && ChunkCache.instance.isEnabled() ? ChunkCache.instance : null;
+        int cached = cache == null ? -1 : cache.read(getPath(), chunk.offset, buffer);
+        if (cached >= 0)
+            validBufferBytes = cached;
+        else
+            readChunk(chunk);
 
+        // buffer offset is always aligned
+        bufferOffset = current & ~(buffer.length - 1);
+
+        if (cached < 0 && cache != null)
+            cache.offer(getPath(), chunk.offset, buffer, validBufferBytes);
+
+        // the length() can be provided at construction time, to override the true (uncompressed) length of the file;
+        // this is permitted to occur within a compressed segment, so we truncate validBufferBytes if we cross the imposed length
+        if (bufferOffset + validBufferBytes > length())
+            validBufferBytes = (int)(length() - bufferOffset);
+    }
+
+    private void readChunk(CompressionMetadata.Chunk chunk) throws IOException
+    {
         if (compressed.capacity() < chunk.length)
             compressed = ByteBuffer.wrap(new byte[chunk.length]);
         else
             compressed.clear();
         compressed.limit(chunk.length);
 
-        if (channel.read(compressed) != chunk.length)
-            throw new CorruptBlockException(getPath(), chunk);
+        ByteBuffer mapped = chunkSegments == null ? null : mappedChunk(chunk);
+        if (mapped == null)
+        {
+            if (channel.position() != chunk.offset)
+                channel.position(chunk.offset);
+
+            if (channel.read(compressed) != chunk.length)
+                throw new CorruptBlockException(getPath(), chunk);
+        }
+        else
+        {
+            // a plain memory copy from the mapped file, with no seek nor read system calls
+            mapped.get(compressed.array(), 0, chunk.length);
+            compressed.position(chunk.length);
+        }
 
         // technically flip() is unnecessary since all the remaining work uses the raw array, but if that changes
         // in the future this will save a lot of hair-pulling
@@ -128,23 +183,33 @@ public class CompressedRandomAccessReader extends RandomAccessReader
                 checksum.update(buffer, 0, validBufferBytes);
             }
 
-            if (checksum(chunk) != (int) checksum.getValue())
+            if (checksum(chunk, mapped) != (int) checksum.getValue())
                 throw new CorruptBlockException(getPath(), chunk);
 
             // reset checksum object back to the original (blank) state
             checksum.reset();
         }
+    }
 
-        // buffer offset is always aligned
-        bufferOffset = current & ~(buffer.length - 1);
-        // the length() can be provided at construction time, to override the true (uncompressed) length of the file;
-        // this is permitted to occur within a compressed segment, so we truncate validBufferBytes if we cross the imposed length
-        if (bufferOffset + validBufferBytes > length())
-            validBufferBytes = (int)(length() - bufferOffset);
+    /**
+     * @return a view of the mapped chunk followed by its checksum, positioned at the start of the chunk
+     */
+    private ByteBuffer mappedChunk(CompressionMetadata.Chunk chunk) throws CorruptBlockException
+    {
+        Map.Entry<Long, MappedByteBuffer> segment = chunkSegments.floorEntry(chunk.offset);
+        if (segment == null || chunk.offset + chunk.length + 4 > segment.getKey() + segment.getValue().capacity())
+            throw new CorruptBlockException(getPath(), chunk);
+
+        ByteBuffer mapped = segment.getValue().duplicate();
+        mapped.position((int) (chunk.offset - segment.getKey()));
+        return mapped;
     }
 
-    private int checksum(CompressionMetadata.Chunk chunk) throws IOException
+    private int checksum(CompressionMetadata.Chunk chunk, ByteBuffer mapped) throws IOException
     {
+        if (mapped != null)
+            return mapped.getInt();
+
         assert channel.position() == chunk.offset + chunk.length;
         checksumBytes.clear();
         if (channel.read(checksumBytes) != checksumBytes.capacity())
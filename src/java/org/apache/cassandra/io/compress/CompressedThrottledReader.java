@@ -22,6 +22,8 @@ package org.apache.cassandra.io.compress;
 
 
 import java.io.FileNotFoundException;
+import java.nio.MappedByteBuffer;
+import java.util.TreeMap;
 
 import com.google.common.util.concurrent.RateLimiter;
 
@@ -31,7 +33,12 @@ public class CompressedThrottledReader extends CompressedRandomAccessReader
 
     public CompressedThrottledReader(String file, CompressionMetadata metadata, RateLimiter limiter) throws FileNotFoundException
     {
-        super(file, metadata, null);
+        this(file, metadata, null, limiter);
+    }
+
+    public CompressedThrottledReader(String file, CompressionMetadata metadata, TreeMap<Long, MappedByteBuffer> chunkSegments, RateLimiter limiter) throws FileNotFoundException
+    {
+        super(file, metadata, chunkSegments, null);
         this.limiter = limiter;
     }
 
@@ -42,10 +49,15 @@ public class CompressedThrottledReader extends CompressedRandomAccessReader
     }
 
     public static CompressedThrottledReader open(String file, CompressionMetadata metadata, RateLimiter limiter)
+    {
+        return open(file, metadata, null, limiter);
+    }
+
+    public static CompressedThrottledReader open(String file, CompressionMetadata metadata, TreeMap<Long, MappedByteBuffer> chunkSegments, RateLimiter limiter)
     {
         try
         {
-            return new CompressedThrottledReader(file, metadata, limiter);
+            return new CompressedThrottledReader(file, metadata, chunkSegments, limiter);
         }
         catch (FileNotFoundException e)
         {
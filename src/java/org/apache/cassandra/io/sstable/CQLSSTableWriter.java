@@ -38,6 +38,7 @@ import org.apache.cassandra.db.composites.Composite;
 import org.apache.cassandra.db.marshal.AbstractType;
 import org.apache.cassandra.dht.IPartitioner;
 import org.apache.cassandra.dht.Murmur3Partitioner;
+import org.apache.cassandra.dht.Token;
 import org.apache.cassandra.exceptions.ConfigurationException;
 import org.apache.cassandra.exceptions.InvalidRequestException;
 import org.apache.cassandra.exceptions.RequestValidationException;
@@ -82,17 +83,60 @@ public class CQLSSTableWriter implements Closeable
         Config.setClientMode(true);
     }
 
-    private final AbstractSSTableSimpleWriter writer;
+    private final List<AbstractSSTableSimpleWriter> writers;
+    // the last token of the range of each writer but the last one, which ends with the ring
+    private final List<Token> boundaries;
+    private final IPartitioner partitioner;
     private final UpdateStatement insert;
     private final List<ColumnSpecification> boundNames;
 
-    private CQLSSTableWriter(AbstractSSTableSimpleWriter writer, UpdateStatement insert, List<ColumnSpecification> boundNames)
+    private CQLSSTableWriter(List<AbstractSSTableSimpleWriter> writers, IPartitioner partitioner, UpdateStatement insert, List<ColumnSpecification> boundNames)
     {
-        this.writer = writer;
+        this.writers = writers;
+        this.partitioner = partitioner;
+        this.boundaries = splitRing(partitioner, writers.size());
         this.insert = insert;
         this.boundNames = boundNames;
     }
 
+    /**
+     * Splits the token ring in {@code count} ranges by bisecting it, so that rows are spread evenly across the
+     * writers with the random partitioners.
+     */
+    private static List<Token> splitRing(IPartitioner partitioner, int count)
+    {
+        List<Token> tokens = new ArrayList<>();
+        tokens.add(partitioner.getMinimumToken());
+        tokens.add(partitioner.getMinimumToken());
+        while (tokens.size() - 1 < count)
+        {
+            List<Token> bisected = new ArrayList<>(2 * tokens.size() - 1);
+            for (int i = 0; i < tokens.size() - 1; i++)
+            {
+                bisected.add(tokens.get(i));
+                bisected.add(partitioner.midpoint(tokens.get(i), tokens.get(i + 1)));
+            }
+            bisected.add(tokens.get(tokens.size() - 1));
+            tokens = bisected;
+        }
+
+        // each writer gets contiguous pieces of the bisected ring
+        int pieces = tokens.size() - 1;
+        List<Token> boundaries = new ArrayList<>(count - 1);
+        for (int i = 1; i < count; i++)
+            boundaries.add(tokens.get(i * pieces / count));
+        return boundaries;
+    }
+
+    private AbstractSSTableSimpleWriter writerFor(ByteBuffer key)
+    {
+        if (boundaries.isEmpty())
+            return writers.get(0);
+
+        int i = Collections.binarySearch(boundaries, partitioner.getToken(key));
+        return writers.get(i < 0 ? -i - 1 : i);
+    }
+
     /**
      * Returns a new builder for a CQLSSTableWriter.
      *
@@ -219,9 +263,13 @@ public class CQLSSTableWriter implements Closeable
         {
             for (ByteBuffer key : keys)
             {
-                if (writer.shouldStartNewRow() || !key.equals(writer.currentKey().getKey()))
-                    writer.newRow(key);
-                insert.addUpdateForKey(writer.currentColumnFamily(), key, clusteringPrefix, params, false);
+                AbstractSSTableSimpleWriter writer = writerFor(key);
+                synchronized (writer)
+                {
+                    if (writer.shouldStartNewRow() || !key.equals(writer.currentKey().getKey()))
+                        writer.newRow(key);
+                    insert.addUpdateForKey(writer.currentColumnFamily(), key, clusteringPrefix, params, false);
+                }
             }
             return this;
         }
@@ -268,7 +316,24 @@ public class CQLSSTableWriter implements Closeable
      */
     public void close() throws IOException
     {
-        writer.close();
+        IOException exception = null;
+        for (AbstractSSTableSimpleWriter writer : writers)
+        {
+            try
+            {
+                synchronized (writer)
+                {
+                    writer.close();
+                }
+            }
+            catch (IOException e)
+            {
+                if (exception == null)
+                    exception = e;
+            }
+        }
+        if (exception != null)
+            throw exception;
     }
 
     /**
@@ -285,6 +350,7 @@ public class CQLSSTableWriter implements Closeable
 
         private boolean sorted = false;
         private long bufferSizeInMB = 128;
+        private int parallelWriters = 1;
 
         private Builder() {}
 
@@ -485,6 +551,28 @@ public class CQLSSTableWriter implements Closeable
             return this;
         }
 
+        /**
+         * Creates a CQLSSTableWriter that splits the token ring in {@code writers} ranges, and writes the rows of
+         * each range with its own buffer and sstable writer.
+         * <p>
+         * The rows can then be added concurrently from several threads, and the sstables are written by
+         * {@code writers} threads, instead of one by default. The sstables of different ranges don't overlap.
+         * <p>
+         * Each writer buffers up to the buffer size set with withBufferSizeInMB, so the writer uses
+         * {@code writers} times more memory. This option cannot be used with sorted().
+         *
+         * @param writers the number of writers.
+         * @return this builder.
+         */
+        public Builder withParallelWriters(int writers)
+        {
+            if (writers < 1)
+                throw new IllegalArgumentException("The number of writers must be at least 1");
+
+            this.parallelWriters = writers;
+            return this;
+        }
+
         private static <T extends CQLStatement> Pair<T, List<ColumnSpecification>> getStatement(String query, Class<T> klass, String type)
         {
             try
@@ -514,10 +602,17 @@ public class CQLSSTableWriter implements Closeable
             if (insert == null)
                 throw new IllegalStateException("No insert statement specified, you should provide an insert statement through using()");
 
-            AbstractSSTableSimpleWriter writer = sorted
-                                               ? new SSTableSimpleWriter(directory, schema, partitioner)
-                                               : new BufferedWriter(directory, schema, partitioner, bufferSizeInMB);
-            return new CQLSSTableWriter(writer, insert, boundNames);
+            if (sorted && parallelWriters > 1)
+                throw new IllegalStateException("A sorted writer cannot use parallel writers");
+
+            List<AbstractSSTableSimpleWriter> writers = new ArrayList<>(parallelWriters);
+            for (int i = 0; i < parallelWriters; i++)
+            {
+                writers.add(sorted
+                            ? new SSTableSimpleWriter(directory, schema, partitioner)
+                            : new BufferedWriter(directory, schema, partitioner, bufferSizeInMB));
+            }
+            return new CQLSSTableWriter(writers, partitioner, insert, boundNames);
         }
     }
 
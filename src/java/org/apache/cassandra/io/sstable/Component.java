@@ -55,6 +55,8 @@ public class Component
         SUMMARY("Summary.db"),
         // table of contents, stores the list of all components for the sstable
         TOC("TOC.txt"),
+        // hashes of the partitions computed by repair validation, per token range
+        HASHES("Hashes.db"),
         // custom component, used by e.g. custom compaction strategy
         CUSTOM(null);
 
@@ -83,6 +85,7 @@ public class Component
     public final static Component CRC = new Component(Type.CRC);
     public final static Component SUMMARY = new Component(Type.SUMMARY);
     public final static Component TOC = new Component(Type.TOC);
+    public final static Component HASHES = new Component(Type.HASHES);
 
     public final Type type;
     public final String name;
@@ -118,9 +121,17 @@ public class Component
     public static Pair<Descriptor,Component> fromFilename(File directory, String name)
     {
         Pair<Descriptor,String> path = Descriptor.fromFilename(directory, name);
+        return Pair.create(path.left, parse(path.right));
+    }
 
+    /**
+     * @param name the name of a component, as returned by {@link #name()}
+     * @return the component
+     */
+    public static Component parse(String name)
+    {
         // parse the component suffix
-        Type type = Type.fromRepresentation(path.right);
+        Type type = Type.fromRepresentation(name);
         // build (or retrieve singleton for) the component object
         Component component;
         switch(type)
@@ -134,12 +145,13 @@ public class Component
             case CRC:               component = Component.CRC;                          break;
             case SUMMARY:           component = Component.SUMMARY;                      break;
             case TOC:               component = Component.TOC;                          break;
-            case CUSTOM:            component = new Component(Type.CUSTOM, path.right); break;
+            case HASHES:            component = Component.HASHES;                       break;
+            case CUSTOM:            component = new Component(Type.CUSTOM, name);       break;
             default:
                  throw new IllegalStateException();
         }
 
-        return Pair.create(path.left, component);
+        return component;
     }
 
     @Override
@@ -274,9 +274,19 @@ public class IndexSummary extends WrappedSharedCloseable
         }
 
         public IndexSummary deserialize(DataInputStream in, IPartitioner partitioner, boolean haveSamplingLevel, int expectedMinIndexInterval, int maxIndexInterval) throws IOException
+        {
+            return deserialize(in, partitioner, haveSamplingLevel, expectedMinIndexInterval, maxIndexInterval, false);
+        }
+
+        /**
+         * @param trustIntervals whether to accept a summary persisted with other index intervals than the current
+         *                       ones of the table, rather than failing so that it gets rebuilt. Such a summary is still
+         *                       valid, and the {@link IndexSummaryManager} resamples it at its next redistribution.
+         */
+        public IndexSummary deserialize(DataInputStream in, IPartitioner partitioner, boolean haveSamplingLevel, int expectedMinIndexInterval, int maxIndexInterval, boolean trustIntervals) throws IOException
         {
             int minIndexInterval = in.readInt();
-            if (minIndexInterval != expectedMinIndexInterval)
+            if (minIndexInterval != expectedMinIndexInterval && !trustIntervals)
             {
                 throw new IOException(String.format("Cannot read index summary because min_index_interval changed from %d to %d.",
                                                     minIndexInterval, expectedMinIndexInterval));
@@ -297,7 +307,7 @@ public class IndexSummary extends WrappedSharedCloseable
             }
 
             int effectiveIndexInterval = (int) Math.ceil((BASE_SAMPLING_LEVEL / (double) samplingLevel) * minIndexInterval);
-            if (effectiveIndexInterval > maxIndexInterval)
+            if (effectiveIndexInterval > maxIndexInterval && !trustIntervals)
             {
                 throw new IOException(String.format("Rebuilding index summary because the effective index interval (%d) is higher than" +
                                                     " the current max index interval (%d)", effectiveIndexInterval, maxIndexInterval));
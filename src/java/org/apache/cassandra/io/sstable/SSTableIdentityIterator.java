@@ -32,6 +32,8 @@ public class SSTableIdentityIterator implements Comparable<SSTableIdentityIterat
     private final DataInput in;
     public final long dataSize; // we [still] require this so compaction can tell if it's safe to read the row into memory
     public final ColumnSerializer.Flag flag;
+    // the sstable the row is read from, null when reading from a stream
+    public final SSTableReader sstable;
 
     private final ColumnFamily columnFamily;
     private final Iterator<OnDiskAtom> atomIterator;
@@ -80,6 +82,7 @@ public class SSTableIdentityIterator implements Comparable<SSTableIdentityIterat
         this.key = key;
         this.dataSize = dataSize;
         this.flag = flag;
+        this.sstable = sstable;
         this.validateColumns = checkData;
 
         Descriptor.Version dataVersion = sstable == null ? Descriptor.Version.CURRENT : sstable.descriptor.version;
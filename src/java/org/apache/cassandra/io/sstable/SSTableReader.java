@@ -501,29 +501,66 @@ public class SSTableReader extends SSTable implements SelfRefCounted<SSTableRead
                                                       final CFMetaData metadata,
                                                       final IPartitioner partitioner)
     {
-        final Collection<SSTableReader> sstables = new LinkedBlockingQueue<>();
+        return openAll(Collections.singletonMap(metadata, entries), partitioner).get(metadata);
+    }
 
-        ExecutorService executor = DebuggableThreadPoolExecutor.createWithFixedPoolSize("SSTableBatchOpen", FBUtilities.getAvailableProcessors());
-        for (final Map.Entry<Descriptor, Set<Component>> entry : entries)
+    /**
+     * Opens the sstables of several tables with the same pool of threads, alternating between the data directories
+     * they are in, so that every disk is kept busy even when the sstables of a table are all on the same one.
+     *
+     * @return the sstables that could be opened, for each table
+     */
+    public static Map<CFMetaData, Collection<SSTableReader>> openAll(Map<CFMetaData, Set<Map.Entry<Descriptor, Set<Component>>>> tables,
+                                                                     final IPartitioner partitioner)
+    {
+        Map<CFMetaData, Collection<SSTableReader>> opened = new HashMap<>();
+        // the sstables to open, by data directory: <data directory>/<keyspace>/<table>/
+        Map<File, Queue<Runnable>> tasks = new LinkedHashMap<>();
+        for (Map.Entry<CFMetaData, Set<Map.Entry<Descriptor, Set<Component>>>> table : tables.entrySet())
         {
-            Runnable runnable = new Runnable()
+            final CFMetaData metadata = table.getKey();
+            final Collection<SSTableReader> sstables = new LinkedBlockingQueue<>();
+            opened.put(metadata, sstables);
+
+            for (final Map.Entry<Descriptor, Set<Component>> entry : table.getValue())
             {
-                public void run()
+                Runnable runnable = new Runnable()
                 {
-                    SSTableReader sstable;
-                    try
-                    {
-                        sstable = open(entry.getKey(), entry.getValue(), metadata, partitioner);
-                    }
-                    catch (IOException ex)
+                    public void run()
                     {
-                        logger.error("Corrupt sstable {}; skipped", entry, ex);
-                        return;
+                        SSTableReader sstable;
+                        try
+                        {
+                            sstable = open(entry.getKey(), entry.getValue(), metadata, partitioner);
+                        }
+                        catch (IOException ex)
+                        {
+                            logger.error("Corrupt sstable {}; skipped", entry, ex);
+                            return;
+                        }
+                        sstables.add(sstable);
                     }
-                    sstables.add(sstable);
-                }
-            };
-            executor.submit(runnable);
+                };
+
+                File dataDirectory = entry.getKey().directory.getAbsoluteFile().getParentFile().getParentFile();
+                Queue<Runnable> queue = tasks.get(dataDirectory);
+                if (queue == null)
+                    tasks.put(dataDirectory, queue = new ArrayDeque<>());
+                queue.add(runnable);
+            }
+        }
+
+        ExecutorService executor = DebuggableThreadPoolExecutor.createWithFixedPoolSize("SSTableBatchOpen", FBUtilities.getAvailableProcessors());
+        while (!tasks.isEmpty())
+        {
+            Iterator<Queue<Runnable>> queues = tasks.values().iterator();
+            while (queues.hasNext())
+            {
+                Queue<Runnable> queue = queues.next();
+                executor.submit(queue.remove());
+                if (queue.isEmpty())
+                    queues.remove();
+            }
         }
 
         executor.shutdown();
@@ -536,8 +573,7 @@ public class SSTableReader extends SSTable implements SelfRefCounted<SSTableRead
             throw new AssertionError(e);
         }
 
-        return sstables;
-
+        return opened;
     }
 
     /**
@@ -768,7 +804,7 @@ public class SSTableReader extends SSTable implements SelfRefCounted<SSTableRead
             {
 
                 if (recreateBloomFilter)
-                    bf = FilterFactory.getFilter(estimatedKeys, metadata.getBloomFilterFpChance(), true);
+                    bf = FilterFactory.getFilter(estimatedKeys, metadata.getBloomFilterFpChance(), true, metadata.getBloomFilterType());
 
                 long indexPosition;
                 while ((indexPosition = primaryIndex.getFilePointer()) != indexSize)
@@ -808,8 +844,10 @@ public class SSTableReader extends SSTable implements SelfRefCounted<SSTableRead
     /**
      * Load index summary from Summary.db file if it exists.
      *
-     * if loaded index summary has different index interval from current value stored in schema,
-     * then Summary.db file will be deleted and this returns false to rebuild summary.
+     * The summary is trusted even if it was built with other index intervals than the current ones of the table, as
+     * it still indexes the sstable correctly: the {@link IndexSummaryManager} resamples it at its next redistribution,
+     * rather than having the whole index read again to rebuild it while the node starts.
+     * If it can't be read, the Summary.db file is deleted and this returns false to rebuild it.
      *
      * @param ibuilder
      * @param dbuilder
@@ -827,7 +865,10 @@ public class SSTableReader extends SSTable implements SelfRefCounted<SSTableRead
             iStream = new DataInputStream(new FileInputStream(summariesFile));
             indexSummary = IndexSummary.serializer.deserialize(
                     iStream, partitioner, descriptor.version.hasSamplingLevel,
-                    metadata.getMinIndexInterval(), metadata.getMaxIndexInterval());
+                    metadata.getMinIndexInterval(), metadata.getMaxIndexInterval(), true);
+            if (indexSummary.getMinIndexInterval() != metadata.getMinIndexInterval())
+                logger.debug("Loaded index summary of {} with min_index_interval {} instead of {}; it will be resampled",
+                             descriptor, indexSummary.getMinIndexInterval(), metadata.getMinIndexInterval());
             first = partitioner.decorateKey(ByteBufferUtil.readWithLength(iStream));
             last = partitioner.decorateKey(ByteBufferUtil.readWithLength(iStream));
             ibuilder.deserializeBounds(iStream);
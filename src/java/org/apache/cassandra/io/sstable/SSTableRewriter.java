@@ -48,6 +48,10 @@ import static org.apache.cassandra.utils.Throwables.merge;
  * On abort we restore the original lower bounds to the existing readers and delete any temporary files we had in progress,
  * but leave any hard-links in place for the readers we opened to cleanup when they're finished as we would had we finished
  * successfully.
+ *
+ * A detached rewriter neither opens its files early nor moves the starts of the readers it rewrites, and leaves the new
+ * sstables out of the DataTracker, for the caller to swap them in: several detached rewriters can then write different
+ * token ranges of the same readers concurrently.
  */
 public class SSTableRewriter
 {
@@ -84,6 +88,7 @@ public class SSTableRewriter
     // into discard, so that abort can cleanup after us safely
     private final List<SSTableReader> discard = new ArrayList<>();
     private final boolean isOffline; // true for operations that are performed without Cassandra running (prevents updates of DataTracker)
+    private final boolean isDetached; // true when the caller adds the new sstables to the DataTracker (prevents updates of DataTracker)
 
     private SSTableWriter writer;
     private Map<DecoratedKey, RowIndexEntry> cachedKeys = new HashMap<>();
@@ -95,6 +100,11 @@ public class SSTableRewriter
     }
 
     public SSTableRewriter(ColumnFamilyStore cfs, Set<SSTableReader> rewriting, long maxAge, boolean isOffline)
+    {
+        this(cfs, rewriting, maxAge, isOffline, false);
+    }
+
+    public SSTableRewriter(ColumnFamilyStore cfs, Set<SSTableReader> rewriting, long maxAge, boolean isOffline, boolean isDetached)
     {
         this.rewriting = rewriting;
         for (SSTableReader sstable : rewriting)
@@ -106,6 +116,12 @@ public class SSTableRewriter
         this.cfs = cfs;
         this.maxAge = maxAge;
         this.isOffline = isOffline;
+        this.isDetached = isDetached;
+    }
+
+    private boolean updatesTracker()
+    {
+        return !isOffline && !isDetached;
     }
 
     public SSTableWriter currentWriter()
@@ -124,7 +140,7 @@ public class SSTableRewriter
             {
                 cfs.invalidateCachedRow(row.key);
             }
-            else
+            else if (!isDetached) // a detached rewriter never sees its new readers, so can't transfer the key cache to them
             {
                 boolean save = false;
                 for (SSTableReader reader : rewriting)
@@ -159,6 +175,9 @@ public class SSTableRewriter
 
     private void maybeReopenEarly(DecoratedKey key)
     {
+        if (isDetached)
+            return; // the other rewriters of the same readers may not have reached this key yet
+
         if (writer.getFilePointer() - currentlyOpenedEarlyAt > preemptiveOpenInterval)
         {
             if (isOffline)
@@ -276,7 +295,7 @@ public class SSTableRewriter
      */
     private void moveStarts(SSTableReader newReader, DecoratedKey lowerbound, boolean reset)
     {
-        if (isOffline)
+        if (!updatesTracker())
             return;
         List<SSTableReader> toReplace = new ArrayList<>();
         List<SSTableReader> replaceWith = new ArrayList<>();
@@ -341,7 +360,7 @@ public class SSTableRewriter
 
     private void replaceEarlyOpenedFile(SSTableReader toReplace, SSTableReader replaceWith)
     {
-        if (isOffline)
+        if (!updatesTracker())
             return;
         Set<SSTableReader> toReplaceSet;
         if (toReplace != null)
@@ -480,7 +499,7 @@ public class SSTableRewriter
     // cleanup all our temporary readers and swap in our new ones
     private void replaceWithFinishedReaders(List<SSTableReader> finished)
     {
-        if (isOffline)
+        if (!updatesTracker())
         {
             for (SSTableReader reader : discard)
             {
@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.cassandra.io.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.TreeMap;
+
+import com.google.common.util.concurrent.RateLimiter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.apache.cassandra.cache.ChunkCache;
+import org.apache.cassandra.io.FSReadError;
+import org.apache.cassandra.io.compress.CompressedRandomAccessReader;
+import org.apache.cassandra.io.compress.CompressedSequentialWriter;
+import org.apache.cassandra.io.compress.CompressedThrottledReader;
+import org.apache.cassandra.io.compress.CompressionMetadata;
+import org.apache.cassandra.utils.JVMStabilityInspector;
+
+/**
+ * A compressed data file whose readers copy the compressed chunks from memory mapped regions of the file, rather than
+ * seeking and reading through the file channel for every chunk. The file is mapped in segments of at most
+ * {@link MmappedSegmentedFile#MAX_SEGMENT_SIZE} bytes, each holding whole chunks along with their checksums, with
+ * the chunk boundaries taken from the {@link CompressionMetadata}.
+ */
+public class CompressedMmappedSegmentedFile extends PoolingSegmentedFile implements ICompressedFile
+{
+    private static final Logger logger = LoggerFactory.getLogger(CompressedMmappedSegmentedFile.class);
+
+    public final CompressionMetadata metadata;
+    private final TreeMap<Long, MappedByteBuffer> chunkSegments;
+
+    public CompressedMmappedSegmentedFile(String path, CompressionMetadata metadata)
+    {
+        this(path, metadata, createSegments(path, metadata));
+    }
+
+    private CompressedMmappedSegmentedFile(String path, CompressionMetadata metadata, TreeMap<Long, MappedByteBuffer> chunkSegments)
+    {
+        super(new Cleanup(path, metadata, chunkSegments), path, metadata.dataLength, metadata.compressedFileLength);
+        this.metadata = metadata;
+        this.chunkSegments = chunkSegments;
+    }
+
+    private CompressedMmappedSegmentedFile(CompressedMmappedSegmentedFile copy)
+    {
+        super(copy);
+        this.metadata = copy.metadata;
+        this.chunkSegments = copy.chunkSegments;
+    }
+
+    private static TreeMap<Long, MappedByteBuffer> createSegments(String path, CompressionMetadata metadata)
+    {
+        TreeMap<Long, MappedByteBuffer> segments = new TreeMap<>();
+        try (RandomAccessFile raf = new RandomAccessFile(path, "r"))
+        {
+            FileChannel channel = raf.getChannel();
+            long segmentStart = 0;
+            long segmentEnd = 0;
+            for (long position = 0; position < metadata.dataLength; position += metadata.chunkLength())
+            {
+                CompressionMetadata.Chunk chunk = metadata.chunkFor(position);
+                long chunkEnd = chunk.offset + chunk.length + 4; // "4" bytes of checksum
+                if (chunkEnd - segmentStart > MmappedSegmentedFile.MAX_SEGMENT_SIZE)
+                {
+                    segments.put(segmentStart, channel.map(FileChannel.MapMode.READ_ONLY, segmentStart, segmentEnd - segmentStart));
+                    segmentStart = segmentEnd;
+                }
+                segmentEnd = chunkEnd;
+            }
+            if (segmentEnd > segmentStart)
+                segments.put(segmentStart, channel.map(FileChannel.MapMode.READ_ONLY, segmentStart, segmentEnd - segmentStart));
+        }
+        catch (IOException e)
+        {
+            throw new FSReadError(e, path);
+        }
+        return segments;
+    }
+
+    private static final class Cleanup extends PoolingSegmentedFile.Cleanup
+    {
+        final CompressionMetadata metadata;
+        final TreeMap<Long, MappedByteBuffer> chunkSegments;
+
+        protected Cleanup(String path, CompressionMetadata metadata, TreeMap<Long, MappedByteBuffer> chunkSegments)
+        {
+            super(path);
+            this.metadata = metadata;
+            this.chunkSegments = chunkSegments;
+        }
+
+        public void tidy() throws Exception
+        {
+            super.tidy();
+            ChunkCache.instance.invalidateFile(new File(path).getAbsolutePath());
+            metadata.close();
+
+            if (!FileUtils.isCleanerAvailable())
+                return;
+
+            try
+            {
+                for (MappedByteBuffer segment : chunkSegments.values())
+                    FileUtils.clean(segment);
+            }
+            catch (Exception e)
+            {
+                JVMStabilityInspector.inspectThrowable(e);
+                // This is not supposed to happen
+                logger.error("Error while unmapping segments", e);
+            }
+        }
+    }
+
+    public static class Builder extends CompressedSegmentedFile.Builder
+    {
+        public Builder(CompressedSequentialWriter writer)
+        {
+            super(writer);
+        }
+
+        public SegmentedFile complete(String path, long overrideLength, boolean isFinal)
+        {
+            assert !isFinal || overrideLength <= 0;
+            return new CompressedMmappedSegmentedFile(path, metadata(path, overrideLength, isFinal));
+        }
+    }
+
+    public void dropPageCache(long before)
+    {
+        if (before >= metadata.dataLength)
+            super.dropPageCache(0);
+        super.dropPageCache(metadata.chunkFor(before).offset);
+    }
+
+    public RandomAccessReader createReader()
+    {
+        return CompressedRandomAccessReader.open(path, metadata, chunkSegments, null);
+    }
+
+    public RandomAccessReader createThrottledReader(RateLimiter limiter)
+    {
+        return CompressedThrottledReader.open(path, metadata, chunkSegments, limiter);
+    }
+
+    protected RandomAccessReader createPooledReader()
+    {
+        return CompressedRandomAccessReader.open(path, metadata, chunkSegments, this);
+    }
+
+    public CompressionMetadata getMetadata()
+    {
+        return metadata;
+    }
+
+    public CompressedMmappedSegmentedFile sharedCopy()
+    {
+        return new CompressedMmappedSegmentedFile(this);
+    }
+}
@@ -17,8 +17,11 @@
 */
 package org.apache.cassandra.io.util;
 
+import java.io.File;
+
 import com.google.common.util.concurrent.RateLimiter;
 
+import org.apache.cassandra.cache.ChunkCache;
 import org.apache.cassandra.io.compress.CompressedRandomAccessReader;
 import org.apache.cassandra.io.compress.CompressedSequentialWriter;
 import org.apache.cassandra.io.compress.CompressedThrottledReader;
@@ -51,6 +54,7 @@ public class CompressedPoolingSegmentedFile extends PoolingSegmentedFile impleme
         public void tidy() throws Exception
         {
             super.tidy();
+            ChunkCache.instance.invalidateFile(new File(path).getAbsolutePath());
             metadata.close();
         }
     }
@@ -134,7 +134,9 @@ public abstract class SegmentedFile extends SharedCloseableImpl
 
     public static Builder getCompressedBuilder(CompressedSequentialWriter writer)
     {
-        return new CompressedPoolingSegmentedFile.Builder(writer);
+        return DatabaseDescriptor.getDiskAccessMode() == Config.DiskAccessMode.mmap
+               ? new CompressedMmappedSegmentedFile.Builder(writer)
+               : new CompressedPoolingSegmentedFile.Builder(writer);
     }
 
     /**
@@ -28,9 +28,11 @@ import javax.management.MBeanServer;
 import javax.management.ObjectName;
 
 import org.apache.cassandra.concurrent.ScheduledExecutors;
+import org.apache.cassandra.config.Config;
 import org.apache.cassandra.config.DatabaseDescriptor;
 import org.apache.cassandra.net.MessagingService;
 import org.apache.cassandra.service.StorageService;
+import org.apache.cassandra.utils.EstimatedHistogram;
 import org.apache.cassandra.utils.FBUtilities;
 
 import com.yammer.metrics.stats.ExponentiallyDecayingSample;
@@ -42,10 +44,13 @@ public class DynamicEndpointSnitch extends AbstractEndpointSnitch implements ILa
 {
     private static final double ALPHA = 0.75; // set to 0.75 to make EDS more biased to towards the newer values
     private static final int WINDOW_SIZE = 100;
+    // the latencies scored by percentile are the ones of the last second
+    private static final int LATENCY_WINDOW_IN_MS = 1000;
 
     private int UPDATE_INTERVAL_IN_MS = DatabaseDescriptor.getDynamicUpdateInterval();
     private int RESET_INTERVAL_IN_MS = DatabaseDescriptor.getDynamicResetInterval();
     private double BADNESS_THRESHOLD = DatabaseDescriptor.getDynamicBadnessThreshold();
+    private Config.DynamicSnitchScore SCORE = DatabaseDescriptor.getDynamicSnitchScore();
 
     // the score for a merged set of endpoints must be this much worse than the score for separate endpoints to
     // warrant not merging two ranges into a single range
@@ -56,6 +61,7 @@ public class DynamicEndpointSnitch extends AbstractEndpointSnitch implements ILa
 
     private volatile HashMap<InetAddress, Double> scores = new HashMap<InetAddress, Double>();
     private final ConcurrentHashMap<InetAddress, ExponentiallyDecayingSample> samples = new ConcurrentHashMap<InetAddress, ExponentiallyDecayingSample>();
+    private final ConcurrentHashMap<InetAddress, LatencyWindows> windows = new ConcurrentHashMap<InetAddress, LatencyWindows>();
 
     public final IEndpointSnitch subsnitch;
 
@@ -167,7 +173,7 @@ public class DynamicEndpointSnitch extends AbstractEndpointSnitch implements ILa
         ArrayList<Double> subsnitchOrderedScores = new ArrayList<>(addresses.size());
         for (InetAddress inet : addresses)
         {
-            Double score = scores.get(inet);
+            Double score = getScore(inet);
             if (score == null)
                 return;
             subsnitchOrderedScores.add(score);
@@ -192,19 +198,21 @@ public class DynamicEndpointSnitch extends AbstractEndpointSnitch implements ILa
 
     public int compareEndpoints(InetAddress target, InetAddress a1, InetAddress a2)
     {
-        Double scored1 = scores.get(a1);
-        Double scored2 = scores.get(a2);
+        Double scored1 = getScore(a1);
+        Double scored2 = getScore(a2);
         
         if (scored1 == null)
         {
             scored1 = 0.0;
-            receiveTiming(a1, 0);
+            if (SCORE == Config.DynamicSnitchScore.median)
+                receiveTiming(a1, 0);
         }
 
         if (scored2 == null)
         {
             scored2 = 0.0;
-            receiveTiming(a2, 0);
+            if (SCORE == Config.DynamicSnitchScore.median)
+                receiveTiming(a2, 0);
         }
 
         if (scored1.equals(scored2))
@@ -215,8 +223,52 @@ public class DynamicEndpointSnitch extends AbstractEndpointSnitch implements ILa
             return 1;
     }
 
+    /**
+     * @return the score of the given endpoint, including the requests in flight to it when hosts are scored by latency
+     * percentile, or null if it has none
+     */
+    private Double getScore(InetAddress endpoint)
+    {
+        Double score = scores.get(endpoint);
+        if (score == null || SCORE == Config.DynamicSnitchScore.median)
+            return score;
+        // every request already queued on the host is likely to be served before a new one
+        return score * (1 + MessagingService.instance().getInFlightRequests(endpoint));
+    }
+
+    /**
+     * Whether a request sent to the given endpoint can be expected to take longer than the given time, from its recent
+     * latency percentile and the requests in flight to it. Always false unless hosts are scored by latency percentile.
+     */
+    public boolean isExpectedSlowerThan(InetAddress endpoint, long nanos)
+    {
+        if (SCORE == Config.DynamicSnitchScore.median)
+            return false;
+
+        LatencyWindows latencies = windows.get(endpoint);
+        if (latencies == null || latencies.lastPercentile < 0)
+            return false;
+        // the request being waited for is in flight itself
+        int queued = Math.max(1, MessagingService.instance().getInFlightRequests(endpoint));
+        return TimeUnit.MILLISECONDS.toNanos(latencies.lastPercentile * queued) > nanos;
+    }
+
     public void receiveTiming(InetAddress host, long latency) // this is cheap
     {
+        if (SCORE != Config.DynamicSnitchScore.median)
+        {
+            LatencyWindows latencies = windows.get(host);
+            if (latencies == null)
+            {
+                LatencyWindows maybeNewLatencies = new LatencyWindows(Math.max(1, LATENCY_WINDOW_IN_MS / UPDATE_INTERVAL_IN_MS));
+                latencies = windows.putIfAbsent(host, maybeNewLatencies);
+                if (latencies == null)
+                    latencies = maybeNewLatencies;
+            }
+            latencies.add(latency);
+            return;
+        }
+
         ExponentiallyDecayingSample sample = samples.get(host);
         if (sample == null)
         {
@@ -241,6 +293,11 @@ public class DynamicEndpointSnitch extends AbstractEndpointSnitch implements ILa
             }
 
         }
+        if (SCORE != Config.DynamicSnitchScore.median)
+        {
+            updatePercentileScores();
+            return;
+        }
         double maxLatency = 1;
         // We're going to weight the latency for each host against the worst one we see, to
         // arrive at sort of a 'badness percentage' for them. First, find the worst for each:
@@ -265,6 +322,27 @@ public class DynamicEndpointSnitch extends AbstractEndpointSnitch implements ILa
     }
 
 
+    private void updatePercentileScores()
+    {
+        double percentile = SCORE == Config.DynamicSnitchScore.p95 ? 0.95 : 0.99;
+        double maxLatency = 1;
+        HashMap<InetAddress, Long> latencies = new HashMap<>();
+        for (Map.Entry<InetAddress, LatencyWindows> entry : windows.entrySet())
+        {
+            long latency = entry.getValue().update(percentile, MessagingService.instance().getInFlightRequests(entry.getKey()) > 0);
+            if (latency < 0)
+                continue;
+            latencies.put(entry.getKey(), latency);
+            if (latency > maxLatency)
+                maxLatency = latency;
+        }
+        // hosts without recent latencies have no score, and are sorted by the subsnitch
+        HashMap<InetAddress, Double> newScores = new HashMap<>();
+        for (Map.Entry<InetAddress, Long> entry : latencies.entrySet())
+            newScores.put(entry.getKey(), entry.getValue() / maxLatency + StorageService.instance.getSeverity(entry.getKey()));
+        scores = newScores;
+    }
+
     private void reset()
     {
         for (ExponentiallyDecayingSample sample : samples.values())
@@ -341,7 +419,7 @@ public class DynamicEndpointSnitch extends AbstractEndpointSnitch implements ILa
         double maxScore = -1.0;
         for (InetAddress endpoint : endpoints)
         {
-            Double score = scores.get(endpoint);
+            Double score = getScore(endpoint);
             if (score == null)
                 continue;
 
@@ -350,4 +428,62 @@ public class DynamicEndpointSnitch extends AbstractEndpointSnitch implements ILa
         }
         return maxScore;
     }
+
+    /**
+     * The latencies of an endpoint over the last update intervals, kept in one histogram per interval so that they
+     * expire an interval at a time, instead of all being reset at once. Recording a latency is lock-free.
+     */
+    private static class LatencyWindows
+    {
+        private final EstimatedHistogram[] histograms;
+        private volatile int current = 0;
+        // the percentile computed at the last update, or -1 if there was no latency to compute it from
+        volatile long lastPercentile = -1;
+
+        LatencyWindows(int count)
+        {
+            histograms = new EstimatedHistogram[count];
+            for (int i = 0; i < count; i++)
+                histograms[i] = new EstimatedHistogram();
+        }
+
+        void add(long latency)
+        {
+            histograms[current].add(latency);
+        }
+
+        /**
+         * Computes the given percentile of the latencies of all the windows, and starts a new window in place of the
+         * oldest one.
+         *
+         * @param inFlight whether requests are still in flight to the endpoint, in which case it keeps its previous
+         * percentile if it has answered none of them lately; an idle endpoint is given a fresh chance instead.
+         * @return the percentile, or -1 if there is none
+         */
+        long update(double percentile, boolean inFlight)
+        {
+            long[] offsets = histograms[0].getBucketOffsets();
+            long[] merged = new long[offsets.length + 1];
+            for (EstimatedHistogram histogram : histograms)
+            {
+                long[] buckets = histogram.getBuckets(false);
+                for (int i = 0; i < buckets.length; i++)
+                    merged[i] += buckets[i];
+            }
+            // latencies beyond the last bucket are counted in the last one, so that the percentile can be computed
+            merged[offsets.length - 1] += merged[offsets.length];
+            merged[offsets.length] = 0;
+            EstimatedHistogram histogram = new EstimatedHistogram(offsets, merged);
+
+            if (histogram.count() > 0)
+                lastPercentile = histogram.percentile(percentile);
+            else if (!inFlight)
+                lastPercentile = -1;
+
+            int next = (current + 1) % histograms.length;
+            histograms[next].getBuckets(true);
+            current = next;
+            return lastPercentile;
+        }
+    }
 }
@@ -44,6 +44,10 @@ public class CacheMetrics
     public final Gauge<Long> size;
     /** Total number of cache entries */
     public final Gauge<Integer> entries;
+    /** Total number of entries accepted by the admission policy of the cache */
+    public final Gauge<Long> admissions;
+    /** Total number of entries rejected by the admission policy of the cache */
+    public final Gauge<Long> rejections;
 
     private final AtomicLong lastRequests = new AtomicLong(0);
     private final AtomicLong lastHits = new AtomicLong(0);
@@ -93,6 +97,20 @@ public class CacheMetrics
                 return cache.size();
             }
         });
+        admissions = Metrics.newGauge(factory.createMetricName("Admissions"), new Gauge<Long>()
+        {
+            public Long value()
+            {
+                return cache.admitted();
+            }
+        });
+        rejections = Metrics.newGauge(factory.createMetricName("Rejections"), new Gauge<Long>()
+        {
+            public Long value()
+            {
+                return cache.rejected();
+            }
+        });
     }
 
     // for backward compatibility
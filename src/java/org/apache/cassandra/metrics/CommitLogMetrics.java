@@ -19,8 +19,10 @@ package org.apache.cassandra.metrics;
 
 import com.yammer.metrics.Metrics;
 import com.yammer.metrics.core.Gauge;
+import com.yammer.metrics.core.Meter;
 
 import com.yammer.metrics.core.Timer;
+import com.yammer.metrics.util.RatioGauge;
 import org.apache.cassandra.db.commitlog.AbstractCommitLogService;
 import org.apache.cassandra.db.commitlog.CommitLogSegmentManager;
 
@@ -43,6 +45,16 @@ public class CommitLogMetrics
     public final Timer waitingOnSegmentAllocation;
     /** The time spent waiting on CL sync; for Periodic this is only occurs when the sync is lagging its sync interval */
     public final Timer waitingOnCommit;
+    /** Rate of mutations applied during commit log replay */
+    public final Meter replayedMutations;
+    /** Rate of commit log bytes read and checksummed during commit log replay */
+    public final Meter replayedBytes;
+    /** Rate of commit log bytes synced, before compression */
+    public final Meter bytesWritten;
+    /** Rate of commit log bytes written to disk; the same as {@link #bytesWritten} for uncompressed commit logs */
+    public final Meter compressedBytesWritten;
+    /** Ratio of the bytes written to disk to the synced bytes */
+    public final Gauge<Double> compressionRatio;
 
     public CommitLogMetrics(final AbstractCommitLogService service, final CommitLogSegmentManager allocator)
     {
@@ -69,5 +81,21 @@ public class CommitLogMetrics
         });
         waitingOnSegmentAllocation = Metrics.newTimer(factory.createMetricName("WaitingOnSegmentAllocation"), TimeUnit.MICROSECONDS, TimeUnit.SECONDS);
         waitingOnCommit = Metrics.newTimer(factory.createMetricName("WaitingOnCommit"), TimeUnit.MICROSECONDS, TimeUnit.SECONDS);
+        replayedMutations = Metrics.newMeter(factory.createMetricName("ReplayedMutations"), "mutations", TimeUnit.SECONDS);
+        replayedBytes = Metrics.newMeter(factory.createMetricName("ReplayedBytes"), "bytes", TimeUnit.SECONDS);
+        bytesWritten = Metrics.newMeter(factory.createMetricName("BytesWritten"), "bytes", TimeUnit.SECONDS);
+        compressedBytesWritten = Metrics.newMeter(factory.createMetricName("CompressedBytesWritten"), "bytes", TimeUnit.SECONDS);
+        compressionRatio = Metrics.newGauge(factory.createMetricName("CompressionRatio"), new RatioGauge()
+        {
+            protected double getNumerator()
+            {
+                return compressedBytesWritten.count();
+            }
+
+            protected double getDenominator()
+            {
+                return bytesWritten.count();
+            }
+        });
     }
 }
@@ -19,6 +19,7 @@ package org.apache.cassandra.metrics;
 
 import java.net.InetAddress;
 import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.cassandra.db.HintedHandOffManager;
 import org.apache.cassandra.db.SystemKeyspace;
@@ -31,6 +32,8 @@ import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
 import com.yammer.metrics.Metrics;
 import com.yammer.metrics.core.Counter;
+import com.yammer.metrics.core.Gauge;
+import com.yammer.metrics.core.Meter;
 
 /**
  * Metrics for {@link HintedHandOffManager}.
@@ -41,6 +44,21 @@ public class HintedHandoffMetrics
 
     private final MetricNameFactory factory = new DefaultNameFactory("HintedHandOffManager");
 
+    /** Rate of hint bytes appended to the hints files */
+    public final Meter bytesWritten = Metrics.newMeter(factory.createMetricName("BytesWritten"), "bytes", TimeUnit.SECONDS);
+    /** Rate of hints delivered to their target nodes */
+    public final Meter hintsDelivered = Metrics.newMeter(factory.createMetricName("HintsDelivered"), "hints", TimeUnit.SECONDS);
+    /** Rate of hint bytes delivered to their target nodes */
+    public final Meter bytesDelivered = Metrics.newMeter(factory.createMetricName("BytesDelivered"), "bytes", TimeUnit.SECONDS);
+    /** Total size of the hints files, in bytes */
+    public final Gauge<Long> totalHintsSize = Metrics.newGauge(factory.createMetricName("TotalHintsSize"), new Gauge<Long>()
+    {
+        public Long value()
+        {
+            return HintedHandOffManager.instance.getHintsSize();
+        }
+    });
+
     /** Total number of hints which are not stored, This is not a cache. */
     private final LoadingCache<InetAddress, DifferencingCounter> notStored = CacheBuilder.newBuilder().build(new CacheLoader<InetAddress, DifferencingCounter>()
     {
@@ -17,15 +17,20 @@
  */
 package org.apache.cassandra.metrics;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
+import org.apache.cassandra.config.DatabaseDescriptor;
 import org.apache.cassandra.utils.EstimatedHistogram;
+import org.apache.cassandra.utils.HdrHistogram;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import com.yammer.metrics.Metrics;
 import com.yammer.metrics.core.Counter;
+import com.yammer.metrics.core.Gauge;
 import com.yammer.metrics.core.Timer;
 
 /**
@@ -33,10 +38,22 @@ import com.yammer.metrics.core.Timer;
  */
 public class LatencyMetrics
 {
+    /** Percentiles exported by the latency histograms, which are followed by their min and max */
+    public static final double[] PERCENTILES = { 0.5, 0.75, 0.95, 0.98, 0.99, 0.999, 0.9999 };
+    /** Highest latency tracked by the latency histograms, in micro sec */
+    private static final long MAX_LATENCY = TimeUnit.HOURS.toMicros(1);
+
     /** Latency */
     public final Timer latency;
     /** Total latency in micro sec */
     public final Counter totalLatency;
+    /**
+     * Latency histogram in micro sec, with latency_histogram_significant_digits of precision. Allocated on the first
+     * latency recorded, as many metrics (e.g. those of CAS) are never updated on most tables.
+     */
+    private volatile HdrHistogram latencyHistogram;
+    /** Percentiles of the latency histogram in micro sec, followed by its min and max */
+    public final Gauge<double[]> latencyPercentiles;
 
     /** parent metrics to replicate any updates to **/
     private List<LatencyMetrics> parents = Lists.newArrayList();
@@ -85,6 +102,14 @@ public class LatencyMetrics
 
         latency = Metrics.newTimer(factory.createMetricName(namePrefix + "Latency"), TimeUnit.MICROSECONDS, TimeUnit.SECONDS);
         totalLatency = Metrics.newCounter(factory.createMetricName(namePrefix + "TotalLatency"));
+        latencyPercentiles = Metrics.newGauge(factory.createMetricName(namePrefix + "LatencyPercentiles"), new Gauge<double[]>()
+        {
+            public double[] value()
+            {
+                HdrHistogram histogram = latencyHistogram;
+                return histogram == null ? percentiles(null) : percentiles(histogram.snapshot());
+            }
+        });
     }
     
     /**
@@ -109,16 +134,71 @@ public class LatencyMetrics
         totalLatency.inc(nanos / 1000);
         totalLatencyHistogram.add(nanos / 1000);
         recentLatencyHistogram.add(nanos / 1000);
+        latencyHistogram().record(nanos / 1000);
         for(LatencyMetrics parent : parents)
         {
             parent.addNano(nanos);
         }
     }
 
+    private HdrHistogram latencyHistogram()
+    {
+        HdrHistogram histogram = latencyHistogram;
+        if (histogram == null)
+        {
+            synchronized (this)
+            {
+                histogram = latencyHistogram;
+                if (histogram == null)
+                    latencyHistogram = histogram = new HdrHistogram(MAX_LATENCY, DatabaseDescriptor.getLatencyHistogramSignificantDigits());
+            }
+        }
+        return histogram;
+    }
+
+    /**
+     * @return whether the latency histogram has been allocated, which happens on the first latency recorded
+     */
+    @VisibleForTesting
+    boolean hasLatencyHistogram()
+    {
+        return latencyHistogram != null;
+    }
+
     public void release()
     {
         Metrics.defaultRegistry().removeMetric(factory.createMetricName(namePrefix + "Latency"));
         Metrics.defaultRegistry().removeMetric(factory.createMetricName(namePrefix + "TotalLatency"));
+        Metrics.defaultRegistry().removeMetric(factory.createMetricName(namePrefix + "LatencyPercentiles"));
+    }
+
+    /**
+     * @return the percentiles of the latencies recorded since the last call, followed by their min and max
+     */
+    public double[] getRecentPercentiles()
+    {
+        HdrHistogram histogram = latencyHistogram;
+        return histogram == null ? percentiles(null) : percentiles(histogram.intervalSnapshot());
+    }
+
+    /**
+     * @return the values of the snapshot at each of the PERCENTILES, followed by its min and max, or NaNs if the
+     * snapshot is null or empty
+     */
+    public static double[] percentiles(HdrHistogram.Snapshot snapshot)
+    {
+        double[] result = new double[PERCENTILES.length + 2];
+        if (snapshot == null || snapshot.count() == 0)
+        {
+            Arrays.fill(result, Double.NaN);
+            return result;
+        }
+
+        for (int i = 0; i < PERCENTILES.length; i++)
+            result[i] = snapshot.percentile(PERCENTILES[i]);
+        result[PERCENTILES.length] = snapshot.min();
+        result[PERCENTILES.length + 1] = snapshot.max();
+        return result;
     }
 
     @Deprecated
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.cassandra.metrics;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.yammer.metrics.Metrics;
+import com.yammer.metrics.core.Gauge;
+
+/**
+ * The time spent in each phase of the startup of the node, in milliseconds.
+ */
+public class StartupMetrics
+{
+    private static final Logger logger = LoggerFactory.getLogger(StartupMetrics.class);
+
+    private static final MetricNameFactory factory = new DefaultNameFactory("Startup");
+
+    public static enum Phase
+    {
+        /** Removing the leftovers of unfinished compactions and the temporary files from the data directories */
+        CLEANUP("Cleanup"),
+        /** Opening the sstables of all the tables */
+        OPEN_SSTABLES("OpenSSTables"),
+        /** Loading the saved caches, as the tables are initialized */
+        LOAD_SAVED_CACHES("LoadSavedCaches"),
+        /** Initializing the keyspaces and their tables, including the loading of the saved caches */
+        INIT_KEYSPACES("InitKeyspaces"),
+        /** Replaying the commit log */
+        COMMIT_LOG_REPLAY("CommitLogReplay"),
+        /** Everything from the start of the daemon until it is about to join the ring */
+        TOTAL("Total");
+
+        public final String name;
+
+        Phase(String name)
+        {
+            this.name = name;
+        }
+    }
+
+    private static final Map<Phase, AtomicLong> timings = new EnumMap<>(Phase.class);
+
+    static
+    {
+        for (Phase phase : Phase.values())
+        {
+            final AtomicLong timing = new AtomicLong();
+            timings.put(phase, timing);
+            Metrics.newGauge(factory.createMetricName(phase.name + "Time"), new Gauge<Long>()
+            {
+                public Long value()
+                {
+                    return timing.get();
+                }
+            });
+        }
+    }
+
+    /**
+     * Records, and logs, the completion of a startup phase.
+     *
+     * @param startNanos the value of {@link System#nanoTime()} when the phase started
+     */
+    public static void completed(Phase phase, long startNanos)
+    {
+        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        timings.get(phase).set(millis);
+        logger.info("Startup phase {} completed in {} ms", phase.name, millis);
+    }
+
+    /**
+     * Adds to the time of a phase made of several steps, such as the loading of the cache of each table.
+     *
+     * @param startNanos the value of {@link System#nanoTime()} when the step started
+     */
+    public static void add(Phase phase, long startNanos)
+    {
+        timings.get(phase).addAndGet(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+    }
+
+    /**
+     * @return the time spent in the phase, in milliseconds
+     */
+    public static long timeOf(Phase phase)
+    {
+        return timings.get(phase).get();
+    }
+}
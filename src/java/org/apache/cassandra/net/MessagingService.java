@@ -131,7 +131,7 @@ public final class MessagingService implements MessagingServiceMBean
         PAXOS_COMMIT,
         PAGED_RANGE,
         // remember to add new verbs at the end, since we serialize by ordinal
-        UNUSED_1,
+        MUTATION_BATCH,
         UNUSED_2,
         UNUSED_3,
         ;
@@ -140,6 +140,7 @@ public final class MessagingService implements MessagingServiceMBean
     public static final EnumMap<MessagingService.Verb, Stage> verbStages = new EnumMap<MessagingService.Verb, Stage>(MessagingService.Verb.class)
     {{
         put(Verb.MUTATION, Stage.MUTATION);
+        put(Verb.MUTATION_BATCH, Stage.MUTATION);
         put(Verb.COUNTER_MUTATION, Stage.COUNTER_MUTATION);
         put(Verb.READ_REPAIR, Stage.MUTATION);
         put(Verb.TRUNCATE, Stage.MUTATION);
@@ -179,7 +180,6 @@ public final class MessagingService implements MessagingServiceMBean
         put(Verb.SNAPSHOT, Stage.MISC);
         put(Verb.ECHO, Stage.GOSSIP);
 
-        put(Verb.UNUSED_1, Stage.INTERNAL_RESPONSE);
         put(Verb.UNUSED_2, Stage.INTERNAL_RESPONSE);
         put(Verb.UNUSED_3, Stage.INTERNAL_RESPONSE);
     }};
@@ -199,6 +199,7 @@ public final class MessagingService implements MessagingServiceMBean
         put(Verb.INTERNAL_RESPONSE, CallbackDeterminedSerializer.instance);
 
         put(Verb.MUTATION, Mutation.serializer);
+        put(Verb.MUTATION_BATCH, MutationBatch.serializer);
         put(Verb.READ_REPAIR, Mutation.serializer);
         put(Verb.READ, ReadCommand.serializer);
         put(Verb.RANGE_SLICE, RangeSliceCommand.serializer);
@@ -288,6 +289,7 @@ public final class MessagingService implements MessagingServiceMBean
     public static final EnumSet<Verb> DROPPABLE_VERBS = EnumSet.of(Verb.BINARY,
                                                                    Verb._TRACE,
                                                                    Verb.MUTATION,
+                                                                   Verb.MUTATION_BATCH,
                                                                    Verb.COUNTER_MUTATION,
                                                                    Verb.READ_REPAIR,
                                                                    Verb.READ,
@@ -302,6 +304,9 @@ public final class MessagingService implements MessagingServiceMBean
 
     private final List<ILatencySubscriber> subscribers = new ArrayList<ILatencySubscriber>();
 
+    // number of requests whose latency is tracked for the snitch, sent to each node and not answered nor timed out yet
+    private final ConcurrentMap<InetAddress, AtomicInteger> inFlightRequests = new NonBlockingHashMap<InetAddress, AtomicInteger>();
+
     // protocol versions of the other nodes in the cluster
     private final ConcurrentMap<InetAddress, Integer> versions = new NonBlockingHashMap<InetAddress, Integer>();
 
@@ -338,6 +343,7 @@ public final class MessagingService implements MessagingServiceMBean
             public Object apply(Pair<Integer, ExpiringMap.CacheableObject<CallbackInfo>> pair)
             {
                 final CallbackInfo expiredCallbackInfo = pair.right.value;
+                requestCompleted(expiredCallbackInfo);
                 maybeAddLatency(expiredCallbackInfo.callback, expiredCallbackInfo.target, pair.right.timeout);
                 ConnectionMetrics.totalTimeouts.mark();
                 getConnectionPool(expiredCallbackInfo.target).incrementTimeout();
@@ -394,6 +400,43 @@ public final class MessagingService implements MessagingServiceMBean
             subscriber.receiveTiming(address, latency);
     }
 
+    private void requestSent(CallbackInfo callbackInfo)
+    {
+        if (!callbackInfo.callback.isLatencyForSnitch())
+            return;
+
+        AtomicInteger count = inFlightRequests.get(callbackInfo.target);
+        if (count == null)
+        {
+            AtomicInteger newCount = new AtomicInteger();
+            count = inFlightRequests.putIfAbsent(callbackInfo.target, newCount);
+            if (count == null)
+                count = newCount;
+        }
+        count.incrementAndGet();
+    }
+
+    private void requestCompleted(CallbackInfo callbackInfo)
+    {
+        if (callbackInfo == null || !callbackInfo.callback.isLatencyForSnitch())
+            return;
+
+        AtomicInteger count = inFlightRequests.get(callbackInfo.target);
+        if (count != null)
+            count.decrementAndGet();
+    }
+
+    /**
+     * @return the number of requests whose latency is tracked for the dynamic snitch, sent to the given node and
+     * neither answered nor timed out yet
+     */
+    public int getInFlightRequests(InetAddress address)
+    {
+        AtomicInteger count = inFlightRequests.get(address);
+        // callbacks registered for tests are not counted, but may be removed
+        return count == null ? 0 : Math.max(0, count.get());
+    }
+
     /**
      * called from gossiper when it notices a node is not responding.
      */
@@ -411,6 +454,7 @@ public final class MessagingService implements MessagingServiceMBean
     public void listen(InetAddress localEp) throws ConfigurationException
     {
         callbacks.reset(); // hack to allow tests to stop/restart MS
+        inFlightRequests.clear();
         for (ServerSocket ss : getServerSockets(localEp))
         {
             SocketThread th = new SocketThread(ss, "ACCEPT-" + localEp);
@@ -559,8 +603,10 @@ public final class MessagingService implements MessagingServiceMBean
     {
         assert message.verb != Verb.MUTATION; // mutations need to call the overload with a ConsistencyLevel
         int messageId = nextId();
-        CallbackInfo previous = callbacks.put(messageId, new CallbackInfo(to, cb, callbackDeserializers.get(message.verb), failureCallback), timeout);
+        CallbackInfo callbackInfo = new CallbackInfo(to, cb, callbackDeserializers.get(message.verb), failureCallback);
+        CallbackInfo previous = callbacks.put(messageId, callbackInfo, timeout);
         assert previous == null : String.format("Callback already exists for id %d! (%s)", messageId, previous);
+        requestSent(callbackInfo);
         return messageId;
     }
 
@@ -574,15 +620,15 @@ public final class MessagingService implements MessagingServiceMBean
         assert message.verb == Verb.MUTATION || message.verb == Verb.COUNTER_MUTATION;
         int messageId = nextId();
 
-        CallbackInfo previous = callbacks.put(messageId,
-                                              new WriteCallbackInfo(to,
-                                                                    cb,
-                                                                    message,
-                                                                    callbackDeserializers.get(message.verb),
-                                                                    consistencyLevel,
-                                                                    allowHints),
-                                                                    timeout);
+        CallbackInfo callbackInfo = new WriteCallbackInfo(to,
+                                                          cb,
+                                                          message,
+                                                          callbackDeserializers.get(message.verb),
+                                                          consistencyLevel,
+                                                          allowHints);
+        CallbackInfo previous = callbacks.put(messageId, callbackInfo, timeout);
         assert previous == null : String.format("Callback already exists for id %d! (%s)", messageId, previous);
+        requestSent(callbackInfo);
         return messageId;
     }
 
@@ -697,6 +743,7 @@ public final class MessagingService implements MessagingServiceMBean
     public void clearCallbacksUnsafe()
     {
         callbacks.reset();
+        inFlightRequests.clear();
     }
 
     /**
@@ -756,7 +803,9 @@ public final class MessagingService implements MessagingServiceMBean
 
     public CallbackInfo removeRegisteredCallback(int messageId)
     {
-        return callbacks.remove(messageId);
+        CallbackInfo callbackInfo = callbacks.remove(messageId);
+        requestCompleted(callbackInfo);
+        return callbackInfo;
     }
 
     /**
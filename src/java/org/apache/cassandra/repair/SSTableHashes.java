@@ -0,0 +1,453 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.cassandra.repair;
+
+import java.io.DataInput;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.*;
+import java.util.concurrent.locks.Lock;
+import java.util.zip.CRC32;
+
+import com.google.common.collect.AbstractIterator;
+import com.google.common.util.concurrent.Striped;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.apache.cassandra.config.Config;
+import org.apache.cassandra.db.DecoratedKey;
+import org.apache.cassandra.dht.Range;
+import org.apache.cassandra.dht.Token;
+import org.apache.cassandra.io.FSReadError;
+import org.apache.cassandra.io.FSWriteError;
+import org.apache.cassandra.io.sstable.Component;
+import org.apache.cassandra.io.sstable.SSTableReader;
+import org.apache.cassandra.io.util.DataOutputBuffer;
+import org.apache.cassandra.io.util.FileUtils;
+import org.apache.cassandra.io.util.RandomAccessReader;
+import org.apache.cassandra.utils.ByteBufferUtil;
+import org.apache.cassandra.utils.CloseableIterator;
+import org.apache.cassandra.utils.MergeIterator;
+import org.apache.cassandra.utils.MerkleTree.RowHash;
+
+/**
+ * The hashes validation computed for the partitions of an sstable, persisted in its HASHES component so that the
+ * next validations of the same range don't have to read the sstable again.
+ *
+ * The component is a sequence of sections, one per range and row hash, each made of its length, the row hash, the
+ * range, the partitions (key, hash and size) and the CRC32 of all that. Sections are only ever appended, since the
+ * rows of an sstable don't change.
+ *
+ * The hash of a row only depends on the sstable when nothing of it is purged, and when no other sstable has a row
+ * for the same partition. So only the sstables without any tombstone or expiring cell are hashed, and their hashes
+ * are only used when none of their partitions is in any other sstable of the validation.
+ */
+public final class SSTableHashes
+{
+    private static final Logger logger = LoggerFactory.getLogger(SSTableHashes.class);
+
+    // the sections being appended to a component are checked for duplicates first, so it's done once at a time
+    private static final Striped<Lock> locks = Striped.lazyWeakLock(64);
+
+    private static final Comparator<Entry> comparator = new Comparator<Entry>()
+    {
+        public int compare(Entry e1, Entry e2)
+        {
+            return e1.key.compareTo(e2.key);
+        }
+    };
+
+    private SSTableHashes()
+    {
+    }
+
+    /**
+     * A partition of an sstable, and its hash.
+     */
+    public static class Entry
+    {
+        public final DecoratedKey key;
+        public final RowHash hash;
+
+        public Entry(DecoratedKey key, RowHash hash)
+        {
+            this.key = key;
+            this.hash = hash;
+        }
+    }
+
+    /**
+     * @return true if the rows of the sstable hash the same whatever gcBefore is: it has no tombstone and no expiring
+     *         cell, so the hashes computed by a validation can be used by the next ones.
+     */
+    public static boolean canPersist(SSTableReader sstable)
+    {
+        return sstable.getSSTableMetadata().estimatedTombstoneDropTime.getAsMap().isEmpty();
+    }
+
+    /**
+     * @return the hashes of the partitions of the sstable in the range, or null if they were never persisted
+     */
+    public static Section find(SSTableReader sstable, Range<Token> range, Config.RepairRowHash rowHash)
+    {
+        File file = new File(sstable.descriptor.filenameFor(Component.HASHES));
+        if (!file.exists())
+            return null;
+
+        RandomAccessReader in = RandomAccessReader.open(file);
+        try
+        {
+            long position = 0;
+            while (true)
+            {
+                in.seek(position);
+                SectionHeader header = SectionHeader.read(in, position, in.length());
+                if (header == null)
+                    return null;
+                if (header.matches(range, rowHash))
+                    return new Section(sstable, position, header.end, in.getFilePointer(), header.count);
+                position = header.end;
+            }
+        }
+        catch (IOException e)
+        {
+            logger.warn("Could not read the hashes of {}", sstable, e);
+            return null;
+        }
+        finally
+        {
+            FileUtils.closeQuietly(in);
+        }
+    }
+
+    /**
+     * @return the sstables whose persisted hashes can be used in place of reading them, with those hashes. Those
+     *         are the ones whose partitions are in none of the other sstables, so that their rows are validated
+     *         exactly as they were when they were hashed.
+     */
+    public static Map<SSTableReader, Section> findReusable(Collection<SSTableReader> sstables, Range<Token> range, Config.RepairRowHash rowHash) throws IOException
+    {
+        Map<SSTableReader, Section> reusable = new HashMap<>();
+        for (SSTableReader sstable : sstables)
+        {
+            if (!canPersist(sstable))
+                continue;
+
+            Section section = find(sstable, range, rowHash);
+            if (section != null && section.isIntact() && !overlapsOthers(section, sstables))
+                reusable.put(sstable, section);
+        }
+        return reusable;
+    }
+
+    private static boolean overlapsOthers(Section section, Collection<SSTableReader> sstables) throws IOException
+    {
+        try (CloseableIterator<Entry> iter = section.iterator())
+        {
+            while (iter.hasNext())
+            {
+                DecoratedKey key = iter.next().key;
+                for (SSTableReader other : sstables)
+                {
+                    if (other == section.sstable || key.compareTo(other.first) < 0 || key.compareTo(other.last) > 0)
+                        continue;
+
+                    // the bloom filter rules most of them out, the index tells the false positives apart
+                    if (other.getBloomFilter().isPresent(key.getKey())
+                        && other.getPosition(key, SSTableReader.Operator.EQ, false) != null)
+                        return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the entries of the sections, in key order. The sections can't have any partition in common.
+     */
+    public static CloseableIterator<Entry> merge(Collection<Section> sections)
+    {
+        List<CloseableIterator<Entry>> iters = new ArrayList<>(sections.size());
+        for (Section section : sections)
+            iters.add(section.iterator());
+
+        return MergeIterator.get(iters, comparator, new MergeIterator.Reducer<Entry, Entry>()
+        {
+            private Entry entry;
+
+            public void reduce(Entry current)
+            {
+                assert entry == null : "Partition " + current.key + " is in several sstables";
+                entry = current;
+            }
+
+            protected Entry getReduced()
+            {
+                Entry reduced = entry;
+                entry = null;
+                return reduced;
+            }
+
+            @Override
+            public boolean trivialReduceIsTrivial()
+            {
+                return true;
+            }
+        });
+    }
+
+    /**
+     * The persisted hashes of an sstable, for a range.
+     */
+    public static class Section
+    {
+        public final SSTableReader sstable;
+        public final int count;
+        private final long start;
+        private final long end;
+        private final long entriesStart;
+
+        private Section(SSTableReader sstable, long start, long end, long entriesStart, int count)
+        {
+            this.sstable = sstable;
+            this.start = start;
+            this.end = end;
+            this.entriesStart = entriesStart;
+            this.count = count;
+        }
+
+        /**
+         * @return true if the section has the checksum it was written with
+         */
+        public boolean isIntact() throws IOException
+        {
+            RandomAccessReader in = RandomAccessReader.open(new File(sstable.descriptor.filenameFor(Component.HASHES)));
+            try
+            {
+                CRC32 crc = new CRC32();
+                byte[] buffer = new byte[4096];
+                in.seek(start + 4);
+                long remaining = end - start - 8;
+                while (remaining > 0)
+                {
+                    int length = (int) Math.min(buffer.length, remaining);
+                    in.readFully(buffer, 0, length);
+                    crc.update(buffer, 0, length);
+                    remaining -= length;
+                }
+                if (in.readInt() == (int) crc.getValue())
+                    return true;
+
+                logger.warn("The hashes of {} are corrupted and will not be used", sstable);
+                return false;
+            }
+            finally
+            {
+                FileUtils.closeQuietly(in);
+            }
+        }
+
+        public CloseableIterator<Entry> iterator()
+        {
+            RandomAccessReader in = RandomAccessReader.open(new File(sstable.descriptor.filenameFor(Component.HASHES)));
+            in.seek(entriesStart);
+            return new EntryIterator(sstable, in, count);
+        }
+    }
+
+    private static class EntryIterator extends AbstractIterator<Entry> implements CloseableIterator<Entry>
+    {
+        private final SSTableReader sstable;
+        private final RandomAccessReader in;
+        private int remaining;
+
+        private EntryIterator(SSTableReader sstable, RandomAccessReader in, int count)
+        {
+            this.sstable = sstable;
+            this.in = in;
+            this.remaining = count;
+        }
+
+        protected Entry computeNext()
+        {
+            if (remaining == 0)
+                return endOfData();
+
+            remaining--;
+            try
+            {
+                DecoratedKey key = sstable.partitioner.decorateKey(ByteBufferUtil.readWithShortLength(in));
+                byte[] hash = ByteBufferUtil.getArray(ByteBufferUtil.readWithShortLength(in));
+                long size = in.readLong();
+                return new Entry(key, new RowHash(key.getToken(), hash, size));
+            }
+            catch (IOException e)
+            {
+                throw new FSReadError(e, in.getPath());
+            }
+        }
+
+        public void close()
+        {
+            in.close();
+        }
+    }
+
+    private static class SectionHeader
+    {
+        private final long end;
+        private final String rowHash;
+        private final Token left;
+        private final Token right;
+        private final int count;
+
+        private SectionHeader(long end, String rowHash, Token left, Token right, int count)
+        {
+            this.end = end;
+            this.rowHash = rowHash;
+            this.left = left;
+            this.right = right;
+            this.count = count;
+        }
+
+        /**
+         * @return the header of the section at the current position, or null if there is none, or only part of one
+         *         left by a crash while it was appended.
+         */
+        private static SectionHeader read(DataInput in, long position, long length) throws IOException
+        {
+            if (position + 8 > length)
+                return null;
+
+            int bodyLength = in.readInt();
+            long end = position + 4 + bodyLength + 4;
+            if (bodyLength < 0 || end > length)
+                return null;
+
+            return new SectionHeader(end, in.readUTF(), Token.serializer.deserialize(in), Token.serializer.deserialize(in), in.readInt());
+        }
+
+        private boolean matches(Range<Token> range, Config.RepairRowHash rowHash)
+        {
+            return this.rowHash.equals(rowHash.name()) && left.equals(range.left) && right.equals(range.right);
+        }
+    }
+
+    /**
+     * Collects the hashes of the partitions of an sstable in a range, to append them to its HASHES component.
+     */
+    public static class Writer
+    {
+        public final SSTableReader sstable;
+        private final Range<Token> range;
+        private final Config.RepairRowHash rowHash;
+        private final DataOutputBuffer entries = new DataOutputBuffer();
+        private int count;
+
+        public Writer(SSTableReader sstable, Range<Token> range, Config.RepairRowHash rowHash)
+        {
+            this.sstable = sstable;
+            this.range = range;
+            this.rowHash = rowHash;
+        }
+
+        /**
+         * Adds the next partition of the sstable, in key order.
+         */
+        public void add(DecoratedKey key, RowHash hash)
+        {
+            try
+            {
+                ByteBufferUtil.writeWithShortLength(key.getKey(), entries);
+                ByteBufferUtil.writeWithShortLength(hash.hash, entries);
+                entries.writeLong(hash.size);
+                count++;
+            }
+            catch (IOException e)
+            {
+                throw new AssertionError(e);
+            }
+        }
+
+        /**
+         * @return the size of the hashes collected so far, in bytes
+         */
+        public long size()
+        {
+            return entries.getLength();
+        }
+
+        /**
+         * Appends the hashes collected to the component, unless another validation of the same range did already.
+         */
+        public void append()
+        {
+            DataOutputBuffer body = new DataOutputBuffer();
+            try
+            {
+                body.writeUTF(rowHash.name());
+                Token.serializer.serialize(range.left, body);
+                Token.serializer.serialize(range.right, body);
+                body.writeInt(count);
+                body.write(entries.getData(), 0, entries.getLength());
+            }
+            catch (IOException e)
+            {
+                throw new AssertionError(e);
+            }
+            CRC32 crc = new CRC32();
+            crc.update(body.getData(), 0, body.getLength());
+
+            File file = new File(sstable.descriptor.filenameFor(Component.HASHES));
+            Lock lock = locks.get(sstable.descriptor);
+            lock.lock();
+            try (RandomAccessFile out = new RandomAccessFile(file, "rw"))
+            {
+                long position = 0;
+                while (true)
+                {
+                    out.seek(position);
+                    SectionHeader header = SectionHeader.read(out, position, out.length());
+                    if (header == null)
+                        break;
+                    if (header.matches(range, rowHash))
+                        return;
+                    position = header.end;
+                }
+
+                // drops whatever a crash while appending may have left past the last section
+                out.setLength(position);
+                out.seek(position);
+                out.writeInt(body.getLength());
+                out.write(body.getData(), 0, body.getLength());
+                out.writeInt((int) crc.getValue());
+                out.getFD().sync();
+            }
+            catch (IOException e)
+            {
+                throw new FSWriteError(e, file);
+            }
+            finally
+            {
+                lock.unlock();
+            }
+            sstable.addComponents(Collections.singleton(Component.HASHES));
+        }
+    }
+}
@@ -29,6 +29,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.apache.cassandra.concurrent.Stage;
 import org.apache.cassandra.concurrent.StageManager;
+import org.apache.cassandra.config.Config;
+import org.apache.cassandra.config.DatabaseDescriptor;
 import org.apache.cassandra.db.ColumnFamilyStore;
 import org.apache.cassandra.db.DecoratedKey;
 import org.apache.cassandra.db.compaction.AbstractCompactedRow;
@@ -37,6 +39,7 @@ import org.apache.cassandra.repair.messages.ValidationComplete;
 import org.apache.cassandra.utils.FBUtilities;
 import org.apache.cassandra.utils.MerkleTree;
 import org.apache.cassandra.utils.MerkleTree.RowHash;
+import org.apache.cassandra.utils.Murmur3Digest;
 
 /**
  * Handles the building of a merkle tree for a column family.
@@ -53,6 +56,8 @@ public class Validator implements Runnable
     public final RepairJobDesc desc;
     public final InetAddress initiator;
     public final int gcBefore;
+    // the hash of the rows, which all the replicas must agree on
+    public final Config.RepairRowHash rowHashAlgorithm;
 
     // null when all rows with the min token have been consumed
     private long validated;
@@ -69,6 +74,7 @@ public class Validator implements Runnable
         this.desc = desc;
         this.initiator = initiator;
         this.gcBefore = gcBefore;
+        this.rowHashAlgorithm = DatabaseDescriptor.getRepairRowHash();
         validated = 0;
         range = null;
         ranges = null;
@@ -119,19 +125,34 @@ public class Validator implements Runnable
      * Hashes the row, and adds it to the tree being built.
      *
      * @param row Row to add hash
+     * @return the hash of the row, or null if it has nothing to hash
      */
-    public void add(AbstractCompactedRow row)
+    public RowHash add(AbstractCompactedRow row)
     {
-        assert desc.range.contains(row.key.getToken()) : row.key.getToken() + " is not contained in " + desc.range;
-        assert lastKey == null || lastKey.compareTo(row.key) < 0
-               : "row " + row.key + " received out of order wrt " + lastKey;
-        lastKey = row.key;
+        RowHash rowHash = rowHash(row);
+        add(row.key, rowHash);
+        return rowHash;
+    }
+
+    /**
+     * Called (in order) for a row whose hash is already known, in place of {@link #add(AbstractCompactedRow)}.
+     *
+     * @param key the key of the row
+     * @param rowHash the hash of the row, as computed by add(AbstractCompactedRow) with the same row hash
+     */
+    public void add(DecoratedKey key, RowHash rowHash)
+    {
+        assert desc.range.contains(key.getToken()) : key.getToken() + " is not contained in " + desc.range;
+        assert lastKey == null || lastKey.compareTo(key) < 0
+               : "row " + key + " received out of order wrt " + lastKey;
+        lastKey = key;
+        validated++;
 
         if (range == null)
             range = ranges.next();
 
         // generate new ranges as long as case 1 is true
-        while (!range.contains(row.key.getToken()))
+        while (!range.contains(key.getToken()))
         {
             // add the empty hash, and move to the next range
             range.ensureHashInitialised();
@@ -139,7 +160,6 @@ public class Validator implements Runnable
         }
 
         // case 3 must be true: mix in the hashed row
-        RowHash rowHash = rowHash(row);
         if (rowHash != null)
         {
             range.addHash(rowHash);
@@ -187,9 +207,10 @@ public class Validator implements Runnable
 
     private MerkleTree.RowHash rowHash(AbstractCompactedRow row)
     {
-        validated++;
         // MerkleTree uses XOR internally, so we want lots of output bits here
-        CountingDigest digest = new CountingDigest(FBUtilities.newMessageDigest("SHA-256"));
+        CountingDigest digest = new CountingDigest(rowHashAlgorithm == Config.RepairRowHash.murmur3
+                                                   ? new Murmur3Digest()
+                                                   : FBUtilities.newMessageDigest("SHA-256"));
         row.update(digest);
         // only return new hash for merkle tree in case digest was updated - see CASSANDRA-8979
         if (digest.count > 0)
@@ -29,6 +29,7 @@ import org.slf4j.LoggerFactory;
 import org.apache.cassandra.concurrent.Stage;
 import org.apache.cassandra.concurrent.StageManager;
 import org.apache.cassandra.config.CFMetaData.SpeculativeRetry.RetryType;
+import org.apache.cassandra.config.DatabaseDescriptor;
 import org.apache.cassandra.config.Schema;
 import org.apache.cassandra.config.ReadRepairDecision;
 import org.apache.cassandra.db.ColumnFamilyStore;
@@ -39,6 +40,8 @@ import org.apache.cassandra.db.Row;
 import org.apache.cassandra.db.Keyspace;
 import org.apache.cassandra.exceptions.ReadTimeoutException;
 import org.apache.cassandra.exceptions.UnavailableException;
+import org.apache.cassandra.locator.DynamicEndpointSnitch;
+import org.apache.cassandra.locator.IEndpointSnitch;
 import org.apache.cassandra.metrics.ReadRepairMetrics;
 import org.apache.cassandra.net.MessageOut;
 import org.apache.cassandra.net.MessagingService;
@@ -268,7 +271,7 @@ public abstract class AbstractReadExecutor
             if (cfs.sampleLatencyNanos > TimeUnit.MILLISECONDS.toNanos(command.getTimeout()))
                 return;
 
-            if (!handler.await(cfs.sampleLatencyNanos, TimeUnit.NANOSECONDS))
+            if (!handler.await(speculationDelayNanos(), TimeUnit.NANOSECONDS))
             {
                 // Could be waiting on the data, or on enough digests.
                 ReadCommand retryCommand = command;
@@ -284,6 +287,25 @@ public abstract class AbstractReadExecutor
             }
         }
 
+        /**
+         * @return how long to wait for the replicas before speculating: none if the snitch already expects one of them
+         * to answer later than the sampled latency of the table.
+         */
+        private long speculationDelayNanos()
+        {
+            IEndpointSnitch snitch = DatabaseDescriptor.getEndpointSnitch();
+            if (snitch instanceof DynamicEndpointSnitch)
+            {
+                DynamicEndpointSnitch dynamicSnitch = (DynamicEndpointSnitch) snitch;
+                for (InetAddress replica : targetReplicas.subList(0, targetReplicas.size() - 1))
+                {
+                    if (dynamicSnitch.isExpectedSlowerThan(replica, cfs.sampleLatencyNanos))
+                        return 0;
+                }
+            }
+            return cfs.sampleLatencyNanos;
+        }
+
         public Collection<InetAddress> getContactedReplicas()
         {
             return speculated
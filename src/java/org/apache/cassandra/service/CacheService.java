@@ -23,8 +23,10 @@ import java.lang.management.ManagementFactory;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
@@ -108,14 +110,17 @@ public class CacheService implements CacheServiceMBean
      */
     private AutoSavingCache<KeyCacheKey, RowIndexEntry> initKeyCache()
     {
-        logger.info("Initializing key cache with capacity of {} MBs.", DatabaseDescriptor.getKeyCacheSizeInMB());
+        logger.info("Initializing {} key cache with capacity of {} MBs and {} policy.",
+                    DatabaseDescriptor.isKeyCacheOffHeap() ? "off-heap" : "on-heap", DatabaseDescriptor.getKeyCacheSizeInMB(), DatabaseDescriptor.getKeyCachePolicy());
 
         long keyCacheInMemoryCapacity = DatabaseDescriptor.getKeyCacheSizeInMB() * 1024 * 1024;
 
         // as values are constant size we can use singleton weigher
         // where 48 = 40 bytes (average size of the key) + 8 bytes (size of value)
         ICache<KeyCacheKey, RowIndexEntry> kc;
-        kc = ConcurrentLinkedHashCache.create(keyCacheInMemoryCapacity);
+        kc = DatabaseDescriptor.isKeyCacheOffHeap()
+             ? new SerializingCacheProvider().createKeyCache(keyCacheInMemoryCapacity, DatabaseDescriptor.getKeyCachePolicy())
+             : ConcurrentLinkedHashCache.<KeyCacheKey, RowIndexEntry>create(keyCacheInMemoryCapacity, DatabaseDescriptor.getKeyCachePolicy());
         AutoSavingCache<KeyCacheKey, RowIndexEntry> keyCache = new AutoSavingCache<>(kc, CacheType.KEY_CACHE, new KeyCacheSerializer());
 
         int keyCacheKeysToSave = DatabaseDescriptor.getKeyCacheKeysToSave();
@@ -130,12 +135,12 @@ public class CacheService implements CacheServiceMBean
      */
     private AutoSavingCache<RowCacheKey, IRowCacheEntry> initRowCache()
     {
-        logger.info("Initializing row cache with capacity of {} MBs", DatabaseDescriptor.getRowCacheSizeInMB());
+        logger.info("Initializing row cache with capacity of {} MBs and {} policy", DatabaseDescriptor.getRowCacheSizeInMB(), DatabaseDescriptor.getRowCachePolicy());
 
         long rowCacheInMemoryCapacity = DatabaseDescriptor.getRowCacheSizeInMB() * 1024 * 1024;
 
         // cache object
-        ICache<RowCacheKey, IRowCacheEntry> rc = new SerializingCacheProvider().create(rowCacheInMemoryCapacity);
+        ICache<RowCacheKey, IRowCacheEntry> rc = new SerializingCacheProvider().create(rowCacheInMemoryCapacity, DatabaseDescriptor.getRowCachePolicy());
         AutoSavingCache<RowCacheKey, IRowCacheEntry> rowCache = new AutoSavingCache<>(rc, CacheType.ROW_CACHE, new RowCacheSerializer());
 
         int rowCacheKeysToSave = DatabaseDescriptor.getRowCacheKeysToSave();
@@ -326,6 +331,11 @@ public class CacheService implements CacheServiceMBean
         counterCache.clear();
     }
 
+    public void invalidateChunkCache()
+    {
+        ChunkCache.instance.clear();
+    }
+
     public long getRowCacheCapacityInBytes()
     {
         return rowCache.getMetrics().capacity.value();
@@ -370,6 +380,14 @@ public class CacheService implements CacheServiceMBean
         counterCache.setCapacity(capacity * 1024 * 1024);
     }
 
+    public void setChunkCacheCapacityInMB(long capacity)
+    {
+        if (capacity < 0)
+            throw new RuntimeException("capacity should not be negative.");
+
+        ChunkCache.instance.setCapacity(capacity * 1024 * 1024);
+    }
+
     public long getRowCacheSize()
     {
         return rowCache.getMetrics().size.value();
@@ -435,6 +453,10 @@ public class CacheService implements CacheServiceMBean
                 }
             });
         }
+
+        public void cleanupAfterDeserialize()
+        {
+        }
     }
 
     public static class RowCacheSerializer implements CacheSerializer<RowCacheKey, IRowCacheEntry>
@@ -458,10 +480,19 @@ public class CacheService implements CacheServiceMBean
                 }
             });
         }
+
+        public void cleanupAfterDeserialize()
+        {
+        }
     }
 
     public static class KeyCacheSerializer implements CacheSerializer<KeyCacheKey, RowIndexEntry>
     {
+        // the sstables of the table being loaded by generation, along with the view they were indexed from, so that
+        // finding the sstable of each saved key doesn't take a scan of all the sstables of the table; dropped once the
+        // load completes so that it doesn't keep the sstables referenced
+        private volatile Pair<DataTracker.View, Map<Integer, SSTableReader>> generations;
+
         public void serialize(KeyCacheKey key, DataOutputPlus out) throws IOException
         {
             RowIndexEntry entry = CacheService.instance.keyCache.get(key);
@@ -475,7 +506,7 @@ public class CacheService implements CacheServiceMBean
             ByteBufferUtil.writeWithLength(key.key, out);
             out.writeInt(key.desc.generation);
             out.writeBoolean(true);
-            cfm.comparator.rowIndexEntrySerializer().serialize(entry, out);
+            cfm.comparator.rowIndexEntrySerializer().serialize(entry, out, key.desc.version);
         }
 
         public Future<Pair<KeyCacheKey, RowIndexEntry>> deserialize(DataInputStream input, ColumnFamilyStore cfs) throws IOException
@@ -488,7 +519,7 @@ public class CacheService implements CacheServiceMBean
             }
             ByteBuffer key = ByteBufferUtil.read(input, keyLength);
             int generation = input.readInt();
-            SSTableReader reader = findDesc(generation, cfs.getSSTables());
+            SSTableReader reader = findDesc(generation, cfs.getDataTracker().getView());
             input.readBoolean(); // backwards compatibility for "promoted indexes" boolean
             if (reader == null)
             {
@@ -499,14 +530,22 @@ public class CacheService implements CacheServiceMBean
             return Futures.immediateFuture(Pair.create(new KeyCacheKey(cfs.metadata.cfId, reader.descriptor, key), entry));
         }
 
-        private SSTableReader findDesc(int generation, Collection<SSTableReader> collection)
+        private SSTableReader findDesc(int generation, DataTracker.View view)
         {
-            for (SSTableReader sstable : collection)
+            Pair<DataTracker.View, Map<Integer, SSTableReader>> generations = this.generations;
+            if (generations == null || generations.left != view)
             {
-                if (sstable.descriptor.generation == generation)
-                    return sstable;
+                Map<Integer, SSTableReader> byGeneration = new HashMap<>(view.sstables.size());
+                for (SSTableReader sstable : view.sstables)
+                    byGeneration.put(sstable.descriptor.generation, sstable);
+                this.generations = generations = Pair.create(view, byGeneration);
             }
-            return null;
+            return generations.right.get(generation);
+        }
+
+        public void cleanupAfterDeserialize()
+        {
+            generations = null;
         }
     }
 }
@@ -54,6 +54,7 @@ import org.apache.cassandra.exceptions.ConfigurationException;
 import org.apache.cassandra.io.FSError;
 import org.apache.cassandra.io.sstable.CorruptSSTableException;
 import org.apache.cassandra.io.util.FileUtils;
+import org.apache.cassandra.metrics.StartupMetrics;
 import org.apache.cassandra.metrics.StorageMetrics;
 import org.apache.cassandra.thrift.ThriftServer;
 import org.apache.cassandra.tracing.Tracing;
@@ -144,6 +145,7 @@ public class CassandraDaemon
      */
     protected void setup()
     {
+        long startupStart = System.nanoTime();
         try 
         {
             logger.info("Hostname: {}", InetAddress.getLocalHost().getHostName());
@@ -293,6 +295,7 @@ public class CassandraDaemon
         DatabaseDescriptor.loadSchemas();
 
         // clean up compaction leftovers
+        long cleanupStart = System.nanoTime();
         Map<Pair<String, String>, Map<Integer, UUID>> unfinishedCompactions = SystemKeyspace.getUnfinishedCompactions();
         for (Pair<String, String> kscf : unfinishedCompactions.keySet())
         {
@@ -313,9 +316,22 @@ public class CassandraDaemon
             for (CFMetaData cfm : Schema.instance.getKeyspaceMetaData(keyspaceName).values())
                 ColumnFamilyStore.scrubDataDirectories(cfm);
         }
+        StartupMetrics.completed(StartupMetrics.Phase.CLEANUP, cleanupStart);
+
+        // open the sstables of all the tables at once, before the keyspaces are initialized one by one
+        long openStart = System.nanoTime();
+        List<CFMetaData> tables = new ArrayList<>();
+        for (String keyspaceName : Schema.instance.getKeyspaces())
+        {
+            if (Schema.instance.getKeyspaceInstance(keyspaceName) == null)
+                tables.addAll(Schema.instance.getKeyspaceMetaData(keyspaceName).values());
+        }
+        ColumnFamilyStore.preloadSSTables(tables);
+        StartupMetrics.completed(StartupMetrics.Phase.OPEN_SSTABLES, openStart);
 
         Keyspace.setInitialized();
         // initialize keyspaces
+        long initStart = System.nanoTime();
         for (String keyspaceName : Schema.instance.getKeyspaces())
         {
             if (logger.isDebugEnabled())
@@ -330,6 +346,10 @@ public class CassandraDaemon
             }
         }
 
+        ColumnFamilyStore.releasePreloadedSSTables();
+        StartupMetrics.completed(StartupMetrics.Phase.INIT_KEYSPACES, initStart);
+        logger.info("Loaded the saved caches in {} ms", StartupMetrics.timeOf(StartupMetrics.Phase.LOAD_SAVED_CACHES));
+
         if (CacheService.instance.keyCache.size() > 0)
             logger.info("completed pre-loading ({} keys) key cache.", CacheService.instance.keyCache.size());
 
@@ -347,6 +367,7 @@ public class CassandraDaemon
         }
 
         // replay the log if necessary
+        long replayStart = System.nanoTime();
         try
         {
             CommitLog.instance.recover();
@@ -355,6 +376,7 @@ public class CassandraDaemon
         {
             throw new RuntimeException(e);
         }
+        StartupMetrics.completed(StartupMetrics.Phase.COMMIT_LOG_REPLAY, replayStart);
 
         // enable auto compaction
         for (Keyspace keyspace : Keyspace.all())
@@ -386,6 +408,7 @@ public class CassandraDaemon
         ScheduledExecutors.optionalTasks.schedule(runnable, 5, TimeUnit.MINUTES);
 
         SystemKeyspace.finishStartup();
+        StartupMetrics.completed(StartupMetrics.Phase.TOTAL, startupStart);
 
         // start server internals
         StorageService.instance.registerDaemon(this);
@@ -527,20 +527,35 @@ public class StorageProxy implements StorageProxyMBean
         long startTime = System.nanoTime();
         List<AbstractWriteResponseHandler> responseHandlers = new ArrayList<>(mutations.size());
 
+        // the mutations of an unlogged batch going to the same replica are sent to it at once
+        Map<InetAddress, MutationBatch> batches = mutations.size() > 1 && DatabaseDescriptor.groupUnloggedBatchesByReplica()
+                                                ? new HashMap<InetAddress, MutationBatch>()
+                                                : null;
+        WritePerformer writePerformer = batches == null ? standardWritePerformer : batchingWritePerformer(batches);
+
         try
         {
-            for (IMutation mutation : mutations)
+            try
             {
-                if (mutation instanceof CounterMutation)
-                {
-                    responseHandlers.add(mutateCounter((CounterMutation)mutation, localDataCenter));
-                }
-                else
+                for (IMutation mutation : mutations)
                 {
-                    WriteType wt = mutations.size() <= 1 ? WriteType.SIMPLE : WriteType.UNLOGGED_BATCH;
-                    responseHandlers.add(performWrite(mutation, consistency_level, localDataCenter, standardWritePerformer, null, wt));
+                    if (mutation instanceof CounterMutation)
+                    {
+                        responseHandlers.add(mutateCounter((CounterMutation)mutation, localDataCenter));
+                    }
+                    else
+                    {
+                        WriteType wt = mutations.size() <= 1 ? WriteType.SIMPLE : WriteType.UNLOGGED_BATCH;
+                        responseHandlers.add(performWrite(mutation, consistency_level, localDataCenter, writePerformer, null, wt));
+                    }
                 }
             }
+            finally
+            {
+                // the mutations accepted before any failure are written, as they would be if sent one by one
+                if (batches != null)
+                    sendBatches(batches);
+            }
 
             // wait for writes.  throws TimeoutException if necessary
             for (AbstractWriteResponseHandler responseHandler : responseHandlers)
@@ -600,6 +615,35 @@ public class StorageProxy implements StorageProxyMBean
         }
     }
 
+    private static WritePerformer batchingWritePerformer(final Map<InetAddress, MutationBatch> batches)
+    {
+        return new WritePerformer()
+        {
+            public void apply(IMutation mutation,
+                              Iterable<InetAddress> targets,
+                              AbstractWriteResponseHandler responseHandler,
+                              String localDataCenter,
+                              ConsistencyLevel consistency_level)
+            throws OverloadedException
+            {
+                assert mutation instanceof Mutation;
+                sendToHintedEndpoints((Mutation) mutation, targets, responseHandler, localDataCenter, batches);
+            }
+        };
+    }
+
+    private static void sendBatches(Map<InetAddress, MutationBatch> batches)
+    {
+        for (Map.Entry<InetAddress, MutationBatch> entry : batches.entrySet())
+        {
+            MutationBatch batch = entry.getValue();
+            if (batch.size() == 1)
+                MessagingService.instance().sendOneWay(batch.mutation(0).createMessage(), batch.id(0), entry.getKey());
+            else
+                MessagingService.instance().sendOneWay(batch.createMessage(), entry.getKey());
+        }
+    }
+
     @SuppressWarnings("unchecked")
     public static void mutateWithTriggers(Collection<? extends IMutation> mutations,
                                           ConsistencyLevel consistencyLevel,
@@ -853,6 +897,20 @@ public class StorageProxy implements StorageProxyMBean
                                              AbstractWriteResponseHandler responseHandler,
                                              String localDataCenter)
     throws OverloadedException
+    {
+        sendToHintedEndpoints(mutation, targets, responseHandler, localDataCenter, null);
+    }
+
+    /**
+     * @param batches if not null, the mutation is added to the batch of each live replica of the local datacenter,
+     * to be sent later, instead of being sent to it right away
+     */
+    private static void sendToHintedEndpoints(final Mutation mutation,
+                                              Iterable<InetAddress> targets,
+                                              AbstractWriteResponseHandler responseHandler,
+                                              String localDataCenter,
+                                              Map<InetAddress, MutationBatch> batches)
+    throws OverloadedException
     {
         // extra-datacenter replicas, grouped by dc
         Map<String, Collection<InetAddress>> dcGroups = null;
@@ -890,7 +948,26 @@ public class StorageProxy implements StorageProxyMBean
                     // (1.1 knows how to forward old-style String message IDs; updated to int in 2.0)
                     if (localDataCenter.equals(dc))
                     {
-                        MessagingService.instance().sendRR(message, destination, responseHandler, true);
+                        if (batches == null)
+                        {
+                            MessagingService.instance().sendRR(message, destination, responseHandler, true);
+                        }
+                        else
+                        {
+                            int id = MessagingService.instance().addCallback(responseHandler,
+                                                                             message,
+                                                                             destination,
+                                                                             message.getTimeout(),
+                                                                             responseHandler.consistencyLevel,
+                                                                             true);
+                            MutationBatch batch = batches.get(destination);
+                            if (batch == null)
+                            {
+                                batch = new MutationBatch();
+                                batches.put(destination, batch);
+                            }
+                            batch.add(id, mutation);
+                        }
                     } else
                     {
                         Collection<InetAddress> messages = (dcGroups != null) ? dcGroups.get(dc) : null;
@@ -984,7 +1061,7 @@ public class StorageProxy implements StorageProxyMBean
         assert ttl > 0;
         UUID hostId = StorageService.instance.getTokenMetadata().getHostId(target);
         assert hostId != null : "Missing host ID for " + target.getHostAddress();
-        HintedHandOffManager.instance.hintFor(mutation, now, ttl, hostId).apply();
+        HintedHandOffManager.instance.writeHint(mutation, now, ttl, hostId);
         StorageMetrics.totalHints.inc();
     }
 
@@ -2039,6 +2116,21 @@ public class StorageProxy implements StorageProxyMBean
         return writeMetrics.recentLatencyHistogram.getBuckets(true);
     }
 
+    public double[] getRecentReadLatencyPercentilesMicros()
+    {
+        return readMetrics.getRecentPercentiles();
+    }
+
+    public double[] getRecentWriteLatencyPercentilesMicros()
+    {
+        return writeMetrics.getRecentPercentiles();
+    }
+
+    public double[] getRecentRangeLatencyPercentilesMicros()
+    {
+        return rangeMetrics.getRecentPercentiles();
+    }
+
     public boolean getHintedHandoffEnabled()
     {
         return DatabaseDescriptor.hintedHandoffEnabled();
@@ -71,6 +71,19 @@ public interface StorageProxyMBean
     @Deprecated
     public long[] getRecentWriteLatencyHistogramMicros();
 
+    /**
+     * @see org.apache.cassandra.metrics.LatencyMetrics#getRecentPercentiles
+     */
+    public double[] getRecentReadLatencyPercentilesMicros();
+    /**
+     * @see org.apache.cassandra.metrics.LatencyMetrics#getRecentPercentiles
+     */
+    public double[] getRecentWriteLatencyPercentilesMicros();
+    /**
+     * @see org.apache.cassandra.metrics.LatencyMetrics#getRecentPercentiles
+     */
+    public double[] getRecentRangeLatencyPercentilesMicros();
+
     public long getTotalHints();
     public boolean getHintedHandoffEnabled();
     public Set<String> getHintedHandoffEnabledByDC();
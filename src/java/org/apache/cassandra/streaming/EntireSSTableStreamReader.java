@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.cassandra.streaming;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.UUID;
+
+import com.google.common.base.Throwables;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.apache.cassandra.config.Schema;
+import org.apache.cassandra.db.ColumnFamilyStore;
+import org.apache.cassandra.db.Directories;
+import org.apache.cassandra.db.Keyspace;
+import org.apache.cassandra.io.sstable.Component;
+import org.apache.cassandra.io.sstable.Descriptor;
+import org.apache.cassandra.io.util.FileUtils;
+import org.apache.cassandra.streaming.messages.FileMessageHeader;
+import org.apache.cassandra.utils.Pair;
+
+/**
+ * EntireSSTableStreamReader reads the files of an SSTable from stream, and writes them as they are to a temporary
+ * SSTable.
+ */
+public class EntireSSTableStreamReader
+{
+    private static final Logger logger = LoggerFactory.getLogger(EntireSSTableStreamReader.class);
+
+    private final UUID cfId;
+    private final String version;
+    private final List<Pair<Component, Long>> components;
+    private final long repairedAt;
+    private final StreamSession session;
+
+    public EntireSSTableStreamReader(FileMessageHeader header, StreamSession session)
+    {
+        assert header.components != null;
+        this.session = session;
+        this.cfId = header.cfId;
+        this.version = header.version;
+        this.components = header.components;
+        this.repairedAt = header.repairedAt;
+    }
+
+    /**
+     * @param channel where this reads data from
+     * @return the descriptor of the temporary SSTable transferred
+     * @throws IOException if reading the remote sstable fails. Will throw an RTE if local write fails.
+     */
+    public Descriptor read(ReadableByteChannel channel) throws IOException
+    {
+        logger.debug("reading entire sstable from {}, repairedAt = {}", session.peer, repairedAt);
+        long totalSize = totalSize();
+        long bytesRead = 0;
+        Descriptor desc = null;
+        try
+        {
+            Pair<String, String> kscf = Schema.instance.getCF(cfId);
+            if (kscf == null)
+            {
+                // schema was dropped during streaming
+                throw new IOException("CF " + cfId + " was dropped during streaming");
+            }
+            ColumnFamilyStore cfs = Keyspace.open(kscf.left).getColumnFamilyStore(kscf.right);
+            desc = createDescriptor(cfs, totalSize);
+
+            for (Pair<Component, Long> component : components)
+            {
+                File file = new File(desc.filenameFor(component.left));
+                try (FileChannel out = FileChannel.open(file.toPath(), StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE))
+                {
+                    long position = 0;
+                    while (position < component.right)
+                    {
+                        long toTransfer = Math.min(EntireSSTableStreamWriter.TRANSFER_SIZE, component.right - position);
+                        long transferred = out.transferFrom(channel, position, toTransfer);
+                        if (transferred <= 0)
+                            throw new EOFException();
+                        position += transferred;
+                        bytesRead += transferred;
+                        session.progress(desc, ProgressInfo.Direction.IN, bytesRead, totalSize);
+                    }
+                    out.force(true);
+                }
+            }
+
+            // the sstable may overlap the ones of its level on this node, and is only repaired if the stream says so
+            desc.getMetadataSerializer().mutateLevel(desc, 0);
+            desc.getMetadataSerializer().mutateRepairedAt(desc, repairedAt);
+            return desc;
+        }
+        catch (Throwable e)
+        {
+            if (desc != null)
+            {
+                for (Pair<Component, Long> component : components)
+                    FileUtils.delete(desc.filenameFor(component.left));
+            }
+            drain(channel, totalSize - bytesRead);
+            if (e instanceof IOException)
+                throw (IOException) e;
+            else
+                throw Throwables.propagate(e);
+        }
+    }
+
+    private Descriptor createDescriptor(ColumnFamilyStore cfs, long totalSize) throws IOException
+    {
+        Directories.DataDirectory localDir = cfs.directories.getWriteableLocation(totalSize);
+        if (localDir == null)
+            throw new IOException("Insufficient disk space to store " + totalSize + " bytes");
+        Descriptor desc = Descriptor.fromFilename(cfs.getTempSSTablePath(cfs.directories.getLocationForDisk(localDir)));
+        // the files are written in the format of the sender
+        return new Descriptor(version, desc.directory, desc.ksname, desc.cfname, desc.generation, Descriptor.Type.TEMP);
+    }
+
+    private void drain(ReadableByteChannel channel, long toSkip) throws IOException
+    {
+        ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(toSkip, 64 * 1024));
+        while (toSkip > 0)
+        {
+            buffer.clear();
+            buffer.limit((int) Math.min(toSkip, buffer.capacity()));
+            int skipped = channel.read(buffer);
+            if (skipped == -1)
+                return;
+            toSkip -= skipped;
+        }
+    }
+
+    private long totalSize()
+    {
+        long size = 0;
+        for (Pair<Component, Long> component : components)
+            size += component.right;
+        return size;
+    }
+}
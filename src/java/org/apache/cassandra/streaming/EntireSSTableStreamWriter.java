@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.cassandra.streaming;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.apache.cassandra.io.sstable.Component;
+import org.apache.cassandra.io.sstable.SSTableReader;
+import org.apache.cassandra.io.util.DataOutputStreamAndChannel;
+import org.apache.cassandra.io.util.FileUtils;
+import org.apache.cassandra.streaming.StreamManager.StreamRateLimiter;
+import org.apache.cassandra.streaming.messages.FileMessageHeader;
+import org.apache.cassandra.utils.Pair;
+
+/**
+ * EntireSSTableStreamWriter writes the files of an SSTable to given channel, as they are on disk.
+ */
+public class EntireSSTableStreamWriter
+{
+    // the rate limiter is acquired, and the progress reported, once per transfer of at most this many bytes
+    static final int TRANSFER_SIZE = 1024 * 1024;
+
+    private final SSTableReader sstable;
+    private final Collection<Component> components;
+    private final StreamRateLimiter limiter;
+    private final StreamSession session;
+
+    public EntireSSTableStreamWriter(SSTableReader sstable, Collection<Component> components, StreamSession session)
+    {
+        this.session = session;
+        this.sstable = sstable;
+        this.components = components;
+        this.limiter = StreamManager.getRateLimiter(session.peer);
+    }
+
+    /**
+     * Stream the files of the sstable to given channel, with FileChannel.transferTo so that they are not copied in
+     * user space.
+     *
+     * The files are all opened before their size is written: the ones that do change, the statistics when the sstable
+     * is repaired for instance, are rewritten in a new file or only appended to, so what is sent is consistent.
+     *
+     * @param out where this writes data to
+     * @throws IOException on any I/O error
+     */
+    public void write(DataOutputStreamAndChannel out) throws IOException
+    {
+        List<Pair<Component, Long>> sizes = new ArrayList<>(components.size());
+        List<FileChannel> channels = new ArrayList<>(components.size());
+        try
+        {
+            long totalSize = 0;
+            for (Component component : components)
+            {
+                FileChannel channel = FileChannel.open(new File(sstable.descriptor.filenameFor(component)).toPath(), StandardOpenOption.READ);
+                channels.add(channel);
+                sizes.add(Pair.create(component, channel.size()));
+                totalSize += channel.size();
+            }
+            FileMessageHeader.serializeComponents(sizes, out);
+
+            long progress = 0;
+            for (int i = 0; i < channels.size(); i++)
+            {
+                FileChannel channel = channels.get(i);
+                long size = sizes.get(i).right;
+                long position = 0;
+                while (position < size)
+                {
+                    long toTransfer = Math.min(TRANSFER_SIZE, size - position);
+                    limiter.acquire((int) toTransfer);
+                    long transferred = channel.transferTo(position, toTransfer, out.getChannel());
+                    if (transferred <= 0)
+                        throw new IOException(String.format("%s was truncated while streaming it", sstable.descriptor.filenameFor(sizes.get(i).left)));
+                    position += transferred;
+                    progress += transferred;
+                    session.progress(sstable.descriptor, ProgressInfo.Direction.OUT, progress, totalSize);
+                }
+            }
+        }
+        finally
+        {
+            for (FileChannel channel : channels)
+                FileUtils.closeQuietly(channel);
+        }
+    }
+}
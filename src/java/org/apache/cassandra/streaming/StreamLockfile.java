@@ -69,7 +69,16 @@ public class StreamLockfile
 
     public void create(Collection<SSTableWriter> sstables)
     {
-        List<String> sstablePaths = new ArrayList<>(sstables.size());
+        create(sstables, Collections.<Descriptor>emptyList());
+    }
+
+    /**
+     * @param sstables the SSTables written from stream
+     * @param descriptors the temporary SSTables received as a whole
+     */
+    public void create(Collection<SSTableWriter> sstables, Collection<Descriptor> descriptors)
+    {
+        List<String> sstablePaths = new ArrayList<>(sstables.size() + descriptors.size());
         for (SSTableWriter writer : sstables)
         {
             /* write out the file names *without* the 'tmp-file' flag in the file name.
@@ -77,6 +86,8 @@ public class StreamLockfile
                just make sure we delete the fully-formed SSTRs. */
             sstablePaths.add(writer.descriptor.asType(Descriptor.Type.FINAL).baseFilename());
         }
+        for (Descriptor desc : descriptors)
+            sstablePaths.add(desc.asType(Descriptor.Type.FINAL).baseFilename());
 
         try
         {
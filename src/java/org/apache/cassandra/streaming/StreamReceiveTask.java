@@ -31,6 +31,8 @@ import org.apache.cassandra.concurrent.DebuggableThreadPoolExecutor;
 import org.apache.cassandra.config.Schema;
 import org.apache.cassandra.db.ColumnFamilyStore;
 import org.apache.cassandra.db.Keyspace;
+import org.apache.cassandra.io.sstable.Descriptor;
+import org.apache.cassandra.io.sstable.SSTable;
 import org.apache.cassandra.io.sstable.SSTableReader;
 import org.apache.cassandra.io.sstable.SSTableWriter;
 import org.apache.cassandra.utils.FBUtilities;
@@ -57,6 +59,8 @@ public class StreamReceiveTask extends StreamTask
 
     //  holds references to SSTables received
     protected Collection<SSTableWriter> sstables;
+    //  holds the temporary SSTables received as a whole
+    protected Collection<Descriptor> entireSSTables;
 
     public StreamReceiveTask(StreamSession session, UUID cfId, int totalFiles, long totalSize)
     {
@@ -64,6 +68,7 @@ public class StreamReceiveTask extends StreamTask
         this.totalFiles = totalFiles;
         this.totalSize = totalSize;
         this.sstables = new ArrayList<>(totalFiles);
+        this.entireSSTables = new ArrayList<>();
     }
 
     /**
@@ -79,7 +84,29 @@ public class StreamReceiveTask extends StreamTask
         assert cfId.equals(sstable.metadata.cfId);
 
         sstables.add(sstable);
-        if (sstables.size() == totalFiles)
+        maybeComplete();
+    }
+
+    /**
+     * Process received SSTable, streamed as a whole.
+     *
+     * @param sstable descriptor of the temporary SSTable received.
+     */
+    public synchronized void received(Descriptor sstable)
+    {
+        if (done)
+        {
+            SSTable.delete(sstable, SSTable.componentsFor(sstable));
+            return;
+        }
+
+        entireSSTables.add(sstable);
+        maybeComplete();
+    }
+
+    private void maybeComplete()
+    {
+        if (sstables.size() + entireSSTables.size() == totalFiles)
         {
             done = true;
             executor.submit(new OnCompletionRunnable(this));
@@ -114,20 +141,35 @@ public class StreamReceiveTask extends StreamTask
                 for (SSTableWriter writer : task.sstables)
                     writer.abort();
                 task.sstables.clear();
+                task.deleteEntireSSTables();
                 return;
             }
             ColumnFamilyStore cfs = Keyspace.open(kscf.left).getColumnFamilyStore(kscf.right);
 
-            File lockfiledir = cfs.directories.getWriteableLocationAsFile(task.sstables.size() * 256L);
+            File lockfiledir = cfs.directories.getWriteableLocationAsFile(task.totalFiles * 256L);
             if (lockfiledir == null)
                 throw new IOError(new IOException("All disks full"));
             StreamLockfile lockfile = new StreamLockfile(lockfiledir, UUID.randomUUID());
-            lockfile.create(task.sstables);
+            lockfile.create(task.sstables, task.entireSSTables);
             List<SSTableReader> readers = new ArrayList<>();
             for (SSTableWriter writer : task.sstables)
                 readers.add(writer.closeAndOpenReader());
+            for (Descriptor tmpdesc : task.entireSSTables)
+            {
+                Descriptor desc = tmpdesc.asType(Descriptor.Type.FINAL);
+                SSTableWriter.rename(tmpdesc, desc, SSTable.componentsFor(tmpdesc));
+                try
+                {
+                    readers.add(SSTableReader.open(desc, cfs.metadata));
+                }
+                catch (IOException e)
+                {
+                    throw new IOError(e);
+                }
+            }
             lockfile.delete();
             task.sstables.clear();
+            task.entireSSTables.clear();
 
             try (Refs<SSTableReader> refs = Refs.ref(readers))
             {
@@ -155,5 +197,13 @@ public class StreamReceiveTask extends StreamTask
         for (SSTableWriter writer : sstables)
             writer.abort();
         sstables.clear();
+        deleteEntireSSTables();
+    }
+
+    private void deleteEntireSSTables()
+    {
+        for (Descriptor desc : entireSSTables)
+            SSTable.delete(desc, SSTable.componentsFor(desc));
+        entireSSTables.clear();
     }
 }
@@ -426,6 +426,7 @@ public class StreamSession implements IEndpointStateChangeSubscriber
                 break;
 
             case FILE:
+            case SSTABLE:
                 receive((IncomingFileMessage) message);
                 break;
 
@@ -538,7 +539,10 @@ public class StreamSession implements IEndpointStateChangeSubscriber
         metrics.incomingBytes.inc(headerSize);
         // send back file received message
         handler.sendMessage(new ReceivedMessage(message.header.cfId, message.header.sequenceNumber));
-        receivers.get(message.header.cfId).received(message.sstable);
+        if (message.entireSSTable != null)
+            receivers.get(message.header.cfId).received(message.entireSSTable);
+        else
+            receivers.get(message.header.cfId).received(message.sstable);
     }
 
     public void progress(Descriptor desc, ProgressInfo.Direction direction, long bytes, long total)
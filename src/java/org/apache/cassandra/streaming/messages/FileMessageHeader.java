@@ -26,6 +26,7 @@ import java.util.UUID;
 import org.apache.cassandra.db.TypeSizes;
 import org.apache.cassandra.io.IVersionedSerializer;
 import org.apache.cassandra.io.compress.CompressionMetadata;
+import org.apache.cassandra.io.sstable.Component;
 import org.apache.cassandra.io.util.DataOutputPlus;
 import org.apache.cassandra.net.MessagingService;
 import org.apache.cassandra.streaming.compress.CompressionInfo;
@@ -47,6 +48,8 @@ public class FileMessageHeader
     public final List<Pair<Long, Long>> sections;
     public final CompressionInfo compressionInfo;
     public final long repairedAt;
+    /** The files of the sstable and their size, when it is streamed as a whole, null otherwise */
+    public final List<Pair<Component, Long>> components;
 
     public FileMessageHeader(UUID cfId,
                              int sequenceNumber,
@@ -55,6 +58,18 @@ public class FileMessageHeader
                              List<Pair<Long, Long>> sections,
                              CompressionInfo compressionInfo,
                              long repairedAt)
+    {
+        this(cfId, sequenceNumber, version, estimatedKeys, sections, compressionInfo, repairedAt, null);
+    }
+
+    public FileMessageHeader(UUID cfId,
+                             int sequenceNumber,
+                             String version,
+                             long estimatedKeys,
+                             List<Pair<Long, Long>> sections,
+                             CompressionInfo compressionInfo,
+                             long repairedAt,
+                             List<Pair<Component, Long>> components)
     {
         this.cfId = cfId;
         this.sequenceNumber = sequenceNumber;
@@ -63,6 +78,15 @@ public class FileMessageHeader
         this.sections = sections;
         this.compressionInfo = compressionInfo;
         this.repairedAt = repairedAt;
+        this.components = components;
+    }
+
+    /**
+     * @return a copy of this header for the same sstable, streamed as a whole with the given files
+     */
+    public FileMessageHeader withComponents(List<Pair<Component, Long>> components)
+    {
+        return new FileMessageHeader(cfId, sequenceNumber, version, estimatedKeys, sections, compressionInfo, repairedAt, components);
     }
 
     /**
@@ -71,7 +95,12 @@ public class FileMessageHeader
     public long size()
     {
         long size = 0;
-        if (compressionInfo != null)
+        if (components != null)
+        {
+            for (Pair<Component, Long> component : components)
+                size += component.right;
+        }
+        else if (compressionInfo != null)
         {
             // calculate total length of transferring chunks
             for (CompressionMetadata.Chunk chunk : compressionInfo.chunks)
@@ -95,6 +124,7 @@ public class FileMessageHeader
         sb.append(", estimated keys: ").append(estimatedKeys);
         sb.append(", transfer size: ").append(size());
         sb.append(", compressed?: ").append(compressionInfo != null);
+        sb.append(", entire sstable?: ").append(components != null);
         sb.append(", repairedAt: ").append(repairedAt);
         sb.append(')');
         return sb.toString();
@@ -117,6 +147,28 @@ public class FileMessageHeader
         return result;
     }
 
+    /**
+     * Writes the files of an sstable streamed as a whole, which follow the header.
+     */
+    public static void serializeComponents(List<Pair<Component, Long>> components, DataOutputPlus out) throws IOException
+    {
+        out.writeInt(components.size());
+        for (Pair<Component, Long> component : components)
+        {
+            out.writeUTF(component.left.name);
+            out.writeLong(component.right);
+        }
+    }
+
+    public static List<Pair<Component, Long>> deserializeComponents(DataInput in) throws IOException
+    {
+        int count = in.readInt();
+        List<Pair<Component, Long>> components = new ArrayList<>(count);
+        for (int i = 0; i < count; i++)
+            components.add(Pair.create(Component.parse(in.readUTF()), in.readLong()));
+        return components;
+    }
+
     static class FileMessageHeaderSerializer implements IVersionedSerializer<FileMessageHeader>
     {
         public void serialize(FileMessageHeader header, DataOutputPlus out, int version) throws IOException
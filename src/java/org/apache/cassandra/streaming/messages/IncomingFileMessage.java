@@ -22,8 +22,10 @@ import java.io.IOException;
 import java.nio.channels.Channels;
 import java.nio.channels.ReadableByteChannel;
 
+import org.apache.cassandra.io.sstable.Descriptor;
 import org.apache.cassandra.io.sstable.SSTableWriter;
 import org.apache.cassandra.io.util.DataOutputStreamAndChannel;
+import org.apache.cassandra.streaming.EntireSSTableStreamReader;
 import org.apache.cassandra.streaming.StreamReader;
 import org.apache.cassandra.streaming.StreamSession;
 import org.apache.cassandra.streaming.compress.CompressedStreamReader;
@@ -61,8 +63,37 @@ public class IncomingFileMessage extends StreamMessage
         }
     };
 
+    public static Serializer<IncomingFileMessage> entireSSTableSerializer = new Serializer<IncomingFileMessage>()
+    {
+        public IncomingFileMessage deserialize(ReadableByteChannel in, int version, StreamSession session) throws IOException
+        {
+            DataInputStream input = new DataInputStream(Channels.newInputStream(in));
+            FileMessageHeader header = FileMessageHeader.serializer.deserialize(input, version);
+            header = header.withComponents(FileMessageHeader.deserializeComponents(input));
+            EntireSSTableStreamReader reader = new EntireSSTableStreamReader(header, session);
+
+            try
+            {
+                return new IncomingFileMessage(reader.read(in), header);
+            }
+            catch (Throwable t)
+            {
+                JVMStabilityInspector.inspectThrowable(t);
+                session.doRetry(header, t);
+                return null;
+            }
+        }
+
+        public void serialize(IncomingFileMessage message, DataOutputStreamAndChannel out, int version, StreamSession session) throws IOException
+        {
+            throw new UnsupportedOperationException("Not allowed to call serialize on an incoming file");
+        }
+    };
+
     public FileMessageHeader header;
     public SSTableWriter sstable;
+    /** The temporary sstable received when it is streamed as a whole, in which case sstable is null */
+    public Descriptor entireSSTable;
 
     public IncomingFileMessage(SSTableWriter sstable, FileMessageHeader header)
     {
@@ -71,10 +102,18 @@ public class IncomingFileMessage extends StreamMessage
         this.sstable = sstable;
     }
 
+    public IncomingFileMessage(Descriptor entireSSTable, FileMessageHeader header)
+    {
+        super(Type.SSTABLE);
+        this.header = header;
+        this.entireSSTable = entireSSTable;
+    }
+
     @Override
     public String toString()
     {
-        return "File (" + header + ", file: " + sstable.getFilename() + ")";
+        String filename = sstable == null ? entireSSTable.baseFilename() : sstable.getFilename();
+        return "File (" + header + ", file: " + filename + ")";
     }
 }
 
@@ -17,14 +17,21 @@
  */
 package org.apache.cassandra.streaming.messages;
 
+import java.io.File;
 import java.io.IOException;
 import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 
+import org.apache.cassandra.config.DatabaseDescriptor;
 import org.apache.cassandra.io.compress.CompressionMetadata;
+import org.apache.cassandra.io.sstable.Component;
+import org.apache.cassandra.io.sstable.SSTable;
 import org.apache.cassandra.io.sstable.SSTableReader;
-import org.apache.cassandra.io.util.DataOutputPlus;
 import org.apache.cassandra.io.util.DataOutputStreamAndChannel;
+import org.apache.cassandra.streaming.EntireSSTableStreamWriter;
 import org.apache.cassandra.streaming.StreamSession;
 import org.apache.cassandra.streaming.StreamWriter;
 import org.apache.cassandra.streaming.compress.CompressedStreamWriter;
@@ -60,18 +67,37 @@ public class OutgoingFileMessage extends StreamMessage
         }
     };
 
+    public static Serializer<OutgoingFileMessage> entireSSTableSerializer = new Serializer<OutgoingFileMessage>()
+    {
+        public OutgoingFileMessage deserialize(ReadableByteChannel in, int version, StreamSession session) throws IOException
+        {
+            throw new UnsupportedOperationException("Not allowed to call deserialize on an outgoing file");
+        }
+
+        public void serialize(OutgoingFileMessage message, DataOutputStreamAndChannel out, int version, StreamSession session) throws IOException
+        {
+            FileMessageHeader.serializer.serialize(message.header, out, version);
+
+            List<Component> components = new ArrayList<>(message.header.components.size());
+            for (Pair<Component, Long> component : message.header.components)
+                components.add(component.left);
+            new EntireSSTableStreamWriter(message.sstable, components, session).write(out);
+            session.fileSent(message.header);
+        }
+    };
+
     public final FileMessageHeader header;
     public final SSTableReader sstable;
     public final Ref<SSTableReader> ref;
 
     public OutgoingFileMessage(SSTableReader sstable, Ref ref, int sequenceNumber, long estimatedKeys, List<Pair<Long, Long>> sections, long repairedAt)
     {
-        super(Type.FILE);
+        super(DatabaseDescriptor.streamEntireSSTables() && coversEntireSSTable(sstable, sections) ? Type.SSTABLE : Type.FILE);
         this.sstable = sstable;
         this.ref = ref;
 
         CompressionInfo compressionInfo = null;
-        if (sstable.compression)
+        if (type == Type.FILE && sstable.compression)
         {
             CompressionMetadata meta = sstable.getCompressionMetadata();
             compressionInfo = new CompressionInfo(meta.getChunksForSections(sections), meta.parameters);
@@ -82,7 +108,51 @@ public class OutgoingFileMessage extends StreamMessage
                                             estimatedKeys,
                                             sections,
                                             compressionInfo,
-                                            repairedAt);
+                                            repairedAt,
+                                            type == Type.SSTABLE ? estimateComponents(sstable) : null);
+    }
+
+    /**
+     * @return true if the sections cover the whole data file of the sstable, in which case its files can be sent as they
+     * are instead of being rewritten by the receiver.
+     */
+    private static boolean coversEntireSSTable(SSTableReader sstable, List<Pair<Long, Long>> sections)
+    {
+        List<Pair<Long, Long>> sorted = new ArrayList<>(sections);
+        Collections.sort(sorted, new Comparator<Pair<Long, Long>>()
+        {
+            public int compare(Pair<Long, Long> o1, Pair<Long, Long> o2)
+            {
+                return Long.compare(o1.left, o2.left);
+            }
+        });
+        long position = 0;
+        for (Pair<Long, Long> section : sorted)
+        {
+            if (section.left > position)
+                return false;
+            position = Math.max(position, section.right);
+        }
+        return position == sstable.uncompressedLength();
+    }
+
+    /**
+     * The files sent with the sstable, and their size for the stream summary: the index summary is not sent as the
+     * receiver rebuilds it from the primary index with its own settings, and the actual sizes are only known once the
+     * files are opened for sending.
+     */
+    private static List<Pair<Component, Long>> estimateComponents(SSTableReader sstable)
+    {
+        List<Pair<Component, Long>> components = new ArrayList<>();
+        for (Component component : SSTable.componentsFor(sstable.descriptor))
+        {
+            if (component.equals(Component.SUMMARY))
+                continue;
+            File file = new File(sstable.descriptor.filenameFor(component));
+            if (file.exists())
+                components.add(Pair.create(component, file.length()));
+        }
+        return components;
     }
 
     @Override
@@ -77,7 +77,8 @@ public abstract class StreamMessage
         RECEIVED(3, 4, ReceivedMessage.serializer),
         RETRY(4, 4, RetryMessage.serializer),
         COMPLETE(5, 1, CompleteMessage.serializer),
-        SESSION_FAILED(6, 5, SessionFailedMessage.serializer);
+        SESSION_FAILED(6, 5, SessionFailedMessage.serializer),
+        SSTABLE(7, 0, IncomingFileMessage.entireSSTableSerializer, OutgoingFileMessage.entireSSTableSerializer);
 
         public static Type get(byte type)
         {
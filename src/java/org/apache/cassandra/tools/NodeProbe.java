@@ -69,6 +69,7 @@ import org.apache.cassandra.gms.FailureDetector;
 import org.apache.cassandra.gms.FailureDetectorMBean;
 import org.apache.cassandra.locator.EndpointSnitchInfoMBean;
 import org.apache.cassandra.metrics.ColumnFamilyMetrics.Sampler;
+import org.apache.cassandra.metrics.LatencyMetrics;
 import org.apache.cassandra.net.MessagingService;
 import org.apache.cassandra.net.MessagingServiceMBean;
 import org.apache.cassandra.repair.RepairParallelism;
@@ -364,6 +365,11 @@ public class NodeProbe implements AutoCloseable
         cacheService.invalidateCounterCache();
     }
 
+    public void invalidateChunkCache()
+    {
+        cacheService.invalidateChunkCache();
+    }
+
     public void invalidateKeyCache()
     {
         cacheService.invalidateKeyCache();
@@ -676,6 +682,11 @@ public class NodeProbe implements AutoCloseable
         }
     }
 
+    public void setChunkCacheCapacity(int chunkCacheCapacity)
+    {
+        cacheService.setChunkCacheCapacityInMB(chunkCacheCapacity);
+    }
+
     public void setCacheKeysToSave(int keyCacheKeysToSave, int rowCacheKeysToSave, int counterCacheKeysToSave)
     {
         try
@@ -1070,6 +1081,8 @@ public class NodeProbe implements AutoCloseable
                 case "Entries":
                 case "HitRate":
                 case "Size":
+                case "Admissions":
+                case "Rejections":
                     return JMX.newMBeanProxy(mbeanServerConn,
                             new ObjectName("org.apache.cassandra.metrics:type=Cache,scope=" + cacheType + ",name=" + metricName),
                             JmxReporter.GaugeMBean.class).getValue();
@@ -1222,7 +1235,7 @@ public class NodeProbe implements AutoCloseable
 
     public double[] metricPercentilesAsArray(long[] counts)
     {
-        double[] result = new double[7];
+        double[] result = new double[LatencyMetrics.PERCENTILES.length + 2];
 
         if (isEmpty(counts))
         {
@@ -1230,7 +1243,7 @@ public class NodeProbe implements AutoCloseable
             return result;
         }
 
-        double[] offsetPercentiles = new double[] { 0.5, 0.75, 0.95, 0.98, 0.99 };
+        double[] offsetPercentiles = LatencyMetrics.PERCENTILES;
         long[] offsets = new EstimatedHistogram(counts.length).getBucketOffsets();
         EstimatedHistogram metric = new EstimatedHistogram(offsets, counts);
 
@@ -1246,8 +1259,8 @@ public class NodeProbe implements AutoCloseable
             for (int i = 0; i < offsetPercentiles.length; i++)
                 result[i] = metric.percentile(offsetPercentiles[i]);
         }
-        result[5] = metric.min();
-        result[6] = metric.max();
+        result[offsetPercentiles.length] = metric.min();
+        result[offsetPercentiles.length + 1] = metric.max();
         return result;
     }
 
@@ -143,6 +143,7 @@ public class NodeTool
                 InvalidateKeyCache.class,
                 InvalidateRowCache.class,
                 InvalidateCounterCache.class,
+                InvalidateChunkCache.class,
                 Join.class,
                 Move.class,
                 PauseHandoff.class,
@@ -154,6 +155,7 @@ public class NodeTool
                 RemoveNode.class,
                 Repair.class,
                 SetCacheCapacity.class,
+                SetChunkCacheCapacity.class,
                 SetHintedHandoffThrottleInKB.class,
                 SetCompactionThreshold.class,
                 SetCompactionThroughput.class,
@@ -461,6 +463,16 @@ public class NodeTool
                     probe.getCacheMetric("CounterCache", "HitRate"),
                     cacheService.getCounterCacheSavePeriodInSeconds());
 
+            // Chunk Cache: Hits, Requests, RecentHitRate
+            System.out.printf("%-23s: entries %d, size %s, capacity %s, %d hits, %d requests, %.3f recent hit rate%n",
+                    "Chunk Cache",
+                    probe.getCacheMetric("ChunkCache", "Entries"),
+                    FileUtils.stringifyFileSize((long) probe.getCacheMetric("ChunkCache", "Size")),
+                    FileUtils.stringifyFileSize((long) probe.getCacheMetric("ChunkCache", "Capacity")),
+                    probe.getCacheMetric("ChunkCache", "Hits"),
+                    probe.getCacheMetric("ChunkCache", "Requests"),
+                    probe.getCacheMetric("ChunkCache", "HitRate"));
+
             // Tokens
             List<String> tokens = probe.getTokens();
             if (tokens.size() == 1 || this.tokens)
@@ -1093,9 +1105,9 @@ public class NodeTool
             }
 
             // calculate percentile of row size and column count
-            String[] percentiles = new String[]{"50%", "75%", "95%", "98%", "99%", "Min", "Max"};
-            double[] readLatency = probe.metricPercentilesAsArray(store.getRecentReadLatencyHistogramMicros());
-            double[] writeLatency = probe.metricPercentilesAsArray(store.getRecentWriteLatencyHistogramMicros());
+            String[] percentiles = new String[]{"50%", "75%", "95%", "98%", "99%", "99.9%", "99.99%", "Min", "Max"};
+            double[] readLatency = store.getRecentReadLatencyPercentilesMicros();
+            double[] writeLatency = store.getRecentWriteLatencyPercentilesMicros();
             double[] estimatedRowSizePercentiles = probe.metricPercentilesAsArray(estimatedRowSizeHistogram);
             double[] estimatedColumnCountPercentiles = probe.metricPercentilesAsArray(estimatedColumnCountHistogram);
             double[] sstablesPerRead = probe.metricPercentilesAsArray(store.getRecentSSTablesPerReadHistogram());
@@ -1674,6 +1686,16 @@ public class NodeTool
         }
     }
 
+    @Command(name = "invalidatechunkcache", description = "Invalidate the chunk cache")
+    public static class InvalidateChunkCache extends NodeToolCmd
+    {
+        @Override
+        public void execute(NodeProbe probe)
+        {
+            probe.invalidateChunkCache();
+        }
+    }
+
     @Command(name = "join", description = "Join the ring")
     public static class Join extends NodeToolCmd
     {
@@ -1741,10 +1763,10 @@ public class NodeTool
         public void execute(NodeProbe probe)
         {
             StorageProxyMBean sp = probe.getSpProxy();
-            String[] percentiles = new String[]{"50%", "75%", "95%", "98%", "99%", "Min", "Max"};
-            double[] readLatency = probe.metricPercentilesAsArray(sp.getRecentReadLatencyHistogramMicros());
-            double[] writeLatency = probe.metricPercentilesAsArray(sp.getRecentWriteLatencyHistogramMicros());
-            double[] rangeLatency = probe.metricPercentilesAsArray(sp.getRecentRangeLatencyHistogramMicros());
+            String[] percentiles = new String[]{"50%", "75%", "95%", "98%", "99%", "99.9%", "99.99%", "Min", "Max"};
+            double[] readLatency = sp.getRecentReadLatencyPercentilesMicros();
+            double[] writeLatency = sp.getRecentWriteLatencyPercentilesMicros();
+            double[] rangeLatency = sp.getRecentRangeLatencyPercentilesMicros();
 
             System.out.println("proxy histograms");
             System.out.println(format("%-10s%18s%18s%18s",
@@ -1915,6 +1937,19 @@ public class NodeTool
         }
     }
 
+    @Command(name = "setchunkcachecapacity", description = "Set the chunk cache capacity (in MB units)")
+    public static class SetChunkCacheCapacity extends NodeToolCmd
+    {
+        @Arguments(title = "chunk_cache_capacity", usage = "<value_in_mb>", description = "Value in MB, 0 disables the chunk cache", required = true)
+        private Integer chunkCacheCapacity = null;
+
+        @Override
+        public void execute(NodeProbe probe)
+        {
+            probe.setChunkCacheCapacity(chunkCacheCapacity);
+        }
+    }
+
     @Command(name = "setcompactionthreshold", description = "Set min and max compaction thresholds for a given column family")
     public static class SetCompactionThreshold extends NodeToolCmd
     {
@@ -2405,7 +2440,7 @@ public class NodeTool
     @Command(name = "stop", description = "Stop compaction")
     public static class Stop extends NodeToolCmd
     {
-        @Arguments(title = "compaction_type", usage = "<compaction type>", description = "Supported types are COMPACTION, VALIDATION, CLEANUP, SCRUB, INDEX_BUILD", required = true)
+        @Arguments(title = "compaction_type", usage = "<compaction type>", description = "Supported types are COMPACTION, VALIDATION, CLEANUP, SCRUB, INDEX_BUILD, INDEX_MERGE", required = true)
         private OperationType compactionType = OperationType.UNKNOWN;
 
         @Override
@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.cassandra.utils;
+
+import java.io.DataInput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.apache.cassandra.db.TypeSizes;
+import org.apache.cassandra.io.ISerializer;
+import org.apache.cassandra.io.util.DataOutputPlus;
+import org.apache.cassandra.utils.concurrent.WrappedSharedCloseable;
+import org.apache.cassandra.utils.obs.IBitSet;
+import org.apache.cassandra.utils.obs.OffHeapBitSet;
+import org.apache.cassandra.utils.obs.OpenBitSet;
+
+/**
+ * A bloom filter split in blocks of 512 bits, the size of a cache line, where the first half of the hash of a key
+ * picks the block and the second half its k bits within the block. Checking a key then touches a single 64 bytes
+ * region of the bitset, rather than k random places of it, at the cost of needing a few more bits per key for the
+ * same false positive rate (see {@link BloomCalculations#computeBlockedBloomSpec}).
+ */
+public class BlockedBloomFilter extends WrappedSharedCloseable implements IFilter
+{
+    public static final BlockedBloomFilterSerializer serializer = new BlockedBloomFilterSerializer();
+
+    /**
+     * Written before the hash count, which standard filters start with, to tell blocked filters apart from them.
+     */
+    public static final int SERIALIZATION_VERSION = -1;
+
+    public static final int BLOCK_BITS = 512;
+    private static final int BLOCK_MASK = BLOCK_BITS - 1;
+
+    private static final ThreadLocal<long[]> reusableHash = new ThreadLocal<long[]>()
+    {
+        protected long[] initialValue()
+        {
+            return new long[2];
+        }
+    };
+
+    public final IBitSet bitset;
+    public final int hashCount;
+    private final long blocks;
+
+    public BlockedBloomFilter(int hashCount, IBitSet bitset)
+    {
+        super(bitset);
+        assert bitset.capacity() % BLOCK_BITS == 0 : bitset.capacity();
+        this.hashCount = hashCount;
+        this.bitset = bitset;
+        this.blocks = bitset.capacity() / BLOCK_BITS;
+    }
+
+    private BlockedBloomFilter(BlockedBloomFilter copy)
+    {
+        super(copy);
+        this.hashCount = copy.hashCount;
+        this.bitset = copy.bitset;
+        this.blocks = copy.blocks;
+    }
+
+    /**
+     * @return the number of bits needed for a filter of at least the given size, a whole number of blocks
+     */
+    public static long roundToBlocks(long numBits)
+    {
+        return (numBits + BLOCK_MASK) & ~(long) BLOCK_MASK;
+    }
+
+    public void add(ByteBuffer key)
+    {
+        long[] hash = hash(key);
+        long block = FBUtilities.abs(hash[0] % blocks) * BLOCK_BITS;
+        // double hashing within the block, with an odd increment so that the k bits are distinct
+        int bit = (int) hash[1];
+        int increment = (int) (hash[1] >>> 32) | 1;
+        for (int i = 0; i < hashCount; i++)
+        {
+            bitset.set(block + (bit & BLOCK_MASK));
+            bit += increment;
+        }
+    }
+
+    public boolean isPresent(ByteBuffer key)
+    {
+        long[] hash = hash(key);
+        long block = FBUtilities.abs(hash[0] % blocks) * BLOCK_BITS;
+        int bit = (int) hash[1];
+        int increment = (int) (hash[1] >>> 32) | 1;
+        for (int i = 0; i < hashCount; i++)
+        {
+            if (!bitset.get(block + (bit & BLOCK_MASK)))
+                return false;
+            bit += increment;
+        }
+        return true;
+    }
+
+    private static long[] hash(ByteBuffer key)
+    {
+        long[] hash = reusableHash.get();
+        MurmurHash.hash3_x64_128(key, key.position(), key.remaining(), 0L, hash);
+        return hash;
+    }
+
+    public void clear()
+    {
+        bitset.clear();
+    }
+
+    public long serializedSize()
+    {
+        return serializer.serializedSize(this, TypeSizes.NATIVE);
+    }
+
+    public IFilter sharedCopy()
+    {
+        return new BlockedBloomFilter(this);
+    }
+
+    public long offHeapSize()
+    {
+        return bitset.offHeapSize();
+    }
+
+    public static class BlockedBloomFilterSerializer implements ISerializer<BlockedBloomFilter>
+    {
+        public void serialize(BlockedBloomFilter bf, DataOutputPlus out) throws IOException
+        {
+            out.writeInt(SERIALIZATION_VERSION);
+            out.writeInt(bf.hashCount);
+            bf.bitset.serialize(out);
+        }
+
+        public BlockedBloomFilter deserialize(DataInput in) throws IOException
+        {
+            return deserialize(in, false);
+        }
+
+        public BlockedBloomFilter deserialize(DataInput in, boolean offheap) throws IOException
+        {
+            int version = in.readInt();
+            if (version != SERIALIZATION_VERSION)
+                throw new IOException("Unsupported blocked bloom filter version " + version);
+            return deserializeAfterVersion(in, offheap);
+        }
+
+        /**
+         * Deserializes a filter whose version has already been read, to find out which kind of filter it is.
+         */
+        BlockedBloomFilter deserializeAfterVersion(DataInput in, boolean offheap) throws IOException
+        {
+            int hashes = in.readInt();
+            IBitSet bs = offheap ? OffHeapBitSet.deserialize(in) : OpenBitSet.deserialize(in);
+            return new BlockedBloomFilter(hashes, bs);
+        }
+
+        public long serializedSize(BlockedBloomFilter bf, TypeSizes typeSizes)
+        {
+            return typeSizes.sizeof(SERIALIZATION_VERSION) + typeSizes.sizeof(bf.hashCount) + bf.bitset.serializedSize(typeSizes);
+        }
+    }
+}
@@ -70,7 +70,30 @@ class BloomCalculations {
      */
     private static final int[] optKPerBuckets = new int[probs.length];
 
+    /**
+     * The false positive rates of blocked bloom filters, in the same layout as {@link #probs}, for blocks of
+     * {@link BlockedBloomFilter#BLOCK_BITS} bits. See {@link #blockedFalsePositiveRate}.
+     */
+    static final double[][] blockedProbs = new double[probs.length][];
+
+    /**
+     * The optimal number of hashes for a given number of bits per element of a blocked bloom filter.
+     */
+    private static final int[] optKPerBucketsBlocked = new int[probs.length];
+
     static
+    {
+        for (int i = 0; i < probs.length; i++)
+        {
+            blockedProbs[i] = new double[probs[i].length];
+            for (int j = 0; j < blockedProbs[i].length; j++)
+                blockedProbs[i][j] = i < minBuckets || j < minK ? 1.0 : blockedFalsePositiveRate(i, j, BlockedBloomFilter.BLOCK_BITS);
+        }
+        computeOptimalK(probs, optKPerBuckets);
+        computeOptimalK(blockedProbs, optKPerBucketsBlocked);
+    }
+
+    private static void computeOptimalK(double[][] probs, int[] optKPerBuckets)
     {
         for (int i = 0; i < probs.length; i++)
         {
@@ -87,6 +110,27 @@ class BloomCalculations {
         }
     }
 
+    /**
+     * The false positive rate of a blocked bloom filter, where each element sets its k bits within one block: the
+     * rate of a standard filter the size of a block, averaged over the Poisson distributed number of elements that
+     * share the block. Blocks get uneven loads, so a blocked filter needs a few more bits per element than a standard
+     * one for the same rate.
+     */
+    static double blockedFalsePositiveRate(int bucketsPerElement, int k, int blockBits)
+    {
+        double elementsPerBlock = blockBits / (double) bucketsPerElement;
+        int maxElements = (int) (elementsPerBlock + 10 * Math.sqrt(elementsPerBlock) + 10);
+        double rate = 0;
+        double probability = Math.exp(-elementsPerBlock); // of having no element in the block
+        for (int elements = 0; elements <= maxElements; elements++)
+        {
+            double bitUnset = Math.pow(1 - 1.0 / blockBits, (double) k * elements);
+            rate += probability * Math.pow(1 - bitUnset, k);
+            probability *= elementsPerBlock / (elements + 1);
+        }
+        return rate;
+    }
+
     /**
      * Given the number of buckets that can be used per element, return a
      * specification that minimizes the false positive rate.
@@ -137,6 +181,19 @@ class BloomCalculations {
      * @throws UnsupportedOperationException if a filter satisfying the parameters cannot be met
      */
     public static BloomSpecification computeBloomSpec(int maxBucketsPerElement, double maxFalsePosProb)
+    {
+        return computeBloomSpec(probs, optKPerBuckets, maxBucketsPerElement, maxFalsePosProb);
+    }
+
+    /**
+     * Same as {@link #computeBloomSpec(int, double)}, for a {@link BlockedBloomFilter}.
+     */
+    public static BloomSpecification computeBlockedBloomSpec(int maxBucketsPerElement, double maxFalsePosProb)
+    {
+        return computeBloomSpec(blockedProbs, optKPerBucketsBlocked, maxBucketsPerElement, maxFalsePosProb);
+    }
+
+    private static BloomSpecification computeBloomSpec(double[][] probs, int[] optKPerBuckets, int maxBucketsPerElement, double maxFalsePosProb)
     {
         assert maxBucketsPerElement >= 1;
         assert maxBucketsPerElement <= probs.length - 1;
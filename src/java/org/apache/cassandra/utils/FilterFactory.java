@@ -19,7 +19,9 @@ package org.apache.cassandra.utils;
 
 import java.io.DataInput;
 import java.io.IOException;
+import java.util.Arrays;
 
+import org.apache.cassandra.exceptions.ConfigurationException;
 import org.apache.cassandra.io.util.DataOutputPlus;
 import org.apache.cassandra.utils.obs.IBitSet;
 import org.apache.cassandra.utils.obs.OffHeapBitSet;
@@ -35,14 +37,50 @@ public class FilterFactory
     private static final Logger logger = LoggerFactory.getLogger(FilterFactory.class);
     private static final long BITSET_EXCESS = 20;
 
+    /**
+     * The layouts of the bloom filters, selectable per table.
+     */
+    public static enum Type
+    {
+        /** k bits anywhere in the filter */
+        STANDARD,
+        /** k bits within a single cache line sized block, see {@link BlockedBloomFilter} */
+        BLOCKED;
+
+        public static Type fromString(String name) throws ConfigurationException
+        {
+            try
+            {
+                return valueOf(name.toUpperCase());
+            }
+            catch (IllegalArgumentException e)
+            {
+                throw new ConfigurationException(String.format("Unknown bloom filter type '%s', should be one of %s", name, Arrays.toString(values())));
+            }
+        }
+
+        @Override
+        public String toString()
+        {
+            return name().toLowerCase();
+        }
+    }
+
     public static void serialize(IFilter bf, DataOutputPlus output) throws IOException
     {
-        Murmur3BloomFilter.serializer.serialize((Murmur3BloomFilter) bf, output);
+        if (bf instanceof BlockedBloomFilter)
+            BlockedBloomFilter.serializer.serialize((BlockedBloomFilter) bf, output);
+        else
+            Murmur3BloomFilter.serializer.serialize((Murmur3BloomFilter) bf, output);
     }
 
     public static IFilter deserialize(DataInput input, boolean offheap) throws IOException
     {
-        return Murmur3BloomFilter.serializer.deserialize(input, offheap);
+        // standard filters start with their (positive) hash count, blocked ones with a negative version
+        int header = input.readInt();
+        if (header == BlockedBloomFilter.SERIALIZATION_VERSION)
+            return BlockedBloomFilter.serializer.deserializeAfterVersion(input, offheap);
+        return Murmur3BloomFilter.serializer.deserialize(header, input, offheap);
     }
 
     /**
@@ -69,11 +107,32 @@ public class FilterFactory
      *         filter.
      */
     public static IFilter getFilter(long numElements, double maxFalsePosProbability, boolean offheap)
+    {
+        return getFilter(numElements, maxFalsePosProbability, offheap, Type.STANDARD);
+    }
+
+    /**
+     * Same as {@link #getFilter(long, double, boolean)}, for a filter of the given type. If a blocked filter can't
+     * provide such a low false positive probability, a standard one is returned instead.
+     */
+    public static IFilter getFilter(long numElements, double maxFalsePosProbability, boolean offheap, Type type)
     {
         assert maxFalsePosProbability <= 1.0 : "Invalid probability";
         if (maxFalsePosProbability == 1.0)
             return new AlwaysPresentFilter();
         int bucketsPerElement = BloomCalculations.maxBucketsPerElement(numElements);
+        if (type == Type.BLOCKED)
+        {
+            try
+            {
+                BloomCalculations.BloomSpecification spec = BloomCalculations.computeBlockedBloomSpec(bucketsPerElement, maxFalsePosProbability);
+                return createBlockedFilter(spec.K, numElements, spec.bucketsPerElement, offheap);
+            }
+            catch (UnsupportedOperationException e)
+            {
+                logger.debug("Cannot provide a blocked BloomFilter with a false positive probability of {}, using a standard one", maxFalsePosProbability);
+            }
+        }
         BloomCalculations.BloomSpecification spec = BloomCalculations.computeBloomSpec(bucketsPerElement, maxFalsePosProbability);
         return createFilter(spec.K, numElements, spec.bucketsPerElement, offheap);
     }
@@ -84,4 +143,11 @@ public class FilterFactory
         IBitSet bitset = offheap ? new OffHeapBitSet(numBits) : new OpenBitSet(numBits);
         return new Murmur3BloomFilter(hash, bitset);
     }
+
+    private static IFilter createBlockedFilter(int hash, long numElements, int bucketsPer, boolean offheap)
+    {
+        long numBits = BlockedBloomFilter.roundToBlocks(numElements * bucketsPer + BITSET_EXCESS);
+        IBitSet bitset = offheap ? new OffHeapBitSet(numBits) : new OpenBitSet(numBits);
+        return new BlockedBloomFilter(hash, bitset);
+    }
 }
@@ -0,0 +1,256 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.cassandra.utils;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free, fixed-memory histogram recording non-negative values with the same relative precision from 0 to its
+ * highest trackable value, after the HdrHistogram of Gil Tene.
+ *
+ * The values are grouped in buckets of doubling width, each of them split in the same number of sub-buckets: the
+ * values counted by a sub-bucket agree on the given number of significant decimal digits. Recording a value is a
+ * single atomic increment, and the memory used only depends on the highest trackable value and the precision:
+ * about 26KB for microseconds up to an hour with 2 significant digits, and 7 times as much with 3.
+ *
+ * Values above the highest trackable value are recorded as that value, and negative values as 0.
+ */
+public class HdrHistogram
+{
+    private final long highestTrackableValue;
+    private final int significantDigits;
+
+    // the values lower than 2 * subBucketHalfCount are counted exactly, higher values by sub-buckets of 2^bucket
+    private final int subBucketHalfCountMagnitude;
+    private final int subBucketHalfCount;
+    private final long subBucketMask;
+    private final int leadingZeroCountBase;
+
+    private final AtomicLongArray counts;
+
+    // the cumulative counts of the last interval snapshot, allocated on the first one
+    private long[] lastIntervalCounts;
+
+    /**
+     * @param highestTrackableValue the highest value to record, must be at least 2
+     * @param significantDigits the number of significant decimal digits of the recorded values, between 1 and 5
+     */
+    public HdrHistogram(long highestTrackableValue, int significantDigits)
+    {
+        if (highestTrackableValue < 2)
+            throw new IllegalArgumentException("The highest trackable value must be at least 2");
+        if (significantDigits < 1 || significantDigits > 5)
+            throw new IllegalArgumentException("The number of significant digits must be between 1 and 5");
+
+        this.highestTrackableValue = highestTrackableValue;
+        this.significantDigits = significantDigits;
+
+        // the sub-buckets of a bucket tell apart values within 10^-significantDigits of each other
+        long largestValueWithSingleUnitResolution = 2 * (long) Math.pow(10, significantDigits);
+        int subBucketCountMagnitude = 64 - Long.numberOfLeadingZeros(largestValueWithSingleUnitResolution - 1);
+        subBucketHalfCountMagnitude = subBucketCountMagnitude - 1;
+        subBucketHalfCount = 1 << subBucketHalfCountMagnitude;
+        subBucketMask = (1L << subBucketCountMagnitude) - 1;
+        leadingZeroCountBase = 64 - subBucketCountMagnitude;
+
+        int bucketCount = 1;
+        long smallestUntrackableValue = 1L << subBucketCountMagnitude;
+        while (smallestUntrackableValue <= highestTrackableValue)
+        {
+            bucketCount++;
+            if (smallestUntrackableValue > Long.MAX_VALUE / 2)
+                break;
+            smallestUntrackableValue <<= 1;
+        }
+        counts = new AtomicLongArray((bucketCount + 1) * subBucketHalfCount);
+    }
+
+    public long getHighestTrackableValue()
+    {
+        return highestTrackableValue;
+    }
+
+    public int getSignificantDigits()
+    {
+        return significantDigits;
+    }
+
+    /**
+     * Records one occurrence of the value, without locking.
+     */
+    public void record(long value)
+    {
+        counts.incrementAndGet(countsIndex(Math.max(0, Math.min(value, highestTrackableValue))));
+    }
+
+    /**
+     * @return the counts of all the values recorded so far
+     */
+    public Snapshot snapshot()
+    {
+        return new Snapshot(copyCounts());
+    }
+
+    /**
+     * Returns the counts of the values recorded since the previous call, or since the creation of the histogram on
+     * the first call. As the counters are never reset, a value recorded while the snapshot is taken is counted either
+     * in this interval or in the next one, but never lost.
+     *
+     * @return the counts of the values recorded since the previous interval snapshot
+     */
+    public synchronized Snapshot intervalSnapshot()
+    {
+        long[] current = copyCounts();
+        long[] interval = current.clone();
+        if (lastIntervalCounts != null)
+        {
+            for (int i = 0; i < interval.length; i++)
+                interval[i] -= lastIntervalCounts[i];
+        }
+        lastIntervalCounts = current;
+        return new Snapshot(interval);
+    }
+
+    private long[] copyCounts()
+    {
+        long[] copy = new long[counts.length()];
+        for (int i = 0; i < copy.length; i++)
+            copy[i] = counts.get(i);
+        return copy;
+    }
+
+    private int countsIndex(long value)
+    {
+        int bucketIndex = leadingZeroCountBase - Long.numberOfLeadingZeros(value | subBucketMask);
+        int subBucketIndex = (int) (value >>> bucketIndex);
+        return ((bucketIndex + 1) << subBucketHalfCountMagnitude) + subBucketIndex - subBucketHalfCount;
+    }
+
+    private int bucketIndex(int countsIndex)
+    {
+        return Math.max(0, (countsIndex >> subBucketHalfCountMagnitude) - 1);
+    }
+
+    private long lowestEquivalentValue(int countsIndex)
+    {
+        int bucketIndex = (countsIndex >> subBucketHalfCountMagnitude) - 1;
+        long subBucketIndex = (countsIndex & (subBucketHalfCount - 1)) + subBucketHalfCount;
+        if (bucketIndex < 0)
+            return subBucketIndex - subBucketHalfCount;
+        return subBucketIndex << bucketIndex;
+    }
+
+    private long highestEquivalentValue(int countsIndex)
+    {
+        return Math.min(lowestEquivalentValue(countsIndex) + (1L << bucketIndex(countsIndex)) - 1, highestTrackableValue);
+    }
+
+    /**
+     * The counts of a histogram at some point in time, or over some interval.
+     *
+     * The values returned are those of the sub-buckets: the min is the lowest value of the first non-empty sub-bucket,
+     * and the max and percentiles the highest value of their sub-bucket, as with EstimatedHistogram.
+     */
+    public class Snapshot
+    {
+        private final long[] counts;
+        private final long count;
+
+        private Snapshot(long[] counts)
+        {
+            this.counts = counts;
+            long count = 0;
+            for (long c : counts)
+                count += c;
+            this.count = count;
+        }
+
+        /**
+         * @return the number of values recorded
+         */
+        public long count()
+        {
+            return count;
+        }
+
+        /**
+         * @return the smallest value recorded, or 0 if there isn't any
+         */
+        public long min()
+        {
+            for (int i = 0; i < counts.length; i++)
+            {
+                if (counts[i] > 0)
+                    return lowestEquivalentValue(i);
+            }
+            return 0;
+        }
+
+        /**
+         * @return the largest value recorded, or 0 if there isn't any
+         */
+        public long max()
+        {
+            for (int i = counts.length - 1; i >= 0; i--)
+            {
+                if (counts[i] > 0)
+                    return highestEquivalentValue(i);
+            }
+            return 0;
+        }
+
+        /**
+         * @return the mean of the recorded values, taking the middle of each sub-bucket, or 0 if there isn't any
+         */
+        public double mean()
+        {
+            if (count == 0)
+                return 0;
+
+            double sum = 0;
+            for (int i = 0; i < counts.length; i++)
+            {
+                if (counts[i] > 0)
+                    sum += counts[i] * ((lowestEquivalentValue(i) + highestEquivalentValue(i)) / 2.0);
+            }
+            return sum / count;
+        }
+
+        /**
+         * @param percentile the percentile to compute, between 0 and 1
+         * @return the smallest value that is greater than or equal to this fraction of the recorded values, or 0 if
+         * there isn't any
+         */
+        public long percentile(double percentile)
+        {
+            assert percentile >= 0 && percentile <= 1.0;
+            if (count == 0)
+                return 0;
+
+            long target = Math.max(1, (long) Math.ceil(count * percentile));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++)
+            {
+                seen += counts[i];
+                if (seen >= target)
+                    return highestEquivalentValue(i);
+            }
+            return max();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.cassandra.utils;
+
+import java.security.MessageDigest;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+/**
+ * A MessageDigest computing the 128 bit x64 variant of MurmurHash3 of its input, incrementally.
+ * It is not a cryptographic hash, but it is several times cheaper than one, for when only accidental differences
+ * need to be detected.
+ */
+public class Murmur3Digest extends MessageDigest
+{
+    public static final String ALGORITHM = "Murmur3-128";
+
+    private static final HashFunction murmur3 = Hashing.murmur3_128();
+
+    private Hasher hasher = murmur3.newHasher();
+
+    public Murmur3Digest()
+    {
+        super(ALGORITHM);
+    }
+
+    @Override
+    protected int engineGetDigestLength()
+    {
+        return murmur3.bits() / 8;
+    }
+
+    @Override
+    protected void engineUpdate(byte input)
+    {
+        hasher.putByte(input);
+    }
+
+    @Override
+    protected void engineUpdate(byte[] input, int offset, int len)
+    {
+        hasher.putBytes(input, offset, len);
+    }
+
+    @Override
+    protected byte[] engineDigest()
+    {
+        byte[] digest = hasher.hash().asBytes();
+        engineReset();
+        return digest;
+    }
+
+    @Override
+    protected void engineReset()
+    {
+        hasher = murmur3.newHasher();
+    }
+}
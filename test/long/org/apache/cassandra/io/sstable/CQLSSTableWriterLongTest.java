@@ -22,6 +22,11 @@ import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import com.google.common.io.Files;
 import org.junit.AfterClass;
@@ -31,6 +36,7 @@ import org.junit.Test;
 import org.apache.cassandra.SchemaLoader;
 import org.apache.cassandra.config.Config;
 import org.apache.cassandra.db.Keyspace;
+import org.apache.cassandra.dht.Murmur3Partitioner;
 import org.apache.cassandra.service.StorageService;
 
 public class CQLSSTableWriterLongTest
@@ -103,4 +109,70 @@ public class CQLSSTableWriterLongTest
         }
         writer.close();
     }
+
+    @Test
+    public void testParallelWritersThroughput() throws Exception
+    {
+        int rows = 2000000;
+        int threads = 4;
+        long serial = writeRows("table2", 1, 1, rows);
+        long parallel = writeRows("table3", threads, threads, rows);
+        System.out.println(String.format("Wrote %d rows in %dms with 1 writer and in %dms with %d parallel writers (%.1fx)",
+                                         rows, serial, parallel, threads, (double) serial / parallel));
+    }
+
+    /**
+     * @return the time in milliseconds taken to write and close the sstables of {@code rows} rows added by
+     * {@code threads} threads to a writer using {@code writers} parallel writers
+     */
+    private static long writeRows(String table, int writers, int threads, final int rows) throws Exception
+    {
+        String KS = "cql_keyspace";
+
+        File tempdir = Files.createTempDir();
+        File dataDir = new File(tempdir.getAbsolutePath() + File.separator + KS + File.separator + table);
+        assert dataDir.mkdirs();
+
+        String schema = "CREATE TABLE cql_keyspace." + table + " ("
+                      + "  k int,"
+                      + "  c int,"
+                      + "  v text,"
+                      + "  PRIMARY KEY (k, c)"
+                      + ")";
+        String insert = "INSERT INTO cql_keyspace." + table + " (k, c, v) VALUES (?, ?, ?)";
+
+        // the random partitioner spreads the rows across the writers
+        final CQLSSTableWriter writer = CQLSSTableWriter.builder()
+                                                        .inDirectory(dataDir)
+                                                        .forTable(schema)
+                                                        .withPartitioner(new Murmur3Partitioner())
+                                                        .using(insert)
+                                                        .withBufferSizeInMB(16)
+                                                        .withParallelWriters(writers)
+                                                        .build();
+
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>(threads);
+        for (int t = 0; t < threads; t++)
+        {
+            final int thread = t;
+            final int threadCount = threads;
+            futures.add(executor.submit(new Callable<Void>()
+            {
+                public Void call() throws Exception
+                {
+                    Random r = new Random(thread);
+                    for (int i = thread; i < rows; i += threadCount)
+                        writer.addRow(r.nextInt(), i, "value" + i);
+                    return null;
+                }
+            }));
+        }
+        for (Future<?> future : futures)
+            future.get();
+        executor.shutdown();
+        writer.close();
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
 }
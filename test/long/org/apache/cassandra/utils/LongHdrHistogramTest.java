@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.cassandra.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.yammer.metrics.Metrics;
+import com.yammer.metrics.core.Histogram;
+import com.yammer.metrics.core.MetricName;
+
+/**
+ * Compares the cost of recording a latency in an HdrHistogram with that of the other histograms of the latency
+ * metrics, from one thread and from several threads at once.
+ */
+public class LongHdrHistogramTest
+{
+    private static final Logger logger = LoggerFactory.getLogger(LongHdrHistogramTest.class);
+
+    private static final int VALUES_PER_THREAD = 10000000;
+    // distinct values, so that the cost of computing the bucket of a value is included
+    private static final long[] VALUES = new long[1 << 16];
+
+    static
+    {
+        for (int i = 0; i < VALUES.length; i++)
+            VALUES[i] = (long) (ThreadLocalRandom.current().nextDouble() * ThreadLocalRandom.current().nextDouble() * TimeUnit.SECONDS.toMicros(1));
+    }
+
+    private interface Recorder
+    {
+        void record(long value);
+    }
+
+    @Test
+    public void timeRecording() throws InterruptedException
+    {
+        final HdrHistogram hdr2 = new HdrHistogram(TimeUnit.HOURS.toMicros(1), 2);
+        final HdrHistogram hdr3 = new HdrHistogram(TimeUnit.HOURS.toMicros(1), 3);
+        final EstimatedHistogram estimated = new EstimatedHistogram();
+        final Histogram biased = Metrics.newHistogram(new MetricName(LongHdrHistogramTest.class, "biased"), true);
+
+        Recorder hdr2Recorder = new Recorder()
+        {
+            public void record(long value)
+            {
+                hdr2.record(value);
+            }
+        };
+        Recorder hdr3Recorder = new Recorder()
+        {
+            public void record(long value)
+            {
+                hdr3.record(value);
+            }
+        };
+        Recorder estimatedRecorder = new Recorder()
+        {
+            public void record(long value)
+            {
+                estimated.add(value);
+            }
+        };
+        Recorder biasedRecorder = new Recorder()
+        {
+            public void record(long value)
+            {
+                biased.update(value);
+            }
+        };
+
+        // warm up
+        for (Recorder recorder : new Recorder[]{ hdr2Recorder, hdr3Recorder, estimatedRecorder, biasedRecorder })
+            time(recorder, 1);
+
+        logger.info("||Threads|HdrHistogram (2 digits)|HdrHistogram (3 digits)|EstimatedHistogram|Yammer biased Histogram|");
+        for (int threads = 1; threads <= 8; threads *= 2)
+        {
+            logger.info(String.format("||%d|%.1f|%.1f|%.1f|%.1f|",
+                                      threads,
+                                      time(hdr2Recorder, threads),
+                                      time(hdr3Recorder, threads),
+                                      time(estimatedRecorder, threads),
+                                      time(biasedRecorder, threads)));
+        }
+    }
+
+    /**
+     * @return the elapsed time per value recorded by each thread, in nanoseconds, with the given number of threads
+     * recording at once
+     */
+    private static double time(final Recorder recorder, int threadCount) throws InterruptedException
+    {
+        List<Thread> threads = new ArrayList<>(threadCount);
+        for (int t = 0; t < threadCount; t++)
+        {
+            threads.add(new Thread(new Runnable()
+            {
+                public void run()
+                {
+                    int offset = ThreadLocalRandom.current().nextInt(VALUES.length);
+                    for (int i = 0; i < VALUES_PER_THREAD; i++)
+                        recorder.record(VALUES[(offset + i) & (VALUES.length - 1)]);
+                }
+            }));
+        }
+
+        long start = System.nanoTime();
+        for (Thread thread : threads)
+            thread.start();
+        for (Thread thread : threads)
+            thread.join();
+        return (double) (System.nanoTime() - start) / VALUES_PER_THREAD;
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2015, Stratio.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.stratio.cassandra.index.service;
+
+import org.apache.lucene.analysis.core.KeywordAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.Filter;
+import org.apache.lucene.search.FilteredQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.QueryWrapperFilter;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.RAMDirectory;
+import org.apache.lucene.util.Version;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Andres de la Pena <adelapena@stratio.com>
+ */
+public class FilterCacheTest {
+
+    private RAMDirectory directory;
+    private IndexWriter indexWriter;
+    private FilterCache filterCache;
+
+    @Before
+    public void before() throws IOException {
+        directory = new RAMDirectory();
+        IndexWriterConfig config = new IndexWriterConfig(Version.LUCENE_48, new KeywordAnalyzer());
+        indexWriter = new IndexWriter(directory, config);
+        for (int i = 0; i < 100; i++) {
+            Document document = new Document();
+            document.add(new StringField("id", String.valueOf(i), Field.Store.NO));
+            document.add(new StringField("tenant", i % 2 == 0 ? "even" : "odd", Field.Store.NO));
+            indexWriter.addDocument(document);
+        }
+        indexWriter.commit();
+        filterCache = new FilterCache(1, "FilterCacheTest");
+    }
+
+    @After
+    public void after() throws IOException {
+        filterCache.close();
+        indexWriter.close();
+        directory.close();
+    }
+
+    private int count(Filter filter) throws IOException {
+        DirectoryReader reader = DirectoryReader.open(indexWriter, true);
+        try {
+            IndexSearcher searcher = new IndexSearcher(reader);
+            return searcher.search(new FilteredQuery(new MatchAllDocsQuery(), filter), 1000).totalHits;
+        } finally {
+            reader.close();
+        }
+    }
+
+    @Test
+    public void testHits() throws IOException {
+        Filter filter = new QueryWrapperFilter(new TermQuery(new Term("tenant", "even")));
+        assertEquals(50, count(filterCache.cached(filter)));
+        assertEquals(0, filterCache.getHits());
+        assertEquals(1, filterCache.size());
+
+        Filter sameFilter = new QueryWrapperFilter(new TermQuery(new Term("tenant", "even")));
+        assertEquals(50, count(filterCache.cached(sameFilter)));
+        assertEquals(1, filterCache.getHits());
+        assertEquals(2, filterCache.getRequests());
+        assertEquals(1, filterCache.size());
+        assertTrue(filterCache.getRamBytesUsed() > 0);
+    }
+
+    @Test
+    public void testDeletionsAreApplied() throws IOException {
+        Filter filter = new QueryWrapperFilter(new TermQuery(new Term("tenant", "even")));
+        assertEquals(50, count(filterCache.cached(filter)));
+        indexWriter.deleteDocuments(new Term("id", "0"));
+        indexWriter.commit();
+        assertEquals(49, count(filterCache.cached(filter)));
+    }
+
+    @Test
+    public void testEvictionOnMerge() throws IOException {
+        Filter filter = new QueryWrapperFilter(new TermQuery(new Term("tenant", "odd")));
+        assertEquals(50, count(filterCache.cached(filter)));
+        assertEquals(1, filterCache.size());
+
+        Document document = new Document();
+        document.add(new StringField("tenant", "odd", Field.Store.NO));
+        indexWriter.addDocument(document);
+        indexWriter.forceMerge(1, true);
+        indexWriter.commit();
+
+        assertEquals(51, count(filterCache.cached(filter)));
+        assertEquals(1, filterCache.size());
+    }
+
+    @Test
+    public void testOversizedEntries() throws IOException {
+        FilterCache smallCache = new FilterCache(0, "FilterCacheTest.small");
+        try {
+            Filter filter = new QueryWrapperFilter(new TermQuery(new Term("tenant", "odd")));
+            assertEquals(50, count(smallCache.cached(filter)));
+            assertEquals(0, smallCache.size());
+            assertEquals(0, smallCache.getRamBytesUsed());
+        } finally {
+            smallCache.close();
+        }
+    }
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright 2015, Stratio.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.stratio.cassandra.index.service;
+
+import org.apache.cassandra.io.util.FileUtils;
+import org.apache.lucene.analysis.core.KeywordAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Andres de la Pena <adelapena@stratio.com>
+ */
+public class LuceneIndexTest {
+
+    private static final Sort SORT = new Sort(new SortField("id", SortField.Type.STRING));
+
+    private File path;
+
+    @Before
+    public void before() throws IOException {
+        path = Files.createTempDirectory("lucene").toFile();
+    }
+
+    @After
+    public void after() {
+        if (path.exists()) {
+            FileUtils.deleteRecursive(path);
+        }
+    }
+
+    private LuceneIndex index(long bucketSeconds) {
+        LuceneIndex index = new LuceneIndex(null,
+                                            path.getPath(),
+                                            60D,
+                                            16,
+                                            5,
+                                            30,
+                                            new KeywordAnalyzer(),
+                                            null,
+                                            bucketSeconds);
+        index.init(SORT);
+        return index;
+    }
+
+    private static Document document(String id) {
+        Document document = new Document();
+        document.add(new StringField("id", id, Field.Store.YES));
+        return document;
+    }
+
+    private static long now() {
+        return TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis());
+    }
+
+    @Test
+    public void testWithoutBuckets() {
+        LuceneIndex index = index(0);
+        index.upsert(new Term("id", "a"), document("a"), now() + 10);
+        index.upsert(new Term("id", "b"), document("b"), LuceneIndex.NEVER);
+        assertEquals(1, index.getNumBuckets());
+        index.dropExpired(LuceneIndex.NEVER - 1);
+        assertEquals(1, index.getNumBuckets());
+        index.close();
+    }
+
+    @Test
+    public void testBuckets() {
+        LuceneIndex index = index(60);
+        long now = now();
+        index.upsert(new Term("id", "a"), document("a"), now + 10);
+        assertEquals(1, index.getNumBuckets());
+        index.upsert(new Term("id", "b"), document("b"), LuceneIndex.NEVER);
+        assertEquals(2, index.getNumBuckets());
+        index.upsert(new Term("id", "c"), document("c"), now - 600);
+        assertEquals(2, index.getNumBuckets());
+        index.upsert(new Term("id", "a"), document("a"), now + 3600);
+        assertEquals(3, index.getNumBuckets());
+        index.commit();
+        assertTrue(new File(path, "bucket-permanent").exists());
+
+        index.dropExpired(now + 120);
+        assertEquals(2, index.getNumBuckets());
+        index.dropExpired(now + 7200);
+        assertEquals(1, index.getNumBuckets());
+        index.close();
+    }
+
+    @Test
+    public void testBucketsShareRAMBuffer() {
+        LuceneIndex index = index(60);
+        long now = now();
+        index.upsert(new Term("id", "a"), document("a"), now + 10);
+        index.upsert(new Term("id", "b"), document("b"), LuceneIndex.NEVER);
+        index.upsert(new Term("id", "c"), document("c"), now + 3600);
+        assertEquals(3, index.getNumBuckets());
+        assertEquals(16, index.getRAMBufferSizeMB(), 0.001);
+
+        index.dropExpired(now + 120);
+        assertEquals(2, index.getNumBuckets());
+        assertEquals(16, index.getRAMBufferSizeMB(), 0.001);
+        index.close();
+    }
+
+    @Test
+    public void testExpiredBucketsAreDroppedOnInit() {
+        LuceneIndex index = index(60);
+        index.upsert(new Term("id", "a"), document("a"), now() + 10);
+        index.upsert(new Term("id", "b"), document("b"), LuceneIndex.NEVER);
+        index.close();
+
+        File expired = new File(path, "bucket-60");
+        assertTrue(expired.mkdirs());
+        index = index(60);
+        assertEquals(2, index.getNumBuckets());
+        assertFalse(expired.exists());
+        index.delete();
+        assertFalse(path.exists());
+    }
+
+    private static int count(LuceneIndex index, long now) {
+        LuceneIndex.Searcher searcher = index.searcher(TimeUnit.SECONDS.toMillis(now));
+        try {
+            return searcher.count(new MatchAllDocsQuery());
+        } finally {
+            searcher.close();
+        }
+    }
+
+    @Test
+    public void testExpiredBucketsAreNotSearched() {
+        LuceneIndex index = index(60);
+        long now = now();
+        index.upsert(new Term("id", "a"), document("a"), now + 10);
+        index.upsert(new Term("id", "b"), document("b"), LuceneIndex.NEVER);
+        index.refresh();
+        assertEquals(2, count(index, now));
+        assertEquals(1, count(index, now + 120));
+        assertEquals(2, index.getNumBuckets());
+        index.close();
+    }
+
+    @Test
+    public void testUpsertChangingBucketLeavesOneCopy() {
+        LuceneIndex index = index(60);
+        long now = now();
+        Term term = new Term("id", "a");
+        index.upsert(term, document("a"), now + 10);
+        index.refresh();
+        index.upsert(term, document("a"), now + 3600);
+        index.refresh();
+        index.upsert(term, document("a"), LuceneIndex.NEVER);
+        index.refresh();
+        index.upsert(term, document("a"), now + 10);
+        index.refresh();
+        assertEquals(3, index.getNumBuckets());
+        assertEquals(1, index.getNumDocs());
+
+        LuceneIndex.Searcher searcher = index.searcher(TimeUnit.SECONDS.toMillis(now));
+        try {
+            assertEquals(1, searcher.count(new TermQuery(term)));
+        } finally {
+            searcher.close();
+        }
+        index.close();
+    }
+
+    @Test
+    public void testSearcherPinsBuckets() throws Exception {
+        final LuceneIndex index = index(60);
+        final long now = now();
+        index.upsert(new Term("id", "a"), document("a"), now + 10);
+        index.upsert(new Term("id", "b"), document("b"), LuceneIndex.NEVER);
+        index.refresh();
+
+        Callable<Boolean> dropExpired = new Callable<Boolean>() {
+            @Override
+            public Boolean call() {
+                return index.dropExpired(now + 120);
+            }
+        };
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        LuceneIndex.Searcher searcher = index.searcher(TimeUnit.SECONDS.toMillis(now));
+        try {
+            // The expired bucket can't be dropped and new data isn't seen while the searcher is open
+            assertFalse(executor.submit(dropExpired).get());
+            index.upsert(new Term("id", "c"), document("c"), now + 3600);
+            index.refresh();
+            assertEquals(3, index.getNumBuckets());
+            assertEquals(2, searcher.count(new MatchAllDocsQuery()));
+        } finally {
+            searcher.close();
+        }
+
+        assertTrue(executor.submit(dropExpired).get());
+        executor.shutdown();
+        assertEquals(2, index.getNumBuckets());
+        assertEquals(2, count(index, now));
+        index.close();
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2015, Stratio.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.stratio.cassandra.index.service;
+
+import org.apache.cassandra.db.compaction.OperationType;
+import org.apache.lucene.analysis.core.KeywordAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.MergePolicy;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexOutput;
+import org.apache.lucene.store.MergeInfo;
+import org.apache.lucene.store.RAMDirectory;
+import org.apache.lucene.util.Version;
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * @author Andres de la Pena <adelapena@stratio.com>
+ */
+public class ThrottledDirectoryTest {
+
+    @Test
+    public void testMergesWithoutMetadata() throws IOException {
+        ThrottledDirectory directory = new ThrottledDirectory(new RAMDirectory());
+        IndexWriterConfig config = new IndexWriterConfig(Version.LUCENE_48, new KeywordAnalyzer());
+        config.setMergeScheduler(new ThrottledMergeScheduler(null));
+        IndexWriter indexWriter = new IndexWriter(directory, config);
+        for (int i = 0; i < 10; i++) {
+            Document document = new Document();
+            document.add(new StringField("id", String.valueOf(i), Field.Store.YES));
+            indexWriter.addDocument(document);
+            indexWriter.commit();
+        }
+        indexWriter.forceMerge(1, true);
+        indexWriter.commit();
+        DirectoryReader reader = DirectoryReader.open(directory);
+        assertEquals(1, reader.leaves().size());
+        assertEquals(10, reader.numDocs());
+        reader.close();
+        indexWriter.close();
+        directory.close();
+    }
+
+    @Test
+    public void testStoppedMerge() throws IOException {
+        ThrottledMergeScheduler.Merge merge = new ThrottledMergeScheduler.Merge(null, 1000);
+        assertEquals(OperationType.INDEX_MERGE, merge.getCompactionInfo().getTaskType());
+        assertEquals(0, merge.getCompactionInfo().getCompleted());
+        assertEquals(1000, merge.getCompactionInfo().getTotal());
+        merge.stop();
+        try {
+            merge.written(1);
+            fail("Stopped merges should be aborted");
+        } catch (MergePolicy.MergeAbortedException e) {
+            // Expected
+        }
+    }
+
+    @Test
+    public void testNonMergeOutputsAreNotWrapped() throws IOException {
+        RAMDirectory ramDirectory = new RAMDirectory();
+        ThrottledDirectory directory = new ThrottledDirectory(ramDirectory);
+        IndexOutput output = directory.createOutput("test", new IOContext(new MergeInfo(1, 1, false, 1)));
+        assertEquals(ramDirectory.createOutput("other", IOContext.DEFAULT).getClass(), output.getClass());
+        output.close();
+        directory.close();
+    }
+}
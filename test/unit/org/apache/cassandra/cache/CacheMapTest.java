@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.cassandra.cache;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.googlecode.concurrentlinkedhashmap.EvictionListener;
+import com.googlecode.concurrentlinkedhashmap.Weighers;
+import org.apache.cassandra.config.Config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class CacheMapTest
+{
+    private static final int CAPACITY = 1000;
+    private static final int HOT_KEYS = 500;
+
+    private static CacheMap<Integer, Integer> create(Config.CachePolicy policy, EvictionListener<Integer, Integer> listener)
+    {
+        return new CacheMap<>(CAPACITY, Weighers.<Integer, Integer>entrySingleton(), listener, policy, 1);
+    }
+
+    private static void read(CacheMap<Integer, Integer> map, int key)
+    {
+        if (map.get(key) == null)
+            map.put(key, key);
+    }
+
+    /**
+     * Reads a hot set of keys a few times, then keeps reading them while scanning many more keys once each, four
+     * scanned keys for every hot one.
+     *
+     * @return the number of hot keys still cached after the scan
+     */
+    private static int hotKeysAfterScan(CacheMap<Integer, Integer> map)
+    {
+        for (int round = 0; round < 3; round++)
+        {
+            for (int key = 0; key < HOT_KEYS; key++)
+                read(map, key);
+        }
+
+        for (int key = HOT_KEYS; key < 100 * CAPACITY; key++)
+        {
+            read(map, key);
+            if (key % 4 == 0)
+                read(map, key / 4 % HOT_KEYS);
+        }
+
+        int hot = 0;
+        for (int key = 0; key < HOT_KEYS; key++)
+        {
+            if (map.get(key) != null)
+                hot++;
+        }
+        return hot;
+    }
+
+    @Test
+    public void testScanResistance()
+    {
+        CacheMap<Integer, Integer> lru = create(Config.CachePolicy.lru, null);
+        assertTrue(hotKeysAfterScan(lru) < HOT_KEYS / 2);
+        assertEquals(0, lru.admitted());
+        assertEquals(0, lru.rejected());
+
+        CacheMap<Integer, Integer> tinyLfu = create(Config.CachePolicy.tinylfu, null);
+        assertTrue(hotKeysAfterScan(tinyLfu) > HOT_KEYS * 0.9);
+        assertTrue(tinyLfu.rejected() > 0);
+        assertTrue(tinyLfu.admitted() > 0);
+        assertTrue(tinyLfu.weightedSize() <= CAPACITY);
+        assertEquals(CAPACITY, tinyLfu.capacity());
+    }
+
+    @Test
+    public void testOperations()
+    {
+        final List<Integer> evicted = new ArrayList<>();
+        CacheMap<Integer, Integer> map = create(Config.CachePolicy.tinylfu, new EvictionListener<Integer, Integer>()
+        {
+            public void onEviction(Integer key, Integer value)
+            {
+                evicted.add(key);
+            }
+        });
+
+        assertNull(map.put(1, 1));
+        assertEquals(1, (int) map.put(1, 2));
+        assertEquals(2, (int) map.putIfAbsent(1, 3));
+        assertNull(map.putIfAbsent(2, 2));
+        assertTrue(map.replace(2, 2, 4));
+        assertFalse(map.replace(2, 2, 5));
+        assertEquals(4, (int) map.get(2));
+        assertTrue(map.containsKey(1));
+        assertEquals(2, map.size());
+        assertEquals(2, map.keySet().size());
+        assertEquals(2, map.descendingKeySetWithLimit(10).size());
+
+        // removing through the key set passes the entries to the listener
+        Iterator<Integer> keys = map.keySet().iterator();
+        assertNotNull(keys.next());
+        keys.remove();
+        assertEquals(1, evicted.size());
+        assertEquals(1, map.size());
+
+        assertNotNull(map.remove(evicted.get(0) == 1 ? 2 : 1));
+        assertTrue(map.isEmpty());
+
+        // shrinking the capacity evicts from the main region
+        for (int key = 0; key < CAPACITY; key++)
+            map.put(key, key);
+        map.setCapacity(CAPACITY / 2);
+        assertEquals(CAPACITY / 2, map.capacity());
+        assertTrue(map.weightedSize() <= CAPACITY / 2);
+        assertEquals(CAPACITY, evicted.size() - 1 + map.size());
+    }
+
+    @Test
+    public void testFrequencySketch()
+    {
+        FrequencySketch<Integer> sketch = new FrequencySketch<>(512);
+        assertEquals(0, sketch.frequency(42));
+        for (int i = 0; i < 5; i++)
+            sketch.increment(42);
+        assertEquals(5, sketch.frequency(42));
+
+        // counters saturate
+        for (int i = 0; i < 100; i++)
+            sketch.increment(42);
+        assertEquals(FrequencySketch.MAX_FREQUENCY, sketch.frequency(42));
+
+        // and are halved once there have been enough increments
+        for (int key = 0; key < 10 * 512; key++)
+            sketch.increment(1000 + key);
+        assertTrue(sketch.frequency(42) <= FrequencySketch.MAX_FREQUENCY / 2);
+    }
+}
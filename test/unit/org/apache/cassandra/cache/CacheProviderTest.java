@@ -29,6 +29,7 @@ import java.util.UUID;
 import org.junit.Test;
 
 import org.apache.cassandra.SchemaLoader;
+import org.apache.cassandra.config.Config;
 import org.apache.cassandra.db.ArrayBackedSortedColumns;
 import org.apache.cassandra.db.ColumnFamily;
 
@@ -114,6 +115,15 @@ public class CacheProviderTest extends SchemaLoader
         simpleCase(cf, cache);
         concurrentCase(cf, cache);
     }
+
+    @Test
+    public void testSerializingCacheTinyLFU() throws InterruptedException
+    {
+        ICache<MeasureableString, IRowCacheEntry> cache = SerializingCache.create(CAPACITY, Weighers.<RefCountedMemory>singleton(), new SerializingCacheProvider.RowCacheSerializer(), Config.CachePolicy.tinylfu);
+        ColumnFamily cf = createCF();
+        simpleCase(cf, cache);
+        concurrentCase(cf, cache);
+    }
     
     @Test
     public void testKeys()
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.cassandra.cache;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ChunkCacheTest
+{
+    private static final String PATH = "/data/ks/cf/ks-cf-ka-1-Data.db";
+
+    private static byte[] chunk(int length, int value)
+    {
+        byte[] chunk = new byte[length];
+        Arrays.fill(chunk, (byte) value);
+        return chunk;
+    }
+
+    @Test
+    public void testAdmission()
+    {
+        ChunkCache cache = new ChunkCache(1024 * 1024);
+        byte[] chunk = chunk(1024, 7);
+        byte[] buffer = new byte[1024];
+
+        // the first miss is only remembered
+        assertEquals(-1, cache.read(PATH, 0, buffer));
+        cache.offer(PATH, 0, chunk, chunk.length);
+        assertEquals(0, cache.size());
+
+        // the second one admits the chunk
+        assertEquals(-1, cache.read(PATH, 0, buffer));
+        cache.offer(PATH, 0, chunk, chunk.length);
+        assertEquals(1, cache.size());
+        assertEquals(1024, cache.weightedSize());
+
+        assertEquals(1024, cache.read(PATH, 0, buffer));
+        assertArrayEquals(chunk, buffer);
+        assertEquals(-1, cache.read(PATH, 1024, buffer));
+    }
+
+    @Test
+    public void testScanDoesNotEvictHotChunks()
+    {
+        ChunkCache cache = new ChunkCache(4 * 1024);
+        byte[] chunk = chunk(1024, 1);
+        for (int i = 0; i < 4; i++)
+        {
+            cache.offer(PATH, i * 1024, chunk, chunk.length);
+            cache.offer(PATH, i * 1024, chunk, chunk.length);
+        }
+        assertEquals(4, cache.size());
+
+        // chunks read only once don't displace the cached ones
+        for (int i = 4; i < 100; i++)
+            cache.offer(PATH, i * 1024, chunk, chunk.length);
+        for (int i = 0; i < 4; i++)
+            assertEquals(1024, cache.read(PATH, i * 1024, new byte[1024]));
+
+        // but the capacity is respected when more chunks are admitted
+        for (int i = 4; i < 8; i++)
+            cache.offer(PATH, i * 1024, chunk, chunk.length);
+        assertTrue(cache.weightedSize() <= 4 * 1024);
+    }
+
+    @Test
+    public void testInvalidateFile()
+    {
+        ChunkCache cache = new ChunkCache(1024 * 1024);
+        String other = "/data/ks/cf/ks-cf-ka-2-Data.db";
+        byte[] chunk = chunk(1024, 3);
+        for (String path : Arrays.asList(PATH, other))
+        {
+            cache.offer(path, 0, chunk, chunk.length);
+            cache.offer(path, 0, chunk, chunk.length);
+        }
+        assertEquals(2, cache.size());
+
+        cache.invalidateFile(PATH);
+        assertEquals(1, cache.size());
+        assertEquals(-1, cache.read(PATH, 0, new byte[1024]));
+        assertEquals(1024, cache.read(other, 0, new byte[1024]));
+
+        cache.setCapacity(0);
+        assertEquals(0, cache.size());
+        cache.offer(PATH, 0, chunk, chunk.length);
+        cache.offer(PATH, 0, chunk, chunk.length);
+        assertEquals(0, cache.size());
+    }
+}
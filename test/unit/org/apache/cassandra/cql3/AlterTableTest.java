@@ -19,9 +19,15 @@ package org.apache.cassandra.cql3;
 
 import org.apache.cassandra.db.ColumnFamilyStore;
 import org.apache.cassandra.db.Keyspace;
+import org.apache.cassandra.exceptions.ConfigurationException;
+import org.apache.cassandra.utils.BlockedBloomFilter;
+import org.apache.cassandra.utils.FilterFactory;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 public class AlterTableTest extends CQLTester
 {
@@ -110,4 +116,41 @@ public class AlterTableTest extends CQLTester
         assertEquals(256, cfs.metadata.getMinIndexInterval());
         assertEquals(512, cfs.metadata.getMaxIndexInterval());
     }
+
+    @Test
+    public void testAlterBloomFilterType() throws Throwable
+    {
+        String tableName = createTable("CREATE TABLE %s (id int PRIMARY KEY, content text) WITH bloom_filter_type = 'blocked'");
+        ColumnFamilyStore cfs = Keyspace.open(KEYSPACE).getColumnFamilyStore(tableName);
+        cfs.disableAutoCompaction();
+        assertEquals(FilterFactory.Type.BLOCKED, cfs.metadata.getBloomFilterType());
+        assertRows(execute("SELECT bloom_filter_type FROM system.schema_columnfamilies WHERE keyspace_name = ? AND columnfamily_name = ?", KEYSPACE, tableName), row("blocked"));
+
+        execute("INSERT INTO %s (id, content) VALUES (1, 'first')");
+        cfs.forceBlockingFlush();
+        assertTrue(cfs.getSSTables().iterator().next().getBloomFilter() instanceof BlockedBloomFilter);
+        assertRows(execute("SELECT * FROM %s WHERE id = 1"), row(1, "first"));
+        assertEmpty(execute("SELECT * FROM %s WHERE id = 2"));
+
+        // the sstables written after the change get the new type of filter
+        alterTable("ALTER TABLE %s WITH bloom_filter_type = 'standard'");
+        assertEquals(FilterFactory.Type.STANDARD, cfs.metadata.getBloomFilterType());
+        // the default type isn't stored, so it doesn't change the schema digest of mixed version clusters
+        assertRows(execute("SELECT bloom_filter_type FROM system.schema_columnfamilies WHERE keyspace_name = ? AND columnfamily_name = ?", KEYSPACE, tableName), row((Object) null));
+        execute("INSERT INTO %s (id, content) VALUES (2, 'second')");
+        cfs.forceBlockingFlush();
+        cfs.forceMajorCompaction();
+        assertFalse(cfs.getSSTables().iterator().next().getBloomFilter() instanceof BlockedBloomFilter);
+        assertRows(execute("SELECT * FROM %s WHERE id = 1"), row(1, "first"));
+
+        try
+        {
+            alterTableMayThrow("ALTER TABLE %s WITH bloom_filter_type = 'cuckoo'");
+            fail();
+        }
+        catch (ConfigurationException e)
+        {
+            // expected
+        }
+    }
 }
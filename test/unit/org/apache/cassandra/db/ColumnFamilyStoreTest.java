@@ -58,6 +58,7 @@ import org.apache.cassandra.config.IndexType;
 import org.apache.cassandra.config.Schema;
 import org.apache.cassandra.cql3.Operator;
 import org.apache.cassandra.db.columniterator.IdentityQueryFilter;
+import org.apache.cassandra.db.commitlog.ReplayPosition;
 import org.apache.cassandra.db.composites.CellName;
 import org.apache.cassandra.db.composites.CellNameType;
 import org.apache.cassandra.db.composites.CellNames;
@@ -2199,4 +2200,34 @@ public class ColumnFamilyStoreTest extends SchemaLoader
         });
         System.err.println("Row key: " + rowKey + " Cols: " + transformed);
     }
+
+    @Test
+    public void testSplitFlush() throws Exception
+    {
+        ColumnFamilyStore cfs = Keyspace.open("Keyspace1").getColumnFamilyStore("StandardLong2");
+        cfs.clearUnsafe();
+        for (int i = 0; i < 100; i++)
+        {
+            Mutation rm = new Mutation("Keyspace1", ByteBufferUtil.bytes(i));
+            rm.add("StandardLong2", cellname("c"), ByteBufferUtil.bytes(i), 0);
+            rm.apply();
+        }
+
+        // as if there were 3 data directories
+        File directory = cfs.directories.getDirectoryForNewSSTables();
+        Memtable memtable = cfs.getDataTracker().getView().getCurrentMemtable();
+        List<SSTableReader> sstables = memtable.new FlushRunnable(ReplayPosition.NONE).writeSortedContents(ReplayPosition.NONE, Arrays.asList(directory, directory, directory));
+        assertEquals(3, sstables.size());
+        for (int i = 1; i < sstables.size(); i++)
+            assertTrue(sstables.get(i - 1).last.compareTo(sstables.get(i).first) < 0);
+
+        cfs.clearUnsafe();
+        cfs.addSSTables(sstables);
+        assertEquals(100, Util.getRangeSlice(cfs).size());
+        for (int i = 0; i < 100; i++)
+        {
+            ColumnFamily cf = cfs.getColumnFamily(QueryFilter.getIdentityFilter(dk(ByteBufferUtil.bytes(i)), "StandardLong2", System.currentTimeMillis()));
+            assertEquals(i, ByteBufferUtil.toInt(cf.getColumn(cellname("c")).value()));
+        }
+    }
 }
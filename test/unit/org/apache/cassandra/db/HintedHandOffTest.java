@@ -20,7 +20,12 @@
  */
 package org.apache.cassandra.db;
 
+import java.io.File;
+import java.io.RandomAccessFile;
 import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -30,13 +35,22 @@ import com.google.common.collect.Iterators;
 
 import org.apache.cassandra.SchemaLoader;
 import org.apache.cassandra.Util;
+import org.apache.cassandra.config.Config;
+import org.apache.cassandra.config.DatabaseDescriptor;
 import org.apache.cassandra.cql3.UntypedResultSet;
-import org.apache.cassandra.db.compaction.SizeTieredCompactionStrategy;
+import org.apache.cassandra.db.hints.Hint;
+import org.apache.cassandra.db.hints.HintsDescriptor;
+import org.apache.cassandra.db.hints.HintsReader;
+import org.apache.cassandra.db.hints.HintsStore;
 import org.apache.cassandra.db.marshal.Int32Type;
 import org.apache.cassandra.db.marshal.UUIDType;
+import org.apache.cassandra.dht.IPartitioner;
+import org.apache.cassandra.service.StorageService;
 import org.apache.cassandra.utils.ByteBufferUtil;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.apache.cassandra.cql3.QueryProcessor.executeInternal;
 
 public class HintedHandOffTest extends SchemaLoader
@@ -46,38 +60,214 @@ public class HintedHandOffTest extends SchemaLoader
     public static final String STANDARD1_CF = "Standard1";
     public static final String COLUMN1 = "column1";
 
-    // Test compaction of hints column family. It shouldn't remove all columns on compaction.
     @Test
-    public void testCompactionOfHintsCF() throws Exception
+    public void testHintsFiles() throws Exception
     {
-        // prepare hints column family
-        Keyspace systemKeyspace = Keyspace.open("system");
-        ColumnFamilyStore hintStore = systemKeyspace.getColumnFamilyStore(SystemKeyspace.HINTS_CF);
+        HintedHandOffManager.instance.truncateAllHints();
+        UUID hostId = UUID.randomUUID();
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < 10; i++)
+        {
+            Mutation rm = new Mutation(KEYSPACE4, ByteBufferUtil.bytes(i));
+            rm.add(STANDARD1_CF, Util.cellname(COLUMN1), ByteBufferUtil.EMPTY_BYTE_BUFFER, now);
+            HintedHandOffManager.instance.writeHint(rm, now, HintedHandOffManager.calculateHintTTL(rm), hostId);
+        }
+        // the token of the host in the hints table, as reported by previous versions
+        IPartitioner partitioner = StorageService.getPartitioner();
+        String token = partitioner.getTokenFactory().toString(partitioner.getToken(UUIDType.instance.decompose(hostId)));
+        assertEquals(Collections.singletonList(token), HintedHandOffManager.instance.listEndpointsPendingHints());
+        assertEquals(10, readHints(hostId).size());
+
+        // a partially written entry ends the file
+        HintsStore store = getStore(hostId);
+        HintsDescriptor descriptor = store.getFiles().get(0);
+        File file = store.getFile(descriptor);
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw"))
+        {
+            raf.setLength(file.length() - 1);
+        }
+        List<Hint> hints = readHints(hostId);
+        assertEquals(9, hints.size());
+        assertEquals(now, hints.get(0).creationTime);
+        assertEquals(ByteBufferUtil.bytes(0), hints.get(0).mutation.key());
+
+        HintedHandOffManager.instance.truncateAllHints();
+        assertFalse(file.exists());
+        assertTrue(HintedHandOffManager.instance.listEndpointsPendingHints().isEmpty());
+    }
+
+    @Test
+    public void testSyncOnWriteWithBatchCommitLog() throws Exception
+    {
+        assertEquals(Config.CommitLogSync.batch, DatabaseDescriptor.getCommitLogSync());
+        HintedHandOffManager.instance.truncateAllHints();
+        UUID hostId = UUID.randomUUID();
+        long now = System.currentTimeMillis();
+        HintedHandOffManager.instance.writeHint(makeMutation(0, now), now, 3600, hostId);
+
+        // the hint is on disk without waiting for the hints to be synced
+        HintsStore store = getStore(hostId);
+        HintsDescriptor descriptor = store.getFiles().get(0);
+        HintsReader reader = HintsReader.open(store.getFile(descriptor), descriptor, 0);
+        try
+        {
+            assertEquals(ByteBufferUtil.bytes(0), reader.readHint().mutation.key());
+        }
+        finally
+        {
+            reader.close();
+        }
+        HintedHandOffManager.instance.truncateAllHints();
+    }
+
+    @Test
+    public void testConcurrentSyncsAreShared() throws Exception
+    {
+        UUID hostId = UUID.randomUUID();
+        final HintsStore store = new HintsStore(hostId, new File(DatabaseDescriptor.getHintsLocation()));
+        final byte[] hint = new byte[100];
+        store.write(hint, hint.length);
+        store.sync();
+        assertEquals(1, store.syncCount());
+
+        // a hint synced by another caller isn't synced again
+        store.sync();
+        assertEquals(1, store.syncCount());
+
+        Thread[] threads = new Thread[8];
+        for (int i = 0; i < threads.length; i++)
+        {
+            threads[i] = new Thread()
+            {
+                public void run()
+                {
+                    for (int j = 0; j < 100; j++)
+                    {
+                        store.write(hint, hint.length);
+                        store.sync();
+                    }
+                }
+            };
+            threads[i].start();
+        }
+        for (Thread thread : threads)
+            thread.join();
+
+        // every hint has been written to the file by the time its sync returned
+        assertTrue(store.syncCount() <= 1 + threads.length * 100);
+        HintsDescriptor descriptor = getStore(hostId).getFiles().get(0);
+        assertEquals((1 + threads.length * 100) * (4 + 4 + hint.length + 4), store.getFile(descriptor).length());
+        store.deleteAll();
+    }
+
+    @Test
+    public void testDeliveredOffsetSurvivesRestart() throws Exception
+    {
+        HintedHandOffManager.instance.truncateAllHints();
+        UUID hostId = UUID.randomUUID();
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < 10; i++)
+            HintedHandOffManager.instance.writeHint(makeMutation(i, now), now, 3600, hostId);
+        HintedHandOffManager.instance.sync();
+
+        HintsStore store = getStore(hostId);
+        HintsDescriptor descriptor = store.getFiles().get(0);
+        HintsReader reader = HintsReader.open(store.getFile(descriptor), descriptor, 0);
+        for (int i = 0; i < 4; i++)
+            reader.readHint();
+        long position = reader.getPosition();
+        reader.close();
+        store.markDelivered(descriptor, position);
+
+        // a store opened on restart resumes delivery after the delivered hints
+        HintsStore restarted = getStore(hostId);
+        assertEquals(position, restarted.getDeliveredOffset(descriptor));
+        reader = HintsReader.open(restarted.getFile(descriptor), descriptor, restarted.getDeliveredOffset(descriptor));
+        assertEquals(ByteBufferUtil.bytes(4), reader.readHint().mutation.key());
+        reader.close();
+
+        // a torn offset file makes the file delivered again from its start
+        try (RandomAccessFile raf = new RandomAccessFile(store.getOffsetFile(descriptor), "rw"))
+        {
+            raf.setLength(6);
+        }
+        assertEquals(0, getStore(hostId).getDeliveredOffset(descriptor));
+
+        HintedHandOffManager.instance.truncateAllHints();
+        assertFalse(store.getOffsetFile(descriptor).exists());
+    }
+
+    @Test
+    public void testMigrateLegacyHints() throws Exception
+    {
+        HintedHandOffManager.instance.truncateAllHints();
+        ColumnFamilyStore hintStore = Keyspace.open("system").getColumnFamilyStore(SystemKeyspace.HINTS_CF);
         hintStore.clearUnsafe();
-        hintStore.metadata.gcGraceSeconds(36000); // 10 hours
-        hintStore.setCompactionStrategyClass(SizeTieredCompactionStrategy.class.getCanonicalName());
-        hintStore.disableAutoCompaction();
 
-        // insert 1 hint
-        Mutation rm = new Mutation(KEYSPACE4, ByteBufferUtil.bytes(1));
-        rm.add(STANDARD1_CF, Util.cellname(COLUMN1), ByteBufferUtil.EMPTY_BYTE_BUFFER, System.currentTimeMillis());
+        UUID hostId = UUID.randomUUID();
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < 3; i++)
+        {
+            Mutation rm = new Mutation(KEYSPACE4, ByteBufferUtil.bytes(i));
+            rm.add(STANDARD1_CF, Util.cellname(COLUMN1), ByteBufferUtil.EMPTY_BYTE_BUFFER, now);
+            HintedHandOffManager.legacyHintFor(rm, now, 3600, hostId).applyUnsafe();
+        }
+        assertEquals(3, getNoOfLegacyHints());
+
+        HintedHandOffManager.instance.migrateLegacyHints();
+        assertEquals(0, getNoOfLegacyHints());
+        List<Hint> hints = readHints(hostId);
+        assertEquals(3, hints.size());
+        for (Hint hint : hints)
+        {
+            assertEquals(now, hint.creationTime);
+            assertEquals(3600, hint.ttl);
+        }
+    }
 
-        HintedHandOffManager.instance.hintFor(rm,
-                                              System.currentTimeMillis(),
-                                              HintedHandOffManager.calculateHintTTL(rm),
-                                              UUID.randomUUID())
-                                     .apply();
+    @Test
+    public void testMigrateLegacyHintsWhileStreamed() throws Exception
+    {
+        HintedHandOffManager.instance.truncateAllHints();
+        ColumnFamilyStore hintStore = Keyspace.open("system").getColumnFamilyStore(SystemKeyspace.HINTS_CF);
+        hintStore.clearUnsafe();
 
-        // flush data to disk
+        UUID hostId = UUID.randomUUID();
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < 1000; i++)
+            HintedHandOffManager.legacyHintFor(makeMutation(i, now), now, 3600, hostId).applyUnsafe();
         hintStore.forceBlockingFlush();
-        assertEquals(1, hintStore.getSSTables().size());
 
-        // submit compaction
-        HintedHandOffManager.instance.compact();
+        // hints streamed in by a decommissioned node while the migration runs
+        Thread migration = new Thread(new Runnable()
+        {
+            public void run()
+            {
+                HintedHandOffManager.instance.migrateLegacyHints();
+            }
+        });
+        UUID streamedHostId = UUID.randomUUID();
+        int streamed = 0;
+        migration.start();
+        while (migration.isAlive() && streamed < 1000)
+            HintedHandOffManager.legacyHintFor(makeMutation(streamed++, now), now, 3600, streamedHostId).applyUnsafe();
+        migration.join();
 
-        // single row should not be removed because of gc_grace_seconds
-        // is 10 hours and there are no any tombstones in sstable
-        assertEquals(1, hintStore.getSSTables().size());
+        assertEquals(1000, readHints(hostId).size());
+        assertEquals(streamed, readHints(streamedHostId).size() + getNoOfLegacyHints());
+
+        // the hints that haven't been migrated yet are moved by the next migration
+        HintedHandOffManager.instance.migrateLegacyHints();
+        assertEquals(streamed, readHints(streamedHostId).size());
+        assertEquals(0, getNoOfLegacyHints());
+        assertTrue(hintStore.getSnapshotDetails().isEmpty());
+    }
+
+    private static Mutation makeMutation(int key, long now)
+    {
+        Mutation rm = new Mutation(KEYSPACE4, ByteBufferUtil.bytes(key));
+        rm.add(STANDARD1_CF, Util.cellname(COLUMN1), ByteBufferUtil.EMPTY_BYTE_BUFFER, now);
+        return rm;
     }
 
     @Test
@@ -95,33 +285,63 @@ public class HintedHandOffTest extends SchemaLoader
     @Test(timeout = 5000)
     public void testTruncateHints() throws Exception
     {
-        Keyspace systemKeyspace = Keyspace.open("system");
-        ColumnFamilyStore hintStore = systemKeyspace.getColumnFamilyStore(SystemKeyspace.HINTS_CF);
-        hintStore.clearUnsafe();
-
         // insert 1 hint
         Mutation rm = new Mutation(KEYSPACE4, ByteBufferUtil.bytes(1));
         rm.add(STANDARD1_CF, Util.cellname(COLUMN1), ByteBufferUtil.EMPTY_BYTE_BUFFER, System.currentTimeMillis());
 
-        HintedHandOffManager.instance.hintFor(rm,
-                                              System.currentTimeMillis(),
-                                              HintedHandOffManager.calculateHintTTL(rm),
-                                              UUID.randomUUID())
-                                     .apply();
+        HintedHandOffManager.instance.writeHint(rm,
+                                                System.currentTimeMillis(),
+                                                HintedHandOffManager.calculateHintTTL(rm),
+                                                UUID.randomUUID());
 
-        assert getNoOfHints() == 1;
+        assertFalse(HintedHandOffManager.instance.listEndpointsPendingHints().isEmpty());
+        assertTrue(HintedHandOffManager.instance.getHintsSize() > 0);
 
         HintedHandOffManager.instance.truncateAllHints();
 
-        while(getNoOfHints() > 0)
+        assertTrue(HintedHandOffManager.instance.listEndpointsPendingHints().isEmpty());
+        assertEquals(0, HintedHandOffManager.instance.getHintsSize());
+    }
+
+    private static HintsStore getStore(UUID hostId)
+    {
+        File directory = new File(DatabaseDescriptor.getHintsLocation());
+        HintsStore store = new HintsStore(hostId, directory);
+        for (File file : directory.listFiles())
         {
-            Thread.sleep(100);
+            HintsDescriptor descriptor = HintsDescriptor.fromFileName(file.getName());
+            if (descriptor != null && descriptor.hostId.equals(hostId))
+                store.addFile(descriptor);
         }
+        return store;
+    }
 
-        assert getNoOfHints() == 0;
+    private static List<Hint> readHints(UUID hostId)
+    {
+        HintedHandOffManager.instance.sync();
+        List<Hint> hints = new ArrayList<>();
+        File directory = new File(DatabaseDescriptor.getHintsLocation());
+        for (File file : directory.listFiles())
+        {
+            HintsDescriptor descriptor = HintsDescriptor.fromFileName(file.getName());
+            if (descriptor == null || !descriptor.hostId.equals(hostId))
+                continue;
+            HintsReader reader = HintsReader.open(file, descriptor, 0);
+            try
+            {
+                Hint hint;
+                while ((hint = reader.readHint()) != null)
+                    hints.add(hint);
+            }
+            finally
+            {
+                reader.close();
+            }
+        }
+        return hints;
     }
 
-    private int getNoOfHints()
+    private int getNoOfLegacyHints()
     {
         String req = "SELECT * FROM system.%s";
         UntypedResultSet resultSet = executeInternal(String.format(req, SystemKeyspace.HINTS_CF));
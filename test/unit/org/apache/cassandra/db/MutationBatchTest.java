@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.cassandra.db;
+
+import java.io.DataInputStream;
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Test;
+
+import org.apache.cassandra.SchemaLoader;
+import org.apache.cassandra.db.filter.QueryFilter;
+import org.apache.cassandra.io.util.DataOutputBuffer;
+import org.apache.cassandra.io.util.FastByteArrayInputStream;
+import org.apache.cassandra.net.MessageIn;
+import org.apache.cassandra.net.MessageOut;
+import org.apache.cassandra.net.MessagingService;
+import org.apache.cassandra.sink.IMessageSink;
+import org.apache.cassandra.sink.SinkManager;
+import org.apache.cassandra.utils.FBUtilities;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import static org.apache.cassandra.Util.cellname;
+import static org.apache.cassandra.Util.dk;
+import static org.apache.cassandra.utils.ByteBufferUtil.bytes;
+
+public class MutationBatchTest extends SchemaLoader
+{
+    private static final String KS = "Keyspace1";
+    private static final String CF = "Standard1";
+
+    @After
+    public void clearSinks()
+    {
+        SinkManager.clear();
+    }
+
+    @Test
+    public void testApplyAndAcknowledgeEach() throws Exception
+    {
+        ColumnFamilyStore cfs = Keyspace.open(KS).getColumnFamilyStore(CF);
+        cfs.truncateBlocking();
+
+        MutationBatch batch = new MutationBatch();
+        for (int i = 0; i < 3; i++)
+        {
+            Mutation mutation = new Mutation(KS, bytes("key" + i));
+            mutation.add(CF, cellname("c"), bytes(i), 0);
+            batch.add(10 + i, mutation);
+        }
+
+        // round trip the batch, as a replica receives it
+        DataOutputBuffer out = new DataOutputBuffer();
+        MutationBatch.serializer.serialize(batch, out, MessagingService.current_version);
+        assertEquals(out.getLength(), MutationBatch.serializer.serializedSize(batch, MessagingService.current_version));
+        MutationBatch received = MutationBatch.serializer.deserialize(new DataInputStream(new FastByteArrayInputStream(out.getData(), 0, out.getLength())),
+                                                                      MessagingService.current_version);
+        assertEquals(3, received.size());
+
+        // every mutation is acknowledged to its own callback on the coordinator
+        final List<Integer> acknowledged = new ArrayList<>();
+        SinkManager.add(new IMessageSink()
+        {
+            public MessageOut handleMessage(MessageOut message, int id, InetAddress to)
+            {
+                if (message.verb == MessagingService.Verb.REQUEST_RESPONSE)
+                    acknowledged.add(id);
+                return null;
+            }
+
+            public MessageIn handleMessage(MessageIn message, int id, InetAddress to)
+            {
+                return message;
+            }
+        });
+        InetAddress coordinator = FBUtilities.getBroadcastAddress();
+        new MutationBatchVerbHandler().doVerb(MessageIn.create(coordinator,
+                                                               received,
+                                                               Collections.<String, byte[]>emptyMap(),
+                                                               MessagingService.Verb.MUTATION_BATCH,
+                                                               MessagingService.current_version),
+                                              0);
+        assertEquals(3, acknowledged.size());
+        for (int i = 0; i < 3; i++)
+        {
+            assertEquals(10 + i, (int) acknowledged.get(i));
+            ColumnFamily cf = cfs.getColumnFamily(QueryFilter.getIdentityFilter(dk("key" + i), CF, System.currentTimeMillis()));
+            assertNotNull(cf);
+            assertEquals(bytes(i), cf.getColumn(cellname("c")).value());
+        }
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.cassandra.db;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import org.apache.cassandra.SchemaLoader;
+import org.apache.cassandra.Util;
+import org.apache.cassandra.config.DatabaseDescriptor;
+import org.apache.cassandra.cql3.Operator;
+import org.apache.cassandra.db.columniterator.IdentityQueryFilter;
+import org.apache.cassandra.db.composites.Composites;
+import org.apache.cassandra.db.filter.ExtendedFilter;
+import org.apache.cassandra.db.filter.SliceQueryFilter;
+import org.apache.cassandra.dht.AbstractBounds;
+import org.apache.cassandra.dht.Bounds;
+import org.apache.cassandra.utils.ByteBufferUtil;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import static org.apache.cassandra.Util.cellname;
+
+public class ParallelScanIteratorTest extends SchemaLoader
+{
+    private static final String KS = "Keyspace1";
+    private static final String CF = "Standard1";
+    private static final int ROWS = 4000;
+
+    @BeforeClass
+    public static void insertRows()
+    {
+        for (int i = 0; i < ROWS; i++)
+        {
+            Mutation rm = new Mutation(KS, ByteBufferUtil.bytes("key" + i));
+            for (int j = 0; j < 3; j++)
+                rm.add(CF, cellname("c" + j), ByteBufferUtil.bytes("value" + i), 0);
+            rm.applyUnsafe();
+        }
+        Keyspace.open(KS).getColumnFamilyStore(CF).forceBlockingFlush();
+    }
+
+    @After
+    public void resetParallelism()
+    {
+        DatabaseDescriptor.setRangeScanParallelism(1);
+    }
+
+    @Test
+    public void testSplit()
+    {
+        ColumnFamilyStore cfs = Keyspace.open(KS).getColumnFamilyStore(CF);
+        DataRange range = new DataRange(Util.range("", ""), new IdentityQueryFilter());
+        List<DataRange> subRanges = ParallelScanIterator.split(cfs, range, 4);
+
+        assertTrue(subRanges.size() > 1);
+        assertEquals(range.startKey(), subRanges.get(0).startKey());
+        assertEquals(range.stopKey(), subRanges.get(subRanges.size() - 1).stopKey());
+        for (int i = 1; i < subRanges.size(); i++)
+            assertEquals(subRanges.get(i - 1).stopKey(), subRanges.get(i).startKey());
+
+        // a range that has no sample isn't split
+        DecoratedKey key = Util.dk("key0");
+        assertEquals(1, ParallelScanIterator.split(cfs, new DataRange(new Bounds<RowPosition>(key, key), new IdentityQueryFilter()), 4).size());
+    }
+
+    @Test
+    public void testScanMatchesSequentialScan()
+    {
+        ColumnFamilyStore cfs = Keyspace.open(KS).getColumnFamilyStore(CF);
+        AbstractBounds<RowPosition> range = Util.range("", "");
+
+        List<Row> sequential = cfs.getRangeSlice(range, null, new IdentityQueryFilter(), ROWS * 2);
+        assertEquals(ROWS, sequential.size());
+
+        DatabaseDescriptor.setRangeScanParallelism(4);
+        assertRowsEqual(sequential, cfs.getRangeSlice(range, null, new IdentityQueryFilter(), ROWS * 2));
+
+        // with a limit on the rows
+        DatabaseDescriptor.setRangeScanParallelism(1);
+        sequential = cfs.getRangeSlice(range, null, new IdentityQueryFilter(), 1000);
+        DatabaseDescriptor.setRangeScanParallelism(4);
+        assertRowsEqual(sequential, cfs.getRangeSlice(range, null, new IdentityQueryFilter(), 1000));
+    }
+
+    @Test
+    public void testCQL3RowsLimit()
+    {
+        ColumnFamilyStore cfs = Keyspace.open(KS).getColumnFamilyStore(CF);
+        AbstractBounds<RowPosition> range = Util.range("", "");
+
+        // 1000 cells end in the middle of the 334th partition, which has to be cut
+        List<Row> sequential = cfs.getRangeSlice(makeFilter(cfs, range, 1000, false));
+        assertEquals(334, sequential.size());
+        assertEquals(1, sequential.get(333).cf.getColumnCount());
+
+        DatabaseDescriptor.setRangeScanParallelism(4);
+        assertRowsEqual(sequential, cfs.getRangeSlice(makeFilter(cfs, range, 1000, false)));
+
+        // and when paging from the middle of a partition
+        DatabaseDescriptor.setRangeScanParallelism(1);
+        range = new Bounds<RowPosition>(sequential.get(10).key, Util.rp(""));
+        sequential = cfs.getRangeSlice(makeFilter(cfs, range, 1000, true));
+        assertEquals(2, sequential.get(0).cf.getColumnCount());
+
+        DatabaseDescriptor.setRangeScanParallelism(4);
+        assertRowsEqual(sequential, cfs.getRangeSlice(makeFilter(cfs, range, 1000, true)));
+    }
+
+    @Test
+    public void testCQL3RowsLimitWithClause()
+    {
+        ColumnFamilyStore cfs = Keyspace.open(KS).getColumnFamilyStore(CF);
+        AbstractBounds<RowPosition> range = Util.range("", "");
+        List<IndexExpression> clause = Collections.singletonList(new IndexExpression(ByteBufferUtil.bytes("c0"),
+                                                                                     Operator.GTE,
+                                                                                     ByteBufferUtil.bytes("value5")));
+
+        // only the matching partitions count towards the limit, the 100 cells end in the middle of the 34th one
+        List<Row> sequential = cfs.getRangeSlice(makeFilter(cfs, range, clause, 100, false));
+        assertEquals(34, sequential.size());
+        assertEquals(1, sequential.get(33).cf.getColumnCount());
+
+        DatabaseDescriptor.setRangeScanParallelism(4);
+        assertRowsEqual(sequential, cfs.getRangeSlice(makeFilter(cfs, range, clause, 100, false)));
+
+        // and when paging from the middle of a partition
+        DatabaseDescriptor.setRangeScanParallelism(1);
+        DecoratedKey start = sequential.get(10).key;
+        range = new Bounds<RowPosition>(start, Util.rp(""));
+        sequential = cfs.getRangeSlice(makeFilter(cfs, range, clause, 100, true));
+        assertEquals(start, sequential.get(0).key);
+
+        DatabaseDescriptor.setRangeScanParallelism(4);
+        assertRowsEqual(sequential, cfs.getRangeSlice(makeFilter(cfs, range, clause, 100, true)));
+    }
+
+    private static ExtendedFilter makeFilter(ColumnFamilyStore cfs, AbstractBounds<RowPosition> range, int limit, boolean isPaging)
+    {
+        return makeFilter(cfs, range, null, limit, isPaging);
+    }
+
+    private static ExtendedFilter makeFilter(ColumnFamilyStore cfs, AbstractBounds<RowPosition> range, List<IndexExpression> clause, int limit, boolean isPaging)
+    {
+        SliceQueryFilter filter = isPaging
+                                ? new SliceQueryFilter(cellname("c1"), Composites.EMPTY, false, limit)
+                                : new SliceQueryFilter(Composites.EMPTY, Composites.EMPTY, false, limit);
+        return cfs.makeExtendedFilter(range, filter, clause, limit, true, isPaging, System.currentTimeMillis());
+    }
+
+    private static void assertRowsEqual(List<Row> expected, List<Row> actual)
+    {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++)
+        {
+            assertEquals(expected.get(i).key, actual.get(i).key);
+            assertEquals(expected.get(i).cf, actual.get(i).cf);
+        }
+    }
+}
@@ -18,8 +18,11 @@
 */
 package org.apache.cassandra.db;
 
+import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.Date;
+import java.util.Random;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.cassandra.OrderedJUnit4ClassRunner;
@@ -29,8 +32,12 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 
 import org.apache.cassandra.SchemaLoader;
+import org.apache.cassandra.config.DatabaseDescriptor;
 import org.apache.cassandra.db.commitlog.CommitLog;
 import org.apache.cassandra.db.commitlog.CommitLogArchiver;
+import org.apache.cassandra.db.commitlog.CommitLogDescriptor;
+import org.apache.cassandra.db.commitlog.CommitLogSegment;
+import org.apache.cassandra.io.compress.LZ4Compressor;
 
 import static org.apache.cassandra.Util.column;
 import static org.apache.cassandra.db.KeyspaceTest.assertColumns;
@@ -109,6 +116,120 @@ public class RecoveryManagerTest extends SchemaLoader
         assert ((CounterCell)c).total() == 10L;
     }
 
+    @Test
+    public void testRecoverMultipleSegments() throws IOException
+    {
+        CommitLog.instance.resetUnsafe();
+        Keyspace keyspace1 = Keyspace.open("Keyspace1");
+
+        // write enough data to span several segments, so that they are read concurrently
+        ByteBuffer value = ByteBuffer.allocate(128 * 1024);
+        DecoratedKey counterKey = Util.dk("counterkey");
+        for (int i = 0; i < 100; ++i)
+        {
+            ColumnFamily cf = ArrayBackedSortedColumns.factory.create("Keyspace1", "Standard1");
+            cf.addColumn(new BufferCell(cellname("col"), value, i));
+            new Mutation("Keyspace1", Util.dk("key" + i).getKey(), cf).apply();
+
+            cf = ArrayBackedSortedColumns.factory.create("Keyspace1", "Counter1");
+            cf.addColumn(BufferCounterCell.createLocal(cellname("col"), 1L, 1L, Long.MIN_VALUE));
+            new Mutation("Keyspace1", counterKey.getKey(), cf).apply();
+        }
+        Assert.assertTrue(new File(DatabaseDescriptor.getCommitLogLocation()).listFiles().length > 1);
+
+        keyspace1.getColumnFamilyStore("Standard1").clearUnsafe();
+        keyspace1.getColumnFamilyStore("Counter1").clearUnsafe();
+        CommitLog.instance.resetUnsafe(); // disassociate segments from live CL
+        Assert.assertEquals(200, CommitLog.instance.recover());
+
+        for (int i = 0; i < 100; ++i)
+            assertColumns(Util.getColumnFamily(keyspace1, Util.dk("key" + i), "Standard1"), "col");
+        ColumnFamily cf = Util.getColumnFamily(keyspace1, counterKey, "Counter1");
+        Assert.assertEquals(100L, ((CounterCell) cf.getColumn(cellname("col"))).total());
+    }
+
+    @Test
+    public void testRecoverCompressed() throws IOException
+    {
+        DatabaseDescriptor.setCommitLogCompressor(LZ4Compressor.class.getName());
+        try
+        {
+            CommitLog.instance.resetUnsafe();
+            Keyspace keyspace1 = Keyspace.open("Keyspace1");
+
+            ByteBuffer value = ByteBuffer.allocate(128 * 1024);
+            for (int i = 0; i < 100; ++i)
+            {
+                ColumnFamily cf = ArrayBackedSortedColumns.factory.create("Keyspace1", "Standard1");
+                cf.addColumn(new BufferCell(cellname("col"), value, i));
+                new Mutation("Keyspace1", Util.dk("compressed" + i).getKey(), cf).apply();
+            }
+
+            // the segments only hold the compressed chunks synced so far
+            long compressedSize = 0;
+            for (File file : new File(DatabaseDescriptor.getCommitLogLocation()).listFiles())
+            {
+                CommitLogDescriptor descriptor = CommitLogDescriptor.fromHeader(file);
+                if (descriptor != null && descriptor.compressorClass != null)
+                    compressedSize += file.length();
+            }
+            Assert.assertTrue(compressedSize > 0);
+            Assert.assertTrue(compressedSize < 100 * value.capacity() / 10);
+
+            keyspace1.getColumnFamilyStore("Standard1").clearUnsafe();
+            CommitLog.instance.resetUnsafe(); // disassociate segments from live CL
+            Assert.assertEquals(100, CommitLog.instance.recover());
+
+            for (int i = 0; i < 100; ++i)
+                assertColumns(Util.getColumnFamily(keyspace1, Util.dk("compressed" + i), "Standard1"), "col");
+        }
+        finally
+        {
+            DatabaseDescriptor.setCommitLogCompressor(null);
+            CommitLog.instance.resetUnsafe();
+        }
+    }
+
+    @Test
+    public void testRecoverCompressedWithReusedBuffers() throws IOException
+    {
+        DatabaseDescriptor.setCommitLogCompressor(LZ4Compressor.class.getName());
+        try
+        {
+            CommitLog.instance.resetUnsafe();
+            Keyspace keyspace1 = Keyspace.open("Keyspace1");
+
+            // incompressible values filling several segments, so that the buffers of the closed ones are reused
+            Random random = new Random(0);
+            ByteBuffer[] values = new ByteBuffer[100];
+            for (int i = 0; i < values.length; ++i)
+            {
+                byte[] bytes = new byte[256 * 1024];
+                random.nextBytes(bytes);
+                values[i] = ByteBuffer.wrap(bytes);
+                ColumnFamily cf = ArrayBackedSortedColumns.factory.create("Keyspace1", "Standard1");
+                cf.addColumn(new BufferCell(cellname("col"), values[i], i));
+                new Mutation("Keyspace1", Util.dk("reused" + i).getKey(), cf).apply();
+            }
+            Assert.assertTrue(CommitLogSegment.pooledBuffers() <= 2);
+
+            keyspace1.getColumnFamilyStore("Standard1").clearUnsafe();
+            CommitLog.instance.resetUnsafe(); // disassociate segments from live CL
+            Assert.assertEquals(values.length, CommitLog.instance.recover());
+
+            for (int i = 0; i < values.length; ++i)
+            {
+                ColumnFamily cf = Util.getColumnFamily(keyspace1, Util.dk("reused" + i), "Standard1");
+                Assert.assertEquals(values[i], cf.getColumn(cellname("col")).value());
+            }
+        }
+        finally
+        {
+            DatabaseDescriptor.setCommitLogCompressor(null);
+            CommitLog.instance.resetUnsafe();
+        }
+    }
+
     @Test
     public void testRecoverPIT() throws Exception
     {
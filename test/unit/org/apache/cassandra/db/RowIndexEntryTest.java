@@ -17,17 +17,34 @@
  */
 package org.apache.cassandra.db;
 
+import java.io.DataInputStream;
+import java.io.File;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
 
 import junit.framework.Assert;
 import org.apache.cassandra.SchemaLoader;
+import org.apache.cassandra.cache.ICache;
+import org.apache.cassandra.cache.KeyCacheKey;
+import org.apache.cassandra.cache.SerializingCacheProvider;
+import org.apache.cassandra.config.CFMetaData;
+import org.apache.cassandra.config.Config;
 import org.apache.cassandra.config.DatabaseDescriptor;
+import org.apache.cassandra.config.Schema;
+import org.apache.cassandra.db.composites.CType;
 import org.apache.cassandra.db.composites.CellNames;
+import org.apache.cassandra.db.composites.Composite;
 import org.apache.cassandra.db.composites.SimpleDenseCellNameType;
 import org.apache.cassandra.db.marshal.UTF8Type;
+import org.apache.cassandra.io.sstable.Descriptor;
+import org.apache.cassandra.io.sstable.IndexHelper;
 import org.apache.cassandra.io.util.DataOutputBuffer;
+import org.apache.cassandra.io.util.FastByteArrayInputStream;
 import org.apache.cassandra.utils.ByteBufferUtil;
 import org.apache.cassandra.utils.FBUtilities;
+import org.apache.cassandra.utils.vint.EncodedDataInputStream;
+import org.apache.cassandra.utils.vint.EncodedDataOutputStream;
 import org.junit.Test;
 
 public class RowIndexEntryTest extends SchemaLoader
@@ -45,8 +62,16 @@ public class RowIndexEntryTest extends SchemaLoader
         Assert.assertEquals(buffer.getLength(), serializer.serializedSize(simple));
 
         buffer = new DataOutputBuffer();
+        RowIndexEntry withIndex = RowIndexEntry.create(0xdeadbeef, DeletionTime.LIVE, columnIndex());
+
+        serializer.serialize(withIndex, buffer);
+        Assert.assertEquals(buffer.getLength(), serializer.serializedSize(withIndex));
+    }
+
+    private static ColumnIndex columnIndex() throws IOException
+    {
         ColumnFamily cf = ArrayBackedSortedColumns.factory.create("Keyspace1", "Standard1");
-        ColumnIndex columnIndex = new ColumnIndex.Builder(cf, ByteBufferUtil.bytes("a"), new DataOutputBuffer())
+        return new ColumnIndex.Builder(cf, ByteBufferUtil.bytes("a"), new DataOutputBuffer())
         {{
             int idx = 0, size = 0;
             Cell column;
@@ -60,10 +85,138 @@ public class RowIndexEntryTest extends SchemaLoader
             while (size < DatabaseDescriptor.getColumnIndexSize() * 3);
 
         }}.build();
+    }
 
-        RowIndexEntry withIndex = RowIndexEntry.create(0xdeadbeef, DeletionTime.LIVE, columnIndex);
+    @Test
+    public void testCacheSerialization() throws IOException
+    {
+        CType type = new SimpleDenseCellNameType(UTF8Type.instance);
+        RowIndexEntry.Serializer serializer = new RowIndexEntry.Serializer(type);
+        RowIndexEntry withIndex = RowIndexEntry.create(0xdeadbeef, new DeletionTime(42, 24), columnIndex());
 
-        serializer.serialize(withIndex, buffer);
-        Assert.assertEquals(buffer.getLength(), serializer.serializedSize(withIndex));
+        DataOutputBuffer buffer = new DataOutputBuffer();
+        serializer.serializeForCache(withIndex, new EncodedDataOutputStream(buffer));
+        Assert.assertEquals(buffer.getLength(), serializer.serializedSizeForCache(withIndex, TypeSizes.VINT));
+
+        RowIndexEntry cached = serializer.deserializeForCache(new EncodedDataInputStream(new DataInputStream(new FastByteArrayInputStream(buffer.getData(), 0, buffer.getLength()))));
+        Assert.assertEquals(withIndex.position, cached.position);
+        Assert.assertEquals(withIndex.deletionTime(), cached.deletionTime());
+        Assert.assertTrue(cached.isIndexed());
+        assertIndexEquals(withIndex.columnsIndex(), cached.columnsIndex());
+        Assert.assertEquals(withIndex.promotedSize(type, Descriptor.Version.CURRENT), cached.promotedSize(type, Descriptor.Version.CURRENT));
+
+        // the cached entry serializes to the same bytes as the one it was read from, in both forms
+        DataOutputBuffer original = new DataOutputBuffer();
+        serializer.serialize(withIndex, original);
+        DataOutputBuffer reserialized = new DataOutputBuffer();
+        serializer.serialize(cached, reserialized);
+        Assert.assertTrue(Arrays.equals(original.toByteArray(), reserialized.toByteArray()));
+
+        reserialized = new DataOutputBuffer();
+        serializer.serializeForCache(cached, new EncodedDataOutputStream(reserialized));
+        Assert.assertTrue(Arrays.equals(buffer.toByteArray(), reserialized.toByteArray()));
+        Assert.assertEquals(reserialized.getLength(), serializer.serializedSizeForCache(cached, TypeSizes.VINT));
+
+        RowIndexEntry simple = new RowIndexEntry(123);
+        buffer = new DataOutputBuffer();
+        serializer.serializeForCache(simple, buffer);
+        Assert.assertEquals(buffer.getLength(), serializer.serializedSizeForCache(simple, TypeSizes.NATIVE));
+        cached = serializer.deserializeForCache(new DataInputStream(new FastByteArrayInputStream(buffer.getData(), 0, buffer.getLength())));
+        Assert.assertEquals(123, cached.position);
+        Assert.assertFalse(cached.isIndexed());
+    }
+
+    @Test
+    public void testOffHeapKeyCache() throws IOException
+    {
+        CFMetaData cfm = Schema.instance.getCFMetaData("Keyspace1", "Standard1");
+        Descriptor desc = new Descriptor(new File("."), "Keyspace1", "Standard1", 1, Descriptor.Type.FINAL);
+        KeyCacheKey indexedKey = new KeyCacheKey(cfm.cfId, desc, ByteBufferUtil.bytes("indexed"));
+        KeyCacheKey simpleKey = new KeyCacheKey(cfm.cfId, desc, ByteBufferUtil.bytes("simple"));
+        RowIndexEntry withIndex = RowIndexEntry.create(0xdeadbeef, DeletionTime.LIVE, columnIndex());
+
+        ICache<KeyCacheKey, RowIndexEntry> cache = new SerializingCacheProvider().createKeyCache(1024 * 1024, Config.CachePolicy.lru);
+        cache.put(indexedKey, withIndex);
+        cache.put(simpleKey, new RowIndexEntry(123));
+        Assert.assertEquals(2, cache.size());
+        Assert.assertTrue(cache.weightedSize() > indexedKey.unsharedHeapSize() + simpleKey.unsharedHeapSize());
+
+        RowIndexEntry cached = cache.get(indexedKey);
+        Assert.assertEquals(withIndex.position, cached.position);
+        assertIndexEquals(withIndex.columnsIndex(), cached.columnsIndex());
+        Assert.assertEquals(123, cache.get(simpleKey).position);
+        Assert.assertFalse(cache.get(simpleKey).isIndexed());
+
+        cache.remove(indexedKey);
+        Assert.assertNull(cache.get(indexedKey));
+    }
+
+    @Test
+    public void testIndexOffsets() throws IOException
+    {
+        CType type = new SimpleDenseCellNameType(UTF8Type.instance);
+        RowIndexEntry.Serializer serializer = new RowIndexEntry.Serializer(type);
+        RowIndexEntry withIndex = RowIndexEntry.create(0xdeadbeef, new DeletionTime(42, 24), columnIndex());
+        Descriptor.Version legacy = new Descriptor.Version("ka");
+        Assert.assertFalse(legacy.hasIndexOffsets);
+        Assert.assertTrue(Descriptor.Version.CURRENT.hasIndexOffsets);
+
+        // the current format adds the offsets of the IndexInfos after them
+        DataOutputBuffer withOffsets = new DataOutputBuffer();
+        serializer.serialize(withIndex, withOffsets, Descriptor.Version.CURRENT);
+        Assert.assertEquals(withOffsets.getLength(), serializer.serializedSize(withIndex, Descriptor.Version.CURRENT));
+        DataOutputBuffer withoutOffsets = new DataOutputBuffer();
+        serializer.serialize(withIndex, withoutOffsets, legacy);
+        Assert.assertEquals(withoutOffsets.getLength(), serializer.serializedSize(withIndex, legacy));
+        Assert.assertEquals(withoutOffsets.getLength() + 4 * withIndex.columnsIndex().size(), withOffsets.getLength());
+
+        RowIndexEntry read = serializer.deserialize(new DataInputStream(new FastByteArrayInputStream(withOffsets.getData(), 0, withOffsets.getLength())), Descriptor.Version.CURRENT);
+        Assert.assertEquals(withIndex.position, read.position);
+        Assert.assertEquals(withIndex.deletionTime(), read.deletionTime());
+        assertIndexEquals(withIndex.columnsIndex(), read.columnsIndex());
+        RowIndexEntry legacyRead = serializer.deserialize(new DataInputStream(new FastByteArrayInputStream(withoutOffsets.getData(), 0, withoutOffsets.getLength())), legacy);
+        assertIndexEquals(withIndex.columnsIndex(), legacyRead.columnsIndex());
+
+        // the binary search over the serialized index finds the same blocks
+        List<IndexHelper.IndexInfo> index = withIndex.columnsIndex();
+        for (int i = 0; i < index.size(); i++)
+        {
+            for (boolean reversed : new boolean[]{ false, true })
+            {
+                Composite name = reversed ? index.get(i).firstName : index.get(i).lastName;
+                Assert.assertEquals(IndexHelper.indexFor(name, index, type, reversed, -1),
+                                    IndexHelper.indexFor(name, read.columnsIndex(), type, reversed, -1));
+            }
+        }
+
+        // each IndexInfo is only deserialized once
+        for (int i = 0; i < index.size(); i++)
+            Assert.assertSame(read.columnsIndex().get(i), read.columnsIndex().get(i));
+
+        // an entry read in either format is written back identically in both
+        for (Descriptor.Version version : new Descriptor.Version[]{ legacy, Descriptor.Version.CURRENT })
+        {
+            DataOutputBuffer expected = version.hasIndexOffsets ? withOffsets : withoutOffsets;
+            for (RowIndexEntry entry : new RowIndexEntry[]{ read, legacyRead })
+            {
+                DataOutputBuffer reserialized = new DataOutputBuffer();
+                serializer.serialize(entry, reserialized, version);
+                Assert.assertTrue(Arrays.equals(expected.toByteArray(), reserialized.toByteArray()));
+                Assert.assertEquals(reserialized.getLength(), serializer.serializedSize(entry, version));
+            }
+        }
+    }
+
+    private static void assertIndexEquals(List<IndexHelper.IndexInfo> expected, List<IndexHelper.IndexInfo> actual)
+    {
+        Assert.assertEquals(expected.size(), actual.size());
+        // in reverse, so the lazily deserialized entries are not read in order
+        for (int i = expected.size() - 1; i >= 0; i--)
+        {
+            Assert.assertEquals(expected.get(i).firstName, actual.get(i).firstName);
+            Assert.assertEquals(expected.get(i).lastName, actual.get(i).lastName);
+            Assert.assertEquals(expected.get(i).offset, actual.get(i).offset);
+            Assert.assertEquals(expected.get(i).width, actual.get(i).width);
+        }
     }
 }
@@ -454,6 +454,61 @@ public class CompactionsTest extends SchemaLoader
         assert !compactionLogs.containsKey(Pair.create(KEYSPACE1, cf));
     }
 
+    @Test
+    public void testSplitCompaction() throws Exception
+    {
+        ColumnFamilyStore cfs = Keyspace.open(KEYSPACE1).getColumnFamilyStore("StandardLong1");
+        cfs.clearUnsafe();
+        cfs.disableAutoCompaction();
+
+        // 4 overlapping sstables of a bit more than 1MB each, with the last value of each key in the last one
+        final int ROWS = 300;
+        ByteBuffer value = ByteBuffer.wrap(new byte[4096]);
+        for (int s = 0; s < 4; s++)
+        {
+            for (int i = 0; i < ROWS; i++)
+            {
+                Mutation rm = new Mutation(KEYSPACE1, ByteBufferUtil.bytes(i));
+                rm.add("StandardLong1", Util.cellname("col"), value, s);
+                rm.add("StandardLong1", Util.cellname("s" + s), ByteBufferUtil.bytes(s), s);
+                rm.apply();
+            }
+            cfs.forceBlockingFlush();
+        }
+        assertEquals(4, cfs.getSSTables().size());
+
+        int maxSplits = DatabaseDescriptor.getMaxCompactionSplits();
+        int minSplitSizeInMB = (int) (DatabaseDescriptor.getMinCompactionSplitSize() / (1024 * 1024));
+        DatabaseDescriptor.setMaxCompactionSplits(4);
+        DatabaseDescriptor.setMinCompactionSplitSizeInMB(1);
+        try
+        {
+            CompactionManager.instance.performMaximal(cfs);
+        }
+        finally
+        {
+            DatabaseDescriptor.setMaxCompactionSplits(maxSplits);
+            DatabaseDescriptor.setMinCompactionSplitSizeInMB(minSplitSizeInMB);
+        }
+
+        // one sstable per range, that don't overlap
+        List<SSTableReader> sstables = new ArrayList<>(cfs.getSSTables());
+        assertTrue(sstables.size() > 1);
+        Collections.sort(sstables, SSTableReader.sstableComparator);
+        for (int i = 1; i < sstables.size(); i++)
+            assertTrue(sstables.get(i - 1).last.compareTo(sstables.get(i).first) < 0);
+        assertTrue(cfs.getDataTracker().getCompacting().isEmpty());
+
+        assertEquals(ROWS, Util.getRangeSlice(cfs).size());
+        for (int i = 0; i < ROWS; i++)
+        {
+            ColumnFamily cf = cfs.getColumnFamily(QueryFilter.getIdentityFilter(Util.dk(ByteBufferUtil.bytes(i)), "StandardLong1", System.currentTimeMillis()));
+            assertEquals(3, cf.getColumn(Util.cellname("col")).timestamp());
+            for (int s = 0; s < 4; s++)
+                assertEquals(s, ByteBufferUtil.toInt(cf.getColumn(Util.cellname("s" + s)).value()));
+        }
+    }
+
     private void testDontPurgeAccidentaly(String k, String cfname) throws InterruptedException
     {
         // This test catches the regression of CASSANDRA-2786
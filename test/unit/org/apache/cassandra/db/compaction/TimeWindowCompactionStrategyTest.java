@@ -0,0 +1,207 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.cassandra.db.compaction;
+
+import java.nio.ByteBuffer;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.google.common.collect.Iterables;
+
+import org.apache.cassandra.SchemaLoader;
+import org.apache.cassandra.Util;
+import org.apache.cassandra.db.ColumnFamilyStore;
+import org.apache.cassandra.db.DecoratedKey;
+import org.apache.cassandra.db.Keyspace;
+import org.apache.cassandra.db.Mutation;
+import org.apache.cassandra.exceptions.ConfigurationException;
+import org.apache.cassandra.io.sstable.SSTableReader;
+import org.apache.cassandra.utils.Pair;
+
+import static org.apache.cassandra.db.compaction.TimeWindowCompactionStrategy.getBuckets;
+import static org.apache.cassandra.db.compaction.TimeWindowCompactionStrategy.getWindowLowerBound;
+import static org.apache.cassandra.db.compaction.TimeWindowCompactionStrategy.newestBucket;
+import static org.apache.cassandra.db.compaction.TimeWindowCompactionStrategy.validateOptions;
+
+import static org.junit.Assert.*;
+
+public class TimeWindowCompactionStrategyTest extends SchemaLoader
+{
+    public static final String KEYSPACE1 = "Keyspace1";
+    private static final String CF_STANDARD1 = "Standard1";
+
+    @Test
+    public void testOptionsValidation() throws ConfigurationException
+    {
+        Map<String, String> options = new HashMap<>();
+        options.put(TimeWindowCompactionStrategyOptions.COMPACTION_WINDOW_SIZE_KEY, "30");
+        options.put(TimeWindowCompactionStrategyOptions.COMPACTION_WINDOW_UNIT_KEY, "MINUTES");
+        options.put(TimeWindowCompactionStrategyOptions.EXPIRED_SSTABLE_CHECK_FREQUENCY_SECONDS_KEY, "60");
+        options.put(SizeTieredCompactionStrategyOptions.BUCKET_HIGH_KEY, "2");
+        Map<String, String> unvalidated = validateOptions(options);
+        assertTrue(unvalidated.isEmpty());
+
+        try
+        {
+            options.put(TimeWindowCompactionStrategyOptions.COMPACTION_WINDOW_SIZE_KEY, "0");
+            validateOptions(options);
+            fail(String.format("%s == 0 should be rejected", TimeWindowCompactionStrategyOptions.COMPACTION_WINDOW_SIZE_KEY));
+        }
+        catch (ConfigurationException e)
+        {
+            options.put(TimeWindowCompactionStrategyOptions.COMPACTION_WINDOW_SIZE_KEY, "1");
+        }
+
+        try
+        {
+            options.put(TimeWindowCompactionStrategyOptions.COMPACTION_WINDOW_UNIT_KEY, "SECONDS");
+            validateOptions(options);
+            fail(String.format("%s in seconds should be rejected", TimeWindowCompactionStrategyOptions.COMPACTION_WINDOW_UNIT_KEY));
+        }
+        catch (ConfigurationException e)
+        {
+            options.put(TimeWindowCompactionStrategyOptions.COMPACTION_WINDOW_UNIT_KEY, "HOURS");
+        }
+
+        try
+        {
+            options.put(TimeWindowCompactionStrategyOptions.EXPIRED_SSTABLE_CHECK_FREQUENCY_SECONDS_KEY, "-1");
+            validateOptions(options);
+            fail(String.format("Negative %s should be rejected", TimeWindowCompactionStrategyOptions.EXPIRED_SSTABLE_CHECK_FREQUENCY_SECONDS_KEY));
+        }
+        catch (ConfigurationException e)
+        {
+            options.put(TimeWindowCompactionStrategyOptions.EXPIRED_SSTABLE_CHECK_FREQUENCY_SECONDS_KEY, "0");
+        }
+
+        options.put("bad_option", "1.0");
+        unvalidated = validateOptions(options);
+        assertTrue(unvalidated.containsKey("bad_option"));
+    }
+
+    @Test
+    public void testWindowLowerBound()
+    {
+        long tstamp = TimeUnit.MILLISECONDS.convert(1431382882L, TimeUnit.SECONDS); // 2015-05-11 22:21:22 UTC
+        assertEquals(TimeUnit.MILLISECONDS.convert(1431382860L, TimeUnit.SECONDS), getWindowLowerBound(TimeUnit.MINUTES, 1, tstamp));
+        assertEquals(TimeUnit.MILLISECONDS.convert(1431381600L, TimeUnit.SECONDS), getWindowLowerBound(TimeUnit.HOURS, 1, tstamp));
+        assertEquals(TimeUnit.MILLISECONDS.convert(1431302400L, TimeUnit.SECONDS), getWindowLowerBound(TimeUnit.DAYS, 1, tstamp));
+        assertEquals(TimeUnit.MILLISECONDS.convert(1431367200L, TimeUnit.SECONDS), getWindowLowerBound(TimeUnit.HOURS, 6, tstamp));
+    }
+
+    @Test
+    public void testBuckets()
+    {
+        Keyspace keyspace = Keyspace.open(KEYSPACE1);
+        ColumnFamilyStore cfs = keyspace.getColumnFamilyStore(CF_STANDARD1);
+        cfs.truncateBlocking();
+        cfs.disableAutoCompaction();
+
+        ByteBuffer value = ByteBuffer.wrap(new byte[100]);
+
+        // 3 sstables in each of 2 one hour windows, with millisecond timestamps
+        long window = TimeUnit.MILLISECONDS.convert(1, TimeUnit.HOURS);
+        long start = TimeUnit.MILLISECONDS.convert(1431381600L, TimeUnit.SECONDS);
+        for (int w = 0; w < 2; w++)
+        {
+            for (int r = 0; r < 3; r++)
+            {
+                DecoratedKey key = Util.dk(String.valueOf(w * 3 + r));
+                Mutation rm = new Mutation(KEYSPACE1, key.getKey());
+                rm.add(CF_STANDARD1, Util.cellname("column"), value, start + w * window + r);
+                rm.apply();
+                cfs.forceBlockingFlush();
+            }
+        }
+        assertEquals(6, cfs.getSSTables().size());
+
+        Pair<TreeMap<Long, List<SSTableReader>>, Long> buckets = getBuckets(cfs.getSSTables(), TimeUnit.HOURS, 1, TimeUnit.MILLISECONDS);
+        assertEquals(2, buckets.left.size());
+        assertEquals(start + window, (long) buckets.right);
+        assertEquals(start + window, (long) buckets.left.firstKey());
+        for (List<SSTableReader> bucket : buckets.left.values())
+            assertEquals(3, bucket.size());
+
+        SizeTieredCompactionStrategyOptions stcsOptions = new SizeTieredCompactionStrategyOptions();
+        // the current window has less than min_threshold sstables, but the past one is compacted as a whole
+        List<SSTableReader> bucket = newestBucket(buckets.left, 4, 32, buckets.right, stcsOptions);
+        assertEquals(3, bucket.size());
+        for (SSTableReader sstable : bucket)
+            assertTrue(sstable.getMaxTimestamp() < start + window);
+
+        // with enough sstables, the current window is size tiered first
+        bucket = newestBucket(buckets.left, 2, 32, buckets.right, stcsOptions);
+        assertEquals(3, bucket.size());
+        for (SSTableReader sstable : bucket)
+            assertTrue(sstable.getMaxTimestamp() >= start + window);
+
+        // a past window with too many sstables is compacted in several steps
+        bucket = newestBucket(buckets.left, 4, 2, buckets.right, stcsOptions);
+        assertEquals(2, bucket.size());
+
+        // nothing to do once each past window has a single sstable
+        buckets.left.put(start, buckets.left.get(start).subList(0, 1));
+        assertTrue(newestBucket(buckets.left, 4, 32, buckets.right, stcsOptions).isEmpty());
+    }
+
+    @Test
+    public void testDropExpiredSSTables() throws InterruptedException
+    {
+        Keyspace keyspace = Keyspace.open(KEYSPACE1);
+        ColumnFamilyStore cfs = keyspace.getColumnFamilyStore(CF_STANDARD1);
+        cfs.truncateBlocking();
+        cfs.disableAutoCompaction();
+
+        ByteBuffer value = ByteBuffer.wrap(new byte[100]);
+
+        // create 2 sstables
+        DecoratedKey key = Util.dk(String.valueOf("expired"));
+        Mutation rm = new Mutation(KEYSPACE1, key.getKey());
+        rm.add(CF_STANDARD1, Util.cellname("column"), value, System.currentTimeMillis(), 1);
+        rm.apply();
+        cfs.forceBlockingFlush();
+        SSTableReader expiredSSTable = cfs.getSSTables().iterator().next();
+        Thread.sleep(10);
+        key = Util.dk(String.valueOf("nonexpired"));
+        rm = new Mutation(KEYSPACE1, key.getKey());
+        rm.add(CF_STANDARD1, Util.cellname("column"), value, System.currentTimeMillis());
+        rm.apply();
+        cfs.forceBlockingFlush();
+        assertEquals(cfs.getSSTables().size(), 2);
+
+        Map<String, String> options = new HashMap<>();
+        options.put(TimeWindowCompactionStrategyOptions.COMPACTION_WINDOW_SIZE_KEY, "30");
+        options.put(TimeWindowCompactionStrategyOptions.COMPACTION_WINDOW_UNIT_KEY, "MINUTES");
+        options.put(TimeWindowCompactionStrategyOptions.TIMESTAMP_RESOLUTION_KEY, "MILLISECONDS");
+        options.put(TimeWindowCompactionStrategyOptions.EXPIRED_SSTABLE_CHECK_FREQUENCY_SECONDS_KEY, "0");
+        TimeWindowCompactionStrategy twcs = new TimeWindowCompactionStrategy(cfs, options);
+        for (SSTableReader sstable : cfs.getSSTables())
+            twcs.addSSTable(sstable);
+        twcs.startup();
+        assertNull(twcs.getNextBackgroundTask((int) (System.currentTimeMillis() / 1000)));
+        Thread.sleep(2000);
+        AbstractCompactionTask t = twcs.getNextBackgroundTask((int) (System.currentTimeMillis() / 1000));
+        assertNotNull(t);
+        assertEquals(1, Iterables.size(t.sstables));
+        SSTableReader sstable = t.sstables.iterator().next();
+        assertEquals(sstable, expiredSSTable);
+        cfs.getDataTracker().unmarkCompacting(cfs.getSSTables());
+    }
+}
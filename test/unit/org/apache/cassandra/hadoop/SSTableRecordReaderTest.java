@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.cassandra.hadoop;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import org.apache.cassandra.SchemaLoader;
+import org.apache.cassandra.config.DatabaseDescriptor;
+import org.apache.cassandra.db.Cell;
+import org.apache.cassandra.db.ColumnFamilyStore;
+import org.apache.cassandra.db.Keyspace;
+import org.apache.cassandra.db.Mutation;
+import org.apache.cassandra.dht.IPartitioner;
+import org.apache.cassandra.service.StorageService;
+import org.apache.cassandra.thrift.SlicePredicate;
+import org.apache.hadoop.conf.Configuration;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import static org.apache.cassandra.Util.cellname;
+import static org.apache.cassandra.utils.ByteBufferUtil.bytes;
+import static org.apache.cassandra.utils.ByteBufferUtil.string;
+
+public class SSTableRecordReaderTest extends SchemaLoader
+{
+    private static final String KS = "Keyspace1";
+    private static final String CF = "Standard1";
+    private static final String SNAPSHOT = "hadoop";
+
+    @BeforeClass
+    public static void createSnapshot()
+    {
+        ColumnFamilyStore cfs = Keyspace.open(KS).getColumnFamilyStore(CF);
+        for (int i = 0; i < 10; i++)
+        {
+            Mutation rm = new Mutation(KS, bytes("key" + i));
+            rm.add(CF, cellname("c1"), bytes("value" + i), 0);
+            rm.applyUnsafe();
+        }
+        cfs.forceBlockingFlush();
+
+        // updates in another sstable, that the reader has to merge with the first one
+        Mutation rm = new Mutation(KS, bytes("key1"));
+        rm.delete(CF, 1);
+        rm.applyUnsafe();
+        rm = new Mutation(KS, bytes("key2"));
+        rm.add(CF, cellname("c1"), bytes("updated"), 1);
+        rm.applyUnsafe();
+        rm = new Mutation(KS, bytes("key3"));
+        rm.add(CF, cellname("c2"), bytes("added"), 1);
+        rm.applyUnsafe();
+        cfs.forceBlockingFlush();
+
+        cfs.snapshot(SNAPSHOT);
+
+        // not part of the snapshot
+        rm = new Mutation(KS, bytes("key10"));
+        rm.add(CF, cellname("c1"), bytes("value10"), 0);
+        rm.applyUnsafe();
+        cfs.forceBlockingFlush();
+    }
+
+    @Test
+    public void testReadSnapshot() throws Exception
+    {
+        SSTableRecordReader reader = createReader(makeConfiguration());
+        SortedMap<String, SortedMap<ByteBuffer, Cell>> rows = readAll(reader);
+
+        assertEquals(9, rows.size());
+        assertFalse(rows.containsKey("key1"));
+        assertFalse(rows.containsKey("key10"));
+        assertEquals("value0", string(rows.get("key0").get(bytes("c1")).value()));
+        assertEquals("updated", string(rows.get("key2").get(bytes("c1")).value()));
+        assertEquals(2, rows.get("key3").size());
+        assertEquals("added", string(rows.get("key3").get(bytes("c2")).value()));
+    }
+
+    @Test
+    public void testSlicePredicate() throws Exception
+    {
+        Configuration conf = makeConfiguration();
+        ConfigHelper.setInputSlicePredicate(conf, new SlicePredicate().setColumn_names(Collections.singletonList(bytes("c2"))));
+        SortedMap<String, SortedMap<ByteBuffer, Cell>> rows = readAll(createReader(conf));
+
+        // the rows without any of the selected columns are skipped
+        assertEquals(1, rows.size());
+        assertEquals(1, rows.get("key3").size());
+        assertTrue(rows.get("key3").containsKey(bytes("c2")));
+    }
+
+    private static Configuration makeConfiguration()
+    {
+        Configuration conf = new Configuration();
+        ConfigHelper.setInputColumnFamily(conf, KS, CF);
+        ConfigHelper.setInputPartitioner(conf, StorageService.getPartitioner().getClass().getName());
+        ConfigHelper.setInputSnapshot(conf, SNAPSHOT);
+        ConfigHelper.setInputDataDirectories(conf, DatabaseDescriptor.getAllDataFileLocations());
+        return conf;
+    }
+
+    private static SSTableRecordReader createReader(Configuration conf) throws Exception
+    {
+        IPartitioner partitioner = StorageService.getPartitioner();
+        String min = partitioner.getTokenFactory().toString(partitioner.getMinimumToken());
+        ColumnFamilySplit split = new ColumnFamilySplit(min, min, new String[]{ "127.0.0.1" });
+        SSTableRecordReader reader = new SSTableRecordReader();
+        reader.initialize(split, conf, Keyspace.open(KS).getColumnFamilyStore(CF).metadata);
+        return reader;
+    }
+
+    private static SortedMap<String, SortedMap<ByteBuffer, Cell>> readAll(SSTableRecordReader reader) throws Exception
+    {
+        SortedMap<String, SortedMap<ByteBuffer, Cell>> rows = new TreeMap<>();
+        try
+        {
+            while (reader.nextKeyValue())
+                rows.put(string(reader.getCurrentKey()), reader.getCurrentValue());
+        }
+        finally
+        {
+            reader.close();
+        }
+        return rows;
+    }
+}
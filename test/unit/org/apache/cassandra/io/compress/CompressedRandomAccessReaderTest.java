@@ -21,22 +21,31 @@ package org.apache.cassandra.io.compress;
 import java.io.File;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Random;
 
 import org.junit.Test;
 
+import org.apache.cassandra.cache.ChunkCache;
 import org.apache.cassandra.db.composites.SimpleDenseCellNameType;
 import org.apache.cassandra.db.marshal.BytesType;
 import org.apache.cassandra.exceptions.ConfigurationException;
 import org.apache.cassandra.io.sstable.CorruptSSTableException;
 import org.apache.cassandra.io.sstable.metadata.MetadataCollector;
+import org.apache.cassandra.io.util.CompressedMmappedSegmentedFile;
+import org.apache.cassandra.io.util.CompressedPoolingSegmentedFile;
+import org.apache.cassandra.io.util.FileDataInput;
 import org.apache.cassandra.io.util.FileMark;
+import org.apache.cassandra.io.util.FileUtils;
+import org.apache.cassandra.io.util.MmappedSegmentedFile;
 import org.apache.cassandra.io.util.RandomAccessReader;
 import org.apache.cassandra.io.util.SequentialWriter;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 public class CompressedRandomAccessReaderTest
 {
@@ -96,6 +105,104 @@ public class CompressedRandomAccessReaderTest
         }
     }
 
+    @Test
+    public void testChunkCache() throws IOException, ConfigurationException
+    {
+        File f = File.createTempFile("chunkcache", "1");
+        String filename = f.getAbsolutePath();
+        File metadataFile = new File(filename + ".metadata");
+        CompressedPoolingSegmentedFile file = null;
+        try
+        {
+            MetadataCollector collector = new MetadataCollector(new SimpleDenseCellNameType(BytesType.instance)).replayPosition(null);
+            CompressedSequentialWriter writer = new CompressedSequentialWriter(f, metadataFile.getPath(), new CompressionParameters(SnappyCompressor.instance, 1024, Collections.<String, String>emptyMap()), collector);
+            for (int i = 0; i < 10 * 1024; i++)
+                writer.write((byte) i);
+            writer.close();
+
+            file = new CompressedPoolingSegmentedFile(filename, new CompressionMetadata(metadataFile.getPath(), f.length(), true));
+            // the pooled reader is reused, so each pass reads from the start to make it rebuffer every chunk
+            for (int i = 0; i < 3; i++)
+            {
+                FileDataInput in = file.getSegment(0);
+                try
+                {
+                    for (int j = 0; j < 6 * 1024; j++)
+                        assertEquals((byte) j, in.readByte());
+                }
+                finally
+                {
+                    FileUtils.closeQuietly(in);
+                }
+            }
+            assertTrue(ChunkCache.instance.containsKey(new ChunkCache.Key(filename, file.metadata.chunkFor(5 * 1024).offset)));
+        }
+        finally
+        {
+            if (file != null)
+                file.close();
+            assertEquals(0, ChunkCache.instance.size());
+            f.delete();
+            metadataFile.delete();
+        }
+    }
+
+    @Test
+    public void testMmappedReads() throws IOException, ConfigurationException
+    {
+        File f = File.createTempFile("compressedmmap", "1");
+        String filename = f.getAbsolutePath();
+        File metadataFile = new File(filename + ".metadata");
+        long maxSegmentSize = MmappedSegmentedFile.MAX_SEGMENT_SIZE;
+        CompressedMmappedSegmentedFile file = null;
+        try
+        {
+            // random data doesn't compress, so each segment holds only a couple of chunks
+            byte[] data = new byte[10 * 1024 + 100];
+            new Random(42).nextBytes(data);
+            MetadataCollector collector = new MetadataCollector(new SimpleDenseCellNameType(BytesType.instance)).replayPosition(null);
+            CompressedSequentialWriter writer = new CompressedSequentialWriter(f, metadataFile.getPath(), new CompressionParameters(SnappyCompressor.instance, 1024, Collections.<String, String>emptyMap()), collector);
+            writer.write(data);
+            writer.close();
+
+            MmappedSegmentedFile.MAX_SEGMENT_SIZE = 2500;
+            file = new CompressedMmappedSegmentedFile(filename, new CompressionMetadata(metadataFile.getPath(), f.length(), true));
+            for (int position : new int[]{ 0, 1023, 1024, 5000, 10 * 1024 })
+            {
+                FileDataInput in = file.getSegment(position);
+                try
+                {
+                    byte[] read = new byte[data.length - position];
+                    in.readFully(read);
+                    assertArrayEquals(Arrays.copyOfRange(data, position, data.length), read);
+                }
+                finally
+                {
+                    FileUtils.closeQuietly(in);
+                }
+            }
+
+            RandomAccessReader reader = file.createReader();
+            try
+            {
+                reader.seek(3000);
+                assertEquals(data[3000], reader.readByte());
+            }
+            finally
+            {
+                reader.close();
+            }
+        }
+        finally
+        {
+            MmappedSegmentedFile.MAX_SEGMENT_SIZE = maxSegmentSize;
+            if (file != null)
+                file.close();
+            f.delete();
+            metadataFile.delete();
+        }
+    }
+
     private void testResetAndTruncate(File f, boolean compressed, int junkSize) throws IOException
     {
         final String filename = f.getAbsolutePath();
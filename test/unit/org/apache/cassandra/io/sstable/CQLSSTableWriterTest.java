@@ -20,8 +20,11 @@ package org.apache.cassandra.io.sstable;
 import java.io.File;
 import java.io.FilenameFilter;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.io.Files;
@@ -42,9 +45,11 @@ import org.apache.cassandra.dht.Token;
 import org.apache.cassandra.service.StorageService;
 import org.apache.cassandra.utils.FBUtilities;
 import org.apache.cassandra.utils.OutputHandler;
+import org.apache.cassandra.utils.Pair;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 public class CQLSSTableWriterTest
 {
@@ -173,6 +178,71 @@ public class CQLSSTableWriterTest
     }
 
 
+    @Test
+    public void testParallelWriters() throws Exception
+    {
+        String KS = "cql_keyspace3";
+        String TABLE = "table3";
+
+        File tempdir = Files.createTempDir();
+        File dataDir = new File(tempdir.getAbsolutePath() + File.separator + KS + File.separator + TABLE);
+        assert dataDir.mkdirs();
+
+        String schema = "CREATE TABLE cql_keyspace3.table3 ("
+                      + "  k int PRIMARY KEY,"
+                      + "  v int"
+                      + ")";
+        String insert = "INSERT INTO cql_keyspace3.table3 (k, v) VALUES (?, ?)";
+        CQLSSTableWriter writer = CQLSSTableWriter.builder()
+                                                  .inDirectory(dataDir)
+                                                  .forTable(schema)
+                                                  .withPartitioner(StorageService.instance.getPartitioner())
+                                                  .using(insert)
+                                                  .withParallelWriters(4)
+                                                  .build();
+
+        // spread the keys over the whole ring of the byte ordered partitioner
+        int rows = 1000;
+        for (int i = 0; i < rows; i++)
+            writer.addRow(i * 4294967, i);
+        writer.close();
+
+        // one sstable per writer, that don't overlap
+        List<SSTableReader> sstables = new ArrayList<>();
+        for (File file : dataDir.listFiles())
+        {
+            Pair<Descriptor, Component> p = SSTable.tryComponentFromFilename(dataDir, file.getName());
+            if (p != null && p.right.equals(Component.DATA))
+                sstables.add(SSTableReader.open(p.left));
+        }
+        assertEquals(4, sstables.size());
+        Collections.sort(sstables, SSTableReader.sstableComparator);
+        for (int i = 1; i < sstables.size(); i++)
+            assertTrue(sstables.get(i - 1).last.compareTo(sstables.get(i).first) < 0);
+        for (SSTableReader sstable : sstables)
+            sstable.selfRef().release();
+
+        SSTableLoader loader = new SSTableLoader(dataDir, new SSTableLoader.Client()
+        {
+            public void init(String keyspace)
+            {
+                for (Range<Token> range : StorageService.instance.getLocalRanges("cql_keyspace3"))
+                    addRangeForEndpoint(range, FBUtilities.getBroadcastAddress());
+                setPartitioner(StorageService.getPartitioner());
+            }
+
+            public CFMetaData getCFMetaData(String keyspace, String cfName)
+            {
+                return Schema.instance.getCFMetaData(keyspace, cfName);
+            }
+        }, new OutputHandler.SystemOutput(false, false));
+
+        loader.stream().get();
+
+        UntypedResultSet rs = QueryProcessor.executeInternal("SELECT * FROM cql_keyspace3.table3;");
+        assertEquals(rows, rs.size());
+    }
+
     private static final int NUMBER_WRITES_IN_RUNNABLE = 10;
     private class WriterThread extends Thread
     {
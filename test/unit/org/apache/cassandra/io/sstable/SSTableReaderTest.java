@@ -26,7 +26,10 @@ import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
@@ -43,6 +46,7 @@ import org.slf4j.LoggerFactory;
 import org.apache.cassandra.OrderedJUnit4ClassRunner;
 import org.apache.cassandra.SchemaLoader;
 import org.apache.cassandra.Util;
+import org.apache.cassandra.config.CFMetaData;
 import org.apache.cassandra.config.DatabaseDescriptor;
 import org.apache.cassandra.cql3.Operator;
 import org.apache.cassandra.db.BufferDecoratedKey;
@@ -364,6 +368,101 @@ public class SSTableReaderTest extends SchemaLoader
         reopened.selfRef().release();
     }
 
+    @Test
+    public void testLoadingSummaryWithChangedIndexInterval() throws Exception
+    {
+        Keyspace keyspace = Keyspace.open("Keyspace1");
+        ColumnFamilyStore store = keyspace.getColumnFamilyStore("Standard3");
+        store.disableAutoCompaction();
+        for (int j = 0; j < 100; j++)
+        {
+            Mutation rm = new Mutation("Keyspace1", ByteBufferUtil.bytes(String.valueOf(j)));
+            rm.add("Standard3", cellname("0"), ByteBufferUtil.EMPTY_BYTE_BUFFER, j);
+            rm.apply();
+        }
+        store.forceBlockingFlush();
+        SSTableReader sstable = null;
+        for (SSTableReader candidate : store.getSSTables())
+        {
+            if (sstable == null || candidate.descriptor.generation > sstable.descriptor.generation)
+                sstable = candidate;
+        }
+        int minIndexInterval = store.metadata.getMinIndexInterval();
+
+        // the persisted summary is still used, and left for the index summary manager to resample
+        store.metadata.minIndexInterval(minIndexInterval * 2);
+        try
+        {
+            SSTableReader reopened = SSTableReader.open(sstable.descriptor);
+            assertEquals(minIndexInterval, reopened.getMinIndexInterval());
+            assertEquals(sstable.getIndexSummarySize(), reopened.getIndexSummarySize());
+            for (int j = 0; j < 100; j++)
+                assertEquals(sstable.getPosition(k(j), SSTableReader.Operator.EQ).position, reopened.getPosition(k(j), SSTableReader.Operator.EQ).position);
+            reopened.selfRef().release();
+        }
+        finally
+        {
+            store.metadata.minIndexInterval(minIndexInterval);
+        }
+    }
+
+    @Test
+    public void testOpenAllTables() throws Exception
+    {
+        Keyspace keyspace = Keyspace.open("Keyspace1");
+        Map<CFMetaData, Set<Map.Entry<Descriptor, Set<Component>>>> tables = new HashMap<>();
+        Map<CFMetaData, Integer> expected = new HashMap<>();
+        for (String cf : Arrays.asList("Standard3", "Standard4"))
+        {
+            ColumnFamilyStore store = keyspace.getColumnFamilyStore(cf);
+            store.disableAutoCompaction();
+            for (int i = 0; i < 3; i++)
+            {
+                Mutation rm = new Mutation("Keyspace1", ByteBufferUtil.bytes(String.valueOf(i)));
+                rm.add(cf, cellname("0"), ByteBufferUtil.EMPTY_BYTE_BUFFER, i);
+                rm.apply();
+                store.forceBlockingFlush();
+            }
+            Set<Map.Entry<Descriptor, Set<Component>>> entries = store.directories.sstableLister().skipTemporary(true).list().entrySet();
+            tables.put(store.metadata, entries);
+            expected.put(store.metadata, entries.size());
+        }
+
+        Map<CFMetaData, Collection<SSTableReader>> opened = SSTableReader.openAll(tables, StorageService.getPartitioner());
+        assertEquals(expected.keySet(), opened.keySet());
+        for (Map.Entry<CFMetaData, Collection<SSTableReader>> entry : opened.entrySet())
+        {
+            assertEquals(expected.get(entry.getKey()).intValue(), entry.getValue().size());
+            for (SSTableReader sstable : entry.getValue())
+            {
+                assertEquals(entry.getKey().cfName, sstable.descriptor.cfname);
+                sstable.selfRef().release();
+            }
+        }
+    }
+
+    @Test
+    public void testReleasePreloadedSSTables() throws Exception
+    {
+        Keyspace keyspace = Keyspace.open("Keyspace1");
+        ColumnFamilyStore store = keyspace.getColumnFamilyStore("Standard3");
+        store.disableAutoCompaction();
+        Mutation rm = new Mutation("Keyspace1", ByteBufferUtil.bytes("preloaded"));
+        rm.add("Standard3", cellname("0"), ByteBufferUtil.EMPTY_BYTE_BUFFER, 0);
+        rm.apply();
+        store.forceBlockingFlush();
+
+        // the table is already initialized, so nothing picks up the sstables preloaded for it
+        ColumnFamilyStore.preloadSSTables(Collections.singleton(store.metadata));
+        assertEquals(store.directories.sstableLister().skipTemporary(true).list().size(), ColumnFamilyStore.releasePreloadedSSTables());
+        assertEquals(0, ColumnFamilyStore.releasePreloadedSSTables());
+
+        // the sstables of the table are still usable
+        for (SSTableReader sstable : store.getSSTables())
+            assertTrue(sstable.selfRef().globalCount() > 0);
+        assertTrue(Util.getColumnFamily(keyspace, Util.dk("preloaded"), "Standard3").hasColumns());
+    }
+
     /** see CASSANDRA-5407 */
     @Test
     public void testGetScannerForNoIntersectingRanges()
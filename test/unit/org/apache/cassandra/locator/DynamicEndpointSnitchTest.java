@@ -22,15 +22,25 @@ package org.apache.cassandra.locator;
 import java.io.IOException;
 import java.net.InetAddress;
 import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
+import org.apache.cassandra.config.Config;
+import org.apache.cassandra.config.DatabaseDescriptor;
 import org.apache.cassandra.exceptions.ConfigurationException;
+import org.apache.cassandra.net.IAsyncCallback;
+import org.apache.cassandra.net.MessageIn;
+import org.apache.cassandra.net.MessageOut;
+import org.apache.cassandra.net.MessagingService;
 import org.apache.cassandra.service.StorageService;
 import org.junit.Test;
 
 import org.apache.cassandra.utils.FBUtilities;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 public class DynamicEndpointSnitchTest
 {
@@ -90,4 +100,60 @@ public class DynamicEndpointSnitchTest
         order = Arrays.asList(host1, host3, host2);
         assertEquals(order, dsnitch.getSortedListByProximity(self, Arrays.asList(host1, host2, host3)));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testPercentileSnitch() throws InterruptedException, IOException, ConfigurationException
+    {
+        StorageService.instance.initClient(0);
+        DatabaseDescriptor.setDynamicSnitchScore(Config.DynamicSnitchScore.p99);
+        SimpleSnitch ss = new SimpleSnitch();
+        DynamicEndpointSnitch dsnitch;
+        try
+        {
+            dsnitch = new DynamicEndpointSnitch(ss, String.valueOf(ss.hashCode()));
+        }
+        finally
+        {
+            DatabaseDescriptor.setDynamicSnitchScore(Config.DynamicSnitchScore.median);
+        }
+        InetAddress self = FBUtilities.getBroadcastAddress();
+        InetAddress host1 = InetAddress.getByName("127.0.0.2");
+        InetAddress host2 = InetAddress.getByName("127.0.0.3");
+        InetAddress host3 = InetAddress.getByName("127.0.0.4");
+        List<InetAddress> hosts = Arrays.asList(host1, host2, host3);
+
+        // first, make all hosts equal
+        setScores(dsnitch, 1, hosts, 10, 10, 10);
+        assertEquals(Arrays.asList(host1, host2, host3), dsnitch.getSortedListByProximity(self, hosts));
+
+        // make host1 worse
+        setScores(dsnitch, 1, hosts, 20, 10, 10);
+        assertEquals(Arrays.asList(host2, host3, host1), dsnitch.getSortedListByProximity(self, hosts));
+
+        // queue reads on host2: they make it worse than host1 right away, and expected to answer late
+        IAsyncCallback callback = new IAsyncCallback()
+        {
+            public void response(MessageIn msg)
+            {
+            }
+
+            public boolean isLatencyForSnitch()
+            {
+                return true;
+            }
+        };
+        List<Integer> ids = new ArrayList<>();
+        for (int i = 0; i < 3; i++)
+            ids.add(MessagingService.instance().addCallback(callback, new MessageOut(MessagingService.Verb.READ), host2, 10000, false));
+        assertEquals(Arrays.asList(host3, host1, host2), dsnitch.getSortedListByProximity(self, hosts));
+        assertTrue(dsnitch.isExpectedSlowerThan(host2, TimeUnit.MILLISECONDS.toNanos(25)));
+        assertFalse(dsnitch.isExpectedSlowerThan(host3, TimeUnit.MILLISECONDS.toNanos(25)));
+
+        // once answered, and their latencies out of the window, the hosts are all given a fresh chance
+        for (int id : ids)
+            MessagingService.instance().removeRegisteredCallback(id);
+        Thread.sleep(1500);
+        assertTrue(dsnitch.getScores().isEmpty());
+        assertEquals(Arrays.asList(host1, host2, host3), dsnitch.getSortedListByProximity(self, hosts));
+    }
+}
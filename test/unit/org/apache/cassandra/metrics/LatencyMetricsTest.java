@@ -17,8 +17,12 @@
  */
 package org.apache.cassandra.metrics;
 
+import java.util.concurrent.TimeUnit;
+
 import org.junit.Test;
+import static junit.framework.Assert.assertEquals;
 import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
 
 public class LatencyMetricsTest
 {
@@ -47,4 +51,48 @@ public class LatencyMetricsTest
             assertFalse(recent.equals(Double.POSITIVE_INFINITY));
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testRecentPercentiles()
+    {
+        LatencyMetrics parent = new LatencyMetrics("test", "testPercentilesParent");
+        LatencyMetrics l = new LatencyMetrics(new DefaultNameFactory("test", "testPercentiles"), "", parent);
+        for (int i = 1; i <= 10000; i++)
+            l.addNano(TimeUnit.MICROSECONDS.toNanos(i));
+
+        double[] percentiles = l.getRecentPercentiles();
+        assertEquals(LatencyMetrics.PERCENTILES.length + 2, percentiles.length);
+        for (int i = 0; i < LatencyMetrics.PERCENTILES.length; i++)
+            assertEquals(LatencyMetrics.PERCENTILES[i] * 10000, percentiles[i], LatencyMetrics.PERCENTILES[i] * 10000 * 0.01);
+        assertEquals(1, percentiles[LatencyMetrics.PERCENTILES.length], 0);
+        assertEquals(10000, percentiles[LatencyMetrics.PERCENTILES.length + 1], 100);
+
+        // the next interval is empty, but the cumulative percentiles and the parent still have the latencies
+        assertTrue(Double.isNaN(l.getRecentPercentiles()[0]));
+        assertEquals(percentiles[0], l.latencyPercentiles.value()[0]);
+        assertEquals(percentiles[0], parent.getRecentPercentiles()[0]);
+
+        l.release();
+        parent.release();
+    }
+
+    @Test
+    public void testHistogramAllocatedOnFirstLatency()
+    {
+        LatencyMetrics parent = new LatencyMetrics("test", "testLazyParent");
+        LatencyMetrics l = new LatencyMetrics(new DefaultNameFactory("test", "testLazy"), "", parent);
+        assertFalse(l.hasLatencyHistogram());
+        assertFalse(parent.hasLatencyHistogram());
+        assertTrue(Double.isNaN(l.getRecentPercentiles()[0]));
+        assertTrue(Double.isNaN(l.latencyPercentiles.value()[0]));
+        assertFalse(l.hasLatencyHistogram());
+
+        l.addNano(TimeUnit.MICROSECONDS.toNanos(100));
+        assertTrue(l.hasLatencyHistogram());
+        assertTrue(parent.hasLatencyHistogram());
+        assertEquals(100, l.latencyPercentiles.value()[0], 1);
+
+        l.release();
+        parent.release();
+    }
+}
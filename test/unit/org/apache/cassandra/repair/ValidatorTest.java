@@ -17,25 +17,35 @@
  */
 package org.apache.cassandra.repair;
 
+import java.io.File;
 import java.io.IOException;
 import java.net.InetAddress;
+import java.nio.ByteBuffer;
 import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Map;
 import java.util.UUID;
 
 import org.junit.After;
 import org.junit.Test;
 
 import org.apache.cassandra.SchemaLoader;
+import org.apache.cassandra.Util;
+import org.apache.cassandra.config.DatabaseDescriptor;
 import org.apache.cassandra.db.BufferDecoratedKey;
 import org.apache.cassandra.db.ColumnFamilyStore;
 import org.apache.cassandra.db.DecoratedKey;
 import org.apache.cassandra.db.Keyspace;
+import org.apache.cassandra.db.Mutation;
 import org.apache.cassandra.db.RowIndexEntry;
 import org.apache.cassandra.db.compaction.AbstractCompactedRow;
+import org.apache.cassandra.db.compaction.CompactionManager;
 import org.apache.cassandra.dht.IPartitioner;
 import org.apache.cassandra.dht.Range;
 import org.apache.cassandra.dht.Token;
 import org.apache.cassandra.io.sstable.ColumnStats;
+import org.apache.cassandra.io.sstable.Component;
+import org.apache.cassandra.io.sstable.SSTableReader;
 import org.apache.cassandra.io.util.DataOutputPlus;
 import org.apache.cassandra.net.MessageIn;
 import org.apache.cassandra.net.MessageOut;
@@ -47,6 +57,7 @@ import org.apache.cassandra.repair.messages.ValidationComplete;
 import org.apache.cassandra.service.StorageService;
 import org.apache.cassandra.utils.ByteBufferUtil;
 import org.apache.cassandra.utils.MerkleTree;
+import org.apache.cassandra.utils.Murmur3Digest;
 import org.apache.cassandra.utils.concurrent.SimpleCondition;
 
 import static org.junit.Assert.*;
@@ -189,4 +200,110 @@ public class ValidatorTest extends SchemaLoader
         if (!lock.isSignaled())
             lock.await();
     }
+
+    @Test
+    public void testReuseSSTableHashes() throws Throwable
+    {
+        ColumnFamilyStore cfs = Keyspace.open(keyspace).getColumnFamilyStore("Standard2");
+        cfs.truncateBlocking();
+        cfs.disableAutoCompaction();
+        Range<Token> range = new Range<>(partitioner.getMinimumToken(), partitioner.getMinimumToken());
+
+        // 3 sstables without any partition in common
+        for (int i = 0; i < 3; i++)
+        {
+            for (int j = 0; j < 10; j++)
+            {
+                Mutation rm = new Mutation(keyspace, ByteBufferUtil.bytes("key" + i + j));
+                rm.add("Standard2", Util.cellname("c"), ByteBufferUtil.bytes(i * j), 0);
+                rm.apply();
+            }
+            cfs.forceBlockingFlush();
+        }
+        assertEquals(3, cfs.getSSTables().size());
+        byte[] expected = validate(cfs, range);
+
+        DatabaseDescriptor.setRepairReuseSSTableHashes(true);
+        try
+        {
+            // the first validation hashes every sstable, and the next ones use those hashes
+            assertTrue(SSTableHashes.findReusable(cfs.getSSTables(), range, DatabaseDescriptor.getRepairRowHash()).isEmpty());
+            assertTrue(Arrays.equals(expected, validate(cfs, range)));
+            for (SSTableReader sstable : cfs.getSSTables())
+                assertTrue(new File(sstable.descriptor.filenameFor(Component.HASHES)).exists());
+            assertEquals(3, SSTableHashes.findReusable(cfs.getSSTables(), range, DatabaseDescriptor.getRepairRowHash()).size());
+            assertTrue(Arrays.equals(expected, validate(cfs, range)));
+
+            // an sstable with a partition in common with another one has to be read again, as well as that other one
+            Mutation rm = new Mutation(keyspace, ByteBufferUtil.bytes("key00"));
+            rm.add("Standard2", Util.cellname("d"), ByteBufferUtil.bytes(42), 0);
+            rm.apply();
+            cfs.forceBlockingFlush();
+            Map<SSTableReader, SSTableHashes.Section> reusable = SSTableHashes.findReusable(cfs.getSSTables(), range, DatabaseDescriptor.getRepairRowHash());
+            assertEquals(2, reusable.size());
+            byte[] hashed = validate(cfs, range);
+            assertFalse(Arrays.equals(expected, hashed));
+
+            DatabaseDescriptor.setRepairReuseSSTableHashes(false);
+            assertTrue(Arrays.equals(validate(cfs, range), hashed));
+        }
+        finally
+        {
+            DatabaseDescriptor.setRepairReuseSSTableHashes(false);
+        }
+    }
+
+    @Test
+    public void testMurmur3Digest()
+    {
+        byte[] bytes = new byte[100];
+        for (int i = 0; i < bytes.length; i++)
+            bytes[i] = (byte) i;
+
+        MessageDigest digest = new Murmur3Digest();
+        byte[] expected = digest.digest(bytes);
+        assertEquals(16, expected.length);
+
+        // hashing the same bytes in several updates gives the same hash, and digest() resets it
+        digest.update(bytes[0]);
+        digest.update(bytes, 1, 40);
+        digest.update(ByteBuffer.wrap(bytes, 41, 59));
+        assertTrue(Arrays.equals(expected, digest.digest()));
+        assertTrue(Arrays.equals(expected, digest.digest(bytes)));
+        assertFalse(Arrays.equals(expected, digest.digest(Arrays.copyOf(bytes, 99))));
+    }
+
+    /**
+     * @return the hash of the whole merkle tree built by a validation of the range
+     */
+    private byte[] validate(ColumnFamilyStore cfs, Range<Token> range) throws Throwable
+    {
+        final RepairJobDesc desc = new RepairJobDesc(UUID.randomUUID(), UUID.randomUUID(), keyspace, cfs.name, range);
+        final MerkleTree[] trees = new MerkleTree[1];
+        final SimpleCondition lock = new SimpleCondition();
+        SinkManager.add(new IMessageSink()
+        {
+            public MessageOut handleMessage(MessageOut message, int id, InetAddress to)
+            {
+                if (message.verb == MessagingService.Verb.REPAIR_MESSAGE && ((RepairMessage) message.payload).desc.equals(desc))
+                {
+                    trees[0] = ((ValidationComplete) message.payload).tree;
+                    lock.signalAll();
+                }
+                return null;
+            }
+
+            public MessageIn handleMessage(MessageIn message, int id, InetAddress to)
+            {
+                return null;
+            }
+        });
+
+        CompactionManager.instance.submitValidation(cfs, new Validator(desc, InetAddress.getByName("127.0.0.2"), 0)).get();
+        lock.await();
+        SinkManager.clear();
+        assertNotNull(trees[0]);
+        Token min = partitioner.getMinimumToken();
+        return trees[0].hash(new Range<>(min, min));
+    }
 }
@@ -48,9 +48,12 @@ import org.apache.cassandra.dht.Token;
 import org.apache.cassandra.io.sstable.SSTableReader;
 import org.apache.cassandra.io.sstable.SSTableUtils;
 import org.apache.cassandra.service.StorageService;
+import org.apache.cassandra.streaming.messages.OutgoingFileMessage;
+import org.apache.cassandra.streaming.messages.StreamMessage;
 import org.apache.cassandra.utils.ByteBufferUtil;
 import org.apache.cassandra.utils.CounterId;
 import org.apache.cassandra.utils.FBUtilities;
+import org.apache.cassandra.utils.Pair;
 
 import org.apache.cassandra.utils.concurrent.Refs;
 import static org.junit.Assert.assertEquals;
@@ -300,6 +303,63 @@ public class StreamingTransferTest extends SchemaLoader
         doTransferTable(true);
     }
 
+    @Test
+    public void testTransferEntireSSTable() throws Exception
+    {
+        Keyspace keyspace = Keyspace.open("Keyspace2");
+        ColumnFamilyStore cfs = keyspace.getColumnFamilyStore("Standard1");
+        cfs.truncateBlocking();
+
+        for (int i = 1; i <= 3; i++)
+        {
+            Mutation rm = new Mutation("Keyspace2", ByteBufferUtil.bytes("key" + i));
+            rm.add("Standard1", cellname("col" + i), ByteBufferUtil.bytes("val" + i), 1234);
+            rm.apply();
+        }
+        cfs.forceBlockingFlush();
+        assertEquals(1, cfs.getSSTables().size());
+        SSTableReader sstable = cfs.getSSTables().iterator().next();
+        sstable.descriptor.getMetadataSerializer().mutateLevel(sstable.descriptor, 2);
+        sstable.descriptor.getMetadataSerializer().mutateRepairedAt(sstable.descriptor, 1234);
+        sstable.reloadSSTableMetadata();
+        long dataLength = sstable.onDiskLength();
+        cfs.clearUnsafe();
+
+        IPartitioner p = StorageService.getPartitioner();
+        List<Range<Token>> ranges = Arrays.asList(new Range<>(p.getMinimumToken(), p.getMinimumToken()));
+        Refs<SSTableReader> refs = Refs.tryRef(Arrays.asList(sstable));
+        List<StreamSession.SSTableStreamingSections> details = new ArrayList<>();
+        details.add(new StreamSession.SSTableStreamingSections(sstable, refs.get(sstable),
+                                                               sstable.getPositionsForRanges(ranges),
+                                                               sstable.estimatedKeysForRanges(ranges), 0));
+        DatabaseDescriptor.setStreamEntireSSTables(true);
+        try
+        {
+            // only the files of sstables covered as a whole are sent as they are
+            assertEquals(StreamMessage.Type.SSTABLE, new OutgoingFileMessage(sstable, refs.get(sstable), 0, 3, sstable.getPositionsForRanges(ranges), 0).type);
+            List<Pair<Long, Long>> partial = sstable.getPositionsForRanges(Arrays.asList(new Range<>(p.getMinimumToken(), p.getToken(ByteBufferUtil.bytes("key1")))));
+            assertEquals(StreamMessage.Type.FILE, new OutgoingFileMessage(sstable, refs.get(sstable), 0, 1, partial, 0).type);
+
+            new StreamPlan("StreamingTransferTest").transferFiles(LOCAL, details).execute().get();
+        }
+        finally
+        {
+            DatabaseDescriptor.setStreamEntireSSTables(false);
+        }
+
+        // the files were received as they are, but the sstable is neither leveled nor repaired on this side
+        assertEquals(1, cfs.getSSTables().size());
+        SSTableReader received = cfs.getSSTables().iterator().next();
+        assertEquals(dataLength, received.onDiskLength());
+        assertEquals(0, received.getSSTableLevel());
+        assertEquals(0, received.getSSTableMetadata().repairedAt);
+
+        List<Row> rows = Util.getRangeSlice(cfs);
+        assertEquals(3, rows.size());
+        for (int i = 1; i <= 3; i++)
+            assert cfs.getColumnFamily(QueryFilter.getIdentityFilter(Util.dk("key" + i), cfs.name, System.currentTimeMillis())).getColumn(cellname("col" + i)) != null;
+    }
+
     @Test
     public void testTransferTableCounter() throws Exception
     {
@@ -32,6 +32,7 @@ import java.util.Set;
 
 import org.junit.*;
 
+import org.apache.cassandra.exceptions.ConfigurationException;
 import org.apache.cassandra.io.util.DataOutputBuffer;
 import org.apache.cassandra.io.util.DataOutputStreamAndChannel;
 import org.apache.cassandra.io.util.FileUtils;
@@ -126,6 +127,77 @@ public class BloomFilterTest
         BloomFilterTest.testSerialize(bf).close();
     }
 
+    @Test
+    public void testBlocked() throws IOException
+    {
+        double fpChance = 0.01;
+        IFilter blocked = FilterFactory.getFilter(FilterTestHelper.ELEMENTS, fpChance, true, FilterFactory.Type.BLOCKED);
+        Assert.assertTrue(blocked instanceof BlockedBloomFilter);
+
+        ResetableIterator<ByteBuffer> keys = FilterTestHelper.randomKeys();
+        ResetableIterator<ByteBuffer> otherKeys = FilterTestHelper.randomKeys2();
+        while (keys.hasNext())
+            blocked.add(keys.next());
+        keys.reset();
+        while (keys.hasNext())
+            Assert.assertTrue(blocked.isPresent(keys.next()));
+        int falsePositives = 0;
+        while (otherKeys.hasNext())
+        {
+            if (blocked.isPresent(otherKeys.next()))
+                falsePositives++;
+        }
+        Assert.assertTrue(String.valueOf(falsePositives), falsePositives < FilterTestHelper.ELEMENTS * fpChance * 1.3);
+
+        // serialized with its own version, so it is read back as a blocked filter
+        IFilter copy = testSerialize(blocked);
+        Assert.assertTrue(copy instanceof BlockedBloomFilter);
+        Assert.assertEquals(blocked.serializedSize(), ((BlockedBloomFilter) copy).serializedSize());
+        keys.reset();
+        while (keys.hasNext())
+            Assert.assertTrue(copy.isPresent(keys.next()));
+        copy.close();
+        blocked.close();
+    }
+
+    @Test
+    public void testBlockedBloomSpec()
+    {
+        // blocks get uneven loads, so blocked filters need more bits for the same false positive rate
+        for (double fpChance : new double[]{ 0.1, 0.01, 0.001 })
+        {
+            BloomCalculations.BloomSpecification standard = BloomCalculations.computeBloomSpec(20, fpChance);
+            BloomCalculations.BloomSpecification blocked = BloomCalculations.computeBlockedBloomSpec(20, fpChance);
+            Assert.assertTrue(blocked.bucketsPerElement >= standard.bucketsPerElement);
+            Assert.assertTrue(BloomCalculations.blockedProbs[blocked.bucketsPerElement][blocked.K] <= fpChance);
+        }
+
+        // rates a blocked filter can't provide fall back to a standard filter
+        int maxBuckets = BloomCalculations.blockedProbs.length - 1;
+        double lowest = 1.0;
+        for (double probability : BloomCalculations.blockedProbs[maxBuckets])
+            lowest = Math.min(lowest, probability);
+        IFilter filter = FilterFactory.getFilter(10000L, lowest / 2, true, FilterFactory.Type.BLOCKED);
+        Assert.assertTrue(filter instanceof Murmur3BloomFilter);
+        filter.close();
+    }
+
+    @Test
+    public void testBloomFilterType() throws Exception
+    {
+        Assert.assertEquals(FilterFactory.Type.BLOCKED, FilterFactory.Type.fromString("Blocked"));
+        Assert.assertEquals("standard", FilterFactory.Type.STANDARD.toString());
+        try
+        {
+            FilterFactory.Type.fromString("cuckoo");
+            Assert.fail();
+        }
+        catch (ConfigurationException e)
+        {
+            // expected
+        }
+    }
+
     public void testManyHashes(Iterator<ByteBuffer> keys)
     {
         int MAX_HASH_COUNT = 128;
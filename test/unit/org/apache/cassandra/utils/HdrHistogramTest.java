@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.cassandra.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class HdrHistogramTest
+{
+    @Test
+    public void testEmpty()
+    {
+        HdrHistogram.Snapshot snapshot = new HdrHistogram(1000000, 2).snapshot();
+        assertEquals(0, snapshot.count());
+        assertEquals(0, snapshot.min());
+        assertEquals(0, snapshot.max());
+        assertEquals(0, snapshot.percentile(0.99));
+        assertEquals(0, snapshot.mean(), 0);
+    }
+
+    @Test
+    public void testSmallValuesAreExact()
+    {
+        HdrHistogram histogram = new HdrHistogram(1000000, 2);
+        for (int i = 0; i < 200; i++)
+            histogram.record(i);
+
+        HdrHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(200, snapshot.count());
+        assertEquals(0, snapshot.min());
+        assertEquals(199, snapshot.max());
+        assertEquals(99, snapshot.percentile(0.5));
+        assertEquals(197, snapshot.percentile(0.99));
+        assertEquals(99.5, snapshot.mean(), 0);
+    }
+
+    @Test
+    public void testPrecision()
+    {
+        for (int digits = 1; digits <= 4; digits++)
+        {
+            HdrHistogram histogram = new HdrHistogram(3600000000L, digits);
+            double precision = Math.pow(10, -digits);
+            for (long value = 1; value <= histogram.getHighestTrackableValue(); value = value * 3 + 1)
+            {
+                HdrHistogram single = new HdrHistogram(histogram.getHighestTrackableValue(), digits);
+                single.record(value);
+                HdrHistogram.Snapshot snapshot = single.snapshot();
+                assertTrue(snapshot.min() <= value && snapshot.max() >= value);
+                assertTrue(String.format("%d recorded in [%d, %d] with %d digits", value, snapshot.min(), snapshot.max(), digits),
+                           snapshot.max() - snapshot.min() <= value * precision);
+            }
+        }
+    }
+
+    @Test
+    public void testHighPercentiles()
+    {
+        HdrHistogram histogram = new HdrHistogram(3600000000L, 3);
+        for (long i = 1; i <= 100000; i++)
+            histogram.record(i);
+
+        HdrHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(99900, snapshot.percentile(0.999), 99900 * 0.001);
+        assertEquals(99990, snapshot.percentile(0.9999), 99990 * 0.001);
+        assertEquals(100000, snapshot.max(), 100000 * 0.001);
+        assertTrue(snapshot.percentile(0.999) < snapshot.percentile(0.9999));
+    }
+
+    @Test
+    public void testOutOfRangeValues()
+    {
+        HdrHistogram histogram = new HdrHistogram(1000, 2);
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+
+        HdrHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(2, snapshot.count());
+        assertEquals(0, snapshot.min());
+        assertEquals(1000, snapshot.max());
+    }
+
+    @Test
+    public void testIntervalSnapshot()
+    {
+        HdrHistogram histogram = new HdrHistogram(1000000, 2);
+        for (int i = 0; i < 10; i++)
+            histogram.record(100);
+        HdrHistogram.Snapshot first = histogram.intervalSnapshot();
+        assertEquals(10, first.count());
+        assertEquals(100, first.max());
+
+        histogram.record(5000);
+        HdrHistogram.Snapshot second = histogram.intervalSnapshot();
+        assertEquals(1, second.count());
+        assertEquals(5000, second.min(), 50);
+
+        assertEquals(0, histogram.intervalSnapshot().count());
+        // the cumulative counts aren't affected
+        assertEquals(11, histogram.snapshot().count());
+    }
+
+    @Test
+    public void testConcurrentRecording() throws InterruptedException
+    {
+        final HdrHistogram histogram = new HdrHistogram(1000000, 2);
+        final int threadCount = 4;
+        final int valuesPerThread = 100000;
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++)
+        {
+            Thread thread = new Thread(new Runnable()
+            {
+                public void run()
+                {
+                    for (int i = 0; i < valuesPerThread; i++)
+                        histogram.record(i % 1000);
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        // interval snapshots taken while recording never lose values
+        long total = 0;
+        for (Thread thread : threads)
+        {
+            while (thread.isAlive())
+                total += histogram.intervalSnapshot().count();
+            thread.join();
+        }
+        total += histogram.intervalSnapshot().count();
+
+        assertEquals(threadCount * valuesPerThread, total);
+        assertEquals(threadCount * valuesPerThread, histogram.snapshot().count());
+    }
+}
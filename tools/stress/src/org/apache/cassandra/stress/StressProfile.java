@@ -43,6 +43,7 @@ import org.apache.cassandra.stress.generate.*;
 import org.apache.cassandra.stress.generate.values.*;
 import org.apache.cassandra.stress.operations.userdefined.SchemaInsert;
 import org.apache.cassandra.stress.operations.userdefined.SchemaQuery;
+import org.apache.cassandra.stress.operations.userdefined.SchemaSearch;
 import org.apache.cassandra.stress.settings.*;
 import org.apache.cassandra.stress.util.JavaDriverClient;
 import org.apache.cassandra.stress.util.ThriftClient;
@@ -58,12 +59,15 @@ public class StressProfile implements Serializable
 {
     private String keyspaceCql;
     private String tableCql;
+    private String indexCql;
     private String seedStr;
 
     public String keyspaceName;
     public String tableName;
     private Map<String, GeneratorConfig> columnConfigs;
     private Map<String, StressYaml.QueryDef> queries;
+    private Map<String, StressYaml.SearchDef> searches;
+    private Set<String> searchColumns;
     private Map<String, String> insert;
 
     transient volatile TableMetadata tableMetaData;
@@ -80,19 +84,49 @@ public class StressProfile implements Serializable
     transient volatile Map<String, PreparedStatement> queryStatements;
     transient volatile Map<String, Integer> thriftQueryIds;
 
+    transient volatile Map<String, PreparedStatement> searchStatements;
+    transient volatile Map<String, Integer> thriftSearchIds;
+
     private void init(StressYaml yaml) throws RequestValidationException
     {
         keyspaceName = yaml.keyspace;
         keyspaceCql = yaml.keyspace_definition;
         tableName = yaml.table;
         tableCql = yaml.table_definition;
+        indexCql = yaml.index_definition;
         seedStr = "seed for stress";
         queries = yaml.queries;
         insert = yaml.insert;
 
         assert keyspaceName != null : "keyspace name is required in yaml file";
         assert tableName != null : "table name is required in yaml file";
-        assert queries != null : "queries map is required in yaml file";
+        assert yaml.queries != null || yaml.searches != null : "queries or searches map is required in yaml file";
+
+        if (queries == null)
+            queries = new HashMap<>();
+
+        Set<String> queryNames = new HashSet<>();
+        for (String name : queries.keySet())
+            queryNames.add(name.toLowerCase());
+
+        // the Lucene index columns are only used for searching, so they are never generated nor written
+        searches = new HashMap<>();
+        searchColumns = new HashSet<>();
+        if (yaml.searches != null)
+        {
+            for (Map.Entry<String, StressYaml.SearchDef> e : yaml.searches.entrySet())
+            {
+                String name = e.getKey().toLowerCase();
+                if (queryNames.contains(name))
+                    throw new IllegalArgumentException("Search " + name + " has the same name as a query");
+                if (e.getValue().index == null)
+                    throw new IllegalArgumentException("Missing index column in search " + name);
+                if (e.getValue().query == null && e.getValue().filter == null && e.getValue().sort == null)
+                    throw new IllegalArgumentException("Search " + name + " requires at least one of query, filter or sort");
+                searches.put(name, e.getValue());
+                searchColumns.add(e.getValue().index);
+            }
+        }
 
         if (keyspaceCql != null && keyspaceCql.length() > 0)
         {
@@ -139,13 +173,16 @@ public class StressProfile implements Serializable
                 DistributionFactory population = !spec.containsKey("population") ? null : OptionDistribution.get((String) spec.remove("population"));
                 DistributionFactory size = !spec.containsKey("size") ? null : OptionDistribution.get((String) spec.remove("size"));
                 DistributionFactory clustering = !spec.containsKey("cluster") ? null : OptionDistribution.get((String) spec.remove("cluster"));
+                String format = (String) spec.remove("format");
 
                 if (!spec.isEmpty())
                     throw new IllegalArgumentException("Unrecognised option(s) in column spec: " + spec);
                 if (name == null)
                     throw new IllegalArgumentException("Missing name argument in column spec");
+                if (format != null && !format.equals(GeoPoints.FORMAT))
+                    throw new IllegalArgumentException("Unrecognised format in column spec: " + format);
 
-                GeneratorConfig config = new GeneratorConfig(seedStr + name, clustering, size, population);
+                GeneratorConfig config = new GeneratorConfig(seedStr + name, clustering, size, population, format);
                 columnConfigs.put(name, config);
             }
         }
@@ -178,6 +215,17 @@ public class StressProfile implements Serializable
             {
             }
 
+            if (indexCql != null)
+            {
+                try
+                {
+                    client.execute(indexCql, org.apache.cassandra.db.ConsistencyLevel.ONE);
+                }
+                catch (AlreadyExistsException e)
+                {
+                }
+            }
+
             System.out.println(String.format("Created schema. Sleeping %ss for propagation.", settings.node.nodes.size()));
             Uninterruptibles.sleepUninterruptibly(settings.node.nodes.size(), TimeUnit.SECONDS);
         }
@@ -273,6 +321,53 @@ public class StressProfile implements Serializable
                                ThriftConversion.fromThrift(settings.command.consistencyLevel), ValidationType.NOT_FAIL, argSelects.get(name));
     }
 
+    public boolean isSearch(String name)
+    {
+        return searches.containsKey(name.toLowerCase());
+    }
+
+    public SchemaSearch getSearch(String name, Timer timer, PartitionGenerator generator, SeedManager seeds, StressSettings settings)
+    {
+        if (searchStatements == null)
+        {
+            synchronized (this)
+            {
+                if (searchStatements == null)
+                {
+                    try
+                    {
+                        JavaDriverClient jclient = settings.getJavaDriverClient();
+                        ThriftClient tclient = settings.getThriftClient();
+                        Map<String, PreparedStatement> stmts = new HashMap<>();
+                        Map<String, Integer> tids = new HashMap<>();
+                        for (Map.Entry<String, StressYaml.SearchDef> e : searches.entrySet())
+                        {
+                            StressYaml.SearchDef def = e.getValue();
+                            String cql = String.format("SELECT * FROM \"%s\" WHERE \"%s\" = ? LIMIT %d",
+                                                       tableName, def.index, def.limit == null ? 100 : def.limit);
+                            stmts.put(e.getKey(), jclient.prepare(cql));
+                            tids.put(e.getKey(), tclient.prepare_cql3_query(cql, Compression.NONE));
+                        }
+                        thriftSearchIds = tids;
+                        searchStatements = stmts;
+                    }
+                    catch (TException e)
+                    {
+                        throw new RuntimeException(e);
+                    }
+                }
+            }
+        }
+
+        name = name.toLowerCase();
+        StressYaml.SearchDef def = searches.get(name);
+        if (def == null)
+            throw new IllegalArgumentException("No search defined with name " + name);
+        return new SchemaSearch(timer, settings, generator, seeds, thriftSearchIds.get(name), searchStatements.get(name),
+                                ThriftConversion.fromThrift(settings.command.consistencyLevel),
+                                SchemaSearch.search(def.query, def.filter, def.sort));
+    }
+
     public SchemaInsert getInsert(Timer timer, PartitionGenerator generator, SeedManager seedManager, StressSettings settings)
     {
         if (insertStatement == null)
@@ -298,6 +393,8 @@ public class StressProfile implements Serializable
                     boolean firstPred = true;
                     for (ColumnMetadata c : tableMetaData.getColumns())
                     {
+                        if (searchColumns.contains(c.getName()))
+                            continue;
 
                         if (keyColumns.contains(c))
                         {
@@ -429,7 +526,7 @@ public class StressProfile implements Serializable
             for (ColumnMetadata metadata : tableMetaData.getClusteringColumns())
                 clusteringColumns.add(new ColumnInfo(metadata.getName(), metadata.getType(), columnConfigs.get(metadata.getName())));
             for (ColumnMetadata metadata : tableMetaData.getColumns())
-                if (!keyColumns.contains(metadata))
+                if (!keyColumns.contains(metadata) && !searchColumns.contains(metadata.getName()))
                     valueColumns.add(new ColumnInfo(metadata.getName(), metadata.getType(), columnConfigs.get(metadata.getName())));
         }
 
@@ -467,6 +564,19 @@ public class StressProfile implements Serializable
 
         static Generator getGenerator(final String name, final DataType type, GeneratorConfig config)
         {
+            if (config.format != null)
+            {
+                switch (type.getName())
+                {
+                    case ASCII:
+                    case TEXT:
+                    case VARCHAR:
+                        return new GeoPoints(name, config);
+                    default:
+                        throw new IllegalArgumentException("The " + config.format + " format requires a text column, but " + name + " is " + type);
+                }
+            }
+
             switch (type.getName())
             {
                 case ASCII:
@@ -29,9 +29,11 @@ public class StressYaml
     public String keyspace_definition;
     public String table;
     public String table_definition;
+    public String index_definition;
 
     public List<Map<String, Object>> columnspec;
     public Map<String, QueryDef> queries;
+    public Map<String, SearchDef> searches;
     public Map<String, String> insert;
 
     public static class QueryDef
@@ -40,4 +42,13 @@ public class StressYaml
         public String fields;
     }
 
+    public static class SearchDef
+    {
+        public String index;
+        public String query;
+        public String filter;
+        public String sort;
+        public Integer limit;
+    }
+
 }
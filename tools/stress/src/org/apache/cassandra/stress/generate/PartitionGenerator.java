@@ -93,6 +93,15 @@ public class PartitionGenerator
         return i;
     }
 
+    public Generator generator(int c)
+    {
+        if (c < 0)
+            return partitionKey.get(-1-c);
+        if (c < clusteringComponents.size())
+            return clusteringComponents.get(c);
+        return valueComponents.get(c - clusteringComponents.size());
+    }
+
     public ByteBuffer convert(int c, Object v)
     {
         if (c < 0)
@@ -31,6 +31,8 @@ import org.apache.cassandra.utils.MurmurHash;
 public class GeneratorConfig implements Serializable
 {
     public final long salt;
+    // the format of the generated values, e.g. GeoPoints.FORMAT for text columns, or null for the type's default
+    public final String format;
 
     private final DistributionFactory clusteringDistributions;
     private final DistributionFactory sizeDistributions;
@@ -38,6 +40,12 @@ public class GeneratorConfig implements Serializable
 
     public GeneratorConfig(String seedStr, DistributionFactory clusteringDistributions, DistributionFactory sizeDistributions, DistributionFactory identityDistributions)
     {
+        this(seedStr, clusteringDistributions, sizeDistributions, identityDistributions, null);
+    }
+
+    public GeneratorConfig(String seedStr, DistributionFactory clusteringDistributions, DistributionFactory sizeDistributions, DistributionFactory identityDistributions, String format)
+    {
+        this.format = format;
         this.clusteringDistributions = clusteringDistributions;
         this.sizeDistributions = sizeDistributions;
         this.identityDistributions = identityDistributions;
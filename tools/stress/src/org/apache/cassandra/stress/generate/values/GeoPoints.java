@@ -0,0 +1,80 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package org.apache.cassandra.stress.generate.values;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.cassandra.db.marshal.UTF8Type;
+import org.apache.cassandra.stress.generate.FasterRandom;
+
+/**
+ * Generates geographical points as the JSON shapes of the Lucene index geo_shape mapper, for text columns with the
+ * geo_point format. The identity distribution picks the point, so its population is the number of distinct points.
+ */
+public class GeoPoints extends Generator<String>
+{
+    public static final String FORMAT = "geo_point";
+
+    private static final Pattern COORDINATE = Pattern.compile("\"(longitude|latitude)\":([^,}]+)");
+
+    private final FasterRandom rnd = new FasterRandom();
+
+    public GeoPoints(String name, GeneratorConfig config)
+    {
+        super(UTF8Type.instance, config, name, String.class);
+    }
+
+    @Override
+    public String generate()
+    {
+        rnd.setSeed(identityDistribution.next());
+        double longitude = coordinate(180);
+        double latitude = coordinate(90);
+        return "{\"type\":\"point\",\"longitude\":" + longitude + ",\"latitude\":" + latitude + "}";
+    }
+
+    // a uniform coordinate in [-bound, bound), with the precision of a few centimetres
+    private double coordinate(double bound)
+    {
+        double unit = (rnd.nextLong() >>> 11) * 0x1.0p-53;
+        return Math.round((unit * 2 - 1) * bound * 1e6) / 1e6;
+    }
+
+    public static boolean isCoordinate(String name)
+    {
+        return name.equals("longitude") || name.equals("latitude");
+    }
+
+    /**
+     * @return the longitude or latitude of a point generated by this class
+     */
+    public static String coordinate(String point, String name)
+    {
+        Matcher matcher = COORDINATE.matcher(point);
+        while (matcher.find())
+        {
+            if (matcher.group(1).equals(name))
+                return matcher.group(2);
+        }
+        throw new IllegalArgumentException("Not a generated geo point: " + point);
+    }
+}
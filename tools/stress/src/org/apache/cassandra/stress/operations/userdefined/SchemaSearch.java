@@ -0,0 +1,243 @@
+package org.apache.cassandra.stress.operations.userdefined;
+/*
+ * 
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ * 
+ */
+
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.ResultSet;
+import org.apache.cassandra.db.ConsistencyLevel;
+import org.apache.cassandra.stress.Operation;
+import org.apache.cassandra.stress.generate.*;
+import org.apache.cassandra.stress.generate.values.GeoPoints;
+import org.apache.cassandra.stress.settings.StressSettings;
+import org.apache.cassandra.stress.util.JavaDriverClient;
+import org.apache.cassandra.stress.util.ThriftClient;
+import org.apache.cassandra.stress.util.Timer;
+import org.apache.cassandra.thrift.CqlResult;
+import org.apache.cassandra.thrift.ThriftConversion;
+import org.apache.cassandra.utils.ByteBufferUtil;
+
+/**
+ * A search against a Lucene row index, built from JSON templates whose {{column}} placeholders are filled with
+ * the values of a generated row, so that the searched values follow the column distributions of the profile.
+ * The {{column.longitude}} and {{column.latitude}} placeholders are filled with the coordinates of the point of a
+ * column with the geo_point format.
+ */
+public class SchemaSearch extends Operation
+{
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{\\{\\s*(\\w+)(?:\\.(\\w+))?\\s*\\}\\}");
+
+    final PreparedStatement statement;
+    final Integer thriftId;
+    final ConsistencyLevel cl;
+    final Template search;
+
+    public SchemaSearch(Timer timer, StressSettings settings, PartitionGenerator generator, SeedManager seedManager, Integer thriftId, PreparedStatement statement, ConsistencyLevel cl, String search)
+    {
+        super(timer, settings, new DataSpec(generator, seedManager, new DistributionFixed(1), 1));
+        this.statement = statement;
+        this.thriftId = thriftId;
+        this.cl = cl;
+        this.search = new Template(search, generator);
+
+        statement.setConsistencyLevel(JavaDriverClient.from(cl));
+    }
+
+    /**
+     * Builds the search JSON of a Lucene index from its optional query, filter and sort JSON templates.
+     */
+    public static String search(String query, String filter, String sort)
+    {
+        List<String> clauses = new ArrayList<>();
+        if (query != null)
+            clauses.add("query:" + query.trim());
+        if (filter != null)
+            clauses.add("filter:" + filter.trim());
+        if (sort != null)
+            clauses.add("sort:" + sort.trim());
+        if (clauses.isEmpty())
+            throw new IllegalArgumentException("A search requires at least one of query, filter or sort");
+        StringBuilder sb = new StringBuilder("{");
+        for (int i = 0 ; i < clauses.size() ; i++)
+            sb.append(i == 0 ? "" : ",").append(clauses.get(i));
+        return sb.append("}").toString();
+    }
+
+    abstract class Runner implements RunOp
+    {
+        int partitionCount;
+        int rowCount;
+
+        @Override
+        public int partitionCount()
+        {
+            return partitionCount;
+        }
+
+        @Override
+        public int rowCount()
+        {
+            return rowCount;
+        }
+    }
+
+    private class JavaDriverRun extends Runner
+    {
+        final JavaDriverClient client;
+
+        private JavaDriverRun(JavaDriverClient client)
+        {
+            this.client = client;
+        }
+
+        public boolean run() throws Exception
+        {
+            ResultSet rs = client.getSession().execute(statement.bind(search.fill(partitions.get(0).next())));
+            rowCount = rs.all().size();
+            partitionCount = Math.min(1, rowCount);
+            return true;
+        }
+    }
+
+    private class ThriftRun extends Runner
+    {
+        final ThriftClient client;
+
+        private ThriftRun(ThriftClient client)
+        {
+            this.client = client;
+        }
+
+        public boolean run() throws Exception
+        {
+            List<ByteBuffer> args = Collections.singletonList(ByteBufferUtil.bytes(search.fill(partitions.get(0).next())));
+            CqlResult rs = client.execute_prepared_cql3_query(thriftId, partitions.get(0).getToken(), args, ThriftConversion.toThrift(cl));
+            rowCount = rs.getRowsSize();
+            partitionCount = Math.min(1, rowCount);
+            return true;
+        }
+    }
+
+    @Override
+    public void run(JavaDriverClient client) throws IOException
+    {
+        timeWithRetry(new JavaDriverRun(client));
+    }
+
+    @Override
+    public void run(ThriftClient client) throws IOException
+    {
+        timeWithRetry(new ThriftRun(client));
+    }
+
+    /**
+     * A JSON template split into its literal fragments and the generator indexes of its placeholders, along with the
+     * geo point coordinate to take from each of them, if any.
+     */
+    static final class Template
+    {
+        final String[] fragments;
+        final int[] columns;
+        final String[] coordinates;
+
+        Template(String template, PartitionGenerator generator)
+        {
+            List<String> fragments = new ArrayList<>();
+            List<Integer> columns = new ArrayList<>();
+            List<String> coordinates = new ArrayList<>();
+            Matcher matcher = PLACEHOLDER.matcher(template);
+            int last = 0;
+            while (matcher.find())
+            {
+                fragments.add(template.substring(last, matcher.start()));
+                int column;
+                try
+                {
+                    column = generator.indexOf(matcher.group(1));
+                }
+                catch (NoSuchElementException e)
+                {
+                    throw new IllegalArgumentException("Unknown column in search template: " + matcher.group(1));
+                }
+                String coordinate = matcher.group(2);
+                if (coordinate != null && !(GeoPoints.isCoordinate(coordinate) && generator.generator(column) instanceof GeoPoints))
+                    throw new IllegalArgumentException("Only the longitude and latitude of " + GeoPoints.FORMAT + " columns can be searched: " + matcher.group());
+                columns.add(column);
+                coordinates.add(coordinate);
+                last = matcher.end();
+            }
+            fragments.add(template.substring(last));
+            this.fragments = fragments.toArray(new String[fragments.size()]);
+            this.columns = new int[columns.size()];
+            for (int i = 0 ; i < this.columns.length ; i++)
+                this.columns[i] = columns.get(i);
+            this.coordinates = coordinates.toArray(new String[coordinates.size()]);
+        }
+
+        String fill(Row row)
+        {
+            StringBuilder sb = new StringBuilder(fragments[0]);
+            for (int i = 0 ; i < columns.length ; i++)
+            {
+                Object value = row.get(columns[i]);
+                append(sb, coordinates[i] == null ? value : GeoPoints.coordinate((String) value, coordinates[i]));
+                sb.append(fragments[i + 1]);
+            }
+            return sb.toString();
+        }
+
+        // values are written as they are parsed by the Lucene column mappers, escaped for use in JSON strings
+        private static void append(StringBuilder sb, Object value)
+        {
+            String string;
+            if (value instanceof Date)
+                string = Long.toString(((Date) value).getTime());
+            else if (value instanceof ByteBuffer)
+                string = ByteBufferUtil.bytesToHex((ByteBuffer) value);
+            else if (value instanceof InetAddress)
+                string = ((InetAddress) value).getHostAddress();
+            else
+                string = String.valueOf(value);
+
+            for (int i = 0 ; i < string.length() ; i++)
+            {
+                char c = string.charAt(i);
+                if (c == '"' || c == '\\')
+                    sb.append('\\').append(c);
+                else if (c < 0x20)
+                    sb.append(String.format("\\u%04x", (int) c));
+                else
+                    sb.append(c);
+            }
+        }
+    }
+}
@@ -79,6 +79,8 @@ public class SettingsCommandUser extends SettingsCommand
             {
                 if (key.equalsIgnoreCase("insert"))
                     return profile.getInsert(timer, generator, seeds, settings);
+                if (profile.isSearch(key))
+                    return profile.getSearch(key, timer, generator, seeds, settings);
                 return profile.getQuery(key, timer, generator, seeds, settings);
             }
 
@@ -103,7 +105,7 @@ public class SettingsCommandUser extends SettingsCommand
         }
         final OptionDistribution clustering = new OptionDistribution("clustering=", "gaussian(1..10)", "Distribution clustering runs of operations of the same kind");
         final OptionSimple profile = new OptionSimple("profile=", ".*", null, "Specify the path to a yaml cql3 profile", true);
-        final OptionAnyProbabilities ops = new OptionAnyProbabilities("ops", "Specify the ratios for inserts/queries to perform; e.g. ops(insert=2,<query1>=1) will perform 2 inserts for each query1");
+        final OptionAnyProbabilities ops = new OptionAnyProbabilities("ops", "Specify the ratios for inserts/queries/searches to perform; e.g. ops(insert=2,<query1>=1) will perform 2 inserts for each query1");
 
         @Override
         public List<? extends Option> options()